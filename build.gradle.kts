@@ -25,6 +25,14 @@ tasks.compileJava {
     options.compilerArgs.addAll(listOf("-Xlint:deprecation", "-Xlint:unchecked"))
 }
 
+sourceSets {
+    create("jmh") {
+        // Benchmarks compile against main + test classpaths so Paper API and Mockito are available
+        compileClasspath += sourceSets["test"].compileClasspath
+        runtimeClasspath += output + compileClasspath + sourceSets["test"].runtimeClasspath
+    }
+}
+
 repositories {
     mavenCentral()
     maven("https://repo.papermc.io/repository/maven-public/")
@@ -42,6 +50,9 @@ dependencies {
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.10.3")
     testImplementation("org.mockito:mockito-core:5.12.0")
     testImplementation("org.mockito:mockito-junit-jupiter:5.12.0")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks {
@@ -189,6 +200,41 @@ tasks {
     }
 }
 
+val jmhResults = layout.buildDirectory.file("reports/jmh/results.json")
+
+tasks {
+    named("spotbugsJmh") {
+        enabled = false
+    }
+
+    register<JavaExec>("jmh") {
+        group = "benchmark"
+        description = "Runs the JMH benchmarks in src/jmh (filter with -PjmhInclude=<regex>)."
+        classpath = sourceSets["jmh"].runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        args("-rf", "json", "-rff", jmhResults.get().asFile.absolutePath)
+        (project.findProperty("jmhInclude") as String?)?.let { args(it) }
+        doFirst {
+            jmhResults.get().asFile.parentFile.mkdirs()
+        }
+    }
+
+    register<JavaExec>("simulate") {
+        group = "benchmark"
+        description = "Runs the headless spell tick simulation (pass options with -PsimArgs=\"--casters 100 ...\")."
+        classpath = sourceSets["jmh"].runtimeClasspath
+        mainClass.set("nl.wantedchef.empirewand.simulation.TickSimulation")
+        args("--json", layout.buildDirectory.file("reports/simulation/results.json").get().asFile.absolutePath)
+        (project.findProperty("simArgs") as String?)?.let { args(it.split(" ").filter(String::isNotBlank)) }
+    }
+    register<Copy>("jmhBaseline") {
+        group = "benchmark"
+        description = "Copies the last JMH run over the checked-in baseline in src/jmh/baseline."
+        from(jmhResults)
+        into(layout.projectDirectory.dir("src/jmh/baseline"))
+    }
+}
+
 bukkit {
     name = "EmpireWand"
     main = "nl.wantedchef.empirewand.EmpireWandPlugin"
@@ -198,11 +244,11 @@ bukkit {
     commands {
         register("ew") {
             description = "EmpireWand commands"
-            usage = "/ew <get|give|gui|bind|unbind|bindall|bindtype|bindcat|set-spell|list|reload|migrate|spells|toggle|stats|switcheffect|cd>"
+            usage = "/ew <get|give|gui|bind|unbind|bindall|bindtype|bindcat|set-spell|list|reload|migrate|performance|spells|toggle|stats|switcheffect|cd>"
         }
         register("mz") {
             description = "MephidantesZeist commands"
-            usage = "/mz <get|give|gui|bind|unbind|bindall|bindtype|bindcat|set-spell|list|reload|migrate|spells|toggle|stats|switcheffect|cd>"
+            usage = "/mz <get|give|gui|bind|unbind|bindall|bindtype|bindcat|set-spell|list|reload|migrate|performance|spells|toggle|stats|switcheffect|cd>"
         }
     }
     permissions {
@@ -217,6 +263,8 @@ bukkit {
         register("empirewand.command.spells") { default = BukkitPluginDescription.Permission.Default.TRUE }
         register("empirewand.command.reload") { default = BukkitPluginDescription.Permission.Default.OP }
         register("empirewand.command.migrate") { default = BukkitPluginDescription.Permission.Default.OP }
+        register("empirewand.command.performance") { default = BukkitPluginDescription.Permission.Default.OP }
+        register("empirewand.command.debug") { default = BukkitPluginDescription.Permission.Default.OP }
         register("empirewand.command.toggle") { default = BukkitPluginDescription.Permission.Default.TRUE }
         register("empirewand.command.stats") { default = BukkitPluginDescription.Permission.Default.TRUE }
         register("empirewand.command.switcheffect") { default = BukkitPluginDescription.Permission.Default.TRUE }
@@ -237,6 +285,8 @@ bukkit {
         register("mephidanteszeist.command.spells") { default = BukkitPluginDescription.Permission.Default.TRUE }
         register("mephidanteszeist.command.reload") { default = BukkitPluginDescription.Permission.Default.OP }
         register("mephidanteszeist.command.migrate") { default = BukkitPluginDescription.Permission.Default.OP }
+        register("mephidanteszeist.command.performance") { default = BukkitPluginDescription.Permission.Default.OP }
+        register("mephidanteszeist.command.debug") { default = BukkitPluginDescription.Permission.Default.OP }
         register("mephidanteszeist.command.toggle") { default = BukkitPluginDescription.Permission.Default.TRUE }
         register("mephidanteszeist.command.stats") { default = BukkitPluginDescription.Permission.Default.TRUE }
         register("mephidanteszeist.command.switcheffect") { default = BukkitPluginDescription.Permission.Default.TRUE }
@@ -0,0 +1,233 @@
+package nl.wantedchef.empirewand.benchmark;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Lightweight, server-free stand-ins for the Bukkit objects the benchmarked services touch.
+ * <p>
+ * Interfaces are backed by {@link Proxy} instances that answer only the handful of methods the
+ * hot paths call; everything else returns a neutral default. This keeps the benchmarks free of
+ * mocking frameworks on the measured path while still exercising the real service code.
+ */
+public final class BukkitStandIns {
+
+    private static final Logger LOGGER = Logger.getLogger("EmpireWand-JMH");
+
+    static {
+        // Services log on construction; keep benchmark output readable
+        LOGGER.setLevel(Level.WARNING);
+    }
+
+    private BukkitStandIns() {
+    }
+
+    /**
+     * Functional hook for a single stubbed method.
+     */
+    @FunctionalInterface
+    public interface Answer {
+        Object answer(Object[] args);
+    }
+
+    /**
+     * Creates a proxy for {@code type} that answers the given methods by name.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Map<String, Answer> answers) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            Answer answer = answers.get(name);
+            if (answer != null) {
+                return answer.answer(args == null ? new Object[0] : args);
+            }
+            return switch (name) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> type.getSimpleName() + "StandIn";
+                default -> defaultValue(method.getReturnType());
+            };
+        };
+        return (T) Proxy.newProxyInstance(BukkitStandIns.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0.0d;
+        }
+        if (type == float.class) {
+            return 0.0f;
+        }
+        if (type == void.class) {
+            return null;
+        }
+        return 0;
+    }
+
+    public static Logger logger() {
+        return LOGGER;
+    }
+
+    /**
+     * A plugin with a logger, an in-memory config and a throwaway data folder.
+     */
+    public static Plugin plugin() {
+        YamlConfiguration config = new YamlConfiguration();
+        File dataFolder = new File(System.getProperty("java.io.tmpdir"), "empirewand-jmh");
+        Map<String, Answer> answers = new HashMap<>();
+        answers.put("getLogger", args -> LOGGER);
+        answers.put("getName", args -> "EmpireWand");
+        answers.put("getConfig", args -> config);
+        answers.put("getDataFolder", args -> dataFolder);
+        answers.put("isEnabled", args -> true);
+        return stub(Plugin.class, answers);
+    }
+
+    /**
+     * A world whose full time is driven by the supplied clock.
+     */
+    public static World world(String name, AtomicLong clock) {
+        UUID uid = UUID.nameUUIDFromBytes(name.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        Map<String, Answer> answers = new HashMap<>();
+        answers.put("getName", args -> name);
+        answers.put("getUID", args -> uid);
+        answers.put("getFullTime", args -> clock.get());
+        answers.put("getTime", args -> clock.get() % 24000L);
+        return stub(World.class, answers);
+    }
+
+    /**
+     * An online player standing at the world origin.
+     */
+    public static Player player(UUID id, String name, World world) {
+        Location location = new Location(world, 0.5, 64.0, 0.5);
+        PersistentDataContainer pdc = dataContainer();
+        Map<String, Answer> answers = new HashMap<>();
+        answers.put("getUniqueId", args -> id);
+        answers.put("getName", args -> name);
+        answers.put("getWorld", args -> world);
+        answers.put("getLocation", args -> location.clone());
+        answers.put("getEyeLocation", args -> location.clone().add(0, 1.62, 0));
+        answers.put("getLevel", args -> 30);
+        answers.put("isOnline", args -> true);
+        answers.put("isValid", args -> true);
+        answers.put("hasPermission", args -> true);
+        answers.put("getEntityId", args -> id.hashCode() & Integer.MAX_VALUE);
+        answers.put("getMetadata", args -> java.util.List.of());
+        answers.put("hasMetadata", args -> false);
+        answers.put("getPersistentDataContainer", args -> pdc);
+        return stub(Player.class, answers);
+    }
+
+    /**
+     * A non-player entity with a fixed entity id and its own persistent data container.
+     */
+    public static <T extends Entity> T entity(Class<T> type, int entityId, PersistentDataContainer pdc) {
+        UUID uid = new UUID(0xE27L, entityId);
+        Map<String, Answer> answers = new HashMap<>();
+        answers.put("getEntityId", args -> entityId);
+        answers.put("getUniqueId", args -> uid);
+        answers.put("getPersistentDataContainer", args -> pdc);
+        answers.put("getMetadata", args -> java.util.List.of());
+        answers.put("hasMetadata", args -> false);
+        answers.put("isValid", args -> true);
+        return stub(type, answers);
+    }
+
+    /**
+     * A map-backed persistent data container; type adapters are ignored.
+     */
+    public static PersistentDataContainer dataContainer() {
+        Map<NamespacedKey, Object> values = new HashMap<>();
+        Map<String, Answer> answers = new HashMap<>();
+        answers.put("has", args -> values.containsKey((NamespacedKey) args[0]));
+        answers.put("get", args -> values.get((NamespacedKey) args[0]));
+        answers.put("getOrDefault", args -> values.getOrDefault((NamespacedKey) args[0], args[2]));
+        answers.put("set", args -> values.put((NamespacedKey) args[0], args[2]));
+        answers.put("remove", args -> values.remove((NamespacedKey) args[0]));
+        answers.put("getKeys", args -> java.util.Set.copyOf(values.keySet()));
+        answers.put("isEmpty", args -> values.isEmpty());
+        return stub(PersistentDataContainer.class, answers);
+    }
+
+    /**
+     * Item meta exposing only a persistent data container. The hash code is fixed per instance so
+     * the wand service's meta-keyed caches behave as they do on a live server.
+     */
+    public static ItemMeta itemMeta(PersistentDataContainer pdc) {
+        Map<String, Answer> answers = new HashMap<>();
+        answers.put("getPersistentDataContainer", args -> pdc);
+        answers.put("hasDisplayName", args -> false);
+        answers.put("hasLore", args -> false);
+        return stub(ItemMeta.class, answers);
+    }
+
+    /**
+     * Item stack that keeps a stand-in meta instead of asking the server's item factory.
+     */
+    public static final class StandInItemStack extends ItemStack {
+
+        private final Material material;
+        private ItemMeta meta;
+
+        public StandInItemStack(Material material, ItemMeta meta) {
+            super();
+            this.material = material;
+            this.meta = meta;
+        }
+
+        @Override
+        public Material getType() {
+            return material;
+        }
+
+        @Override
+        public int getAmount() {
+            return 1;
+        }
+
+        @Override
+        public boolean hasItemMeta() {
+            return meta != null;
+        }
+
+        @Override
+        public ItemMeta getItemMeta() {
+            return meta;
+        }
+
+        @Override
+        public boolean setItemMeta(ItemMeta itemMeta) {
+            this.meta = itemMeta;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package nl.wantedchef.empirewand.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nl.wantedchef.empirewand.framework.service.UnifiedCooldownManager;
+
+/**
+ * Measures spell cooldown checks and writes in {@link UnifiedCooldownManager} as the number of
+ * tracked players grows.
+ * <p>
+ * The manager is rebuilt every iteration because each write also appends an entry to the
+ * expiry index, which only the server-side cleanup task drains.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CooldownBenchmark {
+
+    private static final String[] SPELLS = { "fireball", "heal", "magic-missile", "frost-nova", "gust" };
+
+    @Param({ "10", "100", "1000" })
+    public int playerCount;
+
+    private UnifiedCooldownManager cooldowns;
+    private UUID[] players;
+    private long nowTicks;
+    private int cursor;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        cooldowns = new UnifiedCooldownManager(BukkitStandIns.plugin());
+        players = new UUID[playerCount];
+        nowTicks = 1_000L;
+        for (int i = 0; i < playerCount; i++) {
+            players[i] = new UUID(0x5EEDL, i);
+            for (int s = 0; s < SPELLS.length; s++) {
+                // Half the spells are still cooling down, half have expired
+                long until = (s % 2 == 0) ? nowTicks + 200 : nowTicks - 200;
+                cooldowns.setSpellCooldown(players[i], SPELLS[s], until);
+            }
+        }
+    }
+
+    private UUID nextPlayer() {
+        int i = cursor++;
+        if (cursor == players.length) {
+            cursor = 0;
+        }
+        return players[i];
+    }
+
+    @Benchmark
+    public boolean isSpellOnCooldown() {
+        return cooldowns.isSpellOnCooldown(nextPlayer(), SPELLS[cursor % SPELLS.length], nowTicks + 1);
+    }
+
+    @Benchmark
+    public long getSpellCooldownRemaining() {
+        return cooldowns.getSpellCooldownRemaining(nextPlayer(), SPELLS[cursor % SPELLS.length], nowTicks + 1);
+    }
+
+    @Benchmark
+    @Measurement(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public void setSpellCooldown() {
+        cooldowns.setSpellCooldown(nextPlayer(), SPELLS[cursor % SPELLS.length], nowTicks + 100);
+    }
+}
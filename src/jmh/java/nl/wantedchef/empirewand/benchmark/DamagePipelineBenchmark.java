@@ -0,0 +1,179 @@
+package nl.wantedchef.empirewand.benchmark;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bukkit.World;
+import org.bukkit.damage.DamageSource;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Vex;
+import org.bukkit.entity.Zombie;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import nl.wantedchef.empirewand.core.storage.Keys;
+import nl.wantedchef.empirewand.framework.service.PlayerEffectState;
+import nl.wantedchef.empirewand.framework.service.PlayerEffectState.Effect;
+import nl.wantedchef.empirewand.framework.service.SpellEntityRegistry;
+import nl.wantedchef.empirewand.listener.combat.DamagePipeline;
+import nl.wantedchef.empirewand.listener.combat.MinionFriendlyFireListener;
+import nl.wantedchef.empirewand.spell.life.BloodBarrier;
+import nl.wantedchef.empirewand.spell.toggle.godmode.Elementosgod;
+
+/**
+ * Replays a recorded trace of PvP/PvE hits through the per-spell damage listeners as they were
+ * registered before the {@link DamagePipeline}, and through the pipeline itself.
+ * <p>
+ * The trace mixes plain mob and player hits with hits that touch spell state: players under a
+ * protection aura and minions striking their owner. {@code spellShare} is the percentage of such
+ * hits. The legacy path runs every listener for every hit, each with its own metadata or PDC
+ * probe; the pipeline resolves one flag word and only runs matching stages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DamagePipelineBenchmark {
+
+    private static final int TRACE_LENGTH = 1024;
+    private static final double BASE_DAMAGE = 6.0;
+
+    @Param({ "0", "10", "50" })
+    public int spellShare;
+
+    private EntityDamageByEntityEvent[] trace;
+    private DamagePipeline pipeline;
+    private MinionFriendlyFireListener minions;
+
+    // Legacy listener state
+    private final Map<UUID, Set<String>> legacyAuras = new ConcurrentHashMap<>();
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        World world = BukkitStandIns.world("bench", new AtomicLong());
+        PlayerEffectState effects = new PlayerEffectState();
+        SpellEntityRegistry entities = new SpellEntityRegistry(() -> 0);
+        pipeline = DamagePipeline.withDefaultStages(effects, entities, BukkitStandIns.logger());
+        minions = new MinionFriendlyFireListener(entities);
+        // Stand-ins for the stages AuraSpellListener and LightningEffectListener register on a server
+        pipeline.register("aura-protection", DamagePipeline.Phase.REDUCE, DamagePipeline.victim(Effect.AURA),
+                false, (event, hit) -> event.setDamage(event.getDamage() * 0.7));
+        pipeline.register("chain-lightning", DamagePipeline.Phase.REDIRECT,
+                DamagePipeline.attacker(Effect.CHAIN_LIGHTNING), true, (event, hit) -> { });
+
+        Player[] players = new Player[16];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = BukkitStandIns.player(new UUID(0xBEEFL, i), "Player" + i, world);
+        }
+        Player auraHolder = BukkitStandIns.player(new UUID(0xA0AL, 1), "AuraHolder", world);
+        effects.activate(auraHolder, Effect.AURA);
+        legacyAuras.put(auraHolder.getUniqueId(), Set.of("aura-protection"));
+
+        Zombie zombie = BukkitStandIns.entity(Zombie.class, 10_001, BukkitStandIns.dataContainer());
+        Player owner = players[0];
+        Vex minion = BukkitStandIns.entity(Vex.class, 10_002, BukkitStandIns.dataContainer());
+        entities.tag(minion, "summon-swarm", owner.getUniqueId(), SpellEntityRegistry.MINION);
+
+        DamageSource source = Mockito.mock(DamageSource.class);
+        Random random = new Random(42);
+        trace = new EntityDamageByEntityEvent[TRACE_LENGTH];
+        for (int i = 0; i < TRACE_LENGTH; i++) {
+            Entity damager;
+            Entity victim;
+            if (random.nextInt(100) < spellShare) {
+                boolean minionHit = random.nextBoolean();
+                damager = minionHit ? minion : players[random.nextInt(players.length)];
+                victim = minionHit ? owner : auraHolder;
+            } else if (random.nextBoolean()) {
+                damager = zombie;
+                victim = players[random.nextInt(players.length)];
+            } else {
+                damager = players[random.nextInt(players.length)];
+                victim = players[random.nextInt(players.length)];
+            }
+            trace[i] = new EntityDamageByEntityEvent(damager, victim, DamageCause.ENTITY_ATTACK, source,
+                    BASE_DAMAGE);
+        }
+    }
+
+    private EntityDamageByEntityEvent next() {
+        EntityDamageByEntityEvent event = trace[cursor];
+        cursor = (cursor + 1) & (TRACE_LENGTH - 1);
+        event.setCancelled(false);
+        event.setDamage(BASE_DAMAGE);
+        return event;
+    }
+
+    @Benchmark
+    public void legacyListeners(Blackhole blackhole) {
+        EntityDamageByEntityEvent event = next();
+        // Registration order of the former per-spell listeners
+        BloodBarrier.handleDamageEvent(event);
+        Elementosgod.handleDamageEvent(event);
+        blackhole.consume(legacyLightning(event));
+        legacyAura(event);
+        if (!event.isCancelled()) {
+            legacyMinion(event);
+        }
+        blackhole.consume(event.getDamage());
+    }
+
+    @Benchmark
+    public void pipeline(Blackhole blackhole) {
+        EntityDamageByEntityEvent event = next();
+        pipeline.onEntityDamage(event);
+        // Minion friendly fire stays a separate HIGHEST listener
+        if (!event.isCancelled()) {
+            minions.onDamage(event);
+        }
+        blackhole.consume(event.getDamage());
+    }
+
+    private static boolean legacyLightning(EntityDamageByEntityEvent event) {
+        if (event.getDamager() instanceof Player caster) {
+            var pdc = caster.getPersistentDataContainer();
+            return pdc.has(Keys.createKey("chain_lightning_active"), Keys.BOOLEAN_TYPE.getType())
+                    | pdc.has(Keys.createKey("lightning_arrow"), Keys.BOOLEAN_TYPE.getType());
+        }
+        return false;
+    }
+
+    private void legacyAura(EntityDamageByEntityEvent event) {
+        if (event.getEntity() instanceof Player player && legacyAuras.get(player.getUniqueId()) != null) {
+            event.setDamage(event.getDamage() * 0.7);
+        }
+    }
+
+    private static void legacyMinion(EntityDamageByEntityEvent event) {
+        if (event.getDamager() instanceof Vex vex && event.getEntity() instanceof Player player) {
+            String owner = vex.getPersistentDataContainer().get(Keys.createKey("minion.owner"),
+                    Keys.STRING_TYPE.getType());
+            if (owner != null && owner.equals(player.getUniqueId().toString())) {
+                event.setCancelled(true);
+            }
+        }
+    }
+}
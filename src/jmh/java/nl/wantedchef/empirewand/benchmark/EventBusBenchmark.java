@@ -0,0 +1,58 @@
+package nl.wantedchef.empirewand.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nl.wantedchef.empirewand.core.event.EventBusSystem;
+
+/**
+ * Measures {@link EventBusSystem#publish(Object)} round trips for a typed event with a single
+ * subscriber. The future is joined so the executor queue cannot grow without bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+
+    /**
+     * Payload shaped like the spell cast notifications published on the bus.
+     */
+    public record CastNotice(String spellKey, long tick) implements EventBusSystem.Event {
+    }
+
+    private final LongAdder delivered = new LongAdder();
+    private EventBusSystem eventBus;
+    private CastNotice notice;
+
+    @Setup
+    public void setUp() {
+        eventBus = new EventBusSystem(BukkitStandIns.plugin());
+        eventBus.register(CastNotice.class, event -> delivered.increment());
+        notice = new CastNotice("fireball", 0L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventBus.shutdown();
+    }
+
+    @Benchmark
+    public void publishAndWait() {
+        eventBus.publish(notice).join();
+    }
+}
@@ -0,0 +1,72 @@
+package nl.wantedchef.empirewand.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nl.wantedchef.empirewand.core.logging.StructuredLogger;
+import nl.wantedchef.empirewand.core.text.TextService;
+import nl.wantedchef.empirewand.core.util.PerformanceMonitor;
+import nl.wantedchef.empirewand.framework.service.FxService;
+
+/**
+ * Measures particle buffering in {@link FxService}: queueing one spell tick's worth of
+ * particles and flushing them, as spells do from their repeating tasks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FxServiceBenchmark {
+
+    @Param({ "8", "32", "128" })
+    public int particlesPerTick;
+
+    private FxService fx;
+    private Location origin;
+
+    @Setup
+    public void setUp() {
+        fx = new FxService(new TextService(), new PerformanceMonitor(BukkitStandIns.logger()),
+                new StructuredLogger(BukkitStandIns.logger()));
+        World world = BukkitStandIns.world("world", new AtomicLong());
+        origin = new Location(world, 0.5, 64.0, 0.5);
+    }
+
+    @TearDown
+    public void tearDown() {
+        fx.shutdown();
+    }
+
+    @Benchmark
+    public void batchAndFlush() {
+        for (int i = 0; i < particlesPerTick; i++) {
+            fx.batchParticles(origin, Particle.FLAME, 4, 0.2, 0.2, 0.2, 0.01);
+        }
+        fx.flushParticleBatch();
+    }
+
+    @Benchmark
+    public void spawnDirect() {
+        for (int i = 0; i < particlesPerTick; i++) {
+            fx.spawnParticles(origin, Particle.FLAME, 4, 0.2, 0.2, 0.2, 0.01);
+        }
+    }
+}
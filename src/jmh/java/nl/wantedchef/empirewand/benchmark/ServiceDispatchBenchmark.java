@@ -0,0 +1,140 @@
+package nl.wantedchef.empirewand.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nl.wantedchef.empirewand.core.event.EventBusSystem;
+import nl.wantedchef.empirewand.core.integration.OptimizedServiceRegistry;
+import nl.wantedchef.empirewand.core.integration.OptimizedServiceRegistry.Intercepted;
+import nl.wantedchef.empirewand.core.integration.OptimizedServiceRegistry.InterceptedMethod;
+import nl.wantedchef.empirewand.core.integration.OptimizedServiceRegistry.ServiceInterceptor;
+import nl.wantedchef.empirewand.core.integration.OptimizedServiceRegistry.ServiceInvocation;
+
+/**
+ * Compares calls on a service handed out by {@link OptimizedServiceRegistry} with one pass-through
+ * interceptor: a plain call on the raw instance, the registry's decorator for an intercepted and
+ * a non-intercepted method, and the {@link Proxy} dispatch the registry used before, which
+ * routed every method through the interceptor and {@code Method.invoke}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceDispatchBenchmark {
+
+    /**
+     * Service shaped like the per-cast lookups that go through the registry.
+     */
+    public interface ManaPool {
+        @Intercepted
+        int drain(int amount);
+
+        int level();
+    }
+
+    /**
+     * Straightforward implementation; the benchmark measures dispatch, not the work.
+     */
+    public static final class SimpleManaPool implements ManaPool {
+        private int level = 1_000;
+
+        @Override
+        public int drain(int amount) {
+            level = level > amount ? level - amount : 1_000;
+            return level;
+        }
+
+        @Override
+        public int level() {
+            return level;
+        }
+    }
+
+    private static final ServiceInterceptor PASS_THROUGH = ServiceInvocation::proceed;
+
+    private EventBusSystem eventBus;
+    private ManaPool direct;
+    private ManaPool decorated;
+    private ManaPool proxied;
+
+    @Setup
+    public void setUp() {
+        eventBus = new EventBusSystem(BukkitStandIns.plugin());
+        OptimizedServiceRegistry registry = new OptimizedServiceRegistry(BukkitStandIns.plugin(), eventBus);
+
+        direct = new SimpleManaPool();
+        registry.registerServiceInstance(ManaPool.class, direct);
+        registry.registerDecorator(ManaPool.class, (target, chain) -> {
+            InterceptedMethod drain = chain.bind("drain");
+            return new ManaPool() {
+                @Override
+                public int drain(int amount) {
+                    return drain.invoke(target, new Object[] { amount }, () -> target.drain(amount));
+                }
+
+                @Override
+                public int level() {
+                    return target.level();
+                }
+            };
+        });
+        registry.addInterceptor(ManaPool.class, PASS_THROUGH);
+        decorated = registry.getService(ManaPool.class);
+
+        ManaPool target = new SimpleManaPool();
+        InvocationHandler handler = (proxy, method, args) -> PASS_THROUGH.intercept(
+                new ServiceInvocation(target, method.getName(), args) {
+                    @Override
+                    public Object proceed() throws Throwable {
+                        return method.invoke(target, args);
+                    }
+                });
+        proxied = (ManaPool) Proxy.newProxyInstance(ManaPool.class.getClassLoader(),
+                new Class<?>[] { ManaPool.class }, handler);
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventBus.shutdown();
+    }
+
+    @Benchmark
+    public int directCall() {
+        return direct.drain(1);
+    }
+
+    @Benchmark
+    public int decoratedIntercepted() {
+        return decorated.drain(1);
+    }
+
+    @Benchmark
+    public int decoratedPassThrough() {
+        return decorated.level();
+    }
+
+    @Benchmark
+    public int proxiedIntercepted() {
+        return proxied.drain(1);
+    }
+
+    @Benchmark
+    public int proxiedPassThrough() {
+        return proxied.level();
+    }
+}
@@ -0,0 +1,111 @@
+package nl.wantedchef.empirewand.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.mockito.Mockito;
+
+import nl.wantedchef.empirewand.EmpireWandPlugin;
+import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.api.impl.CooldownServiceAdapter;
+import nl.wantedchef.empirewand.core.logging.StructuredLogger;
+import nl.wantedchef.empirewand.core.text.TextService;
+import nl.wantedchef.empirewand.core.util.PerformanceMonitor;
+import nl.wantedchef.empirewand.framework.service.ConfigService;
+import nl.wantedchef.empirewand.framework.service.FxService;
+import nl.wantedchef.empirewand.framework.service.UnifiedCooldownManager;
+import nl.wantedchef.empirewand.spell.CastResult;
+import nl.wantedchef.empirewand.spell.CooldownPrereq;
+import nl.wantedchef.empirewand.spell.PrereqInterface;
+import nl.wantedchef.empirewand.spell.Spell;
+import nl.wantedchef.empirewand.spell.SpellContext;
+import nl.wantedchef.empirewand.spell.fire.basic.Fireball;
+
+/**
+ * Measures the prerequisite evaluation at the front of {@link Spell#cast(SpellContext)}:
+ * the composite built per cast, the same check with a prebuilt composite, and a full
+ * {@code cast} that is rejected because the caster is still on cooldown.
+ * <p>
+ * The API provider mirrors the plugin's and hands out a fresh cooldown adapter per lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpellCastBenchmark {
+
+    private final AtomicLong clock = new AtomicLong(10_000L);
+
+    private Spell<?> spell;
+    private PrereqInterface prebuilt;
+    private SpellContext readyContext;
+    private SpellContext coolingContext;
+
+    @Setup
+    public void setUp() {
+        UnifiedCooldownManager cooldowns = new UnifiedCooldownManager(BukkitStandIns.plugin());
+        Map<String, BukkitStandIns.Answer> answers = new HashMap<>();
+        answers.put("getCooldownService", args -> new CooldownServiceAdapter(cooldowns));
+        EmpireWandAPI.clearProvider();
+        EmpireWandAPI.setProvider(BukkitStandIns.stub(EmpireWandAPI.EmpireWandProvider.class, answers));
+
+        EmpireWandPlugin plugin = Mockito.mock(EmpireWandPlugin.class);
+        Mockito.when(plugin.getLogger()).thenReturn(BukkitStandIns.logger());
+        ConfigService config = new ConfigService(BukkitStandIns.plugin());
+        FxService fx = new FxService(new TextService(), new PerformanceMonitor(BukkitStandIns.logger()),
+                new StructuredLogger(BukkitStandIns.logger()));
+
+        spell = new Fireball.Builder(null).build();
+        prebuilt = new PrereqInterface.CompositePrereq(List.of(spell.prereq(), new CooldownPrereq(spell.key())));
+
+        World world = BukkitStandIns.world("world", clock);
+        Player ready = BukkitStandIns.player(new UUID(0x5EEDL, 1), "Ready", world);
+        Player cooling = BukkitStandIns.player(new UUID(0x5EEDL, 2), "Cooling", world);
+        cooldowns.setSpellCooldown(cooling.getUniqueId(), spell.key(), Long.MAX_VALUE / 2);
+
+        readyContext = new SpellContext(plugin, ready, config, fx, null, null, spell.key());
+        coolingContext = new SpellContext(plugin, cooling, config, fx, null, null, spell.key());
+    }
+
+    @TearDown
+    public void tearDown() {
+        EmpireWandAPI.clearProvider();
+    }
+
+    @Benchmark
+    public PrereqInterface.CheckResult prereqPerCast() {
+        // Same allocation pattern as Spell.cast
+        PrereqInterface composite = new PrereqInterface.CompositePrereq(
+                List.of(spell.prereq(), new CooldownPrereq(spell.key())));
+        return composite.check(readyContext);
+    }
+
+    @Benchmark
+    public PrereqInterface.CheckResult prereqPrebuilt() {
+        return prebuilt.check(readyContext);
+    }
+
+    @Benchmark
+    public CastResult castRejectedOnCooldown() {
+        return spell.cast(coolingContext);
+    }
+}
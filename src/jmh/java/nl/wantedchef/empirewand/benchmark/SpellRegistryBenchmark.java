@@ -0,0 +1,72 @@
+package nl.wantedchef.empirewand.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nl.wantedchef.empirewand.api.spell.SpellRegistry.SpellQuery;
+import nl.wantedchef.empirewand.framework.service.ConfigService;
+import nl.wantedchef.empirewand.framework.service.SpellRegistryImpl;
+import nl.wantedchef.empirewand.spell.Spell;
+
+/**
+ * Measures registry lookups against the full built-in spell set: key lookup, display name,
+ * the cached category index and an uncached filtered + sorted query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpellRegistryBenchmark {
+
+    private SpellRegistryImpl registry;
+    private SpellQuery fireByName;
+
+    @Setup
+    public void setUp() {
+        registry = new SpellRegistryImpl(new ConfigService(BukkitStandIns.plugin()));
+        fireByName = registry.createQuery()
+                .category("FIRE")
+                .sortBy(SpellQuery.SortField.NAME)
+                .build();
+    }
+
+    @Benchmark
+    public Optional<Spell<?>> getSpell() {
+        return registry.getSpell("fireball");
+    }
+
+    @Benchmark
+    public Optional<Spell<?>> getSpellMissing() {
+        return registry.getSpell("no-such-spell");
+    }
+
+    @Benchmark
+    public String getSpellDisplayName() {
+        return registry.getSpellDisplayName("chain-lightning");
+    }
+
+    @Benchmark
+    public Set<String> getSpellsByCategory() {
+        return registry.getSpellsByCategory("FIRE");
+    }
+
+    @Benchmark
+    public List<Spell<?>> findSpellsByCategorySorted() {
+        return registry.findSpells(fireByName);
+    }
+}
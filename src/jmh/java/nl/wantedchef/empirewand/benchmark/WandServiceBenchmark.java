@@ -0,0 +1,93 @@
+package nl.wantedchef.empirewand.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.mockito.Mockito;
+
+import nl.wantedchef.empirewand.EmpireWandPlugin;
+import nl.wantedchef.empirewand.core.storage.Keys;
+import nl.wantedchef.empirewand.framework.service.WandServiceImpl;
+
+/**
+ * Measures wand decoding: reading bound spells and the active index from the item's
+ * persistent data, both through the meta-keyed cache and from a cold cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WandServiceBenchmark {
+
+    private static final String BOUND_SPELLS = "fireball,heal,magic-missile,frost-nova,chain-lightning,"
+            + "blink-strike,gust,arcane-orb,tornado,lightning-bolt,comet,leap";
+
+    private WandServiceImpl wandService;
+    private ItemStack wand;
+
+    @Setup
+    public void setUp() {
+        // The plugin is only used for its logger during construction
+        EmpireWandPlugin plugin = Mockito.mock(EmpireWandPlugin.class);
+        Mockito.when(plugin.getLogger()).thenReturn(BukkitStandIns.logger());
+        wandService = new WandServiceImpl(plugin, null);
+
+        PersistentDataContainer pdc = BukkitStandIns.dataContainer();
+        pdc.set(Keys.WAND_TYPE, PersistentDataType.STRING, "empirewand");
+        pdc.set(Keys.WAND_SPELLS, PersistentDataType.STRING, BOUND_SPELLS);
+        pdc.set(Keys.WAND_ACTIVE_SPELL, PersistentDataType.INTEGER, 3);
+        wand = new BukkitStandIns.StandInItemStack(Material.BLAZE_ROD, BukkitStandIns.itemMeta(pdc));
+    }
+
+    @Benchmark
+    public boolean isWand() {
+        return wandService.isWand(wand);
+    }
+
+    @Benchmark
+    public Object getSpellsCached() {
+        return wandService.getSpells(wand);
+    }
+
+    @Benchmark
+    public int getActiveIndexCached() {
+        return wandService.getActiveIndex(wand);
+    }
+
+    @Benchmark
+    public String getActiveSpellKey() {
+        return wandService.getActiveSpellKey(wand);
+    }
+
+    /**
+     * Clears the decode caches before every read so the PDC string split is measured.
+     * Compare against {@link #cacheClearOnly()} to subtract the clear itself.
+     */
+    @Benchmark
+    public void getSpellsCold(Blackhole bh) {
+        wandService.shutdown();
+        bh.consume(wandService.getSpells(wand));
+        bh.consume(wandService.getActiveIndex(wand));
+    }
+
+    @Benchmark
+    public void cacheClearOnly() {
+        wandService.shutdown();
+    }
+}
@@ -0,0 +1,250 @@
+package nl.wantedchef.empirewand.simulation;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.util.Vector;
+
+import nl.wantedchef.empirewand.benchmark.BukkitStandIns;
+
+/**
+ * State behind a simulated entity proxy.
+ * <p>
+ * Entities have a position, a velocity that is integrated once per tick, health, a target and a
+ * persistent data container. Anything else answers with a neutral default.
+ */
+final class SimEntity implements InvocationHandler {
+
+    private static final double GRAVITY = 0.08;
+    private static final double DRAG = 0.91;
+
+    final int id;
+    final UUID uuid;
+    final Class<? extends Entity> type;
+    final SimWorld world;
+    final SimMetrics.SpellStats owner;
+    final Entity proxy;
+    final Location location;
+    final Vector velocity = new Vector();
+    private final PersistentDataContainer pdc = BukkitStandIns.dataContainer();
+    private final Map<Attribute, double[]> attributes = new EnumMap<>(Attribute.class);
+    private double health = 20.0;
+    private boolean dead;
+    private boolean removed;
+    private int fireTicks;
+    private LivingEntity target;
+
+    SimEntity(int id, Class<? extends Entity> type, SimWorld world, Location location, SimMetrics.SpellStats owner) {
+        this.id = id;
+        this.uuid = new UUID(0x51A1L, id);
+        this.type = type;
+        this.world = world;
+        this.location = location;
+        this.owner = owner;
+        this.proxy = (Entity) Proxy.newProxyInstance(SimEntity.class.getClassLoader(), new Class<?>[] { type }, this);
+    }
+
+    boolean isAlive() {
+        return !dead && !removed;
+    }
+
+    /**
+     * Integrates velocity with vanilla-like gravity and drag; entities rest on the flat ground.
+     */
+    void physicsTick() {
+        if (!isAlive() || velocity.lengthSquared() < 1.0E-6) {
+            return;
+        }
+        location.add(velocity);
+        double ground = world.groundY(location.getBlockX(), location.getBlockZ()) + 1.0;
+        if (location.getY() <= ground) {
+            location.setY(ground);
+            velocity.setY(0.0);
+        } else {
+            velocity.setY(velocity.getY() - GRAVITY);
+        }
+        velocity.multiply(DRAG);
+    }
+
+    @Override
+    public Object invoke(Object self, Method method, Object[] args) {
+        String name = method.getName();
+        switch (name) {
+            case "hashCode":
+                return id;
+            case "equals":
+                return self == args[0];
+            case "toString":
+                return type.getSimpleName() + "#" + id;
+            case "getEntityId":
+                return id;
+            case "getUniqueId":
+                return uuid;
+            case "getName":
+                return type.getSimpleName() + id;
+            case "getWorld":
+                return world.proxy();
+            case "getLocation":
+                if (args != null && args.length == 1 && args[0] instanceof Location into) {
+                    into.setWorld(location.getWorld());
+                    into.setX(location.getX());
+                    into.setY(location.getY());
+                    into.setZ(location.getZ());
+                    into.setYaw(location.getYaw());
+                    into.setPitch(location.getPitch());
+                    return into;
+                }
+                return location.clone();
+            case "getEyeLocation":
+                return location.clone().add(0.0, 1.62, 0.0);
+            case "getVelocity":
+                return velocity.clone();
+            case "setVelocity":
+                velocity.copy((Vector) args[0]);
+                return null;
+            case "teleport":
+                if (args[0] instanceof Location to) {
+                    location.setX(to.getX());
+                    location.setY(to.getY());
+                    location.setZ(to.getZ());
+                    location.setYaw(to.getYaw());
+                    location.setPitch(to.getPitch());
+                } else if (args[0] instanceof Entity other) {
+                    return invoke(self, method, new Object[] { other.getLocation() });
+                }
+                return true;
+            case "isValid":
+                return isAlive();
+            case "isDead":
+                return dead || removed;
+            case "remove":
+                removed = true;
+                return null;
+            case "getHealth":
+                return health;
+            case "setHealth":
+                health = (Double) args[0];
+                dead = health <= 0.0;
+                return null;
+            case "damage":
+                health -= (Double) args[0];
+                dead = health <= 0.0;
+                return null;
+            case "getMaxHealth":
+                return attribute(Attribute.GENERIC_MAX_HEALTH)[0];
+            case "getAttribute":
+                return attributeInstance((Attribute) args[0]);
+            case "getPersistentDataContainer":
+                return pdc;
+            case "getTarget":
+                return target;
+            case "setTarget":
+                target = (LivingEntity) args[0];
+                return null;
+            case "getFireTicks":
+                return fireTicks;
+            case "setFireTicks":
+                fireTicks = (Integer) args[0];
+                return null;
+            case "addPotionEffect":
+            case "addPotionEffects":
+                return true;
+            case "getNearbyEntities":
+                return nearby((Double) args[0], (Double) args[1], (Double) args[2]);
+            case "getTargetBlock":
+            case "getTargetBlockExact":
+                return targetBlock(args != null && args.length > 1 ? ((Number) args[1]).intValue() : 20);
+            case "getHeight":
+                return 1.8;
+            case "getWidth":
+                return 0.6;
+            case "isOnGround":
+                return location.getY() <= world.groundY(location.getBlockX(), location.getBlockZ()) + 1.0;
+            case "isOnline":
+            case "hasPermission":
+            case "hasLineOfSight":
+                return true;
+            case "getLevel":
+                return 30;
+            case "getFoodLevel":
+                return 20;
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    }
+
+    private double[] attribute(Attribute attribute) {
+        return attributes.computeIfAbsent(attribute, a -> new double[] { a == Attribute.GENERIC_MAX_HEALTH ? 20.0 : 1.0 });
+    }
+
+    private AttributeInstance attributeInstance(Attribute attribute) {
+        double[] value = attribute(attribute);
+        Map<String, BukkitStandIns.Answer> answers = new HashMap<>();
+        answers.put("getAttribute", a -> attribute);
+        answers.put("getBaseValue", a -> value[0]);
+        answers.put("getValue", a -> value[0]);
+        answers.put("getDefaultValue", a -> value[0]);
+        answers.put("setBaseValue", a -> {
+            value[0] = (Double) a[0];
+            return null;
+        });
+        return BukkitStandIns.stub(AttributeInstance.class, answers);
+    }
+
+    private List<Entity> nearby(double x, double y, double z) {
+        List<Entity> result = new ArrayList<>();
+        world.collectNearby(location, x, y, z, Entity.class, null, result);
+        result.remove(proxy);
+        return result;
+    }
+
+    private Block targetBlock(int maxDistance) {
+        // Casters look ahead at the ground; cap the reach so spells land near their caster
+        Vector direction = location.getDirection().setY(0);
+        if (direction.lengthSquared() < 1.0E-6) {
+            direction = new Vector(1, 0, 0);
+        }
+        double reach = Math.min(maxDistance, 12);
+        Location aim = location.clone().add(direction.normalize().multiply(reach));
+        int x = aim.getBlockX();
+        int z = aim.getBlockZ();
+        return world.block(x, world.groundY(x, z), z);
+    }
+
+    static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            if (type == Material.class) {
+                return Material.AIR;
+            }
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0.0d;
+        }
+        if (type == float.class) {
+            return 0.0f;
+        }
+        return 0;
+    }
+}
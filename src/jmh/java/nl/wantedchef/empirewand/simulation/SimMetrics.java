@@ -0,0 +1,228 @@
+package nl.wantedchef.empirewand.simulation;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-spell accounting for a simulation run.
+ * <p>
+ * Work is attributed to whichever spell is "active": the spell being cast, or the spell whose
+ * cast scheduled the task currently running. Tasks inherit the owner that was active when they
+ * were scheduled, so follow-up tasks (shockwaves, delayed removals) are charged to the same spell.
+ */
+final class SimMetrics {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    static {
+        if (THREADS.isThreadAllocatedMemorySupported() && !THREADS.isThreadAllocatedMemoryEnabled()) {
+            THREADS.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    private final Map<String, SpellStats> stats = new LinkedHashMap<>();
+    private final SpellStats harness;
+    private final long[] tickNanos;
+    private SpellStats active;
+    private int tick;
+
+    SimMetrics(int ticks) {
+        this.tickNanos = new long[ticks];
+        this.harness = new SpellStats("(harness)", ticks);
+        this.active = harness;
+    }
+
+    SpellStats register(String spellKey, int ticks) {
+        return stats.computeIfAbsent(spellKey, key -> new SpellStats(key, ticks));
+    }
+
+    SpellStats active() {
+        return active;
+    }
+
+    Iterable<SpellStats> spells() {
+        return stats.values();
+    }
+
+    /**
+     * Makes {@code owner} the active spell and returns the previously active one.
+     */
+    SpellStats enter(SpellStats owner) {
+        SpellStats previous = active;
+        active = owner == null ? harness : owner;
+        return previous;
+    }
+
+    void exit(SpellStats previous) {
+        active = previous;
+    }
+
+    /**
+     * Runs {@code work} charged to {@code owner}, recording wall time and allocated bytes.
+     *
+     * @return the throwable raised by the work, or {@code null}
+     */
+    Throwable measure(SpellStats owner, Runnable work) {
+        SpellStats previous = enter(owner);
+        long bytes = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            work.run();
+        } catch (Throwable t) {
+            failure = t;
+            active.errors++;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            active.tickNanos[tick] += elapsed;
+            active.tickBytes[tick] += THREADS.getCurrentThreadAllocatedBytes() - bytes;
+            exit(previous);
+        }
+        return failure;
+    }
+
+    void beginTick(int tick) {
+        this.tick = tick;
+    }
+
+    void endTick(long wallNanos) {
+        tickNanos[tick] = wallNanos;
+    }
+
+    /**
+     * Mutable counters for a single spell key.
+     */
+    static final class SpellStats {
+        final String key;
+        final long[] tickNanos;
+        final long[] tickBytes;
+        long casts;
+        long castFailures;
+        long tasksScheduled;
+        long asyncTasksScheduled;
+        long taskRuns;
+        long errors;
+        long particleCalls;
+        long particles;
+        long particlePackets;
+        long soundCalls;
+        long soundPackets;
+        long blockWrites;
+        long explosions;
+        long events;
+        long entitiesSpawned;
+        int liveEntities;
+        int peakEntities;
+        int liveTasks;
+        int peakTasks;
+
+        SpellStats(String key, int ticks) {
+            this.key = key;
+            this.tickNanos = new long[ticks];
+            this.tickBytes = new long[ticks];
+        }
+    }
+
+    /**
+     * Formats the per-spell report as a fixed-width table.
+     */
+    String formatTable(int ticks) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Simulated %d ticks%n", ticks));
+        appendTickSummary(out, "server tick (all work)", tickNanos, ticks);
+        out.append(System.lineSeparator());
+        out.append(String.format(Locale.ROOT, "%-16s %6s %5s %6s %9s %9s %9s %10s %9s %10s %9s %8s %8s %7s%n",
+                "spell", "casts", "fail", "errors", "avg us/t", "p99 us/t", "max us/t", "alloc KB/t",
+                "ptcl/t", "ptcl pkt/t", "snd pkt/t", "blocks", "ent peak", "tasks"));
+        for (SpellStats s : stats.values()) {
+            long[] sorted = Arrays.copyOf(s.tickNanos, ticks);
+            Arrays.sort(sorted);
+            out.append(String.format(Locale.ROOT,
+                    "%-16s %6d %5d %6d %9.1f %9.1f %9.1f %10.1f %9.1f %10.1f %9.1f %8d %8d %7d%n",
+                    s.key, s.casts, s.castFailures, s.errors,
+                    mean(s.tickNanos, ticks) / 1_000.0,
+                    percentile(sorted, 0.99) / 1_000.0,
+                    sorted[ticks - 1] / 1_000.0,
+                    mean(s.tickBytes, ticks) / 1024.0,
+                    (double) s.particles / ticks,
+                    (double) s.particlePackets / ticks,
+                    (double) s.soundPackets / ticks,
+                    s.blockWrites, s.peakEntities, s.peakTasks));
+        }
+        return out.toString();
+    }
+
+    private static void appendTickSummary(StringBuilder out, String label, long[] nanos, int ticks) {
+        long[] sorted = Arrays.copyOf(nanos, ticks);
+        Arrays.sort(sorted);
+        out.append(String.format(Locale.ROOT, "%s: avg %.1f us, p50 %.1f us, p95 %.1f us, p99 %.1f us, max %.1f us%n",
+                label, mean(nanos, ticks) / 1_000.0, percentile(sorted, 0.50) / 1_000.0,
+                percentile(sorted, 0.95) / 1_000.0, percentile(sorted, 0.99) / 1_000.0,
+                sorted[ticks - 1] / 1_000.0));
+    }
+
+    /**
+     * Formats the report as JSON for CI trend tracking.
+     */
+    String formatJson(int ticks, Map<String, Object> settings) {
+        StringBuilder out = new StringBuilder("{\n  \"settings\": {");
+        boolean first = true;
+        for (Map.Entry<String, Object> entry : settings.entrySet()) {
+            out.append(first ? "\n" : ",\n");
+            first = false;
+            Object value = entry.getValue();
+            out.append("    \"").append(entry.getKey()).append("\": ");
+            out.append(value instanceof Number ? value.toString() : "\"" + value + "\"");
+        }
+        long[] sortedTicks = Arrays.copyOf(tickNanos, ticks);
+        Arrays.sort(sortedTicks);
+        out.append("\n  },\n  \"ticks\": ").append(ticks);
+        out.append(String.format(Locale.ROOT, ",\n  \"tickAvgMicros\": %.2f,\n  \"tickP99Micros\": %.2f,\n  \"tickMaxMicros\": %.2f",
+                mean(tickNanos, ticks) / 1_000.0, percentile(sortedTicks, 0.99) / 1_000.0,
+                sortedTicks[ticks - 1] / 1_000.0));
+        out.append(",\n  \"spells\": [");
+        first = true;
+        for (SpellStats s : stats.values()) {
+            long[] sorted = Arrays.copyOf(s.tickNanos, ticks);
+            Arrays.sort(sorted);
+            out.append(first ? "\n" : ",\n");
+            first = false;
+            out.append(String.format(Locale.ROOT,
+                    "    {\"key\": \"%s\", \"casts\": %d, \"castFailures\": %d, \"errors\": %d, "
+                            + "\"avgMicrosPerTick\": %.2f, \"p99MicrosPerTick\": %.2f, \"maxMicrosPerTick\": %.2f, "
+                            + "\"avgAllocBytesPerTick\": %.0f, \"particleCalls\": %d, \"particles\": %d, "
+                            + "\"particlePackets\": %d, \"soundCalls\": %d, \"soundPackets\": %d, "
+                            + "\"blockWrites\": %d, \"explosions\": %d, \"events\": %d, "
+                            + "\"entitiesSpawned\": %d, \"peakEntities\": %d, \"tasksScheduled\": %d, "
+                            + "\"asyncTasksScheduled\": %d, \"taskRuns\": %d, \"peakTasks\": %d}",
+                    s.key, s.casts, s.castFailures, s.errors,
+                    mean(s.tickNanos, ticks) / 1_000.0, percentile(sorted, 0.99) / 1_000.0,
+                    sorted[ticks - 1] / 1_000.0, mean(s.tickBytes, ticks),
+                    s.particleCalls, s.particles, s.particlePackets, s.soundCalls, s.soundPackets,
+                    s.blockWrites, s.explosions, s.events, s.entitiesSpawned, s.peakEntities,
+                    s.tasksScheduled, s.asyncTasksScheduled, s.taskRuns, s.peakTasks));
+        }
+        out.append("\n  ]\n}\n");
+        return out.toString();
+    }
+
+    private static double mean(long[] values, int count) {
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += values[i];
+        }
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
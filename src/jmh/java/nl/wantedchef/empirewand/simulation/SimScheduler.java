@@ -0,0 +1,234 @@
+package nl.wantedchef.empirewand.simulation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import nl.wantedchef.empirewand.benchmark.BukkitStandIns;
+
+/**
+ * Tick-driven replacement for the Bukkit scheduler.
+ * <p>
+ * Tasks run on the simulation thread in the tick they become due. Asynchronous tasks are run
+ * inline as well so their cost is attributed; they are only counted separately. A delay of
+ * zero means "next tick", matching CraftBukkit.
+ */
+final class SimScheduler {
+
+    private final SimMetrics metrics;
+    private final Map<Integer, SimTask> byId = new HashMap<>();
+    private final List<SimTask> tasks = new ArrayList<>();
+    private final List<SimTask> incoming = new ArrayList<>();
+    private final BukkitScheduler proxy;
+    private int nextId = 1;
+    private long currentTick;
+    private SimTask running;
+
+    SimScheduler(SimMetrics metrics) {
+        this.metrics = metrics;
+        Map<String, BukkitStandIns.Answer> answers = new HashMap<>();
+        answers.put("runTask", args -> schedule(args, 0L, -1L, false));
+        answers.put("runTaskLater", args -> schedule(args, (Long) args[2], -1L, false));
+        answers.put("runTaskTimer", args -> schedule(args, (Long) args[2], (Long) args[3], false));
+        answers.put("runTaskAsynchronously", args -> schedule(args, 0L, -1L, true));
+        answers.put("runTaskLaterAsynchronously", args -> schedule(args, (Long) args[2], -1L, true));
+        answers.put("runTaskTimerAsynchronously", args -> schedule(args, (Long) args[2], (Long) args[3], true));
+        answers.put("scheduleSyncDelayedTask", this::scheduleLegacy);
+        answers.put("scheduleSyncRepeatingTask", this::scheduleLegacy);
+        answers.put("cancelTask", args -> {
+            cancel((Integer) args[0]);
+            return null;
+        });
+        answers.put("isQueued", args -> isQueued((Integer) args[0]));
+        answers.put("isCurrentlyRunning", args -> running != null && running.id == (Integer) args[0]);
+        answers.put("cancelTasks", args -> {
+            cancelAll();
+            return null;
+        });
+        answers.put("getPendingTasks", args -> pendingTasks());
+        answers.put("callSyncMethod", args -> callSync((Callable<?>) args[1]));
+        this.proxy = BukkitStandIns.stub(BukkitScheduler.class, answers);
+    }
+
+    BukkitScheduler proxy() {
+        return proxy;
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Runs every task due in {@code tick}, then drops cancelled and finished tasks.
+     */
+    void tick(long tick) {
+        this.currentTick = tick;
+        tasks.addAll(incoming);
+        incoming.clear();
+        for (int i = 0, size = tasks.size(); i < size; i++) {
+            SimTask task = tasks.get(i);
+            if (task.cancelled || task.nextRun > tick) {
+                continue;
+            }
+            running = task;
+            task.owner.taskRuns++;
+            metrics.measure(task.owner, task.runnable);
+            running = null;
+            if (task.period > 0) {
+                task.nextRun = tick + task.period;
+            } else {
+                task.cancelled = true;
+            }
+        }
+        tasks.removeIf(task -> {
+            if (task.cancelled) {
+                byId.remove(task.id);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Counts live tasks per owning spell after a tick.
+     */
+    void countLiveTasks() {
+        for (SimMetrics.SpellStats stats : metrics.spells()) {
+            stats.liveTasks = 0;
+        }
+        for (SimTask task : tasks) {
+            task.owner.liveTasks++;
+        }
+        for (SimTask task : incoming) {
+            task.owner.liveTasks++;
+        }
+        for (SimMetrics.SpellStats stats : metrics.spells()) {
+            stats.peakTasks = Math.max(stats.peakTasks, stats.liveTasks);
+        }
+    }
+
+    private Object schedule(Object[] args, long delay, long period, boolean async) {
+        Plugin plugin = (Plugin) args[0];
+        Object body = args[1];
+        SimTask task = new SimTask(nextId++, plugin, metrics.active(), async);
+        if (body instanceof Runnable runnable) {
+            task.runnable = runnable;
+        } else {
+            // Paper's Consumer<BukkitTask> overloads hand the task to the body
+            @SuppressWarnings("unchecked")
+            Consumer<BukkitTask> consumer = (Consumer<BukkitTask>) body;
+            task.runnable = () -> consumer.accept(task);
+        }
+        task.nextRun = currentTick + Math.max(1L, delay);
+        task.period = period;
+        byId.put(task.id, task);
+        incoming.add(task);
+        task.owner.tasksScheduled++;
+        if (async) {
+            task.owner.asyncTasksScheduled++;
+        }
+        return body instanceof Runnable ? task : null;
+    }
+
+    private Object scheduleLegacy(Object[] args) {
+        long delay = args.length > 2 ? (Long) args[2] : 0L;
+        long period = args.length > 3 ? (Long) args[3] : -1L;
+        SimTask task = (SimTask) schedule(new Object[] { args[0], args[1] }, delay, period, false);
+        return task.id;
+    }
+
+    private Object callSync(Callable<?> callable) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        SimTask task = (SimTask) schedule(new Object[] { null, (Runnable) () -> {
+            try {
+                future.complete(callable.call());
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        } }, 0L, -1L, false);
+        return task == null ? null : future;
+    }
+
+    private void cancel(int id) {
+        SimTask task = byId.get(id);
+        if (task != null) {
+            task.cancelled = true;
+        }
+    }
+
+    private boolean isQueued(int id) {
+        SimTask task = byId.get(id);
+        return task != null && !task.cancelled;
+    }
+
+    private void cancelAll() {
+        for (SimTask task : byId.values()) {
+            task.cancelled = true;
+        }
+    }
+
+    private List<BukkitTask> pendingTasks() {
+        List<BukkitTask> pending = new ArrayList<>();
+        for (SimTask task : byId.values()) {
+            if (!task.cancelled) {
+                pending.add(task);
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Scheduled unit of work. Implements {@link BukkitTask} directly so {@code BukkitRunnable}
+     * can track and cancel it.
+     */
+    final class SimTask implements BukkitTask {
+        final int id;
+        final Plugin plugin;
+        final SimMetrics.SpellStats owner;
+        final boolean async;
+        Runnable runnable;
+        long nextRun;
+        long period;
+        boolean cancelled;
+
+        SimTask(int id, Plugin plugin, SimMetrics.SpellStats owner, boolean async) {
+            this.id = id;
+            this.plugin = plugin;
+            this.owner = owner;
+            this.async = async;
+        }
+
+        @Override
+        public int getTaskId() {
+            return id;
+        }
+
+        @Override
+        public Plugin getOwner() {
+            return plugin;
+        }
+
+        @Override
+        public boolean isSync() {
+            return !async;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void cancel() {
+            SimScheduler.this.cancel(id);
+        }
+    }
+}
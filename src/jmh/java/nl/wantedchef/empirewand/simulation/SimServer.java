@@ -0,0 +1,129 @@
+package nl.wantedchef.empirewand.simulation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Keyed;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.PluginManager;
+import org.mockito.Mockito;
+
+import nl.wantedchef.empirewand.benchmark.BukkitStandIns;
+
+/**
+ * Installs a {@link Server} stand-in as the Bukkit singleton so spell code that goes through
+ * {@code Bukkit.getScheduler()}, {@code BukkitRunnable} or registries works off-server.
+ * <p>
+ * The singleton can only be set once per JVM, so the simulation owns its own process.
+ */
+final class SimServer {
+
+    private final Server proxy;
+    private final Map<Class<?>, Registry<?>> registries = new ConcurrentHashMap<>();
+
+    SimServer(Logger logger, SimMetrics metrics, SimScheduler scheduler, SimWorld world) {
+        PluginManager pluginManager = pluginManager(metrics);
+        Map<String, BukkitStandIns.Answer> answers = new HashMap<>();
+        answers.put("getLogger", args -> logger);
+        answers.put("getName", args -> "EmpireWand-Simulation");
+        answers.put("getVersion", args -> "simulation");
+        answers.put("getBukkitVersion", args -> "1.20.6-R0.1-SNAPSHOT");
+        answers.put("getMinecraftVersion", args -> "1.20.6");
+        answers.put("getScheduler", args -> scheduler.proxy());
+        answers.put("getPluginManager", args -> pluginManager);
+        answers.put("isPrimaryThread", args -> true);
+        answers.put("getCurrentTick", args -> (int) scheduler.currentTick());
+        answers.put("getOnlinePlayers", args -> onlinePlayers(world));
+        answers.put("getWorlds", args -> List.of(world.proxy()));
+        answers.put("getWorld", args -> world.proxy());
+        answers.put("getRegistry", args -> registry((Class<?>) args[0]));
+        answers.put("createBlockData", args -> SimWorld.blockData(args[0] instanceof Material m ? m : Material.AIR));
+        answers.put("getMaxPlayers", args -> 1000);
+        this.proxy = BukkitStandIns.stub(Server.class, answers);
+    }
+
+    Server proxy() {
+        return proxy;
+    }
+
+    /**
+     * Makes this server the Bukkit singleton.
+     *
+     * @throws IllegalStateException if another server is already installed
+     */
+    void install() {
+        try {
+            Bukkit.setServer(proxy);
+        } catch (RuntimeException e) {
+            // setServer assigns before logging the version banner; only the assignment matters
+        }
+        if (Bukkit.getServer() != proxy) {
+            throw new IllegalStateException("A different Bukkit server is already installed");
+        }
+    }
+
+    private static List<Player> onlinePlayers(SimWorld world) {
+        List<Player> players = world.proxy().getPlayers();
+        return Collections.unmodifiableList(players);
+    }
+
+    private static PluginManager pluginManager(SimMetrics metrics) {
+        Map<String, BukkitStandIns.Answer> answers = new HashMap<>();
+        answers.put("callEvent", args -> {
+            metrics.active().events++;
+            return null;
+        });
+        answers.put("isPluginEnabled", args -> true);
+        return BukkitStandIns.stub(PluginManager.class, answers);
+    }
+
+    /**
+     * Registries hand out one stand-in per key. Interfaces get a proxy; abstract registry types
+     * such as {@code PotionEffectType} get a Mockito mock.
+     */
+    private Registry<?> registry(Class<?> type) {
+        return registries.computeIfAbsent(type, t -> {
+            Map<NamespacedKey, Object> values = new ConcurrentHashMap<>();
+            Map<String, BukkitStandIns.Answer> answers = new HashMap<>();
+            BukkitStandIns.Answer get = args -> args[0] instanceof NamespacedKey key
+                    ? values.computeIfAbsent(key, k -> keyed(t, k))
+                    : null;
+            answers.put("get", get);
+            answers.put("getOrThrow", get);
+            answers.put("iterator", args -> values.values().iterator());
+            answers.put("stream", args -> values.values().stream());
+            return BukkitStandIns.stub(Registry.class, answers);
+        });
+    }
+
+    private static Object keyed(Class<?> type, NamespacedKey key) {
+        if (type.isInterface()) {
+            Map<String, BukkitStandIns.Answer> answers = new HashMap<>();
+            answers.put("getKey", args -> key);
+            answers.put("key", args -> key);
+            return BukkitStandIns.stub(type, answers);
+        }
+        if (type.isEnum()) {
+            for (Object constant : type.getEnumConstants()) {
+                if (constant instanceof Keyed keyed && key.equals(keyed.getKey())) {
+                    return constant;
+                }
+            }
+            return null;
+        }
+        Object mock = Mockito.mock(type);
+        if (mock instanceof Keyed keyed) {
+            Mockito.when(keyed.getKey()).thenReturn(key);
+        }
+        return mock;
+    }
+}
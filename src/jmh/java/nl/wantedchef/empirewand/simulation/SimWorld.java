@@ -0,0 +1,540 @@
+package nl.wantedchef.empirewand.simulation;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+
+import nl.wantedchef.empirewand.benchmark.BukkitStandIns;
+
+/**
+ * In-memory flat world: stone up to {@link #GROUND_Y} with grass on top, sparse block overrides,
+ * a chunk-bucketed entity index and an emission log for particles and sounds.
+ * <p>
+ * Emissions are only recorded while spells run; receivers (packets) are resolved after the tick
+ * so the distance checks are not charged to the spell that emitted them.
+ */
+final class SimWorld {
+
+    static final int GROUND_Y = 63;
+    private static final double PARTICLE_VIEW_DISTANCE = 32.0;
+
+    private final String name;
+    private final UUID uid;
+    private final SimMetrics metrics;
+    private final SimScheduler scheduler;
+    private final World proxy;
+    private final Map<Long, Material> blocks = new HashMap<>();
+    private final Map<Long, Integer> columnTops = new HashMap<>();
+    private final List<SimEntity> entities = new ArrayList<>();
+    private final List<SimEntity> players = new ArrayList<>();
+    private final Map<Long, List<SimEntity>> buckets = new HashMap<>();
+    private int nextEntityId = 1;
+
+    // Emission log for the current tick: x, y, z, radius squared per entry
+    private double[] emissions = new double[4 * 1024];
+    private int[] emissionMultipliers = new int[1024];
+    private boolean[] emissionIsSound = new boolean[1024];
+    private SimMetrics.SpellStats[] emissionOwners = new SimMetrics.SpellStats[1024];
+    private int emissionCount;
+
+    SimWorld(String name, SimMetrics metrics, SimScheduler scheduler) {
+        this.name = name;
+        this.uid = UUID.nameUUIDFromBytes(name.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        this.metrics = metrics;
+        this.scheduler = scheduler;
+        this.proxy = (World) Proxy.newProxyInstance(SimWorld.class.getClassLoader(), new Class<?>[] { World.class },
+                (self, method, args) -> dispatch(self, method, args == null ? new Object[0] : args));
+    }
+
+    World proxy() {
+        return proxy;
+    }
+
+    List<SimEntity> entities() {
+        return entities;
+    }
+
+    List<SimEntity> players() {
+        return players;
+    }
+
+    // ----- entities -----
+
+    <T extends Entity> SimEntity spawn(Location location, Class<T> type) {
+        Location at = location.clone();
+        at.setWorld(proxy);
+        SimEntity entity = new SimEntity(nextEntityId++, type, this, at, metrics.active());
+        entities.add(entity);
+        bucket(at).add(entity);
+        if (Player.class.isAssignableFrom(type)) {
+            players.add(entity);
+        }
+        metrics.active().entitiesSpawned++;
+        return entity;
+    }
+
+    /**
+     * Moves entities, drops dead or removed ones and rebuilds the chunk index.
+     */
+    void physicsTick() {
+        entities.removeIf(entity -> !entity.isAlive());
+        buckets.clear();
+        for (SimEntity entity : entities) {
+            entity.physicsTick();
+            bucket(entity.location).add(entity);
+        }
+    }
+
+    /**
+     * Counts live entities per owning spell.
+     */
+    void countLiveEntities() {
+        for (SimMetrics.SpellStats stats : metrics.spells()) {
+            stats.liveEntities = 0;
+        }
+        for (SimEntity entity : entities) {
+            if (entity.isAlive()) {
+                entity.owner.liveEntities++;
+            }
+        }
+        for (SimMetrics.SpellStats stats : metrics.spells()) {
+            stats.peakEntities = Math.max(stats.peakEntities, stats.liveEntities);
+        }
+    }
+
+    void collectNearby(Location center, double rx, double ry, double rz, Class<?> filter,
+            Predicate<Object> predicate, Collection<? super Entity> out) {
+        int minChunkX = ((int) Math.floor(center.getX() - rx)) >> 4;
+        int maxChunkX = ((int) Math.floor(center.getX() + rx)) >> 4;
+        int minChunkZ = ((int) Math.floor(center.getZ() - rz)) >> 4;
+        int maxChunkZ = ((int) Math.floor(center.getZ() + rz)) >> 4;
+        for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+            for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                List<SimEntity> bucket = buckets.get(chunkKey(cx, cz));
+                if (bucket == null) {
+                    continue;
+                }
+                for (SimEntity entity : bucket) {
+                    Location loc = entity.location;
+                    if (!entity.isAlive()
+                            || Math.abs(loc.getX() - center.getX()) > rx
+                            || Math.abs(loc.getY() - center.getY()) > ry
+                            || Math.abs(loc.getZ() - center.getZ()) > rz
+                            || !filter.isInstance(entity.proxy)
+                            || (predicate != null && !predicate.test(entity.proxy))) {
+                        continue;
+                    }
+                    out.add(entity.proxy);
+                }
+            }
+        }
+    }
+
+    private List<SimEntity> bucket(Location location) {
+        return buckets.computeIfAbsent(chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4),
+                key -> new ArrayList<>());
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    // ----- blocks -----
+
+    int groundY(int x, int z) {
+        Integer top = columnTops.get(columnKey(x, z));
+        return top == null ? GROUND_Y : top;
+    }
+
+    Material typeAt(int x, int y, int z) {
+        Material override = blocks.get(blockKey(x, y, z));
+        if (override != null) {
+            return override;
+        }
+        if (y < GROUND_Y) {
+            return y < 0 ? Material.BEDROCK : Material.STONE;
+        }
+        return y == GROUND_Y ? Material.GRASS_BLOCK : Material.AIR;
+    }
+
+    void setType(int x, int y, int z, Material type) {
+        blocks.put(blockKey(x, y, z), type);
+        metrics.active().blockWrites++;
+        long column = columnKey(x, z);
+        int top = groundY(x, z);
+        if (!type.isAir() && y > top) {
+            columnTops.put(column, y);
+        } else if (type.isAir() && y == top) {
+            int newTop = y - 1;
+            while (newTop > -64 && typeAt(x, newTop, z).isAir()) {
+                newTop--;
+            }
+            columnTops.put(column, newTop);
+        }
+    }
+
+    Block block(int x, int y, int z) {
+        return (Block) Proxy.newProxyInstance(SimWorld.class.getClassLoader(), new Class<?>[] { Block.class },
+                new BlockHandler(x, y, z));
+    }
+
+    /**
+     * Answers {@link Block} calls for one position against the world's block map.
+     */
+    private final class BlockHandler implements InvocationHandler {
+        private final int x;
+        private final int y;
+        private final int z;
+
+        BlockHandler(int x, int y, int z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        @Override
+        public Object invoke(Object self, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "hashCode":
+                    return (int) blockKey(x, y, z);
+                case "equals":
+                    return args[0] instanceof Block other && other.getWorld() == proxy
+                            && other.getX() == x && other.getY() == y && other.getZ() == z;
+                case "toString":
+                    return "SimBlock{" + x + "," + y + "," + z + "}";
+                case "getX":
+                    return x;
+                case "getY":
+                    return y;
+                case "getZ":
+                    return z;
+                case "getWorld":
+                    return proxy;
+                case "getType":
+                    return typeAt(x, y, z);
+                case "setType":
+                    setType(x, y, z, (Material) args[0]);
+                    return null;
+                case "setBlockData":
+                    setType(x, y, z, ((BlockData) args[0]).getMaterial());
+                    return null;
+                case "getBlockData":
+                    return blockData(typeAt(x, y, z));
+                case "isEmpty":
+                    return typeAt(x, y, z).isAir();
+                case "isSolid":
+                    return typeAt(x, y, z).isSolid();
+                case "isPassable":
+                    return !typeAt(x, y, z).isSolid();
+                case "isLiquid": {
+                    Material type = typeAt(x, y, z);
+                    return type == Material.WATER || type == Material.LAVA;
+                }
+                case "getLocation":
+                    if (args != null && args.length == 1 && args[0] instanceof Location into) {
+                        into.setWorld(proxy);
+                        into.setX(x);
+                        into.setY(y);
+                        into.setZ(z);
+                        return into;
+                    }
+                    return new Location(proxy, x, y, z);
+                case "getRelative":
+                    if (args[0] instanceof BlockFace face) {
+                        int distance = args.length > 1 ? (Integer) args[1] : 1;
+                        return block(x + face.getModX() * distance, y + face.getModY() * distance,
+                                z + face.getModZ() * distance);
+                    }
+                    return block(x + (Integer) args[0], y + (Integer) args[1], z + (Integer) args[2]);
+                case "breakNaturally":
+                    setType(x, y, z, Material.AIR);
+                    return true;
+                default:
+                    return SimEntity.defaultValue(method.getReturnType());
+            }
+        }
+    }
+
+    static BlockData blockData(Material material) {
+        Map<String, BukkitStandIns.Answer> answers = new HashMap<>();
+        answers.put("getMaterial", args -> material);
+        answers.put("clone", args -> blockData(material));
+        return BukkitStandIns.stub(BlockData.class, answers);
+    }
+
+    private static long columnKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    private static long blockKey(int x, int y, int z) {
+        // 26 bits x/z, 12 bits y: the same packing as BlockPosition.asLong
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    // ----- emissions -----
+
+    private void emit(double x, double y, double z, double radius, int multiplier, boolean sound) {
+        if (emissionCount == emissionOwners.length) {
+            int capacity = emissionCount * 2;
+            emissions = Arrays.copyOf(emissions, capacity * 4);
+            emissionMultipliers = Arrays.copyOf(emissionMultipliers, capacity);
+            emissionIsSound = Arrays.copyOf(emissionIsSound, capacity);
+            emissionOwners = Arrays.copyOf(emissionOwners, capacity);
+        }
+        int base = emissionCount * 4;
+        emissions[base] = x;
+        emissions[base + 1] = y;
+        emissions[base + 2] = z;
+        emissions[base + 3] = radius * radius;
+        emissionMultipliers[emissionCount] = multiplier;
+        emissionIsSound[emissionCount] = sound;
+        emissionOwners[emissionCount] = metrics.active();
+        emissionCount++;
+    }
+
+    /**
+     * Resolves this tick's emissions to per-player packets and clears the log.
+     */
+    void flushEmissions() {
+        for (int i = 0; i < emissionCount; i++) {
+            int base = i * 4;
+            double radiusSq = emissions[base + 3];
+            int receivers = 0;
+            for (SimEntity player : players) {
+                Location loc = player.location;
+                double dx = loc.getX() - emissions[base];
+                double dy = loc.getY() - emissions[base + 1];
+                double dz = loc.getZ() - emissions[base + 2];
+                if (dx * dx + dy * dy + dz * dz <= radiusSq) {
+                    receivers++;
+                }
+            }
+            long packets = (long) receivers * emissionMultipliers[i];
+            if (emissionIsSound[i]) {
+                emissionOwners[i].soundPackets += packets;
+            } else {
+                emissionOwners[i].particlePackets += packets;
+            }
+            emissionOwners[i] = null;
+        }
+        emissionCount = 0;
+    }
+
+    // ----- World proxy -----
+
+    private Object dispatch(Object self, Method method, Object[] args) {
+        String methodName = method.getName();
+        switch (methodName) {
+            case "hashCode":
+                return uid.hashCode();
+            case "equals":
+                return self == args[0];
+            case "toString":
+                return "SimWorld{" + name + "}";
+            case "getName":
+                return name;
+            case "getUID":
+                return uid;
+            case "getFullTime":
+            case "getGameTime":
+                return scheduler.currentTick();
+            case "getTime":
+                return scheduler.currentTick() % 24000L;
+            case "getEnvironment":
+                return World.Environment.NORMAL;
+            case "getMinHeight":
+                return -64;
+            case "getMaxHeight":
+                return 320;
+            case "isChunkLoaded":
+            case "isChunkGenerated":
+                return true;
+            case "getPlayers":
+                return proxies(players, Player.class);
+            case "getEntities":
+                return proxies(entities, Entity.class);
+            case "getLivingEntities":
+                return proxies(entities, LivingEntity.class);
+            case "getBlockAt":
+                if (args[0] instanceof Location location) {
+                    return block(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+                }
+                return block((Integer) args[0], (Integer) args[1], (Integer) args[2]);
+            case "getHighestBlockAt":
+                if (args[0] instanceof Location location) {
+                    return block(location.getBlockX(), groundY(location.getBlockX(), location.getBlockZ()), location.getBlockZ());
+                }
+                return block((Integer) args[0], groundY((Integer) args[0], (Integer) args[1]), (Integer) args[1]);
+            case "getHighestBlockYAt":
+                if (args[0] instanceof Location location) {
+                    return groundY(location.getBlockX(), location.getBlockZ());
+                }
+                return groundY((Integer) args[0], (Integer) args[1]);
+            case "getType":
+                if (args[0] instanceof Location location) {
+                    return typeAt(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+                }
+                return typeAt((Integer) args[0], (Integer) args[1], (Integer) args[2]);
+            case "spawnParticle":
+                spawnParticle(args);
+                return null;
+            case "playSound":
+                playSound(args);
+                return null;
+            case "createExplosion":
+                metrics.active().explosions++;
+                return true;
+            case "strikeLightning":
+            case "strikeLightningEffect":
+                metrics.active().explosions++;
+                return null;
+            case "spawn":
+                return spawnFromProxy(args);
+            default:
+                if (methodName.startsWith("getNearby")) {
+                    return nearbyFromProxy(methodName, args);
+                }
+                return SimEntity.defaultValue(method.getReturnType());
+        }
+    }
+
+    private static <T> List<T> proxies(List<SimEntity> source, Class<T> type) {
+        List<T> result = new ArrayList<>(source.size());
+        for (SimEntity entity : source) {
+            if (entity.isAlive() && type.isInstance(entity.proxy)) {
+                result.add(type.cast(entity.proxy));
+            }
+        }
+        return result;
+    }
+
+    private void spawnParticle(Object[] args) {
+        // (Particle, Location, count, ...) or (Particle, x, y, z, count, ...)
+        double x;
+        double y;
+        double z;
+        int count;
+        if (args[1] instanceof Location location) {
+            x = location.getX();
+            y = location.getY();
+            z = location.getZ();
+            count = (Integer) args[2];
+        } else if (args[1] instanceof Double) {
+            x = (Double) args[1];
+            y = (Double) args[2];
+            z = (Double) args[3];
+            count = (Integer) args[4];
+        } else {
+            return;
+        }
+        SimMetrics.SpellStats stats = metrics.active();
+        stats.particleCalls++;
+        stats.particles += count;
+        // One packet per call and receiver; the client expands count locally
+        emit(x, y, z, PARTICLE_VIEW_DISTANCE, 1, false);
+    }
+
+    private void playSound(Object[] args) {
+        Location location;
+        if (args[0] instanceof Location loc) {
+            location = loc;
+        } else if (args[0] instanceof Entity entity) {
+            location = entity.getLocation();
+        } else {
+            return;
+        }
+        float volume = 1.0f;
+        for (int i = args.length - 2; i > 0; i--) {
+            if (args[i] instanceof Float f) {
+                volume = f;
+                break;
+            }
+        }
+        metrics.active().soundCalls++;
+        emit(location.getX(), location.getY(), location.getZ(), volume > 1.0f ? 16.0 * volume : 16.0, 1, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object spawnFromProxy(Object[] args) {
+        Location location = (Location) args[0];
+        Class<? extends Entity> type = (Class<? extends Entity>) args[1];
+        SimEntity entity = spawn(location, type);
+        for (int i = 2; i < args.length; i++) {
+            Object callback = args[i];
+            if (callback instanceof Consumer<?> consumer) {
+                ((Consumer<Object>) consumer).accept(entity.proxy);
+            } else if (callback != null && !(callback instanceof Boolean)) {
+                invokeAccept(callback, entity.proxy);
+            }
+        }
+        return entity.proxy;
+    }
+
+    private static void invokeAccept(Object callback, Object value) {
+        // Deprecated org.bukkit.util.Consumer overload
+        for (Method method : callback.getClass().getMethods()) {
+            if (method.getName().equals("accept") && method.getParameterCount() == 1) {
+                try {
+                    method.setAccessible(true);
+                    method.invoke(callback, value);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object nearbyFromProxy(String methodName, Object[] args) {
+        // getNearbyEntities(Location, x, y, z[, predicate]), getNearbyLivingEntities(Location, r[, y][, predicate]),
+        // getNearbyPlayers(...), getNearbyEntitiesByType(Class, Location, ...)
+        int offset = 0;
+        Class<?> filter = switch (methodName) {
+            case "getNearbyLivingEntities" -> LivingEntity.class;
+            case "getNearbyPlayers" -> Player.class;
+            default -> Entity.class;
+        };
+        if (args.length > 0 && args[0] instanceof Class<?> type) {
+            filter = type;
+            offset = 1;
+        }
+        if (args.length <= offset || !(args[offset] instanceof Location center)) {
+            return new ArrayList<>();
+        }
+        List<Double> radii = new ArrayList<>(3);
+        Predicate<Object> predicate = null;
+        for (int i = offset + 1; i < args.length; i++) {
+            if (args[i] instanceof Number number) {
+                radii.add(number.doubleValue());
+            } else if (args[i] instanceof Predicate<?> p) {
+                predicate = (Predicate<Object>) p;
+            }
+        }
+        double rx = radii.isEmpty() ? 0.0 : radii.get(0);
+        double ry = radii.size() >= 2 ? radii.get(1) : rx;
+        double rz = radii.size() >= 3 ? radii.get(2) : rx;
+        List<Entity> result = new ArrayList<>();
+        collectNearby(center, rx, ry, rz, filter, predicate, result);
+        return result;
+    }
+}
@@ -0,0 +1,276 @@
+package nl.wantedchef.empirewand.simulation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.bukkit.Location;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Zombie;
+import org.mockito.Mockito;
+
+import nl.wantedchef.empirewand.EmpireWandPlugin;
+import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.api.impl.ConfigServiceAdapter;
+import nl.wantedchef.empirewand.api.impl.CooldownServiceAdapter;
+import nl.wantedchef.empirewand.benchmark.BukkitStandIns;
+import nl.wantedchef.empirewand.core.config.ReadOnlyConfig;
+import nl.wantedchef.empirewand.core.config.ReadableConfig;
+import nl.wantedchef.empirewand.core.logging.StructuredLogger;
+import nl.wantedchef.empirewand.core.task.TaskManager;
+import nl.wantedchef.empirewand.core.text.TextService;
+import nl.wantedchef.empirewand.core.util.PerformanceMonitor;
+import nl.wantedchef.empirewand.framework.service.ConfigService;
+import nl.wantedchef.empirewand.framework.service.FxService;
+import nl.wantedchef.empirewand.framework.service.MinionBrainScheduler;
+import nl.wantedchef.empirewand.framework.service.SpellEntityRegistry;
+import nl.wantedchef.empirewand.framework.service.SpellRegistryImpl;
+import nl.wantedchef.empirewand.framework.service.UnifiedCooldownManager;
+import nl.wantedchef.empirewand.framework.service.world.BlockPlanService;
+import nl.wantedchef.empirewand.framework.service.world.SurfaceCache;
+import nl.wantedchef.empirewand.framework.service.world.WorldMutationQueue;
+import nl.wantedchef.empirewand.spell.CastResult;
+import nl.wantedchef.empirewand.spell.Spell;
+import nl.wantedchef.empirewand.spell.SpellContext;
+
+/**
+ * Headless load test: drives real spell implementations against the in-memory world with
+ * scripted casters and reports per-spell tick cost, allocations, particle/sound packets and
+ * entity counts.
+ * <p>
+ * Usage (all options optional):
+ * <pre>
+ * --casters 100 --spells meteor-shower,black-hole,summon-swarm --ticks 1200
+ * --cast-interval 200 --spacing 40 --mobs 4 --seed 42 --json build/reports/simulation.json
+ * </pre>
+ * Casters are placed on a grid {@code spacing} blocks apart and assigned spells round-robin.
+ * Each caster casts every {@code cast-interval} ticks from a random offset. Timings include the
+ * stand-in overhead (proxy dispatch, boxing), so compare runs against each other rather than
+ * against live-server numbers.
+ */
+public final class TickSimulation {
+
+    private static final Logger LOGGER = BukkitStandIns.logger();
+
+    private final Options options;
+    private final SimMetrics metrics;
+    private final SimScheduler scheduler;
+    private final SimWorld world;
+    private final List<Caster> casters = new ArrayList<>();
+
+    private TickSimulation(Options options) {
+        this.options = options;
+        this.metrics = new SimMetrics(options.ticks);
+        this.scheduler = new SimScheduler(metrics);
+        this.world = new SimWorld("simulation", metrics, scheduler);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options options = Options.parse(args);
+        TickSimulation simulation = new TickSimulation(options);
+        simulation.setUp();
+        simulation.run();
+
+        System.out.print(simulation.metrics.formatTable(options.ticks));
+        if (options.json != null) {
+            Path path = Path.of(options.json);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, simulation.metrics.formatJson(options.ticks, options.asMap()));
+            System.out.println("JSON report written to " + path.toAbsolutePath());
+        }
+        // Services started by the plugin stand-ins own non-daemon pools
+        System.exit(0);
+    }
+
+    private void setUp() {
+        SimServer server = new SimServer(LOGGER, metrics, scheduler, world);
+        server.install();
+
+        EmpireWandPlugin plugin = Mockito.mock(EmpireWandPlugin.class);
+        Mockito.when(plugin.getLogger()).thenReturn(LOGGER);
+        Mockito.when(plugin.getServer()).thenReturn(server.proxy());
+        Mockito.when(plugin.getName()).thenReturn("EmpireWand");
+        Mockito.when(plugin.isEnabled()).thenReturn(true);
+        TaskManager taskManager = new TaskManager(plugin);
+        Mockito.when(plugin.getTaskManager()).thenReturn(taskManager);
+        // Summoned minions think on the shared scheduler, ticked by SimScheduler like on a server
+        MinionBrainScheduler minionBrains = new MinionBrainScheduler(24, 5, LOGGER);
+        minionBrains.start(taskManager);
+        Mockito.when(plugin.getMinionBrainScheduler()).thenReturn(minionBrains);
+        // Terrain services use the plugin's defaults from config.yml
+        SurfaceCache surfaceCache = new SurfaceCache(5000L);
+        Mockito.when(plugin.getSurfaceCache()).thenReturn(surfaceCache);
+        BlockPlanService blockPlans = new BlockPlanService(taskManager, LOGGER);
+        Mockito.when(plugin.getBlockPlanService()).thenReturn(blockPlans);
+        WorldMutationQueue mutations = new WorldMutationQueue(2000L, surfaceCache, LOGGER);
+        mutations.start(taskManager);
+        Mockito.when(plugin.getWorldMutationQueue()).thenReturn(mutations);
+        // Spell projectiles and minions are tagged with the server tick from SimServer
+        SpellEntityRegistry spellEntities = new SpellEntityRegistry();
+        Mockito.when(plugin.getSpellEntityRegistry()).thenReturn(spellEntities);
+
+        ConfigService config = new ConfigService(BukkitStandIns.plugin());
+        FxService fx = new FxService(new TextService(), new PerformanceMonitor(LOGGER), new StructuredLogger(LOGGER));
+        Mockito.when(plugin.getConfigService()).thenReturn(config);
+        Mockito.when(plugin.getFxService()).thenReturn(fx);
+
+        UnifiedCooldownManager cooldowns = new UnifiedCooldownManager(BukkitStandIns.plugin());
+        Map<String, BukkitStandIns.Answer> provider = new HashMap<>();
+        provider.put("getConfigService", a -> new ConfigServiceAdapter(config));
+        provider.put("getCooldownService", a -> new CooldownServiceAdapter(cooldowns));
+        EmpireWandAPI.clearProvider();
+        EmpireWandAPI.setProvider(BukkitStandIns.stub(EmpireWandAPI.EmpireWandProvider.class, provider));
+
+        List<Spell<?>> spells = loadSpells(config);
+        Random random = new Random(options.seed);
+        int perRow = (int) Math.ceil(Math.sqrt(options.casters));
+        for (int i = 0; i < options.casters; i++) {
+            double x = (i % perRow) * options.spacing + 0.5;
+            double z = (i / perRow) * options.spacing + 0.5;
+            Location at = new Location(world.proxy(), x, SimWorld.GROUND_Y + 1.0, z, random.nextFloat() * 360f, 0f);
+            Player player = (Player) world.spawn(at, Player.class).proxy;
+            for (int m = 0; m < options.mobs; m++) {
+                double angle = random.nextDouble() * Math.PI * 2;
+                world.spawn(at.clone().add(Math.cos(angle) * 10, 0, Math.sin(angle) * 10), Zombie.class);
+            }
+
+            Spell<?> spell = spells.get(i % spells.size());
+            SpellContext context = new SpellContext(plugin, player, config, fx, null, null, spell.key());
+            int offset = random.nextInt(Math.max(1, options.castInterval));
+            casters.add(new Caster(spell, context, metrics.register(spell.key(), options.ticks), offset));
+        }
+        LOGGER.info(String.format("Simulating %d casters, %d entities, spells %s",
+                casters.size(), world.entities().size(), options.spells));
+    }
+
+    private List<Spell<?>> loadSpells(ConfigService config) {
+        SpellRegistryImpl registry = new SpellRegistryImpl(config);
+        ReadableConfig shipped = shippedSpellsConfig();
+        List<Spell<?>> spells = new ArrayList<>();
+        for (String key : options.spells) {
+            Spell<?> spell = registry.getSpell(key)
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown spell: " + key));
+            if (shipped != null) {
+                ReadableConfig section = shipped.getConfigurationSection(key);
+                if (section != null) {
+                    spell.loadConfig(section);
+                }
+            }
+            metrics.register(key, options.ticks);
+            spells.add(spell);
+        }
+        return spells;
+    }
+
+    private static ReadableConfig shippedSpellsConfig() {
+        try (InputStream in = TickSimulation.class.getResourceAsStream("/spells.yml")) {
+            if (in == null) {
+                return null;
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                ReadableConfig root = new ReadOnlyConfig(YamlConfiguration.loadConfiguration(reader));
+                return root.getConfigurationSection("spells");
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Could not read bundled spells.yml, using spell defaults: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void run() {
+        for (int tick = 0; tick < options.ticks; tick++) {
+            metrics.beginTick(tick);
+            long start = System.nanoTime();
+
+            for (Caster caster : casters) {
+                if ((tick + caster.offset) % options.castInterval == 0) {
+                    cast(caster);
+                }
+            }
+            scheduler.tick(tick);
+
+            metrics.endTick(System.nanoTime() - start);
+
+            // Book-keeping outside the measured window
+            world.flushEmissions();
+            world.physicsTick();
+            world.countLiveEntities();
+            scheduler.countLiveTasks();
+        }
+    }
+
+    private void cast(Caster caster) {
+        caster.stats.casts++;
+        CastResult[] result = new CastResult[1];
+        metrics.measure(caster.stats, () -> result[0] = caster.spell.cast(caster.context));
+        if (result[0] == null || !result[0].isSuccess()) {
+            caster.stats.castFailures++;
+        }
+    }
+
+    private record Caster(Spell<?> spell, SpellContext context, SimMetrics.SpellStats stats, int offset) {
+    }
+
+    /**
+     * Command line options.
+     */
+    private static final class Options {
+        int casters = 100;
+        List<String> spells = List.of("meteor-shower", "black-hole", "summon-swarm");
+        int ticks = 1200;
+        int castInterval = 200;
+        double spacing = 40.0;
+        int mobs = 4;
+        long seed = 42L;
+        String json;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i].toLowerCase(Locale.ROOT)) {
+                    case "--casters" -> options.casters = Integer.parseInt(value);
+                    case "--spells" -> options.spells = List.of(value.split(","));
+                    case "--ticks" -> options.ticks = Integer.parseInt(value);
+                    case "--cast-interval" -> options.castInterval = Math.max(1, Integer.parseInt(value));
+                    case "--spacing" -> options.spacing = Double.parseDouble(value);
+                    case "--mobs" -> options.mobs = Integer.parseInt(value);
+                    case "--seed" -> options.seed = Long.parseLong(value);
+                    case "--json" -> options.json = value;
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            if (options.ticks <= 0 || options.casters <= 0 || options.spells.isEmpty()) {
+                throw new IllegalArgumentException("ticks, casters and spells must be positive/non-empty");
+            }
+            return options;
+        }
+
+        Map<String, Object> asMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("casters", casters);
+            map.put("spells", String.join(",", spells));
+            map.put("ticks", ticks);
+            map.put("castInterval", castInterval);
+            map.put("spacing", spacing);
+            map.put("mobs", mobs);
+            map.put("seed", seed);
+            return map;
+        }
+    }
+}
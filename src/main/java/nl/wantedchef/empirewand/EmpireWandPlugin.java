@@ -22,16 +22,16 @@ import nl.wantedchef.empirewand.core.integration.OptimizedServiceRegistry;
 import nl.wantedchef.empirewand.core.storage.Keys;
 import nl.wantedchef.empirewand.core.task.TaskManager;
 import nl.wantedchef.empirewand.core.text.TextService;
+import nl.wantedchef.empirewand.core.util.AllocationProfiler;
 import nl.wantedchef.empirewand.core.util.PerformanceMonitor;
+import nl.wantedchef.empirewand.framework.command.AsyncTabCompleteListener;
 import nl.wantedchef.empirewand.core.logging.StructuredLogger;
 import nl.wantedchef.empirewand.framework.service.ConfigService;
 import nl.wantedchef.empirewand.framework.service.UnifiedCooldownManager;
 import nl.wantedchef.empirewand.framework.service.FxService;
 import nl.wantedchef.empirewand.framework.service.metrics.DebugMetricsService;
 import nl.wantedchef.empirewand.framework.service.metrics.MetricsService;
-import nl.wantedchef.empirewand.listener.combat.BloodBarrierDamageListener;
 import nl.wantedchef.empirewand.listener.combat.DeathSyncPolymorphListener;
-import nl.wantedchef.empirewand.listener.combat.ElementosgodDamageListener;
 import nl.wantedchef.empirewand.listener.combat.ExplosionControlListener;
 import nl.wantedchef.empirewand.listener.combat.FallDamageEtherealListener;
 import nl.wantedchef.empirewand.listener.combat.PolymorphCleanupListener;
@@ -159,6 +159,21 @@ public final class EmpireWandPlugin extends JavaPlugin {
     private ConfigService configService;
     private TextService textService;
     private PerformanceMonitor performanceMonitor;
+    private AllocationProfiler allocationProfiler;
+    private nl.wantedchef.empirewand.framework.service.PlayerEffectState playerEffectState;
+    private nl.wantedchef.empirewand.framework.service.SpellEntityRegistry spellEntityRegistry;
+    private nl.wantedchef.empirewand.framework.service.world.BlockPlanService blockPlanService;
+    private nl.wantedchef.empirewand.framework.service.world.SurfaceCache surfaceCache;
+    private nl.wantedchef.empirewand.framework.service.world.WorldMutationQueue worldMutationQueue;
+    private nl.wantedchef.empirewand.framework.service.world.TeleportService teleportService;
+    private int castPrewarmDistance;
+    private nl.wantedchef.empirewand.gui.util.IconTemplateCache iconTemplateCache;
+    private nl.wantedchef.empirewand.framework.service.SpellEventDispatcher spellEventDispatcher;
+    private nl.wantedchef.empirewand.framework.service.SoundMixer soundMixer;
+    private nl.wantedchef.empirewand.framework.service.QualityGovernor qualityGovernor;
+    private nl.wantedchef.empirewand.framework.service.MinionBrainScheduler minionBrainScheduler;
+    private nl.wantedchef.empirewand.listener.combat.DamagePipeline damagePipeline;
+    private AsyncTabCompleteListener asyncTabCompleter;
     private DebugMetricsService debugMetricsService;
     private StructuredLogger structuredLogger;
     private SpellRegistry spellRegistry;
@@ -176,8 +191,9 @@ public final class EmpireWandPlugin extends JavaPlugin {
     @Override
     public void onEnable() {
         try {
-            // Initialize task manager first
-            this.taskManager = new nl.wantedchef.empirewand.core.task.TaskManager(this);
+            // Initialize task manager first; the allocation profiler samples its tasks when enabled
+            this.allocationProfiler = new AllocationProfiler(getLogger());
+            this.taskManager = new nl.wantedchef.empirewand.core.task.TaskManager(this, this.allocationProfiler);
 
             // Initialize event bus and service registry
             this.eventBus = new EventBusSystem(this);
@@ -186,6 +202,9 @@ public final class EmpireWandPlugin extends JavaPlugin {
             // Initialize core services
             this.configService = new nl.wantedchef.empirewand.framework.service.ConfigService(this);
             this.textService = new nl.wantedchef.empirewand.core.text.TextService();
+            if (this.configService.getConfig().getBoolean("core.performance.allocation-profiling", false)) {
+                this.allocationProfiler.setEnabled(true);
+            }
             this.performanceMonitor = new nl.wantedchef.empirewand.core.util.PerformanceMonitor(getLogger());
             this.debugMetricsService = new nl.wantedchef.empirewand.framework.service.metrics.DebugMetricsService(1000); // 1000
                                                                                                                      // samples
@@ -193,7 +212,56 @@ public final class EmpireWandPlugin extends JavaPlugin {
             this.cooldownManager = new UnifiedCooldownManager(this);
             this.fxService = new nl.wantedchef.empirewand.framework.service.FxService(this.textService,
                     this.performanceMonitor, this.structuredLogger);
-            this.permissionService = new nl.wantedchef.empirewand.framework.service.PermissionServiceImpl();
+            // Spell permission masks follow the registry's current index, created further below
+            this.permissionService = new nl.wantedchef.empirewand.framework.service.PermissionServiceImpl(
+                    () -> this.spellRegistry instanceof nl.wantedchef.empirewand.framework.service.SpellRegistryImpl registry
+                            ? registry.getIndex()
+                            : null);
+            this.playerEffectState = new nl.wantedchef.empirewand.framework.service.PlayerEffectState();
+            // Players already online after a reload do not fire a join event
+            getServer().getOnlinePlayers().forEach(this.playerEffectState::load);
+            this.spellEntityRegistry = new nl.wantedchef.empirewand.framework.service.SpellEntityRegistry();
+            // Created before services start so listeners can register their damage stages
+            this.damagePipeline = nl.wantedchef.empirewand.listener.combat.DamagePipeline.withDefaultStages(
+                    this.playerEffectState, this.spellEntityRegistry, getLogger());
+            this.blockPlanService = new nl.wantedchef.empirewand.framework.service.world.BlockPlanService(
+                    this.taskManager, getLogger());
+            this.surfaceCache = new nl.wantedchef.empirewand.framework.service.world.SurfaceCache(
+                    this.configService.getConfig().getLong("core.performance.surface-cache-max-age-ms", 5000L));
+            this.worldMutationQueue = new nl.wantedchef.empirewand.framework.service.world.WorldMutationQueue(
+                    this.configService.getConfig().getLong("core.performance.world-mutation-budget-us", 2000L),
+                    this.surfaceCache, getLogger());
+            this.worldMutationQueue.start(this.taskManager);
+            this.teleportService = new nl.wantedchef.empirewand.framework.service.world.TeleportService(getLogger());
+            this.castPrewarmDistance = Math.max(0,
+                    this.configService.getConfig().getInt("core.performance.prewarm-cast-distance", 0));
+            this.iconTemplateCache = new nl.wantedchef.empirewand.gui.util.IconTemplateCache();
+            this.spellEventDispatcher = new nl.wantedchef.empirewand.framework.service.SpellEventDispatcher(
+                    this.taskManager, getLogger());
+            if (this.configService.getConfig().getBoolean("core.performance.sound-mixing", true)) {
+                this.soundMixer = new nl.wantedchef.empirewand.framework.service.SoundMixer(this.taskManager,
+                        this.configService.getConfig().getInt("core.performance.sound-max-voices-per-chunk", 8),
+                        this.configService.getConfig().getInt("core.performance.sound-max-voices-per-listener", 16));
+                this.fxService.setSoundMixer(this.soundMixer);
+            }
+            if (this.configService.getConfig().getBoolean("core.performance.quality.enabled", true)) {
+                try {
+                    this.qualityGovernor = new nl.wantedchef.empirewand.framework.service.QualityGovernor(getServer(),
+                            this.configService.getConfig().getDouble("core.performance.quality.target-mspt-low", 35.0),
+                            this.configService.getConfig().getDouble("core.performance.quality.target-mspt-high", 45.0),
+                            this.configService.getConfig().getDouble("core.performance.quality.min-quality", 0.25));
+                    this.qualityGovernor.start(this.taskManager);
+                    this.fxService.setQualityGovernor(this.qualityGovernor);
+                } catch (IllegalArgumentException e) {
+                    getLogger().warning(String.format("Adaptive quality disabled: %s", e.getMessage()));
+                }
+            }
+            this.minionBrainScheduler = new nl.wantedchef.empirewand.framework.service.MinionBrainScheduler(
+                    this.configService.getConfig().getInt("core.performance.minion-brains-per-tick", 24),
+                    this.configService.getConfig().getInt("core.performance.minion-think-interval-ticks", 5),
+                    getLogger());
+            this.minionBrainScheduler.setQualityGovernor(this.qualityGovernor);
+            this.minionBrainScheduler.start(this.taskManager);
 
             // Initialize toggle SpellManager
             this.spellManager = new nl.wantedchef.empirewand.framework.service.toggle.SpellManagerImpl(this);
@@ -233,6 +301,7 @@ public final class EmpireWandPlugin extends JavaPlugin {
 
             // Initialize global afterimage system
             initializeAfterimages();
+            Afterimages.setQualityGovernor(this.qualityGovernor);
 
             // Initialize metrics
             if (this.metricsService != null) {
@@ -264,6 +333,54 @@ public final class EmpireWandPlugin extends JavaPlugin {
             }
         }
 
+        // 1a. Write block changes still queued by spells
+        if (this.worldMutationQueue != null) {
+            try {
+                this.worldMutationQueue.shutdown();
+            } catch (Exception e) {
+                getLogger().warning(String.format("Error flushing world mutation queue: %s", e.getMessage()));
+            }
+        }
+
+        // 1b. Release summoned minions and stop tick-time sampling
+        if (this.minionBrainScheduler != null) {
+            this.minionBrainScheduler.shutdown();
+        }
+        if (this.qualityGovernor != null) {
+            this.qualityGovernor.stop();
+        }
+
+        // 1c. Play sounds mixed this tick; later sounds bypass the mixer
+        if (this.soundMixer != null) {
+            try {
+                if (this.fxService != null) {
+                    this.fxService.setSoundMixer(null);
+                }
+                this.soundMixer.shutdown();
+            } catch (Exception e) {
+                getLogger().warning(String.format("Error flushing sound mixer: %s", e.getMessage()));
+            }
+        }
+
+        // 1d. Release per-player spell session state
+        try {
+            int released = nl.wantedchef.empirewand.framework.service.PlayerSpellSession.global().releaseAll();
+            if (released > 0) {
+                getLogger().info(String.format("Released %d per-player spell session entries", released));
+            }
+        } catch (Exception e) {
+            getLogger().warning(String.format("Error releasing player spell sessions: %s", e.getMessage()));
+        }
+
+        // 1e. Persist in-memory spell effect flags
+        if (this.playerEffectState != null) {
+            try {
+                this.playerEffectState.saveAll(getServer().getOnlinePlayers());
+            } catch (Exception e) {
+                getLogger().warning(String.format("Error saving player effect state: %s", e.getMessage()));
+            }
+        }
+
         // 2. Cleanup Afterimages system
         try {
             Afterimages.shutdown();
@@ -381,7 +498,9 @@ public final class EmpireWandPlugin extends JavaPlugin {
         
         // Core player and spell cleanup listeners
         pm.registerEvents(new PlayerJoinQuitListener(this), this);
+        pm.registerEvents(this.spellEntityRegistry, this);
         pm.registerEvents(new SpellCleanupListener(this), this);
+        pm.registerEvents(this.surfaceCache, this);
         
         // Wand interaction listeners
         pm.registerEvents(new WandCastListener(this), this);
@@ -400,9 +519,9 @@ public final class EmpireWandPlugin extends JavaPlugin {
         pm.registerEvents(new ExplosionControlListener(this), this);
         pm.registerEvents(new DeathSyncPolymorphListener(this), this);
         pm.registerEvents(new PolymorphCleanupListener(this), this);
-        pm.registerEvents(new BloodBarrierDamageListener(this), this);
-        pm.registerEvents(new ElementosgodDamageListener(this), this);
-        pm.registerEvents(new nl.wantedchef.empirewand.listener.combat.MinionFriendlyFireListener(), this);
+        pm.registerEvents(this.damagePipeline, this);
+        pm.registerEvents(new nl.wantedchef.empirewand.listener.combat.MinionFriendlyFireListener(
+                this.spellEntityRegistry), this);
         
         // Enhanced spell effect listeners
         pm.registerEvents(new nl.wantedchef.empirewand.listener.spell.StatusEffectListener(this), this);
@@ -418,7 +537,7 @@ public final class EmpireWandPlugin extends JavaPlugin {
         // Performance monitoring (always register last for accurate tracking)
         pm.registerEvents(new nl.wantedchef.empirewand.listener.spell.PerformanceMonitoringListener(this), this);
         
-        getLogger().info("Registered " + (14 + 6 + 1) + " spell listeners for comprehensive spell coverage");
+        getLogger().info("Registered " + (13 + 6 + 1) + " spell listeners for comprehensive spell coverage");
         
         // Analyze and report listener coverage
         nl.wantedchef.empirewand.listener.ListenerCoverageAnalyzer coverageAnalyzer = 
@@ -427,11 +546,13 @@ public final class EmpireWandPlugin extends JavaPlugin {
     }
 
     private void registerCommands() {
+        AsyncTabCompleteListener asyncTabCompleter = new AsyncTabCompleteListener();
         var ewCommand = getCommand("ew");
         if (ewCommand != null) {
             var commandExecutor = new EmpireWandCommand(this);
             ewCommand.setExecutor(commandExecutor);
             ewCommand.setTabCompleter(commandExecutor);
+            asyncTabCompleter.register(ewCommand, commandExecutor);
         } else {
             getLogger().warning("Could not find command 'ew' - command registration failed");
         }
@@ -441,9 +562,13 @@ public final class EmpireWandPlugin extends JavaPlugin {
             var commandExecutor = new MephidantesZeistCommand(this);
             mzCommand.setExecutor(commandExecutor);
             mzCommand.setTabCompleter(commandExecutor);
+            asyncTabCompleter.register(mzCommand, commandExecutor);
         } else {
             getLogger().warning("Could not find command 'mz' - MephidantesZeist command registration failed");
         }
+        // Spell and subcommand completion is answered off the main thread
+        getServer().getPluginManager().registerEvents(asyncTabCompleter, this);
+        this.asyncTabCompleter = asyncTabCompleter;
     }
 
     private void registerServices() {
@@ -523,6 +648,111 @@ public final class EmpireWandPlugin extends JavaPlugin {
         return performanceMonitor;
     }
 
+    /**
+     * Get the opt-in allocation profiler used by {@code /ew performance alloc}
+     */
+    public AllocationProfiler getAllocationProfiler() {
+        return allocationProfiler;
+    }
+
+    /**
+     * Get the in-memory per-player spell effect flags
+     */
+    public nl.wantedchef.empirewand.framework.service.PlayerEffectState getPlayerEffectState() {
+        return playerEffectState;
+    }
+
+    /**
+     * Get the main-thread index of spell-spawned entities
+     */
+    public nl.wantedchef.empirewand.framework.service.SpellEntityRegistry getSpellEntityRegistry() {
+        return spellEntityRegistry;
+    }
+
+    /**
+     * Get the consolidated spell damage pipeline
+     */
+    public nl.wantedchef.empirewand.listener.combat.DamagePipeline getDamagePipeline() {
+        return damagePipeline;
+    }
+
+    /**
+     * Get the listener serving tab completion for the wand commands
+     */
+    public AsyncTabCompleteListener getAsyncTabCompleter() {
+        return asyncTabCompleter;
+    }
+
+    /**
+     * Get the service that plans area block edits off the main thread
+     */
+    public nl.wantedchef.empirewand.framework.service.world.BlockPlanService getBlockPlanService() {
+        return blockPlanService;
+    }
+
+    /**
+     * Get the per-chunk cache of surface heights used by weather and area spells
+     */
+    public nl.wantedchef.empirewand.framework.service.world.SurfaceCache getSurfaceCache() {
+        return surfaceCache;
+    }
+
+    /**
+     * Get the dispatcher that fires spell events only when someone listens
+     */
+    public nl.wantedchef.empirewand.framework.service.SpellEventDispatcher getSpellEventDispatcher() {
+        return spellEventDispatcher;
+    }
+
+    /**
+     * Get the per-tick sound mixer, or null when sound mixing is disabled
+     */
+    public nl.wantedchef.empirewand.framework.service.SoundMixer getSoundMixer() {
+        return soundMixer;
+    }
+
+    /**
+     * Get the tick-time driven quality governor, or null when adaptive quality is disabled
+     */
+    public nl.wantedchef.empirewand.framework.service.QualityGovernor getQualityGovernor() {
+        return qualityGovernor;
+    }
+
+    /**
+     * Get the scheduler that runs the think steps of summoned minions
+     */
+    public nl.wantedchef.empirewand.framework.service.MinionBrainScheduler getMinionBrainScheduler() {
+        return minionBrainScheduler;
+    }
+
+    /**
+     * Get the wand menu icon templates, rebuilt after every config reload
+     */
+    public nl.wantedchef.empirewand.gui.util.IconTemplateCache getIconTemplateCache() {
+        return iconTemplateCache;
+    }
+
+    /**
+     * Get the budgeted queue that spreads spell block writes over ticks
+     */
+    public nl.wantedchef.empirewand.framework.service.world.WorldMutationQueue getWorldMutationQueue() {
+        return worldMutationQueue;
+    }
+
+    /**
+     * Get the pipeline that prefetches destination chunks and teleports asynchronously
+     */
+    public nl.wantedchef.empirewand.framework.service.world.TeleportService getTeleportService() {
+        return teleportService;
+    }
+
+    /**
+     * Get how far along the caster's line of sight chunks are requested at cast start, 0 when disabled
+     */
+    public int getCastPrewarmDistance() {
+        return castPrewarmDistance;
+    }
+
     public TextService getTextService() {
         return textService;
     }
@@ -531,6 +761,13 @@ public final class EmpireWandPlugin extends JavaPlugin {
         return structuredLogger;
     }
 
+    /**
+     * Get the listener that renders the wand status action bar
+     */
+    public WandStatusListener getWandStatusListener() {
+        return wandStatusListener;
+    }
+
     /**
      * Get the task manager for centralized task tracking
      */
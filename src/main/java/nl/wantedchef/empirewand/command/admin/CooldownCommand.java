@@ -144,6 +144,7 @@ public class CooldownCommand implements SubCommand {
                     throw new CommandException("You don't have permission to clear cooldown.");
                 }
                 context.cooldownManager().clearPlayerCooldowns(player.getUniqueId());
+                context.refreshWandStatus(player);
                 context.sendMessage(Component.text("Cooldown cleared").color(NamedTextColor.GREEN));
                 break;
 
@@ -239,6 +240,7 @@ public class CooldownCommand implements SubCommand {
         }
 
         context.cooldownManager().clearPlayerCooldowns(target.getUniqueId());
+        context.refreshWandStatus(target);
 
         context.sendMessage(Component.text("Cooldown cleared for " + target.getName())
                 .color(NamedTextColor.GREEN));
@@ -0,0 +1,128 @@
+package nl.wantedchef.empirewand.command.admin;
+
+import nl.wantedchef.empirewand.framework.command.CommandContext;
+import nl.wantedchef.empirewand.framework.command.CommandException;
+import nl.wantedchef.empirewand.framework.command.SubCommand;
+import nl.wantedchef.empirewand.framework.command.util.CommandHelpProvider;
+import nl.wantedchef.empirewand.framework.service.PlayerSpellSession;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Administrative diagnostics for plugin internals.
+ * Currently shows the per-player spell state retained in {@link PlayerSpellSession}.
+ */
+public class DebugCommand implements SubCommand, CommandHelpProvider.HelpAwareCommand {
+
+    private static final TextColor HEADER_COLOR = TextColor.fromHexString("#FFD700");
+    private static final TextColor METRIC_COLOR = TextColor.fromHexString("#00BFFF");
+    private static final TextColor VALUE_COLOR = TextColor.fromHexString("#32CD32");
+    private static final TextColor WARNING_COLOR = TextColor.fromHexString("#FFA500");
+
+    private final String wandType;
+
+    public DebugCommand(String wandType) {
+        this.wandType = wandType;
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return "debug";
+    }
+
+    @Override
+    public @Nullable String getPermission() {
+        return wandType + ".command.debug";
+    }
+
+    @Override
+    public @NotNull String getUsage() {
+        return "debug memory";
+    }
+
+    @Override
+    public @NotNull String getDescription() {
+        return "Show diagnostics such as per-player spell state retained in memory";
+    }
+
+    @Override
+    public void execute(@NotNull CommandContext context) throws CommandException {
+        if (!context.hasPermission(wandType + ".admin")) {
+            throw new CommandException("This command requires admin permissions", "NO_ADMIN_PERMISSION");
+        }
+
+        String[] args = context.args();
+        String subAction = args.length > 1 ? args[1].toLowerCase() : "memory";
+        switch (subAction) {
+            case "memory" -> showMemory(context);
+            default -> throw new CommandException("Unknown debug action: " + subAction +
+                ". Valid actions: memory", "INVALID_DEBUG_ACTION", subAction);
+        }
+    }
+
+    private void showMemory(@NotNull CommandContext context) {
+        List<PlayerSpellSession.Usage> usage = PlayerSpellSession.global()
+                .usage(playerId -> Bukkit.getPlayer(playerId) != null);
+        int online = Bukkit.getOnlinePlayers().size();
+        int entries = usage.stream().mapToInt(PlayerSpellSession.Usage::entries).sum();
+        int offline = usage.stream().mapToInt(PlayerSpellSession.Usage::offline).sum();
+
+        Component header = Component.text()
+            .append(Component.text("🧠 ", HEADER_COLOR))
+            .append(Component.text("Player Spell Sessions", HEADER_COLOR))
+            .build();
+
+        context.sendMessage(header);
+        context.sendMessage(Component.text("▬".repeat(40), NamedTextColor.GRAY));
+        context.sendMessage(createMetricLine("Slots", String.valueOf(usage.size())));
+        context.sendMessage(createMetricLine("Entries", String.format("%d for %d online players", entries, online)));
+        context.sendMessage(createMetricLine("Offline Entries", String.valueOf(offline)));
+
+        context.sendMessage(Component.empty());
+        for (PlayerSpellSession.Usage slot : usage) {
+            if (slot.entries() == 0) {
+                continue;
+            }
+            String scope = slot.scope() == PlayerSpellSession.Scope.WORLD ? "world" : "session";
+            context.sendMessage(createMetricLine("  " + slot.name(), String.format("%d (%s)", slot.entries(), scope)));
+            if (slot.offline() > 0) {
+                context.sendMessage(Component.text("    ⚠ " + slot.offline() + " held for offline players", WARNING_COLOR));
+            }
+        }
+        if (entries == 0) {
+            context.sendMessage(Component.text("No per-player spell state retained", NamedTextColor.GRAY));
+        }
+    }
+
+    private Component createMetricLine(@NotNull String metric, @NotNull String value) {
+        return Component.text()
+            .append(Component.text("• ", METRIC_COLOR))
+            .append(Component.text(metric + ": ", NamedTextColor.WHITE))
+            .append(Component.text(value, VALUE_COLOR))
+            .build();
+    }
+
+    @Override
+    public @NotNull List<String> tabComplete(@NotNull CommandContext context) {
+        if (context.args().length == 2) {
+            String partial = context.args()[1].toLowerCase();
+            return List.of("memory").stream()
+                .filter(action -> action.startsWith(partial))
+                .toList();
+        }
+        return List.of();
+    }
+
+    @Override
+    public @NotNull List<CommandHelpProvider.CommandExample> getExamples() {
+        return List.of(
+            new CommandHelpProvider.CommandExample("debug memory", "Show per-player spell state held per subsystem")
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package nl.wantedchef.empirewand.command.admin;
 
+import nl.wantedchef.empirewand.core.util.AllocationProfiler;
 import nl.wantedchef.empirewand.framework.command.BaseWandCommand;
 import nl.wantedchef.empirewand.framework.command.CommandContext;
 import nl.wantedchef.empirewand.framework.command.CommandException;
@@ -7,13 +8,21 @@ import nl.wantedchef.empirewand.framework.command.SubCommand;
 import nl.wantedchef.empirewand.framework.command.util.CommandCache;
 import nl.wantedchef.empirewand.framework.command.util.CommandErrorHandler;
 import nl.wantedchef.empirewand.framework.command.util.CommandHelpProvider;
+import nl.wantedchef.empirewand.framework.service.QualityGovernor;
+import nl.wantedchef.empirewand.framework.service.SpellRegistryImpl;
+import nl.wantedchef.empirewand.framework.service.SpellStartupReport;
+import nl.wantedchef.empirewand.framework.service.world.SurfaceCache;
+import nl.wantedchef.empirewand.framework.service.world.WorldMutationQueue;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Administrative command for viewing and managing command system performance.
@@ -22,14 +31,19 @@ import java.util.List;
  */
 public class PerformanceCommand implements SubCommand, CommandHelpProvider.HelpAwareCommand {
     
+    private static final int ALLOC_REPORT_ROWS = 10;
+    private static final int STARTUP_REPORT_ROWS = 10;
+
     private final String wandType;
+    private final BaseWandCommand wandCommand;
     private static final TextColor HEADER_COLOR = TextColor.fromHexString("#FFD700");
     private static final TextColor METRIC_COLOR = TextColor.fromHexString("#00BFFF");
     private static final TextColor VALUE_COLOR = TextColor.fromHexString("#32CD32");
     private static final TextColor WARNING_COLOR = TextColor.fromHexString("#FFA500");
     
-    public PerformanceCommand(String wandType) {
+    public PerformanceCommand(String wandType, BaseWandCommand wandCommand) {
         this.wandType = wandType;
+        this.wandCommand = wandCommand;
     }
     
     @Override
@@ -39,7 +53,7 @@ public class PerformanceCommand implements SubCommand, CommandHelpProvider.HelpA
     
     @Override
     public @NotNull List<String> getAliases() {
-        return List.of("perf", "metrics", "stats");
+        return List.of("perf", "metrics");
     }
     
     @Override
@@ -49,7 +63,7 @@ public class PerformanceCommand implements SubCommand, CommandHelpProvider.HelpA
     
     @Override
     public @NotNull String getUsage() {
-        return "performance [cache|reset|report]";
+        return "performance [cache|reset|report|world|startup|quality [low high]|alloc [on|off|reset|export]]";
     }
     
     @Override
@@ -77,8 +91,12 @@ public class PerformanceCommand implements SubCommand, CommandHelpProvider.HelpA
             case "cache" -> showCacheStatistics(context, wandCommand);
             case "reset" -> resetMetrics(context, wandCommand);
             case "report" -> showPerformanceReport(context, wandCommand);
+            case "world" -> showWorldMutationQueue(context);
+            case "startup" -> showStartupReport(context);
+            case "quality" -> handleQuality(context);
+            case "alloc" -> handleAllocation(context);
             default -> throw new CommandException("Unknown performance action: " + subAction + 
-                ". Valid actions: cache, reset, report", "INVALID_PERF_ACTION", subAction);
+                ". Valid actions: cache, reset, report, world, startup, quality, alloc", "INVALID_PERF_ACTION", subAction);
         }
     }
     
@@ -189,6 +207,186 @@ public class PerformanceCommand implements SubCommand, CommandHelpProvider.HelpA
         context.sendMessage(infoMessage);
     }
     
+    private void showWorldMutationQueue(@NotNull CommandContext context) throws CommandException {
+        WorldMutationQueue queue = context.plugin().getWorldMutationQueue();
+        if (queue == null) {
+            throw new CommandException("World mutation queue is not available", "WORLD_QUEUE_UNAVAILABLE");
+        }
+        WorldMutationQueue.Stats stats = queue.stats();
+
+        Component header = Component.text()
+            .append(Component.text("🧱 ", HEADER_COLOR))
+            .append(Component.text("World Mutation Queue", HEADER_COLOR))
+            .build();
+
+        context.sendMessage(header);
+        context.sendMessage(Component.text("▬".repeat(40), NamedTextColor.GRAY));
+        context.sendMessage(createMetricLine("Backlog", String.format("%d writes in %d chunk batches",
+            stats.pendingWrites(), stats.pendingBatches())));
+        context.sendMessage(createMetricLine("Peak Backlog", String.valueOf(stats.peakPendingWrites())));
+        context.sendMessage(createMetricLine("Applied", String.valueOf(stats.appliedWrites())));
+        context.sendMessage(createMetricLine("Dropped", String.valueOf(stats.droppedWrites())));
+        context.sendMessage(createMetricLine("Past Deadline", String.valueOf(stats.overdueWrites())));
+        context.sendMessage(createMetricLine("Last Tick", String.format("%.1fµs", stats.lastTickNanos() / 1000.0)));
+
+        SurfaceCache surfaceCache = context.plugin().getSurfaceCache();
+        if (surfaceCache != null) {
+            SurfaceCache.Stats surface = surfaceCache.stats();
+            long reads = surface.hits() + surface.misses();
+            context.sendMessage(createMetricLine("Surface Cache", String.format("%d chunks, %.1f%% hits, %d unloaded",
+                surface.cachedChunks(), reads == 0 ? 0.0 : surface.hits() * 100.0 / reads, surface.unloaded())));
+        }
+    }
+
+    private void showStartupReport(@NotNull CommandContext context) throws CommandException {
+        if (!(context.plugin().getSpellRegistry() instanceof SpellRegistryImpl registry)) {
+            throw new CommandException("Spell startup report is not available", "STARTUP_REPORT_UNAVAILABLE");
+        }
+        SpellStartupReport report = registry.getStartupReport();
+
+        Component header = Component.text()
+            .append(Component.text("⏱ ", HEADER_COLOR))
+            .append(Component.text("Spell Startup", HEADER_COLOR))
+            .build();
+
+        context.sendMessage(header);
+        context.sendMessage(Component.text("▬".repeat(40), NamedTextColor.GRAY));
+        context.sendMessage(createMetricLine("Spells", String.valueOf(report.spells().size())));
+        context.sendMessage(createMetricLine("Construct", String.format("%.1f ms on %d threads",
+            report.constructNanos() / 1_000_000.0, report.threads())));
+        context.sendMessage(createMetricLine("Publish", String.format("%.1f ms", report.publishNanos() / 1_000_000.0)));
+        context.sendMessage(createMetricLine("Failed", String.valueOf(report.failures().size())));
+        for (SpellStartupReport.Entry entry : report.slowest(STARTUP_REPORT_ROWS)) {
+            context.sendMessage(createMetricLine("  " + entry.key(), String.format("%.2f ms (build %.2f, config %.2f)",
+                entry.totalNanos() / 1_000_000.0, entry.buildNanos() / 1_000_000.0,
+                entry.configNanos() / 1_000_000.0)));
+        }
+        for (SpellStartupReport.Failure failure : report.failures()) {
+            context.sendMessage(Component.text("  #" + failure.builder() + ": " + failure.error(), WARNING_COLOR));
+        }
+    }
+
+    private void handleQuality(@NotNull CommandContext context) throws CommandException {
+        QualityGovernor governor = context.plugin().getQualityGovernor();
+        if (governor == null) {
+            throw new CommandException("Adaptive quality is disabled", "QUALITY_UNAVAILABLE");
+        }
+
+        String[] args = context.args();
+        if (args.length > 3) {
+            try {
+                governor.setTargetBand(Double.parseDouble(args[2]), Double.parseDouble(args[3]));
+            } catch (IllegalArgumentException e) {
+                throw new CommandException("Invalid target band: " + e.getMessage(), "INVALID_QUALITY_BAND");
+            }
+            context.sendMessage(CommandErrorHandler.createSuccessMessage(String.format(
+                    "Target band set to %s-%s ms per tick until the next restart", args[2], args[3])));
+        } else if (args.length == 3) {
+            throw new CommandException("Usage: performance quality <low-mspt> <high-mspt>", "INVALID_QUALITY_BAND");
+        }
+
+        QualityGovernor.Stats stats = governor.stats();
+        Component header = Component.text()
+            .append(Component.text("🎚 ", HEADER_COLOR))
+            .append(Component.text("Adaptive Quality", HEADER_COLOR))
+            .build();
+
+        context.sendMessage(header);
+        context.sendMessage(Component.text("▬".repeat(40), NamedTextColor.GRAY));
+        context.sendMessage(createMetricLine("Quality", String.format("%.0f%% (floor %.0f%%)",
+            stats.quality() * 100.0, stats.minQuality() * 100.0)));
+        context.sendMessage(createMetricLine("Smoothed MSPT", String.format("%.1f ms", stats.smoothedMspt())));
+        context.sendMessage(createMetricLine("Target Band", String.format("%.1f-%.1f ms",
+            stats.lowMspt(), stats.highMspt())));
+        context.sendMessage(createMetricLine("Steps", String.format("%d down, %d up",
+            stats.degradations(), stats.recoveries())));
+    }
+
+    private void handleAllocation(@NotNull CommandContext context) throws CommandException {
+        AllocationProfiler profiler = context.plugin().getAllocationProfiler();
+        if (profiler == null) {
+            throw new CommandException("Allocation profiler is not available", "ALLOC_UNAVAILABLE");
+        }
+
+        String[] args = context.args();
+        String action = args.length > 2 ? args[2].toLowerCase() : "report";
+        switch (action) {
+            case "on" -> {
+                if (!profiler.setEnabled(true)) {
+                    throw new CommandException("This JVM does not support per-thread allocation accounting",
+                            "ALLOC_UNSUPPORTED");
+                }
+                context.sendMessage(CommandErrorHandler.createSuccessMessage(
+                        "Allocation profiling enabled; spell casts and managed tasks are now sampled"));
+            }
+            case "off" -> {
+                profiler.setEnabled(false);
+                context.sendMessage(CommandErrorHandler.createSuccessMessage(
+                        "Allocation profiling disabled; collected samples are kept until reset"));
+            }
+            case "reset" -> {
+                profiler.reset();
+                context.sendMessage(CommandErrorHandler.createSuccessMessage("Allocation samples cleared"));
+            }
+            case "export" -> {
+                try {
+                    Path file = profiler.export(context.plugin().getDataFolder().toPath());
+                    context.sendMessage(CommandErrorHandler.createSuccessMessage(
+                            "Allocation report written to " + file.getFileName()));
+                } catch (IOException e) {
+                    throw new CommandException("Failed to write allocation report: " + e.getMessage(),
+                            e, "ALLOC_EXPORT_FAILED");
+                }
+            }
+            case "report" -> showAllocationReport(context, profiler);
+            default -> throw new CommandException("Unknown alloc action: " + action +
+                ". Valid actions: on, off, reset, export", "INVALID_ALLOC_ACTION", action);
+        }
+    }
+
+    private void showAllocationReport(@NotNull CommandContext context, @NotNull AllocationProfiler profiler) {
+        Component header = Component.text()
+            .append(Component.text("🧮 ", HEADER_COLOR))
+            .append(Component.text("Spell Allocation Report", HEADER_COLOR))
+            .build();
+
+        context.sendMessage(header);
+        context.sendMessage(Component.text("▬".repeat(50), NamedTextColor.GRAY));
+        context.sendMessage(createMetricLine("Profiling", profiler.isEnabled() ? "enabled" : "disabled"));
+        context.sendMessage(createMetricLine("Window", String.format("%.1fs", profiler.getWindowMillis() / 1000.0)));
+
+        List<AllocationProfiler.Entry> entries = profiler.snapshot();
+        if (entries.isEmpty()) {
+            context.sendMessage(Component.text(profiler.isEnabled()
+                    ? "No samples yet - cast some spells"
+                    : "No samples - enable with 'performance alloc on'", NamedTextColor.GRAY));
+            return;
+        }
+
+        context.sendMessage(Component.empty());
+        context.sendMessage(Component.text("Per spell (total MB):", METRIC_COLOR));
+        int rank = 0;
+        for (Map.Entry<String, Long> total : profiler.totalsBySpell().entrySet()) {
+            if (rank++ >= ALLOC_REPORT_ROWS) {
+                break;
+            }
+            context.sendMessage(createMetricLine(total.getKey(),
+                String.format("%.2f MB", total.getValue() / (1024.0 * 1024.0))));
+        }
+
+        context.sendMessage(Component.empty());
+        context.sendMessage(Component.text("Top tasks (runs, total, avg/run, max, avg time):", METRIC_COLOR));
+        for (int i = 0; i < Math.min(ALLOC_REPORT_ROWS, entries.size()); i++) {
+            AllocationProfiler.Entry entry = entries.get(i);
+            context.sendMessage(Component.text(String.format("  %d. %s/%s: %d, %.2f MB, %.1f KB, %.1f KB, %.1fµs",
+                i + 1, entry.spellKey(), entry.task(), entry.runs(),
+                entry.totalBytes() / (1024.0 * 1024.0), entry.averageBytes() / 1024.0,
+                entry.maxBytes() / 1024.0, entry.averageNanos() / 1000.0), VALUE_COLOR));
+        }
+        context.sendMessage(Component.text("• Use 'performance alloc export' to save the full report as JSON",
+            NamedTextColor.GRAY));
+    }
+
     private Component createMetricLine(@NotNull String metric, @NotNull String value) {
         return Component.text()
             .append(Component.text("• ", METRIC_COLOR))
@@ -230,16 +428,20 @@ public class PerformanceCommand implements SubCommand, CommandHelpProvider.HelpA
     
     @Nullable
     private BaseWandCommand getWandCommand(@NotNull CommandContext context) {
-        // This is a simplified approach - in a real implementation, you'd have
-        // proper dependency injection or service location
-        return null; // This would need to be properly implemented
+        return wandCommand;
     }
     
     @Override
     public @NotNull List<String> tabComplete(@NotNull CommandContext context) {
         if (context.args().length == 2) {
             String partial = context.args()[1].toLowerCase();
-            return List.of("cache", "reset", "report").stream()
+            return List.of("cache", "reset", "report", "world", "startup", "quality", "alloc").stream()
+                .filter(action -> action.startsWith(partial))
+                .toList();
+        }
+        if (context.args().length == 3 && "alloc".equalsIgnoreCase(context.args()[1])) {
+            String partial = context.args()[2].toLowerCase();
+            return List.of("on", "off", "reset", "export").stream()
                 .filter(action -> action.startsWith(partial))
                 .toList();
         }
@@ -251,7 +453,14 @@ public class PerformanceCommand implements SubCommand, CommandHelpProvider.HelpA
         return List.of(
             new CommandHelpProvider.CommandExample("performance", "Show complete performance report"),
             new CommandHelpProvider.CommandExample("performance cache", "Display cache statistics"),
-            new CommandHelpProvider.CommandExample("performance reset", "Reset all metrics and caches")
+            new CommandHelpProvider.CommandExample("performance reset", "Reset all metrics and caches"),
+            new CommandHelpProvider.CommandExample("performance world", "Show the spell block write backlog"),
+            new CommandHelpProvider.CommandExample("performance startup", "Show spell registration timings"),
+            new CommandHelpProvider.CommandExample("performance quality", "Show the adaptive quality level"),
+            new CommandHelpProvider.CommandExample("performance quality 30 40", "Set the target MSPT band"),
+            new CommandHelpProvider.CommandExample("performance alloc on", "Start sampling spell allocations"),
+            new CommandHelpProvider.CommandExample("performance alloc", "Show allocated bytes per spell and task"),
+            new CommandHelpProvider.CommandExample("performance alloc export", "Write the allocation report as JSON")
         );
     }
 }
\ No newline at end of file
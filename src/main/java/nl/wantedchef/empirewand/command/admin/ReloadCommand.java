@@ -42,6 +42,13 @@ public class ReloadCommand implements SubCommand {
     @Override
     public void execute(@NotNull CommandContext context) throws CommandException {
         context.config().loadConfigs();
+        context.plugin().getIconTemplateCache().invalidate();
+        context.plugin().getTextService().clearTemplates();
+        var tabCompleter = context.plugin().getAsyncTabCompleter();
+        if (tabCompleter != null) {
+            // Categories and spell names may have changed, for /ew and /mz alike
+            tabCompleter.invalidateCaches();
+        }
         context.sendMessage(Component.text("Configuration reloaded").color(NamedTextColor.GREEN));
     }
 }
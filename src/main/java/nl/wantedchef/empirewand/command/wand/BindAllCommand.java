@@ -59,6 +59,7 @@ public class BindAllCommand implements SubCommand {
 
         context.wandService().setSpells(item,
                 new ArrayList<>(context.spellRegistry().getAllSpells().keySet()));
+        context.refreshWandStatus(player);
 
         context.sendMessage(Component.text("Bound all available spells to your wand")
                 .color(NamedTextColor.GREEN));
@@ -78,6 +78,7 @@ public class BindCategoryCommand implements SubCommand {
             }
         }
         context.wandService().setSpells(item, current);
+        context.refreshWandStatus(player);
 
         context.sendMessage(Component.text("Bound category '" + cat + "' spells to your wand")
                 .color(NamedTextColor.GREEN));
@@ -85,6 +85,7 @@ public class BindCommand implements SubCommand {
 
         spells.add(spellKey);
         context.wandService().setSpells(item, spells);
+        context.refreshWandStatus(player);
 
         context.sendMessage(Component.text("Bound spell " + spellKey + " to your wand")
                 .color(NamedTextColor.GREEN));
@@ -99,6 +99,7 @@ public class BindTypeCommand implements SubCommand {
             }
         }
         context.wandService().setSpells(item, current);
+        context.refreshWandStatus(player);
 
         context.sendMessage(Component.text("Bound type '" + typeArg + "' spells to your wand")
                 .color(NamedTextColor.GREEN));
@@ -82,7 +82,7 @@ public class CastCommand implements SubCommand {
 
         // Check permissions
         var perms = context.plugin().getPermissionService();
-        if (!perms.has(player, perms.getSpellUsePermission(spellKey))) {
+        if (!perms.canUseSpell(player, spellKey)) {
             throw new CommandException("You don't have permission to use this spell");
         }
 
@@ -66,6 +66,7 @@ public class SetSpellCommand implements SubCommand {
 
         int index = spells.indexOf(spellKey);
         context.wandService().setActiveIndex(item, index);
+        context.refreshWandStatus(player);
         String display = context.config().getSpellsConfig().getString(spellKey + ".display-name", spellKey);
         display = context.plugin().getTextService().stripMiniTags(display);
 
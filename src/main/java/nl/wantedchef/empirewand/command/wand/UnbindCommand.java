@@ -67,6 +67,7 @@ public class UnbindCommand implements SubCommand {
 
         spells.remove(spellKey);
         context.wandService().setSpells(item, spells);
+        context.refreshWandStatus(player);
 
         context.sendMessage(Component.text("Unbound spell " + spellKey + " from your wand")
                 .color(NamedTextColor.GREEN));
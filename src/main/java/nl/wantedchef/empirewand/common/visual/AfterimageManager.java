@@ -48,6 +48,14 @@ public class AfterimageManager {
     }
 
     public void tickRender() {
+        tickRender(true);
+    }
+
+    /**
+     * Ages all afterimages by one frame and, when {@code draw} is set, renders the survivors.
+     * Skipped frames keep lifetimes on schedule while spawning no particles.
+     */
+    public void tickRender(boolean draw) {
         Iterator<Afterimage> it = queue.iterator();
         while (it.hasNext()) {
             Afterimage a = it.next();
@@ -56,7 +64,9 @@ public class AfterimageManager {
                 it.remove();
                 continue;
             }
-            render(a);
+            if (draw) {
+                render(a);
+            }
         }
     }
 
@@ -1,5 +1,6 @@
 package nl.wantedchef.empirewand.common.visual;
 
+import nl.wantedchef.empirewand.framework.service.QualityGovernor;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
@@ -13,6 +14,8 @@ import org.bukkit.scheduler.BukkitTask;
 public final class Afterimages {
     private static AfterimageManager manager;
     private static BukkitTask renderTask;
+    private static volatile QualityGovernor qualityGovernor;
+    private static long frame;
 
     private Afterimages() {
     }
@@ -28,12 +31,20 @@ public final class Afterimages {
             public void run() {
                 AfterimageManager m = manager; // local snapshot
                 if (m != null) {
-                    m.tickRender();
+                    QualityGovernor governor = qualityGovernor;
+                    m.tickRender(governor == null || governor.keepFrame(++frame));
                 }
             }
         }.runTaskTimer(plugin, periodTicks, periodTicks);
     }
 
+    /**
+     * Draws only the share of frames {@code governor} allows, or every frame when {@code null}.
+     */
+    public static void setQualityGovernor(QualityGovernor governor) {
+        qualityGovernor = governor;
+    }
+
     public static void record(Player player) {
         if (manager != null) {
             manager.record(player);
@@ -69,6 +80,7 @@ public final class Afterimages {
             manager.clear();
             manager = null;
         }
+        qualityGovernor = null;
     }
 }
 
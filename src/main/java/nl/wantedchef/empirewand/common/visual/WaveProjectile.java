@@ -1,14 +1,13 @@
 package nl.wantedchef.empirewand.common.visual;
 
-import nl.wantedchef.empirewand.core.storage.Keys;
 import nl.wantedchef.empirewand.framework.service.FxService;
+import nl.wantedchef.empirewand.framework.service.SpellEntityRegistry;
 import org.bukkit.Location;
 
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.SmallFireball;
-import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
@@ -59,6 +58,7 @@ public class WaveProjectile {
 
     private final Plugin plugin;
     private final FxService fxService;
+    private final SpellEntityRegistry entities;
     private final WaveConfig config;
     private final List<SmallFireball> projectiles;
     private final Map<UUID, ProjectileData> projectileData;
@@ -174,10 +174,11 @@ public class WaveProjectile {
     /**
      * Creates a new wave projectile system
      */
-    public WaveProjectile(@NotNull Plugin plugin, @NotNull FxService fxService, 
-                         @NotNull Player caster, @NotNull WaveConfig config) {
+    public WaveProjectile(@NotNull Plugin plugin, @NotNull FxService fxService,
+                         @NotNull SpellEntityRegistry entities, @NotNull Player caster, @NotNull WaveConfig config) {
         this.plugin = plugin;
         this.fxService = fxService;
+        this.entities = entities;
         this.caster = caster;
         this.config = config;
         this.origin = caster.getEyeLocation();
@@ -214,10 +215,7 @@ public class WaveProjectile {
                 fireball.setYield(0f); // No explosion damage
                 
                 // Tag projectile for identification
-                fireball.getPersistentDataContainer().set(Keys.PROJECTILE_SPELL, 
-                    PersistentDataType.STRING, "wave_projectile");
-                fireball.getPersistentDataContainer().set(Keys.PROJECTILE_OWNER, 
-                    PersistentDataType.STRING, caster.getUniqueId().toString());
+                entities.tag(fireball, "wave_projectile", caster.getUniqueId(), SpellEntityRegistry.PROJECTILE);
             });
             
             projectiles.add(projectile);
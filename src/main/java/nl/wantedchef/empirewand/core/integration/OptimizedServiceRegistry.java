@@ -6,6 +6,7 @@ import org.bukkit.plugin.Plugin;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -31,7 +32,11 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
-import java.lang.reflect.Proxy;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 
 /**
  * Enterprise-grade service registry and dependency injection system with advanced features:
@@ -43,7 +48,7 @@ import java.lang.reflect.Proxy;
  * - Service versioning and compatibility checking
  * - Performance monitoring and metrics collection
  * - Event-driven service communication
- * - Service proxy generation with interceptors
+ * - Interceptors woven in by decorators, only around {@link Intercepted} methods
  * - Thread-safe concurrent operations
  */
 public class OptimizedServiceRegistry {
@@ -72,7 +77,11 @@ public class OptimizedServiceRegistry {
     
     // Service interception
     private final Map<Class<?>, List<ServiceInterceptor>> interceptors = new ConcurrentHashMap<>();
-    private final ServiceProxyFactory proxyFactory;
+    private final Map<Class<?>, ServiceDecorator<?>> decorators = new ConcurrentHashMap<>();
+    private final ServiceBinder binder;
+
+    // Lifecycle hooks, resolved once per class
+    private final Map<Class<?>, LifecycleHooks> lifecycleHooks = new ConcurrentHashMap<>();
     
     // Performance tracking
     private final LongAdder totalServiceCalls = new LongAdder();
@@ -118,6 +127,16 @@ public class OptimizedServiceRegistry {
     public @interface PreDestroy {
     }
     
+    /**
+     * Marks a service method whose calls run through the interceptors of its service type.
+     * Only these methods are woven by a {@link ServiceDecorator}; every other method of the
+     * service is called directly.
+     */
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Intercepted {
+    }
+    
     /**
      * Service scope enumeration.
      */
@@ -151,6 +170,7 @@ public class OptimizedServiceRegistry {
         private final int priority;
         private final Set<Class<?>> interfaces;
         private volatile T instance;
+        private volatile T bound;
         private volatile ServiceState state = ServiceState.REGISTERED;
         private final ServiceFactory<T> factory;
         private final Instant registrationTime;
@@ -179,7 +199,9 @@ public class OptimizedServiceRegistry {
         public int getPriority() { return priority; }
         public Set<Class<?>> getInterfaces() { return interfaces; }
         public T getInstance() { return instance; }
-        public void setInstance(T instance) { this.instance = instance; }
+        public void setInstance(T instance) { this.instance = instance; this.bound = null; }
+        public T getBound() { return bound; }
+        public void setBound(T bound) { this.bound = bound; }
         public ServiceState getState() { return state; }
         public void setState(ServiceState state) { this.state = state; }
         public ServiceFactory<T> getFactory() { return factory; }
@@ -262,83 +284,251 @@ public class OptimizedServiceRegistry {
         private final Object target;
         private final String method;
         private final Object[] arguments;
-        private final Map<String, Object> context;
+        private Map<String, Object> context;
         
         public ServiceInvocation(Object target, String method, Object[] arguments) {
+            this(target, method, arguments, true);
+        }
+        
+        private ServiceInvocation(Object target, String method, Object[] arguments, boolean copyArguments) {
             this.target = target;
             this.method = method;
-            this.arguments = arguments != null ? arguments.clone() : new Object[0];
-            this.context = new ConcurrentHashMap<>();
+            if (arguments == null) {
+                this.arguments = new Object[0];
+            } else {
+                this.arguments = copyArguments ? arguments.clone() : arguments;
+            }
         }
         
         public Object getTarget() { return target; }
         public String getMethod() { return method; }
         public Object[] getArguments() { return arguments.clone(); }
-        public Map<String, Object> getContext() { return context; }
+        
+        public Map<String, Object> getContext() {
+            // Most interceptors never touch the context; only allocate it on first use
+            if (context == null) {
+                context = new ConcurrentHashMap<>();
+            }
+            return context;
+        }
         
         public Object proceed() throws Throwable {
-            // Default implementation - would be overridden by proxy
+            // Default implementation - overridden by the interceptor chain
             throw new UnsupportedOperationException("Proceed not implemented");
         }
     }
     
     /**
-     * Service proxy factory for creating intercepted service proxies.
+     * The call a decorator makes on the real service once every interceptor has proceeded.
+     */
+    @FunctionalInterface
+    public interface ServiceCall<R> {
+        R call() throws Throwable;
+    }
+    
+    /**
+     * Hand-written decorator that weaves interceptors into a service.
+     * <p>
+     * The decorator implements the service type by delegating to {@code target}. Methods annotated
+     * with {@link Intercepted} are routed through a {@link InterceptedMethod} bound from
+     * {@code chain} once, when the decorator is created; all other methods delegate directly, so
+     * they cost a plain virtual call:
+     * <pre>{@code
+     * registry.registerDecorator(ManaService.class, (target, chain) -> {
+     *     InterceptedMethod consume = chain.bind("consume");
+     *     return new ManaService() {
+     *         public boolean consume(Player player, int amount) {
+     *             return consume.invoke(target, new Object[]{player, amount},
+     *                 () -> target.consume(player, amount));
+     *         }
+     *         public int get(Player player) {
+     *             return target.get(player);
+     *         }
+     *     };
+     * });
+     * }</pre>
+     */
+    @FunctionalInterface
+    public interface ServiceDecorator<T> {
+        T decorate(T target, InterceptorChain chain);
+    }
+    
+    /**
+     * The interceptors of one service type, in priority order, handed to its decorator.
      */
-    private class ServiceProxyFactory {
+    public final class InterceptorChain {
+        private final Class<?> serviceType;
+        private final Set<String> interceptedMethods;
+        private final ServiceInterceptor[] chain;
+        
+        private InterceptorChain(Class<?> serviceType, Set<String> interceptedMethods, ServiceInterceptor[] chain) {
+            this.serviceType = serviceType;
+            this.interceptedMethods = interceptedMethods;
+            this.chain = chain;
+        }
+        
+        /**
+         * Binds the interceptors to one method of the service.
+         *
+         * @throws IllegalArgumentException if the method is not annotated with {@link Intercepted}
+         */
+        public InterceptedMethod bind(String methodName) {
+            if (!interceptedMethods.contains(methodName)) {
+                throw new IllegalArgumentException(serviceType.getSimpleName() + "." + methodName
+                        + " is not annotated with @Intercepted");
+            }
+            return new InterceptedMethod(methodName, chain);
+        }
+    }
+    
+    /**
+     * A service method with its interceptors bound, called from a decorator.
+     */
+    public final class InterceptedMethod {
+        private final String name;
+        private final ServiceInterceptor[] chain;
+        
+        private InterceptedMethod(String name, ServiceInterceptor[] chain) {
+            this.name = name;
+            this.chain = chain;
+        }
+        
+        /**
+         * Runs the interceptors around {@code call}. Checked exceptions thrown by an interceptor
+         * or the call are rethrown wrapped in a {@link RuntimeException}.
+         *
+         * @param target    the real service instance
+         * @param arguments the call arguments, exposed to interceptors; not copied
+         * @param call      invokes the real method
+         */
         @SuppressWarnings("unchecked")
-        public <T> T createProxy(Class<T> serviceType, T target, List<ServiceInterceptor> interceptorList) {
-            if (interceptorList.isEmpty()) {
+        public <R> R invoke(Object target, Object[] arguments, ServiceCall<R> call) {
+            long startTime = System.nanoTime();
+            totalServiceCalls.increment();
+            try {
+                return (R) new ChainedInvocation(target, name, arguments, chain, call).proceed();
+            } catch (RuntimeException | Error e) {
+                totalServiceFailures.increment();
+                throw e;
+            } catch (Throwable t) {
+                totalServiceFailures.increment();
+                throw new RuntimeException("Intercepted call failed: " + name, t);
+            } finally {
+                updateAverageServiceCallTime(System.nanoTime() - startTime);
+            }
+        }
+    }
+    
+    /**
+     * One invocation walking the interceptor array; each {@link #proceed()} advances a cursor
+     * instead of allocating a new invocation per interceptor.
+     */
+    private static final class ChainedInvocation extends ServiceInvocation {
+        private final ServiceInterceptor[] chain;
+        private final ServiceCall<?> call;
+        private int next;
+        
+        ChainedInvocation(Object target, String method, Object[] arguments, ServiceInterceptor[] chain,
+                          ServiceCall<?> call) {
+            super(target, method, arguments, false);
+            this.chain = chain;
+            this.call = call;
+        }
+        
+        @Override
+        public Object proceed() throws Throwable {
+            if (next < chain.length) {
+                return chain[next++].intercept(this);
+            }
+            return call.call();
+        }
+    }
+    
+    /**
+     * Binds service instances to their interceptors. Services without interceptors, or without
+     * {@link Intercepted} methods, are handed out as they are.
+     */
+    private class ServiceBinder {
+        private final Set<Class<?>> reportedUndecorated = ConcurrentHashMap.newKeySet();
+        
+        @SuppressWarnings("unchecked")
+        public <T> T bind(Class<T> serviceType, T target) {
+            List<ServiceInterceptor> interceptorList = interceptors.get(serviceType);
+            if (interceptorList == null || interceptorList.isEmpty()) {
                 return target;
             }
             
-            return (T) Proxy.newProxyInstance(
-                serviceType.getClassLoader(),
-                new Class<?>[]{serviceType},
-                (proxy, method, args) -> {
-                    long startTime = System.nanoTime();
-                    totalServiceCalls.increment();
-                    
-                    try {
-                        // Create invocation chain
-                        ServiceInvocation invocation = new ServiceInvocation(target, method.getName(), args);
-                        
-                        // Apply interceptors
-                        Object result = applyInterceptors(invocation, interceptorList, 0);
-                        if (result == null && invocation.getContext().containsKey("proceed")) {
-                            result = method.invoke(target, args);
-                        }
-                        
-                        return result;
-                        
-                    } catch (Exception e) {
-                        totalServiceFailures.increment();
-                        throw e;
-                    } finally {
-                        long executionTime = System.nanoTime() - startTime;
-                        updateAverageServiceCallTime(executionTime);
-                    }
+            Set<String> interceptedMethods = interceptedMethods(serviceType);
+            ServiceDecorator<T> decorator = (ServiceDecorator<T>) decorators.get(serviceType);
+            if (interceptedMethods.isEmpty() || decorator == null) {
+                if (reportedUndecorated.add(serviceType)) {
+                    logger.log(Level.FINE, "Interceptors registered for {0} but no @Intercepted methods or decorator; calls are direct",
+                            serviceType.getSimpleName());
                 }
-            );
+                return target;
+            }
+            
+            ServiceInterceptor[] chain = interceptorList.stream()
+                .sorted(Comparator.comparingInt(ServiceInterceptor::getPriority).reversed())
+                .toArray(ServiceInterceptor[]::new);
+            return Objects.requireNonNull(decorator.decorate(target, new InterceptorChain(serviceType, interceptedMethods, chain)),
+                    "Decorator returned null for " + serviceType.getSimpleName());
         }
         
-        private Object applyInterceptors(ServiceInvocation invocation, List<ServiceInterceptor> interceptorList, int index) throws Throwable {
-            if (index >= interceptorList.size()) {
-                invocation.getContext().put("proceed", true);
-                return null;
+        private Set<String> interceptedMethods(Class<?> serviceType) {
+            Set<String> names = new HashSet<>();
+            for (Method method : serviceType.getMethods()) {
+                if (method.isAnnotationPresent(Intercepted.class)) {
+                    names.add(method.getName());
+                }
             }
-            
-            ServiceInterceptor interceptor = interceptorList.get(index);
-            
-            // Override proceed method for this interceptor
-            ServiceInvocation chainedInvocation = new ServiceInvocation(invocation.getTarget(), invocation.getMethod(), invocation.getArguments()) {
-                @Override
-                public Object proceed() throws Throwable {
-                    return applyInterceptors(invocation, interceptorList, index + 1);
+            return Set.copyOf(names);
+        }
+    }
+    
+    /**
+     * The {@link PostConstruct} and {@link PreDestroy} methods of one class as method handles,
+     * so lifecycle callbacks are looked up once per class instead of once per instance.
+     */
+    private record LifecycleHooks(List<MethodHandle> postConstruct, List<MethodHandle> preDestroy) {
+        private static final MethodType HOOK_TYPE = MethodType.methodType(void.class, Object.class);
+        
+        static LifecycleHooks of(Class<?> type) {
+            List<MethodHandle> postConstruct = new ArrayList<>();
+            List<MethodHandle> preDestroy = new ArrayList<>();
+            for (Method method : type.getDeclaredMethods()) {
+                boolean post = method.isAnnotationPresent(PostConstruct.class);
+                boolean pre = method.isAnnotationPresent(PreDestroy.class);
+                if (!post && !pre) {
+                    continue;
                 }
-            };
-            
-            return interceptor.intercept(chainedInvocation);
+                if (method.getParameterCount() != 0) {
+                    logger.log(Level.WARNING, "Ignoring lifecycle method with parameters: {0}.{1}",
+                            new Object[]{type.getSimpleName(), method.getName()});
+                    continue;
+                }
+                MethodHandle handle = handle(method);
+                if (post) {
+                    postConstruct.add(handle);
+                }
+                if (pre) {
+                    preDestroy.add(handle);
+                }
+            }
+            return new LifecycleHooks(List.copyOf(postConstruct), List.copyOf(preDestroy));
+        }
+        
+        private static MethodHandle handle(Method method) {
+            try {
+                method.setAccessible(true);
+                MethodHandle handle = MethodHandles.lookup().unreflect(method);
+                if (Modifier.isStatic(method.getModifiers())) {
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+                return handle.asType(HOOK_TYPE);
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new IllegalStateException("Cannot bind lifecycle method " + method, e);
+            }
         }
     }
     
@@ -608,7 +798,7 @@ public class OptimizedServiceRegistry {
         
         // Initialize components that depend on lifecycleExecutor
         this.dependencyResolver = new DependencyResolver();
-        this.proxyFactory = new ServiceProxyFactory();
+        this.binder = new ServiceBinder();
         this.healthMonitor = new ServiceHealthMonitor();
         this.metricsCollector = new ServiceMetricsCollector();
         
@@ -768,15 +958,28 @@ public class OptimizedServiceRegistry {
     }
     
     /**
-     * Adds a service interceptor for cross-cutting concerns.
+     * Adds a service interceptor for cross-cutting concerns. It only applies to the
+     * {@link Intercepted} methods of services with a {@link ServiceDecorator}.
      */
     public void addInterceptor(Class<?> serviceType, ServiceInterceptor interceptor) {
         interceptors.computeIfAbsent(serviceType, k -> new CopyOnWriteArrayList<>()).add(interceptor);
         
-        // Re-create proxy if service is already running
+        // Rebind on the next lookup if the service is already running
+        ServiceRegistration<?> registration = services.get(serviceType);
+        if (registration != null) {
+            registration.setBound(null);
+        }
+    }
+    
+    /**
+     * Registers the decorator that weaves interceptors into {@code serviceType}.
+     */
+    public <T> void registerDecorator(Class<T> serviceType, ServiceDecorator<T> decorator) {
+        decorators.put(Objects.requireNonNull(serviceType), Objects.requireNonNull(decorator));
+        
         ServiceRegistration<?> registration = services.get(serviceType);
-        if (registration != null && registration.getInstance() != null) {
-            recreateServiceProxy(registration);
+        if (registration != null) {
+            registration.setBound(null);
         }
     }
     
@@ -902,7 +1105,7 @@ public class OptimizedServiceRegistry {
                     registration.getServiceType(), registration.getName(), registration.getScope(),
                     registration.getPriority(), registration.getInterfaces(), registration.getFactory());
                 createServiceInstance(prototypeRegistration);
-                return applyInterceptors(prototypeRegistration);
+                return binder.bind(prototypeRegistration.getServiceType(), prototypeRegistration.getInstance());
             }
             
             default -> {
@@ -937,17 +1140,20 @@ public class OptimizedServiceRegistry {
     }
     
     private <T> T applyInterceptors(ServiceRegistration<T> registration) {
+        T bound = registration.getBound();
+        if (bound != null) {
+            return bound;
+        }
+        
         T instance = registration.getInstance();
         if (instance == null) {
             return null;
         }
         
-        List<ServiceInterceptor> serviceInterceptors = interceptors.get(registration.getServiceType());
-        if (serviceInterceptors != null && !serviceInterceptors.isEmpty()) {
-            return (T) proxyFactory.createProxy(registration.getServiceType(), instance, serviceInterceptors);
-        }
-        
-        return instance;
+        // Bound once and reused until the interceptors, decorator or instance change
+        bound = binder.bind(registration.getServiceType(), instance);
+        registration.setBound(bound);
+        return bound;
     }
     
     // Implement performDependencyInjection
@@ -977,31 +1183,29 @@ public class OptimizedServiceRegistry {
     // Implement invokePostConstructMethods
     private void invokePostConstructMethods(Object instance) {
         try {
-            for (java.lang.reflect.Method method : instance.getClass().getDeclaredMethods()) {
-                if (method.isAnnotationPresent(PostConstruct.class)) {
-                    method.setAccessible(true);
-                    method.invoke(instance);
-                }
+            for (MethodHandle hook : lifecycleHooks(instance).postConstruct()) {
+                hook.invokeExact(instance);
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Post-construct failed for " + instance.getClass().getSimpleName(), e);
+        } catch (Throwable t) {
+            throw new RuntimeException("Post-construct failed for " + instance.getClass().getSimpleName(), t);
         }
     }
     
     // Implement invokePreDestroyMethods
     private void invokePreDestroyMethods(Object instance) {
         try {
-            for (java.lang.reflect.Method method : instance.getClass().getDeclaredMethods()) {
-                if (method.isAnnotationPresent(PreDestroy.class)) {
-                    method.setAccessible(true);
-                    method.invoke(instance);
-                }
+            for (MethodHandle hook : lifecycleHooks(instance).preDestroy()) {
+                hook.invokeExact(instance);
             }
-        } catch (Exception e) {
-            logger.log(Level.WARNING, "Pre-destroy failed for " + instance.getClass().getSimpleName(), e);
+        } catch (Throwable t) {
+            logger.log(Level.WARNING, "Pre-destroy failed for " + instance.getClass().getSimpleName(), t);
         }
     }
     
+    private LifecycleHooks lifecycleHooks(Object instance) {
+        return lifecycleHooks.computeIfAbsent(instance.getClass(), LifecycleHooks::of);
+    }
+    
     private void startService(ServiceRegistration<?> registration) {
         try {
             Object instance = registration.getInstance();
@@ -1037,15 +1241,6 @@ public class OptimizedServiceRegistry {
         }
     }
     
-    // Implement recreateServiceProxy
-    private <T> void recreateServiceProxy(ServiceRegistration<T> registration) {
-        List<ServiceInterceptor> serviceInterceptors = interceptors.get(registration.getServiceType());
-        if (serviceInterceptors != null) {
-            T proxy = proxyFactory.createProxy(registration.getServiceType(), registration.getInstance(), new ArrayList<>(serviceInterceptors));
-            registration.setInstance(proxy);
-        }
-    }
-    
     private ServiceRegistration<?> findRegistrationForInstance(Object instance) {
         return services.values().stream()
             .filter(reg -> reg.getInstance() == instance)
@@ -1,6 +1,7 @@
 package nl.wantedchef.empirewand.core.task;
 
 import nl.wantedchef.empirewand.core.util.AdvancedPerformanceMonitor;
+import nl.wantedchef.empirewand.core.util.AllocationProfiler;
 
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -55,6 +56,10 @@ public class AdvancedTaskManager {
     private final Plugin plugin;
     private static final Logger logger = Logger.getLogger(AdvancedTaskManager.class.getName());
     private final AdvancedPerformanceMonitor performanceMonitor;
+    private final AllocationProfiler allocationProfiler;
+
+    /** Report name of plain runnables scheduled without a name. */
+    static final String UNNAMED_TASK = "task";
     
     // Core task tracking
     private final Set<BukkitTask> activeBukkitTasks = ConcurrentHashMap.newKeySet();
@@ -303,7 +308,18 @@ public class AdvancedTaskManager {
     }
     
     public AdvancedTaskManager(Plugin plugin) {
+        this(plugin, null);
+    }
+
+    /**
+     * Creates a task manager whose synchronous Bukkit tasks are sampled by the given
+     * allocation profiler while profiling is enabled.
+     *
+     * @param allocationProfiler the profiler, or {@code null} to disable sampling
+     */
+    public AdvancedTaskManager(Plugin plugin, AllocationProfiler allocationProfiler) {
         this.plugin = Objects.requireNonNull(plugin);
+        this.allocationProfiler = allocationProfiler;
         this.performanceMonitor = new AdvancedPerformanceMonitor(plugin, logger);
         
         // Initialize rate limiter
@@ -469,7 +485,7 @@ public class AdvancedTaskManager {
      * Runs a task timer with tracking and monitoring.
      */
     public BukkitTask runTaskTimer(BukkitRunnable runnable, long delay, long period) {
-        BukkitTask task = runnable.runTaskTimer(plugin, delay, period);
+        BukkitTask task = profiled(runnable).runTaskTimer(plugin, delay, period);
         return registerTask(task);
     }
     
@@ -477,7 +493,15 @@ public class AdvancedTaskManager {
      * Runs a task timer with tracking and monitoring.
      */
     public BukkitTask runTaskTimer(Runnable runnable, long delay, long period) {
-        BukkitTask task = plugin.getServer().getScheduler().runTaskTimer(plugin, runnable, delay, period);
+        return runTaskTimer(UNNAMED_TASK, runnable, delay, period);
+    }
+
+    /**
+     * Runs a task timer with tracking, sampled under {@code name} while allocation profiling is on.
+     */
+    public BukkitTask runTaskTimer(String name, Runnable runnable, long delay, long period) {
+        BukkitTask task = plugin.getServer().getScheduler().runTaskTimer(plugin, profiled(name, runnable), delay,
+                period);
         return registerTask(task);
     }
     
@@ -485,7 +509,7 @@ public class AdvancedTaskManager {
      * Runs a delayed task with tracking.
      */
     public BukkitTask runTaskLater(BukkitRunnable runnable, long delay) {
-        BukkitTask task = runnable.runTaskLater(plugin, delay);
+        BukkitTask task = profiled(runnable).runTaskLater(plugin, delay);
         return registerTask(task);
     }
     
@@ -493,7 +517,14 @@ public class AdvancedTaskManager {
      * Runs a delayed task with tracking.
      */
     public BukkitTask runTaskLater(Runnable runnable, long delay) {
-        BukkitTask task = plugin.getServer().getScheduler().runTaskLater(plugin, runnable, delay);
+        return runTaskLater(UNNAMED_TASK, runnable, delay);
+    }
+
+    /**
+     * Runs a delayed task with tracking, sampled under {@code name} while allocation profiling is on.
+     */
+    public BukkitTask runTaskLater(String name, Runnable runnable, long delay) {
+        BukkitTask task = plugin.getServer().getScheduler().runTaskLater(plugin, profiled(name, runnable), delay);
         return registerTask(task);
     }
     
@@ -501,7 +532,7 @@ public class AdvancedTaskManager {
      * Runs an immediate task with tracking.
      */
     public BukkitTask runTask(BukkitRunnable runnable) {
-        BukkitTask task = runnable.runTask(plugin);
+        BukkitTask task = profiled(runnable).runTask(plugin);
         return registerTask(task);
     }
 
@@ -559,9 +590,38 @@ public class AdvancedTaskManager {
      * Runs an immediate task with tracking.
      */
     public BukkitTask runTask(Runnable runnable) {
-        BukkitTask task = plugin.getServer().getScheduler().runTask(plugin, runnable);
+        return runTask(UNNAMED_TASK, runnable);
+    }
+
+    /**
+     * Runs an immediate task with tracking, sampled under {@code name} while allocation profiling is on.
+     */
+    public BukkitTask runTask(String name, Runnable runnable) {
+        BukkitTask task = plugin.getServer().getScheduler().runTask(plugin, profiled(name, runnable));
         return registerTask(task);
     }
+
+    /**
+     * Wraps a synchronous task so each run is charged to the spell that was being cast when it
+     * was scheduled. Returns the runnable unchanged while profiling is off.
+     */
+    private Runnable profiled(String name, Runnable runnable) {
+        if (allocationProfiler == null || !allocationProfiler.isEnabled()) {
+            return runnable;
+        }
+        return allocationProfiler.wrap(allocationProfiler.currentSpell(), name, runnable);
+    }
+
+    /**
+     * Attaches the profiler to a {@link ProfiledTask}, which samples its own runs; other
+     * {@link BukkitRunnable}s are only covered by the sample of the cast that scheduled them.
+     */
+    private <R extends BukkitRunnable> R profiled(R runnable) {
+        if (runnable instanceof ProfiledTask task && allocationProfiler != null && allocationProfiler.isEnabled()) {
+            task.attach(allocationProfiler, allocationProfiler.currentSpell());
+        }
+        return runnable;
+    }
     
     /**
      * Creates a task group with specified concurrency limits.
@@ -0,0 +1,59 @@
+package nl.wantedchef.empirewand.core.task;
+
+import nl.wantedchef.empirewand.core.util.AllocationProfiler;
+
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.Objects;
+
+/**
+ * {@link BukkitRunnable} whose runs are sampled by the {@link AllocationProfiler} when it is
+ * scheduled through the {@link TaskManager} while profiling is enabled.
+ * <p>
+ * Subclasses implement {@link #tick()} instead of {@code run()}. The task keeps the Bukkit task
+ * it was scheduled as, so {@code cancel()}, {@code isCancelled()} and {@code getTaskId()} work as
+ * for any other {@code BukkitRunnable}. Runs are charged to the spell that was being cast when the
+ * task was scheduled, under the name given to the constructor.
+ */
+public abstract class ProfiledTask extends BukkitRunnable {
+
+    private final String name;
+    private volatile AllocationProfiler profiler;
+    private volatile String spellKey;
+
+    /**
+     * @param name the task name shown in the allocation report, such as {@code "shockwave"}
+     */
+    protected ProfiledTask(String name) {
+        this.name = Objects.requireNonNull(name, "name");
+    }
+
+    /**
+     * Samples each run with {@code profiler}, charged to {@code spellKey}.
+     */
+    void attach(AllocationProfiler profiler, String spellKey) {
+        this.spellKey = spellKey;
+        this.profiler = profiler;
+    }
+
+    @Override
+    public final void run() {
+        AllocationProfiler current = profiler;
+        if (current == null) {
+            tick();
+            return;
+        }
+        try (AllocationProfiler.Sample sample = current.begin(spellKey, name)) {
+            tick();
+        }
+    }
+
+    /**
+     * Runs the task once.
+     */
+    protected abstract void tick();
+
+    public String getName() {
+        return name;
+    }
+}
@@ -1,5 +1,7 @@
 package nl.wantedchef.empirewand.core.task;
 
+import nl.wantedchef.empirewand.core.util.AllocationProfiler;
+
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
@@ -14,8 +16,16 @@ public class TaskManager {
     private final AdvancedTaskManager delegate;
 
     public TaskManager(Plugin plugin) {
+        this(plugin, null);
+    }
+
+    /**
+     * @param allocationProfiler profiler that samples synchronous tasks while enabled, or
+     *                           {@code null}
+     */
+    public TaskManager(Plugin plugin, AllocationProfiler allocationProfiler) {
         Objects.requireNonNull(plugin, "plugin");
-        this.delegate = new AdvancedTaskManager(plugin);
+        this.delegate = new AdvancedTaskManager(plugin, allocationProfiler);
     }
 
     /** Register a task for tracking */
@@ -57,6 +67,11 @@ public class TaskManager {
         return delegate.runTaskTimer(runnable, delay, period);
     }
 
+    /** Like {@link #runTaskTimer(Runnable, long, long)}, listed as {@code name} in the allocation report */
+    public BukkitTask runTaskTimer(String name, Runnable runnable, long delay, long period) {
+        return delegate.runTaskTimer(name, runnable, delay, period);
+    }
+
     public BukkitTask runTaskLater(BukkitRunnable runnable, long delay) {
         return delegate.runTaskLater(runnable, delay);
     }
@@ -65,6 +80,11 @@ public class TaskManager {
         return delegate.runTaskLater(runnable, delay);
     }
 
+    /** Like {@link #runTaskLater(Runnable, long)}, listed as {@code name} in the allocation report */
+    public BukkitTask runTaskLater(String name, Runnable runnable, long delay) {
+        return delegate.runTaskLater(name, runnable, delay);
+    }
+
     public BukkitTask runTask(BukkitRunnable runnable) {
         return delegate.runTask(runnable);
     }
@@ -73,6 +93,11 @@ public class TaskManager {
         return delegate.runTask(runnable);
     }
 
+    /** Like {@link #runTask(Runnable)}, listed as {@code name} in the allocation report */
+    public BukkitTask runTask(String name, Runnable runnable) {
+        return delegate.runTask(name, runnable);
+    }
+
     // Scheduling APIs (async)
     public BukkitTask runTaskTimerAsynchronously(BukkitRunnable runnable, long delay, long period) {
         return delegate.runTaskTimerAsynchronously(runnable, delay, period);
@@ -0,0 +1,268 @@
+package nl.wantedchef.empirewand.core.text;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A message compiled once into a ready-to-send form with indexed placeholder slots.
+ * <p>
+ * {@code {name}} markers become slots, numbered in order of first appearance. Messages without
+ * MiniMessage tags are kept as literal segments and render into a single text component. Tagged
+ * messages are parsed once with a private-use character standing in for each slot; rendering
+ * walks the parsed tree and swaps those characters for the slot values, so values keep the style
+ * around their marker and are never parsed themselves. Messages without slots render to the same
+ * prebuilt component every time. Templates are immutable and safe to share between threads.
+ */
+public final class MessageTemplate {
+
+    private static final MiniMessage MINI_MESSAGE = MiniMessage.miniMessage();
+    private static final char SLOT_BASE = '\uE000';
+    private static final int MAX_SLOTS = 256;
+
+    private final String raw;
+    private final String[] names;
+    // Plain templates: literals[i] precedes the slot at occurrences[i]
+    private final String[] literals;
+    private final int[] occurrences;
+    // Tagged templates with slots: the parsed tree containing slot characters
+    private final Component tree;
+    // Constant templates: the rendered message
+    private final Component constant;
+
+    private MessageTemplate(String raw, String[] names, String[] literals, int[] occurrences, Component tree,
+            Component constant) {
+        this.raw = raw;
+        this.names = names;
+        this.literals = literals;
+        this.occurrences = occurrences;
+        this.tree = tree;
+        this.constant = constant;
+    }
+
+    /**
+     * Compiles a message with {@code {name}} placeholders and optional MiniMessage tags.
+     */
+    public static MessageTemplate compile(String raw) {
+        String source = raw == null ? "" : raw;
+        List<String> names = new ArrayList<>();
+        List<String> literals = new ArrayList<>();
+        List<Integer> occurrences = new ArrayList<>();
+        StringBuilder marked = new StringBuilder(source.length());
+
+        int literalStart = 0;
+        int i = 0;
+        while (i < source.length()) {
+            int close = source.charAt(i) == '{' ? slotEnd(source, i) : -1;
+            if (close < 0) {
+                marked.append(source.charAt(i++));
+                continue;
+            }
+            String name = source.substring(i + 1, close);
+            int slot = names.indexOf(name);
+            if (slot < 0) {
+                if (names.size() == MAX_SLOTS) {
+                    marked.append(source.charAt(i++));
+                    continue;
+                }
+                names.add(name);
+                slot = names.size() - 1;
+            }
+            literals.add(source.substring(literalStart, i));
+            occurrences.add(slot);
+            marked.append((char) (SLOT_BASE + slot));
+            i = close + 1;
+            literalStart = i;
+        }
+        literals.add(source.substring(literalStart));
+
+        String[] nameArray = names.toArray(new String[0]);
+        boolean tagged = source.indexOf('<') >= 0;
+        if (names.isEmpty()) {
+            Component constant = tagged ? MINI_MESSAGE.deserialize(source) : Component.text(source);
+            return new MessageTemplate(source, nameArray, null, null, null, constant);
+        }
+        if (tagged) {
+            return new MessageTemplate(source, nameArray, null, null, MINI_MESSAGE.deserialize(marked.toString()),
+                    null);
+        }
+        return new MessageTemplate(source, nameArray, literals.toArray(new String[0]),
+                occurrences.stream().mapToInt(Integer::intValue).toArray(), null, null);
+    }
+
+    private static int slotEnd(String source, int open) {
+        for (int i = open + 1; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '}') {
+                return i > open + 1 ? i : -1;
+            }
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the message this template was compiled from
+     */
+    public String raw() {
+        return raw;
+    }
+
+    /**
+     * @return whether the message has nothing worth sending
+     */
+    public boolean isBlank() {
+        return raw.isBlank();
+    }
+
+    /**
+     * @return the number of distinct placeholders
+     */
+    public int slotCount() {
+        return names.length;
+    }
+
+    /**
+     * @return the slot index of placeholder {@code name}, or -1 when the message does not use it
+     */
+    public int slot(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Renders with every placeholder left as written.
+     */
+    public Component render() {
+        return renderSlots(new String[names.length]);
+    }
+
+    /**
+     * Renders with slot values by index; missing or null values leave the placeholder as written.
+     */
+    public Component renderSlots(String... values) {
+        if (constant != null) {
+            return constant;
+        }
+        if (tree != null) {
+            return fill(tree, values);
+        }
+        StringBuilder text = new StringBuilder(raw.length() + 16);
+        for (int i = 0; i < occurrences.length; i++) {
+            text.append(literals[i]);
+            appendValue(text, occurrences[i], values);
+        }
+        text.append(literals[occurrences.length]);
+        return Component.text(text.toString());
+    }
+
+    /**
+     * Renders a single named placeholder.
+     */
+    public Component render(String name, String value) {
+        if (constant != null) {
+            return constant;
+        }
+        String[] values = new String[names.length];
+        set(values, name, value);
+        return renderSlots(values);
+    }
+
+    /**
+     * Renders two named placeholders.
+     */
+    public Component render(String name1, String value1, String name2, String value2) {
+        if (constant != null) {
+            return constant;
+        }
+        String[] values = new String[names.length];
+        set(values, name1, value1);
+        set(values, name2, value2);
+        return renderSlots(values);
+    }
+
+    /**
+     * Renders named placeholders from a map; keys the message does not use are ignored.
+     */
+    public Component render(Map<String, String> placeholders) {
+        if (constant != null || placeholders == null || placeholders.isEmpty()) {
+            return render();
+        }
+        String[] values = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            String value = placeholders.get(names[i]);
+            // An explicit null was replaced with nothing by the old string substitution
+            values[i] = value != null || !placeholders.containsKey(names[i]) ? value : "";
+        }
+        return renderSlots(values);
+    }
+
+    private void set(String[] values, String name, String value) {
+        int slot = slot(name);
+        if (slot >= 0) {
+            values[slot] = value;
+        }
+    }
+
+    private void appendValue(StringBuilder text, int slot, String[] values) {
+        String value = slot < values.length ? values[slot] : null;
+        if (value != null) {
+            text.append(value);
+        } else {
+            text.append('{').append(names[slot]).append('}');
+        }
+    }
+
+    private Component fill(Component node, String[] values) {
+        Component result = node;
+        if (node instanceof TextComponent text && hasSlot(text.content())) {
+            String content = text.content();
+            StringBuilder filled = new StringBuilder(content.length() + 16);
+            for (int i = 0; i < content.length(); i++) {
+                char c = content.charAt(i);
+                int slot = c - SLOT_BASE;
+                if (slot >= 0 && slot < names.length) {
+                    appendValue(filled, slot, values);
+                } else {
+                    filled.append(c);
+                }
+            }
+            result = text.content(filled.toString());
+        }
+
+        List<Component> children = node.children();
+        Component[] filledChildren = null;
+        for (int i = 0; i < children.size(); i++) {
+            Component child = children.get(i);
+            Component filledChild = fill(child, values);
+            if (filledChild != child) {
+                if (filledChildren == null) {
+                    filledChildren = children.toArray(new Component[0]);
+                }
+                filledChildren[i] = filledChild;
+            }
+        }
+        return filledChildren == null ? result : result.children(Arrays.asList(filledChildren));
+    }
+
+    private boolean hasSlot(String content) {
+        for (int i = 0; i < content.length(); i++) {
+            int slot = content.charAt(i) - SLOT_BASE;
+            if (slot >= 0 && slot < names.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
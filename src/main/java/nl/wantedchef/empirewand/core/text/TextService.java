@@ -9,6 +9,7 @@ import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -22,6 +23,7 @@ public class TextService {
     private static final Pattern MINI_TAG_PATTERN = Pattern.compile("<[^>]+>");
 
     private final ResourceBundle messages;
+    private final Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
 
     /**
      * Creates a TextService with default locale (English).
@@ -75,6 +77,9 @@ public class TextService {
         if (text == null) {
             return "";
         }
+        if (text.indexOf('<') < 0) {
+            return text;
+        }
         return MINI_TAG_PATTERN.matcher(text).replaceAll("");
     }
 
@@ -156,6 +161,24 @@ public class TextService {
         return applyPlaceholders(message, placeholders);
     }
 
+    /**
+     * Gets the compiled template for a message key. Templates are compiled on first use and
+     * kept until {@link #clearTemplates()}.
+     *
+     * @param key the message key
+     * @return the compiled template
+     */
+    public MessageTemplate getTemplate(String key) {
+        return templates.computeIfAbsent(key, k -> MessageTemplate.compile(getMessage(k)));
+    }
+
+    /**
+     * Drops all compiled templates, so messages are compiled again on next use.
+     */
+    public void clearTemplates() {
+        templates.clear();
+    }
+
     /**
      * Applies placeholders to a template string.
      *
@@ -180,15 +203,15 @@ public class TextService {
 
     /**
      * Formats a message key with placeholders and converts to Component.
-     * Uses localized messages from ResourceBundle.
+     * Uses the compiled template of the localized message, so nothing is parsed per call and
+     * placeholder values are inserted as plain text.
      *
      * @param messageKey the message key
      * @param placeholders the placeholder map
      * @return the formatted Component
      */
     public Component formatMessage(String messageKey, Map<String, String> placeholders) {
-        String message = getMessage(messageKey, placeholders);
-        return parseMiniMessage(message);
+        return getTemplate(messageKey).render(placeholders);
     }
 
     /**
@@ -0,0 +1,312 @@
+package nl.wantedchef.empirewand.core.util;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Opt-in allocation profiler that attributes heap allocations to spells.
+ * <p>
+ * Each sample reads the current thread's allocated-bytes counter
+ * ({@code com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes}) before and after a
+ * unit of work and charges the difference to a spell key and task name. Casts are sampled under
+ * the task name {@code "cast"}. Synchronous tasks scheduled through the
+ * {@link nl.wantedchef.empirewand.core.task.TaskManager} are charged to the spell that was being
+ * cast when they were scheduled: plain runnables under the name passed when scheduling them, or
+ * {@code "task"} without one, and {@link nl.wantedchef.empirewand.core.task.ProfiledTask}s under
+ * their own name. Other {@code BukkitRunnable}s are only covered by the cast sample.
+ * <p>
+ * Profiling is disabled by default. While disabled, {@link #begin(String, String)} returns a
+ * shared no-op sample and {@link #wrap(String, String, Runnable)} returns the runnable itself.
+ */
+public class AllocationProfiler {
+
+    /** Spell key used for work that was not scheduled from inside a spell cast. */
+    public static final String UNATTRIBUTED = "plugin";
+
+    private static final int MAX_KEYS = 1000;
+    private static final DateTimeFormatter EXPORT_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Logger logger;
+    private final com.sun.management.ThreadMXBean threads;
+    private final Map<String, Map<String, Counters>> stats = new ConcurrentHashMap<>();
+    private final ThreadLocal<String> currentSpell = new ThreadLocal<>();
+    private volatile boolean enabled;
+    private volatile long enabledAtMillis;
+
+    public AllocationProfiler(Logger logger) {
+        if (logger == null) {
+            throw new IllegalArgumentException("Logger cannot be null");
+        }
+        this.logger = logger;
+        this.threads = resolveThreadBean();
+    }
+
+    private static com.sun.management.ThreadMXBean resolveThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            return bean;
+        }
+        return null;
+    }
+
+    /**
+     * @return whether this JVM can report per-thread allocations
+     */
+    public boolean isSupported() {
+        return threads != null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables sampling. Enabling has no effect on JVMs without per-thread
+     * allocation accounting.
+     *
+     * @return the resulting enabled state
+     */
+    public boolean setEnabled(boolean enabled) {
+        if (enabled && threads == null) {
+            logger.warning("[ALLOC] Per-thread allocation accounting is not supported by this JVM");
+            return false;
+        }
+        if (enabled && !threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        if (enabled && !this.enabled) {
+            enabledAtMillis = System.currentTimeMillis();
+        }
+        this.enabled = enabled;
+        return this.enabled;
+    }
+
+    /**
+     * Clears all recorded samples.
+     */
+    public void reset() {
+        stats.clear();
+        enabledAtMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Starts a sample charged to {@code spellKey}/{@code task}. While the sample is open,
+     * {@link #currentSpell()} reports {@code spellKey} on this thread so that tasks scheduled
+     * from inside the work inherit the attribution.
+     */
+    public Sample begin(String spellKey, String task) {
+        if (!enabled) {
+            return Sample.NOOP;
+        }
+        String key = spellKey == null ? UNATTRIBUTED : spellKey;
+        String previous = currentSpell.get();
+        currentSpell.set(key);
+        return new Sample(this, key, task, previous, threads.getCurrentThreadAllocatedBytes(), System.nanoTime());
+    }
+
+    /**
+     * Wraps {@code work} so that every run is sampled. Returns {@code work} unchanged while
+     * profiling is disabled.
+     */
+    public Runnable wrap(String spellKey, String task, Runnable work) {
+        if (!enabled) {
+            return work;
+        }
+        return () -> {
+            try (Sample sample = begin(spellKey, task)) {
+                work.run();
+            }
+        };
+    }
+
+    /**
+     * @return the spell key of the innermost open sample on this thread, or
+     *         {@link #UNATTRIBUTED}
+     */
+    public String currentSpell() {
+        String key = currentSpell.get();
+        return key == null ? UNATTRIBUTED : key;
+    }
+
+    private void finish(Sample sample) {
+        long bytes = threads.getCurrentThreadAllocatedBytes() - sample.startBytes;
+        long nanos = System.nanoTime() - sample.startNanos;
+        if (sample.previousSpell == null) {
+            currentSpell.remove();
+        } else {
+            currentSpell.set(sample.previousSpell);
+        }
+        if (bytes < 0 || !enabled) {
+            return;
+        }
+        Map<String, Counters> tasks = stats.get(sample.spellKey);
+        if (tasks == null) {
+            if (stats.size() >= MAX_KEYS) {
+                return;
+            }
+            tasks = stats.computeIfAbsent(sample.spellKey, k -> new ConcurrentHashMap<>());
+        }
+        Counters counters = tasks.get(sample.task);
+        if (counters == null) {
+            if (tasks.size() >= MAX_KEYS) {
+                return;
+            }
+            counters = tasks.computeIfAbsent(sample.task, k -> new Counters());
+        }
+        counters.record(bytes, nanos);
+    }
+
+    /**
+     * @return one entry per spell/task pair, sorted by total allocated bytes, largest first
+     */
+    public List<Entry> snapshot() {
+        List<Entry> entries = new ArrayList<>();
+        stats.forEach((spell, tasks) -> tasks.forEach((task, c) -> entries.add(new Entry(spell, task,
+                c.runs.sum(), c.bytes.sum(), c.maxBytes.get(), c.nanos.sum()))));
+        entries.sort(Comparator.comparingLong(Entry::totalBytes).reversed());
+        return entries;
+    }
+
+    /**
+     * @return total allocated bytes per spell key, sorted largest first
+     */
+    public Map<String, Long> totalsBySpell() {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        snapshot().forEach(entry -> totals.merge(entry.spellKey(), entry.totalBytes(), Long::sum));
+        List<Map.Entry<String, Long>> sorted = new ArrayList<>(totals.entrySet());
+        sorted.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        Map<String, Long> result = new LinkedHashMap<>();
+        sorted.forEach(e -> result.put(e.getKey(), e.getValue()));
+        return result;
+    }
+
+    /**
+     * @return the wall-clock window the current samples cover, in milliseconds
+     */
+    public long getWindowMillis() {
+        return enabledAtMillis == 0 ? 0 : System.currentTimeMillis() - enabledAtMillis;
+    }
+
+    /**
+     * Formats the current samples as JSON.
+     */
+    public String toJson() {
+        StringBuilder out = new StringBuilder(256);
+        out.append("{\n  \"enabled\": ").append(enabled);
+        out.append(",\n  \"windowMillis\": ").append(getWindowMillis());
+        out.append(",\n  \"spells\": {");
+        boolean first = true;
+        for (Map.Entry<String, Long> total : totalsBySpell().entrySet()) {
+            out.append(first ? "\n" : ",\n");
+            first = false;
+            out.append("    \"").append(escape(total.getKey())).append("\": ").append(total.getValue());
+        }
+        out.append(first ? "},\n" : "\n  },\n");
+        out.append("  \"entries\": [");
+        first = true;
+        for (Entry entry : snapshot()) {
+            out.append(first ? "\n" : ",\n");
+            first = false;
+            out.append(String.format(Locale.ROOT,
+                    "    {\"spell\": \"%s\", \"task\": \"%s\", \"runs\": %d, \"totalBytes\": %d, "
+                            + "\"avgBytes\": %d, \"maxBytes\": %d, \"avgNanos\": %d}",
+                    escape(entry.spellKey()), escape(entry.task()), entry.runs(), entry.totalBytes(),
+                    entry.averageBytes(), entry.maxBytes(), entry.averageNanos()));
+        }
+        out.append(first ? "]\n}\n" : "\n  ]\n}\n");
+        return out.toString();
+    }
+
+    /**
+     * Writes {@link #toJson()} to {@code profiling/allocations-<timestamp>.json} below
+     * {@code dataFolder}.
+     *
+     * @return the written file
+     */
+    public Path export(Path dataFolder) throws IOException {
+        Path directory = dataFolder.resolve("profiling");
+        Files.createDirectories(directory);
+        Path file = directory.resolve("allocations-" + LocalDateTime.now().format(EXPORT_NAME) + ".json");
+        Files.writeString(file, toJson(), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static final class Counters {
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final AtomicLong maxBytes = new AtomicLong();
+
+        void record(long allocated, long elapsedNanos) {
+            runs.increment();
+            bytes.add(allocated);
+            nanos.add(elapsedNanos);
+            maxBytes.accumulateAndGet(allocated, Math::max);
+        }
+    }
+
+    /**
+     * Aggregated samples for one spell/task pair.
+     */
+    public record Entry(String spellKey, String task, long runs, long totalBytes, long maxBytes, long totalNanos) {
+
+        public long averageBytes() {
+            return runs == 0 ? 0 : totalBytes / runs;
+        }
+
+        public long averageNanos() {
+            return runs == 0 ? 0 : totalNanos / runs;
+        }
+    }
+
+    /**
+     * An open sample; closing it records the allocation delta.
+     */
+    public static final class Sample implements AutoCloseable {
+
+        static final Sample NOOP = new Sample(null, null, null, null, 0L, 0L);
+
+        private final AllocationProfiler owner;
+        private final String spellKey;
+        private final String task;
+        private final String previousSpell;
+        private final long startBytes;
+        private final long startNanos;
+
+        private Sample(AllocationProfiler owner, String spellKey, String task, String previousSpell,
+                long startBytes, long startNanos) {
+            this.owner = owner;
+            this.spellKey = spellKey;
+            this.task = task;
+            this.previousSpell = previousSpell;
+            this.startBytes = startBytes;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (owner != null) {
+                owner.finish(this);
+            }
+        }
+    }
+}
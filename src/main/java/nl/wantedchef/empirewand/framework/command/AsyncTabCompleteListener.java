@@ -0,0 +1,72 @@
+package nl.wantedchef.empirewand.framework.command;
+
+import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves wand command tab completion from Paper's {@link AsyncTabCompleteEvent}, so typing
+ * {@code /ew bind fi} never costs the main thread anything. Arguments that need the main thread
+ * are left unhandled and fall through to the regular {@link BaseWandCommand#onTabComplete}.
+ */
+public final class AsyncTabCompleteListener implements Listener {
+
+    private final Map<String, BaseWandCommand> commands = new ConcurrentHashMap<>();
+
+    /**
+     * Serves the command and all of its aliases.
+     */
+    public void register(@NotNull PluginCommand command, @NotNull BaseWandCommand executor) {
+        commands.put(command.getName().toLowerCase(Locale.ROOT), executor);
+        for (String alias : command.getAliases()) {
+            commands.put(alias.toLowerCase(Locale.ROOT), executor);
+        }
+    }
+
+    /**
+     * Rebuilds the completion indexes of every served command, e.g. after a config reload
+     * renamed spells or categories.
+     */
+    public void invalidateCaches() {
+        Set<BaseWandCommand> executors = Collections.newSetFromMap(new IdentityHashMap<>());
+        executors.addAll(commands.values());
+        executors.forEach(BaseWandCommand::invalidateCaches);
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void onAsyncTabComplete(AsyncTabCompleteEvent event) {
+        if (event.isHandled() || !event.isCommand()) {
+            return;
+        }
+        String buffer = event.getBuffer();
+        int start = buffer.startsWith("/") ? 1 : 0;
+        int space = buffer.indexOf(' ', start);
+        if (space < 0) {
+            // Still typing the label
+            return;
+        }
+        String label = buffer.substring(start, space).toLowerCase(Locale.ROOT);
+        int namespace = label.indexOf(':');
+        BaseWandCommand command = commands.get(namespace < 0 ? label : label.substring(namespace + 1));
+        if (command == null) {
+            return;
+        }
+
+        String[] args = buffer.substring(space + 1).split(" ", -1);
+        List<String> completions = command.completeAsync(event.getSender(), args);
+        if (completions != null) {
+            event.setCompletions(completions);
+            event.setHandled(true);
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package nl.wantedchef.empirewand.framework.command;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.bukkit.Material;
 import org.bukkit.command.Command;
@@ -17,7 +17,9 @@ import org.jetbrains.annotations.Nullable;
 import net.kyori.adventure.text.Component;
 import nl.wantedchef.empirewand.EmpireWandPlugin;
 import nl.wantedchef.empirewand.command.admin.CooldownCommand;
+import nl.wantedchef.empirewand.command.admin.DebugCommand;
 import nl.wantedchef.empirewand.command.admin.MigrateCommand;
+import nl.wantedchef.empirewand.command.admin.PerformanceCommand;
 import nl.wantedchef.empirewand.command.admin.ReloadCommand;
 import nl.wantedchef.empirewand.command.wand.BindAllCommand;
 import nl.wantedchef.empirewand.command.wand.BindCategoryCommand;
@@ -37,6 +39,7 @@ import nl.wantedchef.empirewand.framework.command.util.CommandCache;
 import nl.wantedchef.empirewand.framework.command.util.CommandErrorHandler;
 
 import nl.wantedchef.empirewand.framework.command.util.CommandPerformanceMonitor;
+import nl.wantedchef.empirewand.framework.command.util.CompletionIndex;
 import nl.wantedchef.empirewand.framework.command.util.HelpCommand;
 import nl.wantedchef.empirewand.framework.command.util.InteractiveHelpProvider;
 import nl.wantedchef.empirewand.framework.command.util.SmartTabCompleter;
@@ -55,6 +58,7 @@ public abstract class BaseWandCommand implements CommandExecutor, TabCompleter {
     private final SmartTabCompleter smartTabCompleter;
     private final Map<String, SubCommand> subcommands = new LinkedHashMap<>();
     private final Map<String, SubCommand> aliases = new HashMap<>();
+    private volatile CompletionIndex subcommandIndex = CompletionIndex.empty();
 
     protected BaseWandCommand(EmpireWandPlugin plugin) {
         this.plugin = plugin;
@@ -67,7 +71,7 @@ public abstract class BaseWandCommand implements CommandExecutor, TabCompleter {
         this.isInitialized = false;
     }
 
-    private boolean isInitialized = false;
+    private volatile boolean isInitialized = false;
 
     /**
      * Initialize the command system. This must be called after construction but before using the
@@ -84,6 +88,7 @@ public abstract class BaseWandCommand implements CommandExecutor, TabCompleter {
         register(new HelpCommand(getPermissionPrefix(), getPermissionPrefix(), subcommands,
                 aliases));
 
+        rebuildCompletionIndexes();
         isInitialized = true;
     }
 
@@ -130,6 +135,8 @@ public abstract class BaseWandCommand implements CommandExecutor, TabCompleter {
         // System commands
         register(new ReloadCommand(prefix));
         register(new MigrateCommand(prefix));
+        register(new PerformanceCommand(prefix, this));
+        register(new DebugCommand(prefix));
 
         // Cooldown management
         register(new CooldownCommand(prefix));
@@ -264,42 +271,8 @@ public abstract class BaseWandCommand implements CommandExecutor, TabCompleter {
         ensureInitialized();
 
         if (args.length == 1) {
-            // Complete subcommand names with smart completion
-            String partial = args[0].toLowerCase();
-            
-            // Check cache first
-            List<String> cached = commandCache.getCachedTabCompletion(partial, args);
-            if (cached != null) {
-                return cached;
-            }
-            
-            List<String> completions = subcommands.keySet().stream()
-                .filter(name -> {
-                    SubCommand sub = subcommands.get(name);
-                    String perm = sub.getPermission();
-
-                    // If no permission is required, allow access
-                    if (perm == null) {
-                        return true;
-                    }
-
-                    // Use cached permission if available
-                    Boolean cachedPerm = commandCache.getCachedPermission(sender, perm);
-                    if (cachedPerm != null) {
-                        return cachedPerm;
-                    } else {
-                        boolean hasPermission = plugin.getPermissionService().has(sender, perm);
-                        commandCache.cachePermission(sender, perm, hasPermission);
-                        return hasPermission;
-                    }
-                })
-                .filter(name -> name.toLowerCase().startsWith(partial))
-                .sorted()
-                .collect(Collectors.toList());
-                
-            // Cache the results
-            commandCache.cacheTabCompletion(partial, args, completions);
-            return completions;
+            // Complete subcommand names from the prebuilt index
+            return getSubcommandCompletions(sender, args[0]);
         }
 
         if (args.length > 1) {
@@ -336,6 +309,59 @@ public abstract class BaseWandCommand implements CommandExecutor, TabCompleter {
         return List.of();
     }
 
+    /**
+     * Tab completion for {@code AsyncTabCompleteEvent}. Only answers from the prebuilt
+     * completion indexes, so it is safe to call off the main thread.
+     *
+     * @param sender The command sender
+     * @param args The arguments typed after the label, the last one possibly empty
+     * @return the completions, or {@code null} when completing needs the main thread
+     */
+    @Nullable
+    public List<String> completeAsync(@NotNull CommandSender sender, @NotNull String[] args) {
+        if (!isInitialized || args.length == 0) {
+            return null;
+        }
+        if (args.length == 1) {
+            return getSubcommandCompletions(sender, args[0]);
+        }
+        String subCommandName = args[0].toLowerCase();
+        SubCommand subCommand = subcommands.get(subCommandName);
+        if (subCommand == null) {
+            subCommand = aliases.get(subCommandName);
+        }
+        if (subCommand == null) {
+            return List.of();
+        }
+        return smartTabCompleter.getIndexedCompletions(sender, subCommand, args, args[args.length - 1]);
+    }
+
+    private List<String> getSubcommandCompletions(CommandSender sender, String partial) {
+        List<String> completions = new ArrayList<>();
+        for (String name : subcommandIndex.complete(partial, Integer.MAX_VALUE)) {
+            String perm = subcommands.get(name).getPermission();
+            if (perm == null || hasCachedPermission(sender, perm)) {
+                completions.add(name);
+            }
+        }
+        return completions;
+    }
+
+    private boolean hasCachedPermission(CommandSender sender, String permission) {
+        Boolean cachedPerm = commandCache.getCachedPermission(sender, permission);
+        if (cachedPerm != null) {
+            return cachedPerm;
+        }
+        boolean hasPermission = plugin.getPermissionService().has(sender, permission);
+        commandCache.cachePermission(sender, permission, hasPermission);
+        return hasPermission;
+    }
+
+    private void rebuildCompletionIndexes() {
+        subcommandIndex = CompletionIndex.builder().addAll(subcommands.keySet()).build();
+        smartTabCompleter.rebuildIndexes();
+    }
+
     private CommandContext createContext(CommandSender sender, String[] args) {
         return new CommandContext(plugin, sender, args, plugin.getConfigService(),
                 plugin.getFxService(), plugin.getSpellRegistry(), plugin.getWandService(),
@@ -410,10 +436,14 @@ public abstract class BaseWandCommand implements CommandExecutor, TabCompleter {
     }
     
     /**
-     * Invalidates all caches. Useful when permissions change or plugin reloads.
+     * Invalidates all caches and rebuilds the completion indexes. Useful when permissions
+     * change or plugin reloads.
      */
     public void invalidateCaches() {
         commandCache.invalidateAll();
+        if (isInitialized) {
+            rebuildCompletionIndexes();
+        }
     }
     
     /**
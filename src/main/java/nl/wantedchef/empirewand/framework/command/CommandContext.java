@@ -8,6 +8,7 @@ import nl.wantedchef.empirewand.framework.service.ConfigService;
 import nl.wantedchef.empirewand.framework.service.UnifiedCooldownManager;
 import nl.wantedchef.empirewand.framework.service.FxService;
 import nl.wantedchef.empirewand.core.util.PerformanceMonitor;
+import nl.wantedchef.empirewand.listener.wand.WandStatusListener;
 import net.kyori.adventure.text.Component;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.bukkit.command.CommandSender;
@@ -84,6 +85,17 @@ public record CommandContext(
         sender.sendMessage(message);
     }
 
+    /**
+     * Refreshes the wand status action bar of a player after a command changed their wand or
+     * cooldowns, since those changes raise no event the HUD listens to.
+     */
+    public void refreshWandStatus(@NotNull Player player) {
+        WandStatusListener wandStatus = plugin.getWandStatusListener();
+        if (wandStatus != null) {
+            wandStatus.markDirty(player);
+        }
+    }
+
     /**
      * Gets command argument at index with validation.
      */
@@ -13,6 +13,7 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -43,11 +44,11 @@ public class CommandCache {
     private static final int MAX_TAB_COMPLETION_CACHE_SIZE = 500;
     private static final int MAX_SPELL_FILTER_CACHE_SIZE = 100;
     
-    // Cache hit/miss statistics
-    private long permissionCacheHits = 0;
-    private long permissionCacheMisses = 0;
-    private long tabCompletionCacheHits = 0;
-    private long tabCompletionCacheMisses = 0;
+    // Cache hit/miss statistics, updated from async tab completion threads as well
+    private final AtomicLong permissionCacheHits = new AtomicLong();
+    private final AtomicLong permissionCacheMisses = new AtomicLong();
+    private final AtomicLong tabCompletionCacheHits = new AtomicLong();
+    private final AtomicLong tabCompletionCacheMisses = new AtomicLong();
     
     /**
      * Checks if a permission result is cached for the given sender and permission.
@@ -68,7 +69,7 @@ public class CommandCache {
         if (senderPermissions != null) {
             Boolean result = senderPermissions.get(permission);
             if (result != null) {
-                permissionCacheHits++;
+                permissionCacheHits.incrementAndGet();
                 // Move to end of LRU queue
                 permissionLRU.remove(senderKey + ":" + permission);
                 permissionLRU.offer(senderKey + ":" + permission);
@@ -76,7 +77,7 @@ public class CommandCache {
             }
         }
 
-        permissionCacheMisses++;
+        permissionCacheMisses.incrementAndGet();
         return null;
     }
     
@@ -116,14 +117,14 @@ public class CommandCache {
         List<String> result = tabCompletionCache.get(cacheKey);
         
         if (result != null) {
-            tabCompletionCacheHits++;
+            tabCompletionCacheHits.incrementAndGet();
             // Move to end of LRU queue
             tabCompletionLRU.remove(cacheKey);
             tabCompletionLRU.offer(cacheKey);
             return new ArrayList<>(result); // Return defensive copy
         }
         
-        tabCompletionCacheMisses++;
+        tabCompletionCacheMisses.incrementAndGet();
         return null;
     }
     
@@ -233,13 +234,17 @@ public class CommandCache {
      */
     @NotNull
     public CacheStats getStats() {
-        long totalPermissionRequests = permissionCacheHits + permissionCacheMisses;
-        long totalTabCompletionRequests = tabCompletionCacheHits + tabCompletionCacheMisses;
+        long permissionHits = permissionCacheHits.get();
+        long permissionMisses = permissionCacheMisses.get();
+        long tabCompletionHits = tabCompletionCacheHits.get();
+        long tabCompletionMisses = tabCompletionCacheMisses.get();
+        long totalPermissionRequests = permissionHits + permissionMisses;
+        long totalTabCompletionRequests = tabCompletionHits + tabCompletionMisses;
         
         double permissionHitRate = totalPermissionRequests > 0 ? 
-            (double) permissionCacheHits / totalPermissionRequests : 0.0;
+            (double) permissionHits / totalPermissionRequests : 0.0;
         double tabCompletionHitRate = totalTabCompletionRequests > 0 ? 
-            (double) tabCompletionCacheHits / totalTabCompletionRequests : 0.0;
+            (double) tabCompletionHits / totalTabCompletionRequests : 0.0;
         
         return new CacheStats(
             permissionCache.size(),
@@ -248,10 +253,10 @@ public class CommandCache {
             helpCache.size(),
             permissionHitRate,
             tabCompletionHitRate,
-            permissionCacheHits,
-            permissionCacheMisses,
-            tabCompletionCacheHits,
-            tabCompletionCacheMisses
+            permissionHits,
+            permissionMisses,
+            tabCompletionHits,
+            tabCompletionMisses
         );
     }
     
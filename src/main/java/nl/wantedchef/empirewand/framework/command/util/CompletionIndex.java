@@ -0,0 +1,302 @@
+package nl.wantedchef.empirewand.framework.command.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Immutable completion index: a compressed prefix trie for exact prefix matches plus a trigram
+ * index that tolerates typos.
+ * <p>
+ * Every trie node keeps the sorted completions of its whole subtree, so a prefix lookup costs
+ * one walk down the edges and no filtering. Each completion can be reached through several
+ * terms, for example a spell key, its display name and every word of it. Indexes are built once
+ * per registry or config reload and are safe to query from any thread, which lets tab
+ * completion run inside {@code AsyncTabCompleteEvent}.
+ */
+public final class CompletionIndex {
+
+    private static final CompletionIndex EMPTY = builder().build();
+
+    private static final char START = '\u0002';
+    private static final char END = '\u0003';
+    // Typo tolerant matches need this share of the query trigrams
+    private static final double MIN_FUZZY_SCORE = 0.5;
+    private static final int MIN_FUZZY_LENGTH = 3;
+
+    private static final class Node {
+        private final String[] labels;
+        private final Node[] children;
+        private final String[] completions;
+
+        private Node(String[] labels, Node[] children, String[] completions) {
+            this.labels = labels;
+            this.children = children;
+            this.completions = completions;
+        }
+    }
+
+    private final Node root;
+    private final String[] termValues;
+    private final int[] termLengths;
+    private final int[] termGramCounts;
+    private final Map<Long, int[]> postings;
+
+    private CompletionIndex(Node root, String[] termValues, int[] termLengths, int[] termGramCounts,
+            Map<Long, int[]> postings) {
+        this.root = root;
+        this.termValues = termValues;
+        this.termLengths = termLengths;
+        this.termGramCounts = termGramCounts;
+        this.postings = postings;
+    }
+
+    @NotNull
+    public static CompletionIndex empty() {
+        return EMPTY;
+    }
+
+    @NotNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the number of distinct completions
+     */
+    public int size() {
+        return root.completions.length;
+    }
+
+    /**
+     * Completions with a term starting with {@code prefix}, in natural order.
+     */
+    @NotNull
+    public List<String> complete(@NotNull String prefix, int limit) {
+        String[] completions = lookup(prefix.toLowerCase(Locale.ROOT));
+        return List.of(Arrays.copyOf(completions, Math.min(limit, completions.length)));
+    }
+
+    /**
+     * Prefix completions, or when there are none, the closest completions by shared trigrams.
+     */
+    @NotNull
+    public List<String> search(@NotNull String query, int limit) {
+        String lower = query.toLowerCase(Locale.ROOT);
+        String[] completions = lookup(lower);
+        if (completions.length > 0 || lower.length() < MIN_FUZZY_LENGTH) {
+            return List.of(Arrays.copyOf(completions, Math.min(limit, completions.length)));
+        }
+        return fuzzy(lower, limit);
+    }
+
+    private String[] lookup(String prefix) {
+        Node node = root;
+        int pos = 0;
+        while (pos < prefix.length()) {
+            Node next = null;
+            String label = null;
+            char c = prefix.charAt(pos);
+            for (int i = 0; i < node.labels.length; i++) {
+                if (node.labels[i].charAt(0) == c) {
+                    next = node.children[i];
+                    label = node.labels[i];
+                    break;
+                }
+            }
+            if (next == null) {
+                return new String[0];
+            }
+            int remaining = prefix.length() - pos;
+            if (remaining <= label.length()) {
+                return label.regionMatches(0, prefix, pos, remaining) ? next.completions : new String[0];
+            }
+            if (!prefix.startsWith(label, pos)) {
+                return new String[0];
+            }
+            node = next;
+            pos += label.length();
+        }
+        return node.completions;
+    }
+
+    private List<String> fuzzy(String query, int limit) {
+        long[] grams = grams(START + query);
+        int[] shared = new int[termValues.length];
+        for (long gram : grams) {
+            int[] terms = postings.get(gram);
+            if (terms != null) {
+                for (int term : terms) {
+                    shared[term]++;
+                }
+            }
+        }
+
+        List<Integer> matches = new ArrayList<>();
+        for (int term = 0; term < shared.length; term++) {
+            if (shared[term] >= grams.length * MIN_FUZZY_SCORE) {
+                matches.add(term);
+            }
+        }
+        // Most shared trigrams first, then the term closest in length
+        matches.sort((a, b) -> {
+            if (shared[a] != shared[b]) {
+                return Integer.compare(shared[b], shared[a]);
+            }
+            int byLength = Integer.compare(Math.abs(termLengths[a] - query.length()),
+                    Math.abs(termLengths[b] - query.length()));
+            if (byLength != 0) {
+                return byLength;
+            }
+            return Integer.compare(termGramCounts[a], termGramCounts[b]);
+        });
+
+        Set<String> results = new LinkedHashSet<>();
+        for (int term : matches) {
+            if (results.size() >= limit) {
+                break;
+            }
+            results.add(termValues[term]);
+        }
+        return List.copyOf(results);
+    }
+
+    private static long[] grams(String padded) {
+        if (padded.length() < 3) {
+            return new long[0];
+        }
+        long[] grams = new long[padded.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (long) padded.charAt(i) << 32 | (long) padded.charAt(i + 1) << 16 | padded.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    /**
+     * Collects terms and builds the index.
+     */
+    public static final class Builder {
+        private final List<String> terms = new ArrayList<>();
+        private final List<String> values = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Makes {@code value} reachable by typing {@code term}; matching is case-insensitive.
+         */
+        @NotNull
+        public Builder add(@NotNull String term, @NotNull String value) {
+            String lower = term.toLowerCase(Locale.ROOT).trim();
+            if (!lower.isEmpty()) {
+                terms.add(lower);
+                values.add(value);
+            }
+            return this;
+        }
+
+        /**
+         * Adds every value as its own term.
+         */
+        @NotNull
+        public Builder addAll(@NotNull Collection<String> values) {
+            for (String value : values) {
+                add(value, value);
+            }
+            return this;
+        }
+
+        /**
+         * Adds {@code text} and each of its words after a space, dash or underscore, so
+         * "missile" also finds "magic-missile".
+         */
+        @NotNull
+        public Builder addWords(@NotNull String text, @NotNull String value) {
+            add(text, value);
+            for (int i = 1; i < text.length(); i++) {
+                char previous = text.charAt(i - 1);
+                if (previous == ' ' || previous == '-' || previous == '_') {
+                    add(text.substring(i), value);
+                }
+            }
+            return this;
+        }
+
+        @NotNull
+        public CompletionIndex build() {
+            Integer[] order = new Integer[terms.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> terms.get(a).compareTo(terms.get(b)));
+            String[] sortedTerms = new String[order.length];
+            String[] sortedValues = new String[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedTerms[i] = terms.get(order[i]);
+                sortedValues[i] = values.get(order[i]);
+            }
+
+            Map<Long, List<Integer>> gramTerms = new HashMap<>();
+            int[] termLengths = new int[sortedTerms.length];
+            int[] termGramCounts = new int[sortedTerms.length];
+            for (int term = 0; term < sortedTerms.length; term++) {
+                long[] grams = grams(START + sortedTerms[term] + END);
+                termLengths[term] = sortedTerms[term].length();
+                termGramCounts[term] = grams.length;
+                for (long gram : grams) {
+                    gramTerms.computeIfAbsent(gram, key -> new ArrayList<>()).add(term);
+                }
+            }
+            Map<Long, int[]> postings = new HashMap<>();
+            for (Map.Entry<Long, List<Integer>> entry : gramTerms.entrySet()) {
+                postings.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+            }
+
+            Node root = node(sortedTerms, sortedValues, 0, sortedTerms.length, 0);
+            return new CompletionIndex(root, sortedValues, termLengths, termGramCounts, postings);
+        }
+
+        private static Node node(String[] terms, String[] values, int from, int to, int depth) {
+            Set<String> completions = new TreeSet<>(Arrays.asList(values).subList(from, to));
+
+            // Terms ending here sort first
+            int start = from;
+            while (start < to && terms[start].length() == depth) {
+                start++;
+            }
+            List<String> labels = new ArrayList<>();
+            List<Node> children = new ArrayList<>();
+            while (start < to) {
+                char c = terms[start].charAt(depth);
+                int end = start + 1;
+                while (end < to && terms[end].charAt(depth) == c) {
+                    end++;
+                }
+                int common = commonPrefix(terms[start], terms[end - 1]);
+                labels.add(terms[start].substring(depth, common));
+                children.add(node(terms, values, start, end, common));
+                start = end;
+            }
+            return new Node(labels.toArray(new String[0]), children.toArray(new Node[0]),
+                    completions.toArray(new String[0]));
+        }
+
+        private static int commonPrefix(String a, String b) {
+            int length = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < length && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
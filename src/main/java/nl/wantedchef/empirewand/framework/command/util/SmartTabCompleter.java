@@ -10,41 +10,106 @@ import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * Advanced tab completion system with smart suggestions, fuzzy matching,
  * context-aware completions, and user preference learning.
+ * <p>
+ * Spell keys, display names, types, categories and the fixed argument values are served from
+ * prebuilt {@link CompletionIndex}es that are only rebuilt on reload, so those completions are
+ * safe to compute off the main thread.
  */
 public class SmartTabCompleter {
-    
+
+    private static final int MAX_SUGGESTIONS = 20;
+
+    // Common completion categories
+    private static final CompletionIndex BOOLEAN_VALUES = CompletionIndex.builder()
+        .addAll(List.of("true", "false")).build();
+    private static final CompletionIndex COMMON_NUMBERS = CompletionIndex.builder()
+        .addAll(List.of("1", "5", "10", "30", "60", "300")).build();
+    private static final CompletionIndex COOLDOWN_ACTIONS = CompletionIndex.builder()
+        .addAll(List.of("set", "get", "reset", "clear")).build();
+    private static final CompletionIndex WAND_KEYS = CompletionIndex.builder()
+        .addAll(List.of("empirewand", "mephidantes_zeist")).build();
+    private static final CompletionIndex HELP_COMMANDS = CompletionIndex.builder()
+        .addAll(List.of(
+            "get", "bind", "unbind", "bindall", "bindtype", "bindcat",
+            "set-spell", "list", "spells", "toggle", "stats", "help",
+            "reload", "migrate", "cooldown", "switcheffect"
+        )).build();
+    private static final CompletionIndex EFFECT_TYPES = CompletionIndex.builder()
+        .addAll(List.of(
+            "particles", "sound", "both", "none",
+            "minimal", "normal", "enhanced", "maximum"
+        )).build();
+    private static final List<String> DEFAULT_CATEGORIES = List.of(
+        "combat", "utility", "movement", "defensive", "offensive",
+        "fire", "water", "earth", "air", "lightning", "ice",
+        "heal", "poison", "dark", "light", "enhanced"
+    );
+    private static final List<String> TOGGLE_HINTS = List.of("toggle", "cloak", "cloud", "aura");
+
+    /**
+     * Indexes that depend on the spell registry and config.
+     */
+    private record Indexes(CompletionIndex spells, CompletionIndex toggleSpells, CompletionIndex types,
+            CompletionIndex categories) {
+    }
+
     private final CommandCache cache;
     private final SpellRegistry spellRegistry;
     private final EmpireWandPlugin plugin;
-    private final Map<String, List<String>> userPreferences = new HashMap<>();
-    
-    // Common completion categories
-    private static final List<String> BOOLEAN_VALUES = List.of("true", "false");
-    private static final List<String> COMMON_NUMBERS = List.of("1", "5", "10", "30", "60", "300");
-    
+    private final Map<String, List<String>> userPreferences = new ConcurrentHashMap<>();
+    private volatile Indexes indexes;
+
     public SmartTabCompleter(@NotNull CommandCache cache, @NotNull SpellRegistry spellRegistry, @NotNull EmpireWandPlugin plugin) {
         this.cache = cache;
         this.spellRegistry = spellRegistry;
         this.plugin = plugin;
     }
-    
+
+    /**
+     * Rebuilds the spell, type and category indexes. Call on the main thread after the spell
+     * registry or the configuration changed.
+     */
+    public void rebuildIndexes() {
+        CompletionIndex.Builder spells = CompletionIndex.builder();
+        CompletionIndex.Builder toggleSpells = CompletionIndex.builder();
+        for (String key : spellRegistry.getAllSpells().keySet()) {
+            String displayName = spellRegistry.getSpellDisplayName(key);
+            spells.addWords(key, key);
+            if (displayName != null) {
+                spells.addWords(displayName, key);
+            }
+            if (isToggleCandidate(key) || (displayName != null && isToggleCandidate(displayName))) {
+                toggleSpells.addWords(key, key);
+            }
+        }
+
+        Set<String> categories = new HashSet<>(DEFAULT_CATEGORIES);
+        if (plugin.getConfigService() != null) {
+            categories.addAll(plugin.getConfigService().getCategoryNames());
+        }
+
+        this.indexes = new Indexes(spells.build(), toggleSpells.build(),
+            CompletionIndex.builder().addAll(SpellTypes.validTypeNames()).build(),
+            CompletionIndex.builder().addAll(categories).build());
+    }
+
     /**
      * Provides smart tab completion with caching, fuzzy matching, and context awareness.
-     * 
+     *
      * @param sender The command sender
      * @param subCommand The subcommand being completed
      * @param args The current command arguments
@@ -56,43 +121,41 @@ public class SmartTabCompleter {
                                            @NotNull SubCommand subCommand,
                                            @NotNull String[] args,
                                            @NotNull String currentArg) {
-        
-        // Check cache first
-        List<String> cached = cache.getCachedTabCompletion(currentArg, args);
-        if (cached != null) {
-            return applyFuzzyMatching(cached, currentArg);
+        if (indexes == null) {
+            rebuildIndexes();
+        }
+        List<String> completions = getIndexedCompletions(sender, subCommand, args, currentArg);
+        if (completions == null) {
+            completions = getDelegatedCompletions(sender, subCommand, args, currentArg);
         }
-        
-        // Generate completions based on context
-        List<String> completions = generateContextualCompletions(sender, subCommand, args, currentArg);
-        
-        // Apply user preferences and learning
-        completions = applyUserPreferences(sender.getName(), completions);
-        
-        // Cache the results
-        cache.cacheTabCompletion(currentArg, args, completions);
-        
-        return applyFuzzyMatching(completions, currentArg);
+        return completions;
     }
-    
+
     /**
-     * Generates context-aware completions based on the command and argument position.
+     * Completions served from the prebuilt indexes. Safe to call from any thread.
+     *
+     * @return the completions, or {@code null} when this argument is completed by the
+     *         subcommand itself (or the indexes are not built yet) and needs the main thread
      */
-    @NotNull
-    private List<String> generateContextualCompletions(@NotNull CommandSender sender,
-                                                      @NotNull SubCommand subCommand,
-                                                      @NotNull String[] args,
-                                                      @NotNull String currentArg) {
-        String commandName = subCommand.getName().toLowerCase();
+    @Nullable
+    public List<String> getIndexedCompletions(@NotNull CommandSender sender,
+                                              @NotNull SubCommand subCommand,
+                                              @NotNull String[] args,
+                                              @NotNull String currentArg) {
+        Indexes current = indexes;
+        if (current == null) {
+            return null;
+        }
+        String commandName = subCommand.getName().toLowerCase(Locale.ROOT);
         int argIndex = args.length - 1;
-        
-        return switch (commandName) {
-            case "bind", "unbind", "set-spell" -> getSpellCompletions(currentArg);
-            case "bindtype" -> getSpellTypeCompletions(currentArg);
-            case "bindcat", "bindcategory" -> getSpellCategoryCompletions(currentArg);
+
+        List<String> completions = switch (commandName) {
+            case "bind", "unbind", "set-spell" -> current.spells().search(currentArg, MAX_SUGGESTIONS);
+            case "bindtype" -> current.types().complete(currentArg, MAX_SUGGESTIONS);
+            case "bindcat", "bindcategory" -> current.categories().search(currentArg, MAX_SUGGESTIONS);
             case "spells" -> {
                 if (argIndex == 1) {
-                    yield getSpellTypeCompletions(currentArg);
+                    yield current.types().complete(currentArg, MAX_SUGGESTIONS);
                 }
                 yield List.of();
             }
@@ -106,231 +169,147 @@ public class SmartTabCompleter {
                 if (argIndex == 1) {
                     yield getPlayerCompletions(currentArg);
                 } else if (argIndex == 2) {
-                    yield getWandKeyCompletions(currentArg);
+                    yield WAND_KEYS.complete(currentArg, MAX_SUGGESTIONS);
                 }
                 yield List.of();
             }
             case "gui", "settings", "config", "configure" -> List.of();
             case "toggle" -> {
                 if (argIndex == 1) {
-                    yield getToggleSpellCompletions(currentArg);
+                    yield current.toggleSpells().search(currentArg, MAX_SUGGESTIONS);
                 } else if (argIndex == 2) {
-                    yield BOOLEAN_VALUES;
+                    yield BOOLEAN_VALUES.complete(currentArg, MAX_SUGGESTIONS);
                 }
                 yield List.of();
             }
             case "cooldown", "cd" -> {
                 if (argIndex == 1) {
-                    yield List.of("set", "get", "reset", "clear");
-                } else if (argIndex == 2 && args.length > 1 && "set".equals(args[1])) {
-                    yield getSpellCompletions(currentArg);
-                } else if (argIndex == 3 && args.length > 2 && "set".equals(args[1])) {
-                    yield COMMON_NUMBERS;
+                    yield COOLDOWN_ACTIONS.complete(currentArg, MAX_SUGGESTIONS);
+                } else if (argIndex == 2 && "set".equals(args[1])) {
+                    yield current.spells().search(currentArg, MAX_SUGGESTIONS);
+                } else if (argIndex == 3 && "set".equals(args[1])) {
+                    yield COMMON_NUMBERS.complete(currentArg, MAX_SUGGESTIONS);
                 }
                 yield List.of();
             }
-            case "help" -> getHelpCompletions(currentArg);
+            case "help" -> HELP_COMMANDS.complete(currentArg, MAX_SUGGESTIONS);
             case "switcheffect" -> {
                 if (argIndex == 1) {
-                    yield getEffectTypeCompletions(currentArg);
+                    yield EFFECT_TYPES.complete(currentArg, MAX_SUGGESTIONS);
                 }
                 yield List.of();
             }
-            default -> subCommand.tabComplete(createDummyContext(sender, args));
+            default -> null;
         };
+        return completions == null ? null : applyUserPreferences(sender.getName(), completions);
     }
-    
+
     /**
-     * Gets spell name completions with intelligent filtering.
+     * Completions of subcommands without an index, cached per input.
      */
     @NotNull
-    private List<String> getSpellCompletions(@NotNull String partial) {
-        String cacheKey = "spells:" + partial.toLowerCase();
-        List<String> cached = cache.getCachedSpellFilter(cacheKey);
-        if (cached != null) {
-            return cached;
+    private List<String> getDelegatedCompletions(@NotNull CommandSender sender,
+                                                 @NotNull SubCommand subCommand,
+                                                 @NotNull String[] args,
+                                                 @NotNull String currentArg) {
+        List<String> completions = cache.getCachedTabCompletion(currentArg, args);
+        if (completions == null) {
+            completions = subCommand.tabComplete(createDummyContext(sender, args));
+            cache.cacheTabCompletion(currentArg, args, completions);
         }
-        
-        List<String> allSpells = new ArrayList<>(spellRegistry.getAllSpells().keySet());
-        List<String> filtered = allSpells.stream()
-            .filter(spell -> spell.toLowerCase().contains(partial.toLowerCase()))
-            .sorted()
-            .collect(Collectors.toList());
-        
-        // Add display names for better user experience
-        Set<String> results = new LinkedHashSet<>(filtered);
-        for (String spell : allSpells) {
-            String displayName = spellRegistry.getSpellDisplayName(spell);
-            if (displayName.toLowerCase().contains(partial.toLowerCase())) {
-                results.add(spell);
+        return applyFuzzyMatching(applyUserPreferences(sender.getName(), completions), currentArg);
+    }
+
+    private static boolean isToggleCandidate(@NotNull String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        for (String hint : TOGGLE_HINTS) {
+            if (lower.contains(hint)) {
+                return true;
             }
         }
-        
-        List<String> finalResults = new ArrayList<>(results);
-        cache.cacheSpellFilter(cacheKey, finalResults);
-        return finalResults;
-    }
-    
-    /**
-     * Gets spell type completions.
-     */
-    @NotNull
-    private List<String> getSpellTypeCompletions(@NotNull String partial) {
-        return SpellTypes.validTypeNames().stream()
-            .filter(type -> type.toLowerCase().startsWith(partial.toLowerCase()))
-            .sorted()
-            .collect(Collectors.toList());
-    }
-    
-    /**
-     * Gets spell category completions (broader than types).
-     */
-    @NotNull
-    private List<String> getSpellCategoryCompletions(@NotNull String partial) {
-        List<String> categories = Arrays.asList(
-            "combat", "utility", "movement", "defensive", "offensive",
-            "fire", "water", "earth", "air", "lightning", "ice",
-            "heal", "poison", "dark", "light", "enhanced"
-        );
-        
-        return categories.stream()
-            .filter(cat -> cat.toLowerCase().startsWith(partial.toLowerCase()))
-            .sorted()
-            .collect(Collectors.toList());
+        return false;
     }
-    
+
     /**
      * Gets player name completions.
      */
     @NotNull
     private List<String> getPlayerCompletions(@NotNull String partial) {
-        return Bukkit.getOnlinePlayers().stream()
-            .map(Player::getName)
-            .filter(name -> name.toLowerCase().startsWith(partial.toLowerCase()))
-            .sorted()
-            .collect(Collectors.toList());
-    }
-    
-    /**
-     * Gets toggle-able spell completions (spells that can be toggled on/off).
-     */
-    @NotNull
-    private List<String> getToggleSpellCompletions(@NotNull String partial) {
-        // Filter for spells that are likely toggle-able
-        return spellRegistry.getAllSpells().keySet().stream()
-            .filter(spell -> {
-                String displayName = spellRegistry.getSpellDisplayName(spell);
-                return spell.toLowerCase().contains("toggle") ||
-                       spell.toLowerCase().contains("cloak") ||
-                       spell.toLowerCase().contains("cloud") ||
-                       spell.toLowerCase().contains("aura") ||
-                       displayName.toLowerCase().contains("toggle") ||
-                       displayName.toLowerCase().contains("cloak") ||
-                       displayName.toLowerCase().contains("cloud") ||
-                       displayName.toLowerCase().contains("aura");
-            })
-            .filter(spell -> spell.toLowerCase().contains(partial.toLowerCase()))
-            .sorted()
-            .collect(Collectors.toList());
-    }
-    
-    /**
-     * Gets help command completions.
-     */
-    @NotNull
-    private List<String> getHelpCompletions(@NotNull String partial) {
-        List<String> helpCommands = Arrays.asList(
-            "get", "bind", "unbind", "bindall", "bindtype", "bindcat",
-            "set-spell", "list", "spells", "toggle", "stats", "help",
-            "reload", "migrate", "cooldown", "switcheffect"
-        );
-        
-        return helpCommands.stream()
-            .filter(cmd -> cmd.toLowerCase().startsWith(partial.toLowerCase()))
-            .sorted()
-            .collect(Collectors.toList());
-    }
-    
-    /**
-     * Gets effect type completions for switch effect command.
-     */
-    @NotNull
-    private List<String> getEffectTypeCompletions(@NotNull String partial) {
-        List<String> effectTypes = Arrays.asList(
-            "particles", "sound", "both", "none",
-            "minimal", "normal", "enhanced", "maximum"
-        );
-        
-        return effectTypes.stream()
-            .filter(type -> type.toLowerCase().startsWith(partial.toLowerCase()))
-            .sorted()
-            .collect(Collectors.toList());
+        List<String> names = new ArrayList<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            String name = player.getName();
+            if (name.regionMatches(true, 0, partial, 0, partial.length())) {
+                names.add(name);
+            }
+        }
+        names.sort(null);
+        return names.size() > MAX_SUGGESTIONS ? names.subList(0, MAX_SUGGESTIONS) : names;
     }
-    
+
     /**
      * Applies fuzzy matching to filter and rank completion suggestions.
      */
     @NotNull
     private List<String> applyFuzzyMatching(@NotNull List<String> completions, @NotNull String partial) {
         if (partial.isEmpty()) {
-            return completions.stream().limit(20).collect(Collectors.toList()); // Limit for performance
+            return completions.stream().limit(MAX_SUGGESTIONS).collect(Collectors.toList()); // Limit for performance
         }
-        
+
         String lowerPartial = partial.toLowerCase();
-        
+
         // Score and sort completions
         return completions.stream()
             .map(completion -> new ScoredCompletion(completion, calculateFuzzyScore(completion, lowerPartial)))
             .filter(scored -> scored.score > 0)
             .sorted((a, b) -> Double.compare(b.score, a.score))
             .map(scored -> scored.completion)
-            .limit(20) // Limit results for performance
+            .limit(MAX_SUGGESTIONS) // Limit results for performance
             .collect(Collectors.toList());
     }
-    
+
     /**
      * Calculates a fuzzy matching score for completion ranking.
      */
     private double calculateFuzzyScore(@NotNull String completion, @NotNull String partial) {
         String lowerCompletion = completion.toLowerCase();
-        
+
         // Exact match gets highest score
         if (lowerCompletion.equals(partial)) {
             return 1000.0;
         }
-        
+
         // Starts with gets high score
         if (lowerCompletion.startsWith(partial)) {
             return 500.0 + (100.0 - partial.length()); // Shorter partials rank higher
         }
-        
+
         // Contains gets medium score
         if (lowerCompletion.contains(partial)) {
             int index = lowerCompletion.indexOf(partial);
             return 200.0 - index; // Earlier matches rank higher
         }
-        
+
         // Character overlap gets low score
         double overlap = calculateCharacterOverlap(lowerCompletion, partial);
         return overlap > 0.5 ? overlap * 100.0 : 0.0;
     }
-    
+
     /**
      * Calculates character overlap ratio for fuzzy matching.
      */
     private double calculateCharacterOverlap(@NotNull String str1, @NotNull String str2) {
         Set<Character> chars1 = str1.chars().mapToObj(c -> (char) c).collect(Collectors.toSet());
         Set<Character> chars2 = str2.chars().mapToObj(c -> (char) c).collect(Collectors.toSet());
-        
+
         Set<Character> intersection = new HashSet<>(chars1);
         intersection.retainAll(chars2);
-        
+
         Set<Character> union = new HashSet<>(chars1);
         union.addAll(chars2);
-        
+
         return union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
     }
-    
+
     /**
      * Applies user preferences to reorder completions based on usage history.
      */
@@ -340,50 +319,44 @@ public class SmartTabCompleter {
         if (userPrefs == null || userPrefs.isEmpty()) {
             return completions;
         }
-        
+
         // Move preferred completions to the top
         List<String> reordered = new ArrayList<>();
         List<String> remaining = new ArrayList<>(completions);
-        
+
         for (String pref : userPrefs) {
             if (remaining.remove(pref)) {
                 reordered.add(pref);
             }
         }
-        
+
         reordered.addAll(remaining);
         return reordered;
     }
-    
+
     /**
      * Records a user's selection to improve future suggestions.
-     * 
+     *
      * @param playerName The player name
      * @param selection The completion they selected
      */
     public void recordUserSelection(@NotNull String playerName, @NotNull String selection) {
-        userPreferences.computeIfAbsent(playerName, k -> new ArrayList<>());
-        List<String> prefs = userPreferences.get(playerName);
-        
-        // Move selection to front, or add if new
-        prefs.remove(selection);
-        prefs.add(0, selection);
-        
-        // Keep only recent preferences (last 20)
-        if (prefs.size() > 20) {
-            prefs.subList(20, prefs.size()).clear();
-        }
-    }
-    
-    /**
-     * Gets wand key completions for the give command.
-     */
-    @NotNull
-    private List<String> getWandKeyCompletions(@NotNull String partial) {
-        List<String> wandKeys = List.of("empirewand", "mephidantes_zeist");
-        return wandKeys.stream()
-                .filter(key -> key.toLowerCase().startsWith(partial.toLowerCase()))
-                .collect(Collectors.toList());
+        // Lists are replaced rather than modified, completion threads may be reading them
+        userPreferences.compute(playerName, (name, previous) -> {
+            List<String> prefs = new ArrayList<>(MAX_SUGGESTIONS + 1);
+            prefs.add(selection);
+            if (previous != null) {
+                for (String pref : previous) {
+                    if (prefs.size() >= MAX_SUGGESTIONS) {
+                        break;
+                    }
+                    if (!pref.equals(selection)) {
+                        prefs.add(pref);
+                    }
+                }
+            }
+            return List.copyOf(prefs);
+        });
     }
 
     /**
@@ -404,17 +377,17 @@ public class SmartTabCompleter {
             plugin.getPermissionService()
         );
     }
-    
+
     /**
      * Helper class for scoring completion suggestions.
      */
     private static class ScoredCompletion {
         final String completion;
         final double score;
-        
+
         ScoredCompletion(@NotNull String completion, double score) {
             this.completion = completion;
             this.score = score;
         }
     }
-}
\ No newline at end of file
+}
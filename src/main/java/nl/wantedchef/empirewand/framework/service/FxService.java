@@ -9,6 +9,7 @@ import java.util.logging.Logger;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
@@ -16,8 +17,10 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import nl.wantedchef.empirewand.api.service.EffectService;
+import nl.wantedchef.empirewand.core.text.MessageTemplate;
 import nl.wantedchef.empirewand.core.text.TextService;
 import nl.wantedchef.empirewand.core.util.PerformanceMonitor;
 import nl.wantedchef.empirewand.core.logging.StructuredLogger;
@@ -42,6 +45,8 @@ public class FxService implements EffectService {
     private static final int AUTO_FLUSH_THRESHOLD = 75; // Auto-flush at 75% capacity
     private final List<ParticleBatch> particleBatch = new ArrayList<>();
     private final Object particleBatchLock = new Object(); // thread-safety
+    private volatile SoundMixer soundMixer;
+    private volatile QualityGovernor qualityGovernor;
 
     /**
      * Represents a single, self-contained particle effect to be executed in a
@@ -148,15 +153,19 @@ public class FxService implements EffectService {
 
     @Override
     public void actionBarKey(@NotNull Player player, @NotNull String messageKey) {
-        String raw = textService.getMessage(messageKey);
-        actionBar(player, raw);
+        MessageTemplate template = textService.getTemplate(messageKey);
+        if (!template.isBlank()) {
+            actionBar(player, template.render());
+        }
     }
 
     @Override
     public void actionBarKey(@NotNull Player player, @NotNull String messageKey,
             @NotNull Map<String, String> placeholders) {
-        String raw = textService.getMessage(messageKey, placeholders);
-        actionBar(player, raw);
+        MessageTemplate template = textService.getTemplate(messageKey);
+        if (!template.isBlank()) {
+            actionBar(player, template.render(placeholders));
+        }
     }
 
     /**
@@ -184,8 +193,7 @@ public class FxService implements EffectService {
      * @param pitch The pitch of the sound.
      */
     public void actionBarSound(Player player, String messageKey, Sound sound, float volume, float pitch) {
-        String raw = textService.getMessage(messageKey);
-        actionBarSound(player, Component.text(raw), sound, volume, pitch);
+        actionBarSound(player, textService.getTemplate(messageKey).render(), sound, volume, pitch);
     }
 
     /**
@@ -200,10 +208,7 @@ public class FxService implements EffectService {
      */
     public void actionBarSound(Player player, String messageKey, Map<String, String> placeholders,
             Sound sound, float volume, float pitch) {
-        String raw = (placeholders == null || placeholders.isEmpty())
-                ? textService.getMessage(messageKey)
-                : textService.getMessage(messageKey, placeholders);
-        actionBarSound(player, Component.text(raw), sound, volume, pitch);
+        actionBarSound(player, textService.getTemplate(messageKey).render(placeholders), sound, volume, pitch);
     }
 
     /**
@@ -213,7 +218,8 @@ public class FxService implements EffectService {
      * @param displayName The display name of the selected spell.
      */
     public void selectedSpell(@NotNull Player player, @NotNull String displayName) {
-        actionBarKey(player, "spell-selected", Map.of("spell", textService.stripMiniTags(displayName)));
+        MessageTemplate template = textService.getTemplate("spell-selected");
+        actionBar(player, template.render("spell", textService.stripMiniTags(displayName)));
     }
 
     /**
@@ -224,15 +230,22 @@ public class FxService implements EffectService {
      * @param msRemaining The remaining cooldown time in milliseconds.
      */
     public void onCooldown(@NotNull Player player, @NotNull String displayName, long msRemaining) {
-        double secondsRemaining = Math.max(0.1, msRemaining / 1000.0);
-        String formattedTime = String.format(java.util.Locale.US, "%.1f", secondsRemaining);
-
-        actionBarKey(player, "cooldown-active", Map.of(
+        MessageTemplate template = textService.getTemplate("cooldown-active");
+        actionBar(player, template.render(
                 "spell", textService.stripMiniTags(displayName),
-                "remaining", formattedTime));
+                "remaining", formatTenths(msRemaining)));
         playUISound(player, "cooldown");
     }
 
+    /**
+     * Formats milliseconds as seconds with one decimal, at least 0.1, without
+     * going through {@link String#format}.
+     */
+    public static String formatTenths(long millis) {
+        long tenths = Math.max(1L, Math.round(millis / 100.0));
+        return (tenths / 10) + "." + (tenths % 10);
+    }
+
     /**
      * Informs the player that their wand has no spells bound.
      *
@@ -388,6 +401,28 @@ public class FxService implements EffectService {
     }
 
     // ---- Sound helpers ----
+
+    /**
+     * Routes sounds played through this service into {@code mixer}, or straight to the world
+     * when {@code null}.
+     */
+    public void setSoundMixer(@Nullable SoundMixer mixer) {
+        this.soundMixer = mixer;
+    }
+
+    /**
+     * Scales particle counts, trail density and follow rates by {@code governor}'s quality level,
+     * or keeps them as requested when {@code null}.
+     */
+    public void setQualityGovernor(@Nullable QualityGovernor governor) {
+        this.qualityGovernor = governor;
+    }
+
+    private int scaledCount(int count) {
+        QualityGovernor governor = qualityGovernor;
+        return governor != null ? governor.scaleCount(count) : count;
+    }
+
     @Override
     public void playSound(@NotNull Player player, @NotNull Sound sound, float volume, float pitch) {
         try (var timing = performanceMonitor.startTiming("playSoundPlayer", 2)) {
@@ -395,7 +430,12 @@ public class FxService implements EffectService {
             assert timing != null; // ensure variable considered read
             Location location = player.getLocation();
             if (location != null) {
-                player.playSound(location, sound, volume, pitch);
+                SoundMixer mixer = soundMixer;
+                if (mixer != null) {
+                    mixer.play(player, location, sound, SoundCategory.MASTER, volume, pitch);
+                } else {
+                    player.playSound(location, sound, volume, pitch);
+                }
             }
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Failed to play sound for player", e);
@@ -409,7 +449,12 @@ public class FxService implements EffectService {
             assert timing != null;
             World world = location.getWorld();
             if (world != null) {
-                world.playSound(location, sound, volume, pitch);
+                SoundMixer mixer = soundMixer;
+                if (mixer != null) {
+                    mixer.play(location, sound, SoundCategory.MASTER, volume, pitch);
+                } else {
+                    world.playSound(location, sound, volume, pitch);
+                }
             }
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Failed to play sound at location", e);
@@ -428,7 +473,7 @@ public class FxService implements EffectService {
             assert timing != null;
             World world = location.getWorld();
             if (world != null) {
-                world.spawnParticle(particle, location, count, offsetX, offsetY, offsetZ, speed);
+                world.spawnParticle(particle, location, scaledCount(count), offsetX, offsetY, offsetZ, speed);
                 
                 // Log particle spawning with structured logging
                 structuredLogger.logPerformance("particle_spawned", 0L, 
@@ -458,7 +503,7 @@ public class FxService implements EffectService {
             assert timing != null;
             World world = location.getWorld();
             if (world != null) {
-                world.spawnParticle(particle, location, count, offsetX, offsetY, offsetZ, speed, data);
+                world.spawnParticle(particle, location, scaledCount(count), offsetX, offsetY, offsetZ, speed, data);
             }
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Failed to spawn particles with data", e);
@@ -483,7 +528,8 @@ public class FxService implements EffectService {
     public void batchParticles(@NotNull Location location, @NotNull Particle particle, int count,
             double offsetX, double offsetY, double offsetZ, double speed, Object data) {
         synchronized (particleBatchLock) {
-            particleBatch.add(new ParticleBatch(location, particle, count, offsetX, offsetY, offsetZ, speed, data));
+            particleBatch.add(new ParticleBatch(location, particle, scaledCount(count), offsetX, offsetY, offsetZ,
+                    speed, data));
             // Auto-flush when reaching threshold to prevent memory buildup
             if (particleBatch.size() >= AUTO_FLUSH_THRESHOLD) {
                 flushParticleBatch();
@@ -557,7 +603,9 @@ public class FxService implements EffectService {
                 return;
             }
 
-            int steps = (int) Math.max(1, Math.round(length));
+            QualityGovernor governor = qualityGovernor;
+            double density = governor != null ? governor.quality() : 1.0;
+            int steps = (int) Math.max(1, Math.round(length * density));
             Vector step = dir.normalize().multiply(length / steps);
             Location point = start.clone();
 
@@ -655,7 +703,12 @@ public class FxService implements EffectService {
                     spawnParticles(entity.getLocation(), particle, count, offsetX, offsetY, offsetZ, speed);
                 }
             }
-        }.runTaskTimer(plugin, 0L, Math.max(1L, periodTicks));
+        }.runTaskTimer(plugin, 0L, Math.max(1L, scaledPeriod(periodTicks)));
+    }
+
+    private long scaledPeriod(long periodTicks) {
+        QualityGovernor governor = qualityGovernor;
+        return governor != null ? governor.scalePeriod(periodTicks) : periodTicks;
     }
 
     /**
@@ -683,7 +736,7 @@ public class FxService implements EffectService {
                 }
                 trail(entity.getLocation());
             }
-        }.runTaskTimer(plugin, 0L, Math.max(1L, periodTicks));
+        }.runTaskTimer(plugin, 0L, Math.max(1L, scaledPeriod(periodTicks)));
     }
 
     // ---- Lifecycle ----
@@ -0,0 +1,275 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import nl.wantedchef.empirewand.core.task.TaskManager;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Mob;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Main-thread scheduler that runs the think step of every summoned minion.
+ * <p>
+ * Summon spells used to start one timer per cast, and every timer scanned for targets for all of
+ * its minions in the same tick, so a handful of active swarms produced bursts of entity scans. The
+ * scheduler instead owns every registered minion and staggers them over round-robin slots: a new
+ * minion is assigned the next of {@code thinkInterval} slots, thinks once per interval after that,
+ * and at most {@code maxPerTick} minions think in any one tick. Minions that miss their slot
+ * because the budget was spent think first on the next tick, so no minion starves. When a
+ * {@link QualityGovernor} is attached the budget shrinks with the quality level.
+ * <p>
+ * Targets are cached per minion and handed to the brain as long as they stay alive, in the same
+ * world, within the search range and accepted by the brain; only then is the minion's
+ * surroundings scanned again. Minions that die or are removed drop out on their next slot.
+ * Main thread only.
+ */
+public final class MinionBrainScheduler {
+
+    /**
+     * Behaviour of one minion.
+     */
+    public interface Brain {
+
+        /**
+         * Whether the minion may attack {@code candidate}. Liveness is checked by the scheduler;
+         * this only decides friend or foe, and is asked again before a cached target is reused.
+         */
+        boolean canTarget(@NotNull LivingEntity candidate);
+
+        /**
+         * Runs one think step.
+         *
+         * @param minion the minion, alive and valid
+         * @param target nearest valid target, possibly reused from an earlier step, or null
+         */
+        void think(@NotNull Mob minion, @Nullable LivingEntity target);
+    }
+
+    /**
+     * Registration of a minion, used to take it off the scheduler before it dies.
+     */
+    public static final class Handle {
+        private final Mob minion;
+        private final Brain brain;
+        private final double range;
+        private final long sequence;
+        private long dueTick;
+        private LivingEntity target;
+        private boolean cancelled;
+
+        private Handle(Mob minion, Brain brain, double range, long sequence, long dueTick) {
+            this.minion = minion;
+            this.brain = brain;
+            this.range = range;
+            this.sequence = sequence;
+            this.dueTick = dueTick;
+        }
+
+        /**
+         * Stops thinking for this minion. The entity itself is left alone.
+         */
+        public void cancel() {
+            cancelled = true;
+            target = null;
+        }
+
+        public boolean isActive() {
+            return !cancelled;
+        }
+    }
+
+    /**
+     * Scheduler statistics.
+     *
+     * @param minions        minions currently registered
+     * @param maxPerTick     configured think steps per tick
+     * @param budget         think steps allowed per tick at the current quality level
+     * @param thinks         think steps run since start
+     * @param scans          target scans run since start
+     * @param reusedTargets  think steps that reused a cached target instead of scanning
+     * @param backlogTicks   ticks that ended with due minions left for the next tick
+     */
+    public record Stats(int minions, int maxPerTick, int budget, long thinks, long scans, long reusedTargets,
+            long backlogTicks) {
+    }
+
+    private final int maxPerTick;
+    private final int thinkInterval;
+    private final Logger logger;
+    private final PriorityQueue<Handle> queue = new PriorityQueue<>(
+            Comparator.<Handle>comparingLong(h -> h.dueTick).thenComparingLong(h -> h.sequence));
+    private volatile QualityGovernor qualityGovernor;
+
+    private BukkitTask task;
+    private long tick;
+    private long sequence;
+    private long thinks;
+    private long scans;
+    private long reusedTargets;
+    private long backlogTicks;
+
+    /**
+     * @param maxPerTick    most think steps run in one tick
+     * @param thinkInterval ticks between two think steps of the same minion
+     */
+    public MinionBrainScheduler(int maxPerTick, int thinkInterval, @NotNull Logger logger) {
+        this.maxPerTick = Math.max(1, maxPerTick);
+        this.thinkInterval = Math.max(1, thinkInterval);
+        this.logger = logger;
+    }
+
+    /**
+     * Starts running think steps once per tick.
+     */
+    public void start(@NotNull TaskManager taskManager) {
+        if (task == null) {
+            task = taskManager.runTaskTimer("minion-brains", this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stops the scheduler and forgets every minion.
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        for (Handle handle : queue) {
+            handle.cancel();
+        }
+        queue.clear();
+    }
+
+    public void setQualityGovernor(@Nullable QualityGovernor qualityGovernor) {
+        this.qualityGovernor = qualityGovernor;
+    }
+
+    /**
+     * Hands a minion to the scheduler. Consecutive registrations land in consecutive slots, so
+     * a swarm summoned in one tick thinks spread over the interval.
+     *
+     * @param minion the summoned mob
+     * @param range  radius of the target scan, in blocks
+     * @param brain  the minion's behaviour
+     * @return the handle to cancel the registration with
+     */
+    @NotNull
+    public Handle register(@NotNull Mob minion, double range, @NotNull Brain brain) {
+        long seq = sequence++;
+        Handle handle = new Handle(minion, brain, Math.max(1.0, range), seq, tick + 1 + seq % thinkInterval);
+        queue.add(handle);
+        return handle;
+    }
+
+    void tick() {
+        tick++;
+        int budget = budget();
+        int thought = 0;
+        Handle handle;
+        while ((handle = queue.peek()) != null && handle.dueTick <= tick) {
+            if (handle.cancelled || !alive(handle.minion)) {
+                queue.poll();
+                handle.cancel();
+                continue;
+            }
+            if (thought >= budget) {
+                backlogTicks++;
+                break;
+            }
+            queue.poll();
+            thought++;
+            think(handle);
+            if (!handle.cancelled) {
+                handle.dueTick = tick + thinkInterval;
+                queue.add(handle);
+            }
+        }
+    }
+
+    private int budget() {
+        QualityGovernor governor = qualityGovernor;
+        return governor != null ? governor.scaleCount(maxPerTick) : maxPerTick;
+    }
+
+    private void think(Handle handle) {
+        thinks++;
+        try {
+            LivingEntity target = handle.target;
+            if (target != null && usable(handle, target)) {
+                reusedTargets++;
+            } else {
+                target = scan(handle);
+                handle.target = target;
+            }
+            handle.brain.think(handle.minion, target);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Minion brain failed; dropping minion from the scheduler", e);
+            handle.cancel();
+        }
+    }
+
+    private LivingEntity scan(Handle handle) {
+        scans++;
+        Mob minion = handle.minion;
+        Location origin = minion.getLocation();
+        LivingEntity nearest = null;
+        double nearestDistance = handle.range * handle.range;
+        for (Entity entity : minion.getNearbyEntities(handle.range, handle.range, handle.range)) {
+            if (!(entity instanceof LivingEntity candidate) || candidate.equals(minion) || !alive(candidate)
+                    || !handle.brain.canTarget(candidate)) {
+                continue;
+            }
+            double d2 = distanceSquared(origin, candidate.getLocation());
+            if (d2 < nearestDistance) {
+                nearest = candidate;
+                nearestDistance = d2;
+            }
+        }
+        return nearest;
+    }
+
+    private static boolean usable(Handle handle, LivingEntity target) {
+        if (!alive(target)) {
+            return false;
+        }
+        World world = handle.minion.getWorld();
+        if (world == null || !world.equals(target.getWorld())) {
+            return false;
+        }
+        double d2 = distanceSquared(handle.minion.getLocation(), target.getLocation());
+        return d2 <= handle.range * handle.range && handle.brain.canTarget(target);
+    }
+
+    private static boolean alive(Entity entity) {
+        return entity.isValid() && !entity.isDead();
+    }
+
+    private static double distanceSquared(Location a, Location b) {
+        // Same-world is checked by the callers; Location#distanceSquared would throw on a null world
+        double dx = a.getX() - b.getX();
+        double dy = a.getY() - b.getY();
+        double dz = a.getZ() - b.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * @return the number of registered minions, including ones that have not yet been found dead
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    @NotNull
+    public Stats stats() {
+        return new Stats(queue.size(), maxPerTick, budget(), thinks, scans, reusedTargets, backlogTicks);
+    }
+}
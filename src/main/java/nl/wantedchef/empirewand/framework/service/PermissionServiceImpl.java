@@ -5,15 +5,57 @@ import nl.wantedchef.empirewand.api.Version;
 import nl.wantedchef.empirewand.api.service.PermissionService;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 /**
  * The primary implementation of the
  * {@link nl.wantedchef.empirewand.api.service.PermissionService}.
  * This class provides concrete implementations for permission checks related to
  * spells and commands.
+ * <p>
+ * Spell use and bind checks for online players are answered from a
+ * {@link SpellPermissionMask} per player, computed on join and world change and
+ * whenever the spell registry is rebuilt. Because permission plugins can change
+ * permissions without an event, a mask is compared against the fingerprint of
+ * the player's effective permissions at most once per
+ * {@link #STALE_CHECK_INTERVAL_MILLIS} and recomputed when it differs.
  */
 public class PermissionServiceImpl implements PermissionService {
 
+    /** Minimum time between two staleness checks of a player's mask. */
+    public static final long STALE_CHECK_INTERVAL_MILLIS = 1000L;
+
+    private final Supplier<SpellIndex> spellIndex;
+    private final LongSupplier clock;
+    private final Map<UUID, SpellPermissionMask> masks = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a service that resolves every check through {@link #has}.
+     */
+    public PermissionServiceImpl() {
+        this(() -> null);
+    }
+
+    /**
+     * Creates a service that caches spell checks per player.
+     *
+     * @param spellIndex the current spell index, or null while none is available
+     */
+    public PermissionServiceImpl(@NotNull Supplier<SpellIndex> spellIndex) {
+        this(spellIndex, System::currentTimeMillis);
+    }
+
+    PermissionServiceImpl(@NotNull Supplier<SpellIndex> spellIndex, @NotNull LongSupplier clock) {
+        this.spellIndex = spellIndex;
+        this.clock = clock;
+    }
+
     @Override
     public boolean has(CommandSender sender, String node) {
         if (sender == null || node == null || node.trim().isEmpty()) {
@@ -34,6 +76,11 @@ public class PermissionServiceImpl implements PermissionService {
             return false;
         }
         try {
+            SpellPermissionMask mask = maskFor(player);
+            int ordinal = mask == null ? -1 : mask.index().ordinal(spellKey);
+            if (ordinal >= 0) {
+                return mask.canUse(ordinal);
+            }
             return has(player, getSpellUsePermission(spellKey));
         } catch (Exception e) {
             return false;
@@ -46,12 +93,69 @@ public class PermissionServiceImpl implements PermissionService {
             return false;
         }
         try {
+            SpellPermissionMask mask = maskFor(player);
+            int ordinal = mask == null ? -1 : mask.index().ordinal(spellKey);
+            if (ordinal >= 0) {
+                return mask.canBind(ordinal);
+            }
             return has(player, getSpellBindPermission(spellKey));
         } catch (Exception e) {
             return false;
         }
     }
 
+    /**
+     * Recomputes the spell permission mask of {@code player}; called on join and world change.
+     */
+    public void refresh(@NotNull Player player) {
+        SpellIndex index = spellIndex.get();
+        if (index == null) {
+            return;
+        }
+        masks.put(player.getUniqueId(), compute(player, index));
+    }
+
+    /**
+     * Drops the mask of a player who left.
+     */
+    public void forget(@NotNull UUID playerId) {
+        masks.remove(playerId);
+    }
+
+    /**
+     * @return the number of cached permission masks
+     */
+    public int getMaskCount() {
+        return masks.size();
+    }
+
+    private SpellPermissionMask maskFor(Player player) {
+        SpellIndex index = spellIndex.get();
+        if (index == null || !player.isOnline()) {
+            return null;
+        }
+        UUID playerId = player.getUniqueId();
+        SpellPermissionMask mask = masks.get(playerId);
+        if (mask != null && mask.index() == index) {
+            long now = clock.getAsLong();
+            if (now < mask.nextCheckMillis()) {
+                return mask;
+            }
+            if (mask.fingerprint() == SpellPermissionMask.fingerprint(player)) {
+                mask.deferCheck(now + STALE_CHECK_INTERVAL_MILLIS);
+                return mask;
+            }
+        }
+        mask = compute(player, index);
+        masks.put(playerId, mask);
+        return mask;
+    }
+
+    private SpellPermissionMask compute(Player player, SpellIndex index) {
+        return SpellPermissionMask.compute(player, index, this::getSpellUsePermission,
+                this::getSpellBindPermission, clock.getAsLong() + STALE_CHECK_INTERVAL_MILLIS);
+    }
+
     @Override
     public String getSpellUsePermission(String spellKey) {
         if (spellKey == null || spellKey.trim().isEmpty()) {
@@ -0,0 +1,388 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import nl.wantedchef.empirewand.core.storage.Keys;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory per-player spell effect state.
+ * <p>
+ * Movement and teleport listeners run for every {@code PlayerMoveEvent} and
+ * {@code PlayerTeleportEvent}; probing the PersistentDataContainer there costs a
+ * {@link NamespacedKey} allocation and an NBT lookup per flag. Instead, active
+ * effects are kept as a bit mask per player, so a handler can bail out with a
+ * single mask test, and the few values the handlers need are kept as primitive
+ * fields.
+ * <p>
+ * The PersistentDataContainer is only used for persistence: {@link #load(Player)}
+ * reads the legacy keys when a player joins, and {@link #save(Player)} writes
+ * persistent effects back when the player quits or the plugin disables.
+ * Main-thread only.
+ */
+public final class PlayerEffectState {
+
+    /**
+     * Spell effects tracked per player. Persistent effects survive a relog through
+     * their PersistentDataContainer key; transient effects only live in memory.
+     */
+    public enum Effect {
+        LIFEWALK("lifewalk_active", true),
+        ETHEREAL_FORM("ethereal_form_active", true),
+        SHADOW_CLOAK("shadow_cloak_active", true),
+        DASH("dash_active", true),
+        TELEPORT_TRAIL("teleport_trail_active", true),
+        SPEED_BOOST("speed_boost_active", true),
+        EXPLOSION_TRAIL("explosion_trail_active", true),
+        BLINK_STRIKE("blink_strike_active", false),
+        VOID_SWAP("void_swap_active", false),
+        SHADOW_STEP("shadow_step_active", false),
+        STELLAR_DASH("stellar_dash_active", false),
+        PENDING_SPELL_TELEPORT("pending_spell_teleport", false),
+        AURA(null, false),
+        BLOOD_BARRIER(null, false),
+        ELEMENTOSGOD(null, false),
+        CHAIN_LIGHTNING("chain_lightning_active", false),
+        LIGHTNING_ARROW("lightning_arrow", true);
+
+        private final NamespacedKey key;
+        private final boolean persistent;
+        private final int bit;
+
+        Effect(String key, boolean persistent) {
+            this.key = key != null ? Keys.createKey(key) : null;
+            this.persistent = persistent;
+            this.bit = 1 << ordinal();
+        }
+
+        /**
+         * @return the PersistentDataContainer key, or {@code null} for memory-only effects
+         */
+        @Nullable
+        public NamespacedKey key() {
+            return key;
+        }
+
+        /**
+         * @return the mask bit for this effect
+         */
+        public int bit() {
+            return bit;
+        }
+    }
+
+    /** Effects that react to {@code PlayerMoveEvent}. */
+    public static final int MOVEMENT_MASK = Effect.LIFEWALK.bit | Effect.ETHEREAL_FORM.bit
+            | Effect.SHADOW_CLOAK.bit | Effect.DASH.bit | Effect.TELEPORT_TRAIL.bit
+            | Effect.SPEED_BOOST.bit | Effect.EXPLOSION_TRAIL.bit;
+
+    /** Effects that react to {@code PlayerTeleportEvent}. */
+    public static final int TELEPORT_MASK = Effect.BLINK_STRIKE.bit | Effect.VOID_SWAP.bit
+            | Effect.SHADOW_STEP.bit | Effect.STELLAR_DASH.bit;
+
+    private static final NamespacedKey LIFEWALK_HEAL_RATE = Keys.createKey("lifewalk_heal_rate");
+    private static final NamespacedKey TELEPORT_TRAIL_END = Keys.createKey("teleport_trail_end");
+    private static final NamespacedKey TELEPORT_TRAIL_TYPE = Keys.createKey("teleport_trail_type");
+    private static final NamespacedKey SPEED_BOOST_MULTIPLIER = Keys.createKey("speed_boost_multiplier");
+    private static final NamespacedKey SHADOW_STEP_CHANCE = Keys.createKey("shadow_step_chance_per_second");
+    private static final NamespacedKey SHADOW_STEP_MAX_DISTANCE = Keys.createKey("shadow_step_max_distance");
+    private static final NamespacedKey SHADOW_STEP_COOLDOWN_TICKS = Keys.createKey("shadow_step_cooldown_ticks");
+    private static final NamespacedKey SHADOW_STEP_LAST = Keys.createKey("shadow_step_last");
+    private static final NamespacedKey SHADOW_CLOAK_MAX_LIGHT = Keys.createKey("shadow_cloak_max_light");
+
+    private final Map<UUID, State> states = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the active effect mask for a player, or {@code 0} when the player has no
+     * tracked state.
+     */
+    public int flags(@NotNull UUID playerId) {
+        State state = states.get(playerId);
+        return state == null ? 0 : state.flags;
+    }
+
+    public boolean isActive(@NotNull Player player, @NotNull Effect effect) {
+        return (flags(player.getUniqueId()) & effect.bit) != 0;
+    }
+
+    /**
+     * Returns the player's state, creating an empty one if needed.
+     */
+    @NotNull
+    public State state(@NotNull Player player) {
+        return states.computeIfAbsent(player.getUniqueId(), id -> new State());
+    }
+
+    /**
+     * Returns the player's state without creating one.
+     */
+    @Nullable
+    public State peek(@NotNull UUID playerId) {
+        return states.get(playerId);
+    }
+
+    public void activate(@NotNull Player player, @NotNull Effect effect) {
+        state(player).flags |= effect.bit;
+    }
+
+    public void deactivate(@NotNull Player player, @NotNull Effect effect) {
+        deactivate(player.getUniqueId(), effect);
+    }
+
+    public void deactivate(@NotNull UUID playerId, @NotNull Effect effect) {
+        State state = states.get(playerId);
+        if (state != null) {
+            state.flags &= ~effect.bit;
+        }
+    }
+
+    /**
+     * Restores persisted effects from the player's PersistentDataContainer. Players without
+     * any persisted effect get no state entry.
+     */
+    public void load(@NotNull Player player) {
+        PersistentDataContainer pdc = player.getPersistentDataContainer();
+        var booleanType = Keys.BOOLEAN_TYPE.getType();
+        int flags = 0;
+        for (Effect effect : Effect.values()) {
+            if (effect.persistent && pdc.has(effect.key, booleanType)) {
+                flags |= effect.bit;
+            }
+        }
+        if (flags == 0) {
+            return;
+        }
+
+        State state = state(player);
+        state.flags |= flags;
+        state.lifewalkHealRate = pdc.getOrDefault(LIFEWALK_HEAL_RATE, Keys.DOUBLE_TYPE.getType(), 0.5);
+        state.teleportTrailEnd = pdc.getOrDefault(TELEPORT_TRAIL_END, Keys.LONG_TYPE.getType(), 0L);
+        state.teleportTrailType = pdc.getOrDefault(TELEPORT_TRAIL_TYPE, Keys.STRING_TYPE.getType(), "PORTAL");
+        state.speedMultiplier = pdc.getOrDefault(SPEED_BOOST_MULTIPLIER, Keys.DOUBLE_TYPE.getType(), 1.0);
+        state.shadowStepChance = pdc.getOrDefault(SHADOW_STEP_CHANCE, Keys.DOUBLE_TYPE.getType(), 0.0);
+        state.shadowStepMaxDistance = pdc.getOrDefault(SHADOW_STEP_MAX_DISTANCE, Keys.DOUBLE_TYPE.getType(), 6.0);
+        state.shadowStepCooldownTicks = pdc.getOrDefault(SHADOW_STEP_COOLDOWN_TICKS, Keys.LONG_TYPE.getType(), 0L);
+        state.shadowStepLast = pdc.getOrDefault(SHADOW_STEP_LAST, Keys.LONG_TYPE.getType(), Long.MIN_VALUE);
+        state.shadowCloakMaxLight = pdc.getOrDefault(SHADOW_CLOAK_MAX_LIGHT, Keys.INTEGER_TYPE.getType(), 4);
+    }
+
+    /**
+     * Writes persistent effects back to the player's PersistentDataContainer, clearing keys
+     * for effects that have ended since {@link #load(Player)}.
+     */
+    public void save(@NotNull Player player) {
+        PersistentDataContainer pdc = player.getPersistentDataContainer();
+        State state = states.get(player.getUniqueId());
+        int flags = state == null ? 0 : state.flags;
+        for (Effect effect : Effect.values()) {
+            if (!effect.persistent) {
+                continue;
+            }
+            if ((flags & effect.bit) != 0) {
+                pdc.set(effect.key, Keys.BOOLEAN_TYPE.getType(), (byte) 1);
+            } else {
+                pdc.remove(effect.key);
+            }
+        }
+        if (state == null) {
+            return;
+        }
+        if ((flags & Effect.LIFEWALK.bit) != 0) {
+            pdc.set(LIFEWALK_HEAL_RATE, Keys.DOUBLE_TYPE.getType(), state.lifewalkHealRate);
+        }
+        if ((flags & Effect.TELEPORT_TRAIL.bit) != 0) {
+            pdc.set(TELEPORT_TRAIL_END, Keys.LONG_TYPE.getType(), state.teleportTrailEnd);
+            pdc.set(TELEPORT_TRAIL_TYPE, Keys.STRING_TYPE.getType(), state.teleportTrailType);
+        } else {
+            pdc.remove(TELEPORT_TRAIL_END);
+            pdc.remove(TELEPORT_TRAIL_TYPE);
+        }
+        if ((flags & Effect.SPEED_BOOST.bit) != 0) {
+            pdc.set(SPEED_BOOST_MULTIPLIER, Keys.DOUBLE_TYPE.getType(), state.speedMultiplier);
+        }
+        if ((flags & Effect.SHADOW_CLOAK.bit) != 0) {
+            pdc.set(SHADOW_STEP_CHANCE, Keys.DOUBLE_TYPE.getType(), state.shadowStepChance);
+            pdc.set(SHADOW_STEP_MAX_DISTANCE, Keys.DOUBLE_TYPE.getType(), state.shadowStepMaxDistance);
+            pdc.set(SHADOW_STEP_COOLDOWN_TICKS, Keys.LONG_TYPE.getType(), state.shadowStepCooldownTicks);
+            pdc.set(SHADOW_CLOAK_MAX_LIGHT, Keys.INTEGER_TYPE.getType(), state.shadowCloakMaxLight);
+            if (state.shadowStepLast != Long.MIN_VALUE) {
+                pdc.set(SHADOW_STEP_LAST, Keys.LONG_TYPE.getType(), state.shadowStepLast);
+            }
+        }
+    }
+
+    /**
+     * Saves and drops the player's state.
+     */
+    public void unload(@NotNull Player player) {
+        save(player);
+        states.remove(player.getUniqueId());
+    }
+
+    /**
+     * Saves the state of every tracked online player and clears all state.
+     */
+    public void saveAll(@NotNull Iterable<? extends Player> onlinePlayers) {
+        for (Player player : onlinePlayers) {
+            if (states.containsKey(player.getUniqueId())) {
+                save(player);
+            }
+        }
+        states.clear();
+    }
+
+    /**
+     * @return number of players with tracked state
+     */
+    public int size() {
+        return states.size();
+    }
+
+    /**
+     * Mutable effect state of one player: the effect mask plus the primitive values the
+     * movement handlers read.
+     */
+    public static final class State {
+        private int flags;
+        private double lifewalkHealRate = 0.5;
+        private long lifewalkLastHeal = Long.MIN_VALUE;
+        private long teleportTrailEnd;
+        private String teleportTrailType = "PORTAL";
+        private double speedMultiplier = 1.0;
+        private long explosionTrailLast = Long.MIN_VALUE;
+        private double shadowStepChance;
+        private double shadowStepMaxDistance = 6.0;
+        private long shadowStepCooldownTicks;
+        private long shadowStepLast = Long.MIN_VALUE;
+        private int shadowCloakMaxLight = 4;
+        private long teleportProtectionUntil;
+
+        public int flags() {
+            return flags;
+        }
+
+        public boolean has(@NotNull Effect effect) {
+            return (flags & effect.bit) != 0;
+        }
+
+        public void set(@NotNull Effect effect, boolean active) {
+            if (active) {
+                flags |= effect.bit;
+            } else {
+                flags &= ~effect.bit;
+            }
+        }
+
+        public double getLifewalkHealRate() {
+            return lifewalkHealRate;
+        }
+
+        public void setLifewalkHealRate(double lifewalkHealRate) {
+            this.lifewalkHealRate = lifewalkHealRate;
+        }
+
+        /**
+         * @return the last heal time in millis, or {@link Long#MIN_VALUE} if never healed
+         */
+        public long getLifewalkLastHeal() {
+            return lifewalkLastHeal;
+        }
+
+        public void setLifewalkLastHeal(long lifewalkLastHeal) {
+            this.lifewalkLastHeal = lifewalkLastHeal;
+        }
+
+        public long getTeleportTrailEnd() {
+            return teleportTrailEnd;
+        }
+
+        public String getTeleportTrailType() {
+            return teleportTrailType;
+        }
+
+        /**
+         * Starts a teleport trail of the given particle type until {@code endMillis}.
+         */
+        public void startTeleportTrail(@NotNull String particleType, long endMillis) {
+            this.teleportTrailType = particleType;
+            this.teleportTrailEnd = endMillis;
+            set(Effect.TELEPORT_TRAIL, true);
+        }
+
+        public double getSpeedMultiplier() {
+            return speedMultiplier;
+        }
+
+        public void setSpeedMultiplier(double speedMultiplier) {
+            this.speedMultiplier = speedMultiplier;
+        }
+
+        /**
+         * @return the last explosion trail time in millis, or {@link Long#MIN_VALUE}
+         */
+        public long getExplosionTrailLast() {
+            return explosionTrailLast;
+        }
+
+        public void setExplosionTrailLast(long explosionTrailLast) {
+            this.explosionTrailLast = explosionTrailLast;
+        }
+
+        public double getShadowStepChance() {
+            return shadowStepChance;
+        }
+
+        public void setShadowStepChance(double shadowStepChance) {
+            this.shadowStepChance = shadowStepChance;
+        }
+
+        public double getShadowStepMaxDistance() {
+            return shadowStepMaxDistance;
+        }
+
+        public void setShadowStepMaxDistance(double shadowStepMaxDistance) {
+            this.shadowStepMaxDistance = shadowStepMaxDistance;
+        }
+
+        public long getShadowStepCooldownTicks() {
+            return shadowStepCooldownTicks;
+        }
+
+        public void setShadowStepCooldownTicks(long shadowStepCooldownTicks) {
+            this.shadowStepCooldownTicks = shadowStepCooldownTicks;
+        }
+
+        /**
+         * @return world full time of the last shadow step, or {@link Long#MIN_VALUE}
+         */
+        public long getShadowStepLast() {
+            return shadowStepLast;
+        }
+
+        public void setShadowStepLast(long shadowStepLast) {
+            this.shadowStepLast = shadowStepLast;
+        }
+
+        public int getShadowCloakMaxLight() {
+            return shadowCloakMaxLight;
+        }
+
+        public void setShadowCloakMaxLight(int shadowCloakMaxLight) {
+            this.shadowCloakMaxLight = shadowCloakMaxLight;
+        }
+
+        public long getTeleportProtectionUntil() {
+            return teleportProtectionUntil;
+        }
+
+        public void setTeleportProtectionUntil(long teleportProtectionUntil) {
+            this.teleportProtectionUntil = teleportProtectionUntil;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Per-player spell state shared by every subsystem, with one teardown path.
+ * <p>
+ * Spells and services used to keep their own {@code Map<UUID, ...>}, each with its own cleanup:
+ * some relied on a {@code WeakHashMap} keyed by a UUID, some were never cleared at all. They now
+ * register a typed {@link Slot} by name instead. The player join/quit listener releases every slot
+ * of a player when they quit, the {@link Scope#WORLD world-scoped} ones when they change worlds, and
+ * the plugin releases all of them on disable. A slot may carry a release action, such as cancelling
+ * the task behind a toggle spell, which runs for every entry removed by a teardown but not for
+ * entries the owner removes itself.
+ * <p>
+ * Spells are rebuilt on every reload, so registering a name a second time hands out the existing
+ * slot and its entries. {@link #usage(Predicate)} reports the retained entries per slot for
+ * {@code /ew debug memory}. Slots are thread-safe; teardown runs on the main thread.
+ */
+public final class PlayerSpellSession {
+
+    private static final PlayerSpellSession GLOBAL = new PlayerSpellSession(
+            Logger.getLogger(PlayerSpellSession.class.getName()));
+
+    /**
+     * When the entries of a slot are released.
+     */
+    public enum Scope {
+        /** Released when the player quits. */
+        SESSION,
+        /** Released when the player quits or changes worlds. */
+        WORLD
+    }
+
+    /**
+     * Retained entries of one slot.
+     *
+     * @param name    slot name, usually the owning spell's key
+     * @param scope   release scope
+     * @param entries entries held
+     * @param offline entries held for players that are not online, which should be 0
+     */
+    public record Usage(String name, Scope scope, int entries, int offline) {
+    }
+
+    /**
+     * Per-player values of one subsystem.
+     *
+     * @param <T> the value type
+     */
+    public static final class Slot<T> {
+        private final String name;
+        private final Scope scope;
+        private final Consumer<? super T> release;
+        private final Map<UUID, T> values = new ConcurrentHashMap<>();
+
+        private Slot(String name, Scope scope, Consumer<? super T> release) {
+            this.name = name;
+            this.scope = scope;
+            this.release = release;
+        }
+
+        @Nullable
+        public T get(@NotNull UUID playerId) {
+            return values.get(playerId);
+        }
+
+        public T getOrDefault(@NotNull UUID playerId, T fallback) {
+            return values.getOrDefault(playerId, fallback);
+        }
+
+        public boolean containsKey(@NotNull UUID playerId) {
+            return values.containsKey(playerId);
+        }
+
+        /**
+         * @return the previous value, which is not released
+         */
+        @Nullable
+        public T put(@NotNull UUID playerId, @NotNull T value) {
+            return values.put(playerId, value);
+        }
+
+        public T computeIfAbsent(@NotNull UUID playerId, @NotNull Function<? super UUID, ? extends T> factory) {
+            return values.computeIfAbsent(playerId, factory);
+        }
+
+        /**
+         * Removes a value without running the release action; the caller cleans it up.
+         */
+        @Nullable
+        public T remove(@NotNull UUID playerId) {
+            return values.remove(playerId);
+        }
+
+        public int size() {
+            return values.size();
+        }
+
+        @NotNull
+        public String name() {
+            return name;
+        }
+
+        @NotNull
+        public Scope scope() {
+            return scope;
+        }
+
+        private boolean release(UUID playerId, Logger logger) {
+            T value = values.remove(playerId);
+            if (value == null) {
+                return false;
+            }
+            if (release != null) {
+                try {
+                    release.accept(value);
+                } catch (RuntimeException e) {
+                    logger.log(Level.WARNING, "Failed to release session slot " + name + " for " + playerId, e);
+                }
+            }
+            return true;
+        }
+    }
+
+    private final Logger logger;
+    private final Map<String, Slot<?>> slots = new ConcurrentHashMap<>();
+
+    public PlayerSpellSession(@NotNull Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * The session shared by the plugin's spells and services. Spells are built without a plugin
+     * reference, so they register their slots here from field initialisers.
+     */
+    @NotNull
+    public static PlayerSpellSession global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Registers a slot without a release action.
+     *
+     * @see #slot(String, Scope, Consumer)
+     */
+    @NotNull
+    public <T> Slot<T> slot(@NotNull String name, @NotNull Scope scope) {
+        return slot(name, scope, null);
+    }
+
+    /**
+     * Registers a slot, or returns the one already registered under {@code name}.
+     *
+     * @param release run for every entry a teardown removes, or null
+     * @throws IllegalArgumentException if {@code name} is registered with another scope
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <T> Slot<T> slot(@NotNull String name, @NotNull Scope scope, @Nullable Consumer<? super T> release) {
+        Slot<?> slot = slots.computeIfAbsent(name, n -> new Slot<T>(n, scope, release));
+        if (slot.scope != scope) {
+            throw new IllegalArgumentException("Session slot " + name + " is already registered as " + slot.scope);
+        }
+        return (Slot<T>) slot;
+    }
+
+    /**
+     * Releases every slot of a player that quit.
+     *
+     * @return the number of entries released
+     */
+    public int release(@NotNull UUID playerId) {
+        return release(playerId, null);
+    }
+
+    /**
+     * Releases the world-scoped slots of a player that changed worlds.
+     *
+     * @return the number of entries released
+     */
+    public int changeWorld(@NotNull UUID playerId) {
+        return release(playerId, Scope.WORLD);
+    }
+
+    private int release(UUID playerId, Scope only) {
+        int released = 0;
+        for (Slot<?> slot : slots.values()) {
+            if ((only == null || slot.scope == only) && slot.release(playerId, logger)) {
+                released++;
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Releases every entry of every player, for plugin disable.
+     *
+     * @return the number of entries released
+     */
+    public int releaseAll() {
+        int released = 0;
+        for (Slot<?> slot : slots.values()) {
+            for (UUID playerId : new ArrayList<>(slot.values.keySet())) {
+                if (slot.release(playerId, logger)) {
+                    released++;
+                }
+            }
+        }
+        return released;
+    }
+
+    /**
+     * @param online whether a player is online; entries of other players are counted as offline
+     * @return retained entries per slot, largest first
+     */
+    @NotNull
+    public List<Usage> usage(@NotNull Predicate<UUID> online) {
+        List<Usage> usage = new ArrayList<>(slots.size());
+        for (Slot<?> slot : slots.values()) {
+            int offline = 0;
+            for (UUID playerId : slot.values.keySet()) {
+                if (!online.test(playerId)) {
+                    offline++;
+                }
+            }
+            usage.add(new Usage(slot.name, slot.scope, slot.values.size(), offline));
+        }
+        usage.sort(Comparator.comparingInt(Usage::entries).reversed().thenComparing(Usage::name));
+        return usage;
+    }
+}
@@ -0,0 +1,175 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import nl.wantedchef.empirewand.core.task.TaskManager;
+import org.bukkit.Server;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Scales spell and effect density to the server's tick time.
+ * <p>
+ * Once per second the governor reads the average tick time over the server's last 100 ticks,
+ * smooths it and moves a global quality level between {@code minQuality} and 1. Above the
+ * operator's target band the level drops by {@value #STEP_DOWN}; below it the level climbs back by
+ * {@value #STEP_UP}; inside the band it holds. The band and the slower recovery form the hysteresis
+ * that keeps the level from flapping around a single threshold. Subsystems ask the governor to
+ * scale particle counts, render frames and per-tick budgets, so a loaded server sheds visual work
+ * before the lag gets worse. Reads are thread-safe; sampling runs on the main thread.
+ */
+public final class QualityGovernor {
+
+    /** Ticks between two tick-time samples. */
+    public static final long SAMPLE_PERIOD_TICKS = 20L;
+    /** Weight of a new sample in the smoothed tick time. */
+    static final double SMOOTHING = 0.3;
+    static final double STEP_DOWN = 0.1;
+    static final double STEP_UP = 0.05;
+
+    /**
+     * Governor state.
+     *
+     * @param quality      current quality level, 1 is full detail
+     * @param smoothedMspt smoothed milliseconds per tick, 0 before the first sample
+     * @param lowMspt      lower edge of the target band; quality recovers below it
+     * @param highMspt     upper edge of the target band; quality degrades above it
+     * @param minQuality   floor of the quality level
+     * @param degradations samples that lowered the level
+     * @param recoveries   samples that raised the level
+     */
+    public record Stats(double quality, double smoothedMspt, double lowMspt, double highMspt, double minQuality,
+            long degradations, long recoveries) {
+    }
+
+    private final DoubleSupplier msptSource;
+    private final double minQuality;
+    private volatile double lowMspt;
+    private volatile double highMspt;
+    private volatile double quality = 1.0;
+    private volatile double smoothedMspt;
+    private boolean sampled;
+    private long degradations;
+    private long recoveries;
+    private BukkitTask task;
+
+    /**
+     * @param lowMspt    quality recovers while the smoothed tick time is below this
+     * @param highMspt   quality degrades while the smoothed tick time is above this
+     * @param minQuality lowest quality level, between 0 and 1
+     */
+    public QualityGovernor(@NotNull Server server, double lowMspt, double highMspt, double minQuality) {
+        this(server::getAverageTickTime, lowMspt, highMspt, minQuality);
+    }
+
+    QualityGovernor(@NotNull DoubleSupplier msptSource, double lowMspt, double highMspt, double minQuality) {
+        this.msptSource = msptSource;
+        this.minQuality = Math.max(0.05, Math.min(1.0, minQuality));
+        setTargetBand(lowMspt, highMspt);
+    }
+
+    /**
+     * Starts sampling the tick time.
+     */
+    public void start(@NotNull TaskManager taskManager) {
+        if (task == null) {
+            task = taskManager.runTaskTimer("quality-governor", this::sample, SAMPLE_PERIOD_TICKS, SAMPLE_PERIOD_TICKS);
+        }
+    }
+
+    /**
+     * Stops sampling and restores full quality.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        quality = 1.0;
+    }
+
+    /**
+     * Sets the target band in milliseconds per tick.
+     *
+     * @throws IllegalArgumentException if the band is empty or not positive
+     */
+    public void setTargetBand(double lowMspt, double highMspt) {
+        if (!(lowMspt > 0.0) || !(highMspt > lowMspt)) {
+            throw new IllegalArgumentException("Target band must satisfy 0 < low < high, got "
+                    + lowMspt + ".." + highMspt);
+        }
+        this.lowMspt = lowMspt;
+        this.highMspt = highMspt;
+    }
+
+    void sample() {
+        double mspt = msptSource.getAsDouble();
+        if (!Double.isFinite(mspt) || mspt < 0.0) {
+            return;
+        }
+        double smoothed = sampled ? smoothedMspt + SMOOTHING * (mspt - smoothedMspt) : mspt;
+        sampled = true;
+        smoothedMspt = smoothed;
+
+        double current = quality;
+        if (smoothed > highMspt && current > minQuality) {
+            quality = Math.max(minQuality, round(current - STEP_DOWN));
+            degradations++;
+        } else if (smoothed < lowMspt && current < 1.0) {
+            quality = Math.min(1.0, round(current + STEP_UP));
+            recoveries++;
+        }
+    }
+
+    private static double round(double level) {
+        // Keeps repeated steps from drifting off the 0.05 grid
+        return Math.round(level * 100.0) / 100.0;
+    }
+
+    /**
+     * @return the current quality level, from {@code minQuality} up to 1
+     */
+    public double quality() {
+        return quality;
+    }
+
+    /**
+     * Scales a particle or entity count. Counts of 0 and 1 are kept as they are, since a count of 0
+     * makes some particles directional; any other count stays at least 1.
+     */
+    public int scaleCount(int count) {
+        double q = quality;
+        if (count <= 1 || q >= 1.0) {
+            return count;
+        }
+        return Math.max(1, (int) Math.round(count * q));
+    }
+
+    /**
+     * Stretches the period of a repeating visual update.
+     */
+    public long scalePeriod(long periodTicks) {
+        double q = quality;
+        if (periodTicks <= 0L || q >= 1.0) {
+            return periodTicks;
+        }
+        return Math.max(periodTicks, Math.round(periodTicks / q));
+    }
+
+    /**
+     * Whether frame {@code frame} of a fixed-rate render loop should be drawn. At quality
+     * {@code q} a fraction {@code q} of the frames is kept, spread evenly.
+     */
+    public boolean keepFrame(long frame) {
+        double q = quality;
+        if (q >= 1.0) {
+            return true;
+        }
+        return (long) Math.floor(frame * q) != (long) Math.floor((frame - 1) * q);
+    }
+
+    @NotNull
+    public Stats stats() {
+        return new Stats(quality, smoothedMspt, lowMspt, highMspt, minQuality, degradations, recoveries);
+    }
+}
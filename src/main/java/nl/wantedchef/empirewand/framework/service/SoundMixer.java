@@ -0,0 +1,290 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import nl.wantedchef.empirewand.core.task.TaskManager;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Collects the sounds requested during a tick and plays them in one bounded pass.
+ * <p>
+ * Spells play the same sound for every minion, wave segment or chain jump, and each call used to
+ * send a packet to every client in range. Requests are mixed instead: the same sound at the same
+ * pitch within one {@value #CELL_SIZE}-block cell merges into a single voice at the loudest
+ * requested volume. The first request of a tick schedules one flush for the next tick, which
+ * plays voices loudest first, at most {@code maxVoicesPerChunk} per chunk, and stops sending to a
+ * player once they heard {@code maxVoicesPerListener} sounds that tick. Sounds aimed at a single
+ * player merge per player and are sent before world sounds. Requests are thread-safe; the flush
+ * runs on the main thread.
+ */
+public final class SoundMixer {
+
+    /** Edge length in blocks of the cells within which equal sounds merge. */
+    public static final int CELL_SIZE = 2;
+    private static final float PITCH_STEPS = 20.0f;
+
+    /**
+     * Mixing statistics.
+     *
+     * @param requested       sounds requested
+     * @param merged          requests folded into a voice already queued that tick
+     * @param chunkLimited    voices dropped by the per-chunk limit
+     * @param listenerLimited sounds not sent because the listener's limit was reached
+     * @param packets         sounds sent to players
+     * @param flushes         ticks that played sounds
+     */
+    public record Stats(long requested, long merged, long chunkLimited, long listenerLimited, long packets,
+            long flushes) {
+    }
+
+    private record VoiceKey(Object target, Sound sound, SoundCategory category, long cell, int pitch) {
+    }
+
+    private static final class Voice {
+        final World world;
+        final Player player;
+        final double x, y, z;
+        final Sound sound;
+        final SoundCategory category;
+        final float pitch;
+        float volume;
+
+        Voice(World world, Player player, Location location, Sound sound, SoundCategory category, float volume,
+                float pitch) {
+            this.world = world;
+            this.player = player;
+            // Copied because callers keep moving their location objects along a path
+            this.x = location.getX();
+            this.y = location.getY();
+            this.z = location.getZ();
+            this.sound = sound;
+            this.category = category;
+            this.volume = volume;
+            this.pitch = pitch;
+        }
+
+        void playTo(Player listener) {
+            listener.playSound(new Location(world, x, y, z), sound, category, volume, pitch);
+        }
+    }
+
+    private static final Comparator<Voice> LOUDEST_FIRST = (a, b) -> Float.compare(b.volume, a.volume);
+
+    private final Consumer<Runnable> mainThread;
+    private final int maxVoicesPerChunk;
+    private final int maxVoicesPerListener;
+
+    // Guarded by this
+    private Map<World, Map<VoiceKey, Voice>> worldVoices = new HashMap<>();
+    private Map<VoiceKey, Voice> playerVoices = new HashMap<>();
+    private boolean flushScheduled;
+    private long requested;
+    private long merged;
+    private long chunkLimited;
+    private long listenerLimited;
+    private long packets;
+    private long flushes;
+
+    /**
+     * @param maxVoicesPerChunk    voices played per chunk and tick
+     * @param maxVoicesPerListener sounds sent to one player per tick
+     */
+    public SoundMixer(@NotNull TaskManager taskManager, int maxVoicesPerChunk, int maxVoicesPerListener) {
+        this(r -> taskManager.runTask("sound-mixer", r), maxVoicesPerChunk, maxVoicesPerListener);
+    }
+
+    SoundMixer(@NotNull Consumer<Runnable> mainThread, int maxVoicesPerChunk, int maxVoicesPerListener) {
+        this.mainThread = mainThread;
+        this.maxVoicesPerChunk = Math.max(1, maxVoicesPerChunk);
+        this.maxVoicesPerListener = Math.max(1, maxVoicesPerListener);
+    }
+
+    /**
+     * Requests a sound audible to every player in range, like {@link World#playSound}.
+     */
+    public void play(@NotNull Location location, @NotNull Sound sound, @NotNull SoundCategory category,
+            float volume, float pitch) {
+        World world = location.getWorld();
+        if (world == null) {
+            return;
+        }
+        long cell = cell(location);
+        synchronized (this) {
+            requested++;
+            Map<VoiceKey, Voice> voices = worldVoices.computeIfAbsent(world, w -> new HashMap<>());
+            VoiceKey key = new VoiceKey(null, sound, category, cell, pitchStep(pitch));
+            if (!merge(voices, key, volume)) {
+                queue(voices, key, new Voice(world, null, location, sound, category, volume, pitch));
+            }
+        }
+    }
+
+    /**
+     * Requests a sound only {@code player} hears, like {@link Player#playSound}.
+     */
+    public void play(@NotNull Player player, @NotNull Location location, @NotNull Sound sound,
+            @NotNull SoundCategory category, float volume, float pitch) {
+        synchronized (this) {
+            requested++;
+            VoiceKey key = new VoiceKey(player, sound, category, 0L, pitchStep(pitch));
+            if (!merge(playerVoices, key, volume)) {
+                queue(playerVoices, key, new Voice(location.getWorld(), player, location, sound, category, volume,
+                        pitch));
+            }
+        }
+    }
+
+    private boolean merge(Map<VoiceKey, Voice> voices, VoiceKey key, float volume) {
+        Voice voice = voices.get(key);
+        if (voice == null) {
+            return false;
+        }
+        voice.volume = Math.max(voice.volume, volume);
+        merged++;
+        return true;
+    }
+
+    private void queue(Map<VoiceKey, Voice> voices, VoiceKey key, Voice voice) {
+        voices.put(key, voice);
+        if (!flushScheduled) {
+            flushScheduled = true;
+            mainThread.accept(this::flush);
+        }
+    }
+
+    /**
+     * Plays every voice mixed since the last flush; runs on the main thread.
+     */
+    void flush() {
+        Map<World, Map<VoiceKey, Voice>> worlds;
+        Map<VoiceKey, Voice> direct;
+        synchronized (this) {
+            flushScheduled = false;
+            worlds = worldVoices;
+            direct = playerVoices;
+            worldVoices = new HashMap<>();
+            playerVoices = new HashMap<>();
+        }
+        if (worlds.isEmpty() && direct.isEmpty()) {
+            return;
+        }
+
+        Map<Player, int[]> heard = new IdentityHashMap<>();
+        long sent = 0;
+        long chunkDropped = 0;
+        long listenerDropped = 0;
+
+        // Sounds aimed at one player are mostly feedback on their own actions, so they go first
+        for (Voice voice : direct.values()) {
+            if (!voice.player.isOnline()) {
+                continue;
+            }
+            if (hear(heard, voice.player)) {
+                voice.playTo(voice.player);
+                sent++;
+            } else {
+                listenerDropped++;
+            }
+        }
+
+        for (Map.Entry<World, Map<VoiceKey, Voice>> entry : worlds.entrySet()) {
+            List<Player> players = entry.getKey().getPlayers();
+            if (players.isEmpty()) {
+                continue;
+            }
+            // Listener positions are read once per world instead of once per voice
+            int count = players.size();
+            double[] positions = new double[count * 3];
+            for (int i = 0; i < count; i++) {
+                Location at = players.get(i).getLocation();
+                positions[i * 3] = at.getX();
+                positions[i * 3 + 1] = at.getY();
+                positions[i * 3 + 2] = at.getZ();
+            }
+
+            List<Voice> voices = new ArrayList<>(entry.getValue().values());
+            voices.sort(LOUDEST_FIRST);
+            Map<Long, int[]> chunkVoices = new HashMap<>();
+            for (Voice voice : voices) {
+                long chunk = ((long) ((int) Math.floor(voice.x) >> 4) << 32)
+                        | (((int) Math.floor(voice.z) >> 4) & 0xFFFFFFFFL);
+                int[] inChunk = chunkVoices.computeIfAbsent(chunk, c -> new int[1]);
+                if (inChunk[0] >= maxVoicesPerChunk) {
+                    chunkDropped++;
+                    continue;
+                }
+                inChunk[0]++;
+
+                // Vanilla attenuation: 16 blocks, scaled up by volumes above 1
+                double range = 16.0 * Math.max(1.0f, voice.volume);
+                double rangeSquared = range * range;
+                for (int i = 0; i < count; i++) {
+                    double dx = positions[i * 3] - voice.x;
+                    double dy = positions[i * 3 + 1] - voice.y;
+                    double dz = positions[i * 3 + 2] - voice.z;
+                    if (dx * dx + dy * dy + dz * dz > rangeSquared) {
+                        continue;
+                    }
+                    Player listener = players.get(i);
+                    if (hear(heard, listener)) {
+                        voice.playTo(listener);
+                        sent++;
+                    } else {
+                        listenerDropped++;
+                    }
+                }
+            }
+        }
+
+        synchronized (this) {
+            packets += sent;
+            chunkLimited += chunkDropped;
+            listenerLimited += listenerDropped;
+            flushes++;
+        }
+    }
+
+    /**
+     * Plays the voices still pending, for plugin disable: cancelling the plugin's tasks also
+     * cancels a flush already scheduled for the next tick. Callers stop routing sounds here first.
+     */
+    public void shutdown() {
+        flush();
+    }
+
+    private boolean hear(Map<Player, int[]> heard, Player listener) {
+        int[] sounds = heard.computeIfAbsent(listener, p -> new int[1]);
+        if (sounds[0] >= maxVoicesPerListener) {
+            return false;
+        }
+        sounds[0]++;
+        return true;
+    }
+
+    private static long cell(Location location) {
+        long x = Math.floorDiv(location.getBlockX(), CELL_SIZE);
+        long y = Math.floorDiv(location.getBlockY(), CELL_SIZE);
+        long z = Math.floorDiv(location.getBlockZ(), CELL_SIZE);
+        return ((x & 0x3FFFFFL) << 42) | ((z & 0x3FFFFFL) << 20) | (y & 0xFFFFFL);
+    }
+
+    private static int pitchStep(float pitch) {
+        return Math.round(pitch * PITCH_STEPS);
+    }
+
+    @NotNull
+    public synchronized Stats stats() {
+        return new Stats(requested, merged, chunkLimited, listenerLimited, packets, flushes);
+    }
+}
@@ -0,0 +1,306 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import nl.wantedchef.empirewand.core.storage.Keys;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+/**
+ * Main-thread index of entities spawned by spells.
+ * <p>
+ * Damage, hit and explode handlers fire for every entity on the server, and resolving
+ * ownership through the PersistentDataContainer costs an NBT lookup, a string read and a
+ * {@link UUID} parse per event. Spells register the entities they spawn here instead, keyed
+ * by {@link Entity#getEntityId()}, so a handler resolves spell and caster with a single
+ * int-keyed lookup.
+ * <p>
+ * The PersistentDataContainer is still written by {@link #tag} as a persistence fallback:
+ * when {@link #lookup(Entity)} misses (for example after a reload) the legacy keys are read
+ * once and the result, including "not a spell entity", is cached until the entity dies, is
+ * removed or its chunk unloads. Not thread-safe; main thread only.
+ */
+public final class SpellEntityRegistry implements Listener {
+
+    /** Entity is a spell projectile. */
+    public static final int PROJECTILE = 1;
+    /** Entity is a summoned minion. */
+    public static final int MINION = 1 << 1;
+    /** Entity is a spell lightning strike. */
+    public static final int LIGHTNING = 1 << 2;
+
+    static final NamespacedKey MINION_OWNER = Keys.createKey("minion.owner");
+    static final NamespacedKey LIGHTNING_SPELL = Keys.createKey("spell_lightning");
+    static final NamespacedKey LIGHTNING_CASTER = Keys.createKey("spell_caster");
+
+    /** Cached result for entities that carry no spell data. */
+    private static final Tag NONE = new Tag(null, null, 0, 0);
+
+    private static final int EMPTY = 0;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    /**
+     * Spell data attached to an entity.
+     * <p>
+     * The spell is kept by key, not by {@link SpellIndex} ordinal: ordinals are reassigned when
+     * the index is rebuilt on reload, and tagged entities outlive the index they were cast from.
+     *
+     * @param spellKey the spell that spawned the entity, {@code null} when unknown
+     * @param caster   the casting player's id, {@code null} when unknown
+     * @param castTick server tick at registration
+     * @param flags    {@link #PROJECTILE}, {@link #MINION} and/or {@link #LIGHTNING}
+     */
+    public record Tag(@Nullable String spellKey, @Nullable UUID caster, int castTick, int flags) {
+
+        public boolean has(int flag) {
+            return (flags & flag) != 0;
+        }
+
+        public boolean isOwnedBy(@NotNull UUID playerId) {
+            return playerId.equals(caster);
+        }
+    }
+
+    private final IntSupplier tickSource;
+
+    // Open-addressed table keyed by entity id + 1 so that 0 marks an empty slot
+    private int[] ids = new int[64];
+    private Tag[] tags = new Tag[64];
+    private int size;
+    private int threshold = (int) (64 * LOAD_FACTOR);
+
+    public SpellEntityRegistry() {
+        this(Bukkit::getCurrentTick);
+    }
+
+    /**
+     * @param tickSource supplies the current server tick stored as cast tick
+     */
+    public SpellEntityRegistry(@NotNull IntSupplier tickSource) {
+        this.tickSource = tickSource;
+    }
+
+    /**
+     * Registers a spell entity and writes the PersistentDataContainer fallback.
+     *
+     * @param entity   the spawned entity
+     * @param spellKey the spell key
+     * @param caster   the casting player's id
+     * @param flags    entity kind flags
+     */
+    public void tag(@NotNull Entity entity, @NotNull String spellKey, @NotNull UUID caster, int flags) {
+        register(entity, spellKey, caster, flags);
+
+        PersistentDataContainer pdc = entity.getPersistentDataContainer();
+        if ((flags & PROJECTILE) != 0) {
+            pdc.set(Keys.PROJECTILE_SPELL, Keys.STRING_TYPE.getType(), spellKey);
+            pdc.set(Keys.PROJECTILE_OWNER, Keys.STRING_TYPE.getType(), caster.toString());
+        }
+        if ((flags & MINION) != 0) {
+            pdc.set(MINION_OWNER, Keys.STRING_TYPE.getType(), caster.toString());
+        }
+        if ((flags & LIGHTNING) != 0) {
+            pdc.set(LIGHTNING_SPELL, Keys.STRING_TYPE.getType(), spellKey);
+            pdc.set(LIGHTNING_CASTER, Keys.STRING_TYPE.getType(), caster.toString());
+        }
+    }
+
+    /**
+     * Registers a spell entity in memory only, for callers that already wrote the
+     * PersistentDataContainer keys themselves.
+     */
+    public void register(@NotNull Entity entity, @NotNull String spellKey, @NotNull UUID caster, int flags) {
+        put(entity.getEntityId(), new Tag(spellKey, caster, tickSource.getAsInt(), flags));
+    }
+
+    /**
+     * Resolves the spell data of an entity, reading the PersistentDataContainer only on the
+     * first lookup of an entity that was not registered in this session.
+     *
+     * @return the tag, or {@code null} when the entity was not spawned by a spell
+     */
+    @Nullable
+    public Tag lookup(@Nullable Entity entity) {
+        if (entity == null) {
+            return null;
+        }
+        int id = entity.getEntityId();
+        Tag tag = get(id);
+        if (tag == null) {
+            tag = readFallback(entity);
+            put(id, tag);
+        }
+        return tag == NONE ? null : tag;
+    }
+
+    /**
+     * Resolves the spell data of an entity only if it carries the given flag.
+     */
+    @Nullable
+    public Tag lookup(@Nullable Entity entity, int flag) {
+        Tag tag = lookup(entity);
+        return tag != null && tag.has(flag) ? tag : null;
+    }
+
+    /**
+     * Drops the entry of an entity.
+     */
+    public void forget(@NotNull Entity entity) {
+        remove(entity.getEntityId());
+    }
+
+    /**
+     * @return number of cached entries, including entities cached as "not a spell entity"
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Drops every entry.
+     */
+    public void clear() {
+        Arrays.fill(ids, EMPTY);
+        Arrays.fill(tags, null);
+        size = 0;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        forget(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveFromWorldEvent event) {
+        forget(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        if (size == 0) {
+            return;
+        }
+        for (Entity entity : event.getChunk().getEntities()) {
+            forget(entity);
+        }
+    }
+
+    private static Tag readFallback(Entity entity) {
+        PersistentDataContainer pdc = entity.getPersistentDataContainer();
+        var stringType = Keys.STRING_TYPE.getType();
+
+        String spellKey = pdc.get(Keys.PROJECTILE_SPELL, stringType);
+        if (spellKey != null && !spellKey.isEmpty()) {
+            return new Tag(spellKey, parse(pdc.get(Keys.PROJECTILE_OWNER, stringType)), 0, PROJECTILE);
+        }
+        String minionOwner = pdc.get(MINION_OWNER, stringType);
+        if (minionOwner != null) {
+            return new Tag(null, parse(minionOwner), 0, MINION);
+        }
+        String lightningSpell = pdc.get(LIGHTNING_SPELL, stringType);
+        if (lightningSpell != null) {
+            return new Tag(lightningSpell, parse(pdc.get(LIGHTNING_CASTER, stringType)), 0, LIGHTNING);
+        }
+        return NONE;
+    }
+
+    private static UUID parse(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static int slot(int key, int mask) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private Tag get(int entityId) {
+        int key = entityId + 1;
+        int mask = ids.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            int current = ids[i];
+            if (current == key) {
+                return tags[i];
+            }
+            if (current == EMPTY) {
+                return null;
+            }
+        }
+    }
+
+    private void put(int entityId, Tag tag) {
+        int key = entityId + 1;
+        int mask = ids.length - 1;
+        int i = slot(key, mask);
+        while (ids[i] != EMPTY) {
+            if (ids[i] == key) {
+                tags[i] = tag;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        ids[i] = key;
+        tags[i] = tag;
+        if (++size > threshold) {
+            resize();
+        }
+    }
+
+    private void remove(int entityId) {
+        int key = entityId + 1;
+        int mask = ids.length - 1;
+        int i = slot(key, mask);
+        while (ids[i] != key) {
+            if (ids[i] == EMPTY) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        size--;
+        // Backward-shift deletion keeps probe chains intact without tombstones
+        int gap = i;
+        for (int j = (gap + 1) & mask; ids[j] != EMPTY; j = (j + 1) & mask) {
+            int home = slot(ids[j], mask);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                ids[gap] = ids[j];
+                tags[gap] = tags[j];
+                gap = j;
+            }
+        }
+        ids[gap] = EMPTY;
+        tags[gap] = null;
+    }
+
+    private void resize() {
+        int[] oldIds = ids;
+        Tag[] oldTags = tags;
+        int capacity = oldIds.length * 2;
+        ids = new int[capacity];
+        tags = new Tag[capacity];
+        threshold = (int) (capacity * LOAD_FACTOR);
+        size = 0;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != EMPTY) {
+                put(oldIds[i] - 1, oldTags[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import nl.wantedchef.empirewand.core.task.TaskManager;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fires spell events only when someone listens, and batches events raised off the main thread.
+ * <p>
+ * Every cast and failure used to build an event and call the plugin manager even when no plugin
+ * listened, and every event raised by an async cast got a scheduler task of its own. Callers now
+ * pass the event's {@link HandlerList} and a factory: without registered listeners the event is
+ * never built. On the main thread it is called right away. Off the main thread it is queued, and
+ * a single main-thread task drains everything queued during the tick, so a burst of async casts
+ * costs one scheduler task instead of one per event. Thread-safe.
+ */
+public final class SpellEventDispatcher {
+
+    /**
+     * Dispatch statistics.
+     *
+     * @param called    events built and called
+     * @param skipped   events never built because nobody listened
+     * @param batches   main-thread drains of queued events
+     * @param peakBatch most events drained in one batch
+     * @param pending   events waiting for the next drain
+     */
+    public record Stats(long called, long skipped, long batches, long peakBatch, int pending) {
+    }
+
+    private record PendingEvent(HandlerList handlers, Supplier<? extends Event> factory) {
+    }
+
+    private final Consumer<Runnable> mainThread;
+    private final BooleanSupplier primaryThread;
+    private final Consumer<Event> caller;
+    private final Logger logger;
+
+    private final Queue<PendingEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final AtomicLong called = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong peakBatch = new AtomicLong();
+
+    public SpellEventDispatcher(@NotNull TaskManager taskManager, @NotNull Logger logger) {
+        this(taskManager::runTask, Bukkit::isPrimaryThread, event -> Bukkit.getPluginManager().callEvent(event),
+                logger);
+    }
+
+    SpellEventDispatcher(@NotNull Consumer<Runnable> mainThread, @NotNull BooleanSupplier primaryThread,
+            @NotNull Consumer<Event> caller, @NotNull Logger logger) {
+        this.mainThread = mainThread;
+        this.primaryThread = primaryThread;
+        this.caller = caller;
+        this.logger = logger;
+    }
+
+    /**
+     * @return whether any listener is registered for the event type owning {@code handlers}
+     */
+    public static boolean hasListeners(@NotNull HandlerList handlers) {
+        return handlers.getRegisteredListeners().length > 0;
+    }
+
+    /**
+     * Builds and calls the event if anyone listens: right away on the main thread, or in the next
+     * main-thread batch otherwise.
+     *
+     * @param handlers the handler list of the event type
+     * @param factory  builds the event; only invoked when it will be called
+     */
+    public void dispatch(@NotNull HandlerList handlers, @NotNull Supplier<? extends Event> factory) {
+        if (!hasListeners(handlers)) {
+            skipped.incrementAndGet();
+            return;
+        }
+        if (primaryThread.getAsBoolean()) {
+            call(handlers, factory);
+            return;
+        }
+        pending.add(new PendingEvent(handlers, factory));
+        if (drainScheduled.compareAndSet(false, true)) {
+            mainThread.accept(this::drain);
+        }
+    }
+
+    /**
+     * Calls all queued events; runs on the main thread.
+     */
+    void drain() {
+        // Events queued from here on schedule the next drain
+        drainScheduled.set(false);
+        long drained = 0;
+        PendingEvent next;
+        while ((next = pending.poll()) != null) {
+            call(next.handlers(), next.factory());
+            drained++;
+        }
+        if (drained > 0) {
+            batches.incrementAndGet();
+            peakBatch.accumulateAndGet(drained, Math::max);
+        }
+    }
+
+    private void call(HandlerList handlers, Supplier<? extends Event> factory) {
+        // Listeners may have unregistered while the event was queued
+        if (!hasListeners(handlers)) {
+            skipped.incrementAndGet();
+            return;
+        }
+        try {
+            caller.accept(factory.get());
+            called.incrementAndGet();
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Failed to dispatch spell event", e);
+        }
+    }
+
+    @NotNull
+    public Stats stats() {
+        return new Stats(called.get(), skipped.get(), batches.get(), peakBatch.get(), pending.size());
+    }
+}
@@ -0,0 +1,305 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.NotNull;
+
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import nl.wantedchef.empirewand.api.spell.SpellRegistry.SpellQuery;
+import nl.wantedchef.empirewand.spell.Spell;
+
+/**
+ * Immutable, array-backed snapshot of the registered spells, indexed for queries.
+ * <p>
+ * Every spell gets a dense ordinal: its position in registration order. The values queries
+ * filter on (display name, cooldown, range, level requirement) live in arrays indexed by
+ * ordinal, category and tag membership in bitsets, and the ordinals are presorted once for every
+ * {@link SpellQuery.SortField}. A query intersects bitsets, checks the remaining range filters
+ * against the arrays and walks one presorted array; nothing is sorted or looked up by key per
+ * query. The registry builds a new snapshot whenever its spells change and swaps it in
+ * atomically, so readers never lock. Ordinals are stable within a snapshot; a reload may
+ * renumber them.
+ */
+public final class SpellIndex {
+
+    /**
+     * Per-spell values that come from configuration rather than from the spell itself.
+     *
+     * @param range            targeting range in blocks, 0 when unknown
+     * @param levelRequirement level needed to use the spell
+     * @param enabled          whether the spell is enabled
+     * @param tags             lower-case tags
+     */
+    public record Attributes(double range, int levelRequirement, boolean enabled, @NotNull Set<String> tags) {
+
+        /** Attributes of a spell without configuration. */
+        public static final Attributes DEFAULT = new Attributes(0.0, 0, true, Set.of());
+    }
+
+    /** The snapshot of a registry without spells. */
+    public static final SpellIndex EMPTY = build(List.of(), spell -> Attributes.DEFAULT);
+
+    private final Spell<?>[] spells;
+    private final Map<String, Integer> ordinals;
+    private final String[] plainNames;
+    private final String[] lowerNames;
+    private final long[] cooldownTicks;
+    private final Attributes[] attributes;
+    private final BitSet all;
+    private final BitSet enabled;
+    // Keyed by lower-case category and tag
+    private final Map<String, BitSet> categories;
+    private final Map<String, BitSet> tags;
+    private final Map<String, Set<String>> categoryKeys;
+    private final Map<String, Set<String>> tagKeys;
+    private final Set<String> categoryNames;
+    private final Set<String> tagNames;
+    // Ascending ordinals per SortField ordinal
+    private final int[][] sorted;
+
+    private SpellIndex(List<Spell<?>> registered, Function<Spell<?>, Attributes> attributesOf) {
+        int size = registered.size();
+        PlainTextComponentSerializer serializer = PlainTextComponentSerializer.plainText();
+        spells = registered.toArray(new Spell<?>[0]);
+        plainNames = new String[size];
+        lowerNames = new String[size];
+        cooldownTicks = new long[size];
+        attributes = new Attributes[size];
+        all = new BitSet(size);
+        enabled = new BitSet(size);
+
+        Map<String, Integer> ordinalMap = new HashMap<>(size * 2);
+        Map<String, BitSet> categoryMap = new HashMap<>();
+        Map<String, BitSet> tagMap = new HashMap<>();
+        Set<String> categoryNameSet = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            Spell<?> spell = spells[i];
+            ordinalMap.put(spell.key(), i);
+            plainNames[i] = serializer.serialize(spell.displayName());
+            lowerNames[i] = plainNames[i].toLowerCase(Locale.ROOT);
+            cooldownTicks[i] = spell.getCooldown().toMillis() / 50;
+            Attributes attrs = attributesOf.apply(spell);
+            attributes[i] = attrs == null ? Attributes.DEFAULT : attrs;
+            all.set(i);
+            if (attributes[i].enabled()) {
+                enabled.set(i);
+            }
+            String category = spell.type().name();
+            categoryNameSet.add(category);
+            categoryMap.computeIfAbsent(category.toLowerCase(Locale.ROOT), c -> new BitSet(size)).set(i);
+            for (String tag : attributes[i].tags()) {
+                tagMap.computeIfAbsent(tag.toLowerCase(Locale.ROOT), t -> new BitSet(size)).set(i);
+            }
+        }
+        ordinals = Map.copyOf(ordinalMap);
+        categories = Map.copyOf(categoryMap);
+        tags = Map.copyOf(tagMap);
+        categoryKeys = keysOf(categoryMap);
+        tagKeys = keysOf(tagMap);
+        categoryNames = Collections.unmodifiableSet(categoryNameSet);
+        tagNames = Collections.unmodifiableSet(new TreeMap<>(tagMap).keySet());
+
+        sorted = new int[SpellQuery.SortField.values().length][];
+        for (SpellQuery.SortField field : SpellQuery.SortField.values()) {
+            Comparator<Integer> order = switch (field) {
+                case NAME -> Comparator.comparing(i -> plainNames[i]);
+                case COOLDOWN -> Comparator.comparingLong(i -> cooldownTicks[i]);
+                case RANGE -> Comparator.comparingDouble(i -> attributes[i].range());
+                case LEVEL_REQUIREMENT -> Comparator.comparingInt(i -> attributes[i].levelRequirement());
+                case CATEGORY -> Comparator.comparing(i -> spells[i].type().name());
+            };
+            sorted[field.ordinal()] = IntStream.range(0, size).boxed()
+                    .sorted(order.thenComparing(i -> spells[i].key()))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+
+    private Map<String, Set<String>> keysOf(Map<String, BitSet> groups) {
+        Map<String, Set<String>> keys = new HashMap<>();
+        groups.forEach((group, members) -> {
+            Set<String> groupKeys = new LinkedHashSet<>();
+            members.stream().forEach(i -> groupKeys.add(spells[i].key()));
+            keys.put(group, Collections.unmodifiableSet(groupKeys));
+        });
+        return Map.copyOf(keys);
+    }
+
+    /**
+     * Builds a snapshot; ordinals follow the order of {@code registered}.
+     *
+     * @param registered   the spells in registration order
+     * @param attributesOf configured attributes per spell
+     */
+    @NotNull
+    public static SpellIndex build(@NotNull List<Spell<?>> registered,
+            @NotNull Function<Spell<?>, Attributes> attributesOf) {
+        return new SpellIndex(registered, attributesOf);
+    }
+
+    /**
+     * @return the number of spells
+     */
+    public int size() {
+        return spells.length;
+    }
+
+    /**
+     * @return the ordinal of the spell registered under {@code key}, or -1
+     */
+    public int ordinal(@NotNull String key) {
+        Integer ordinal = ordinals.get(key);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * @return the spell with the given ordinal
+     */
+    @NotNull
+    public Spell<?> spell(int ordinal) {
+        return spells[ordinal];
+    }
+
+    /**
+     * @return all spells in ordinal order
+     */
+    @NotNull
+    public List<Spell<?>> spells() {
+        return Collections.unmodifiableList(Arrays.asList(spells));
+    }
+
+    /**
+     * @return the configured attributes of the spell with the given ordinal
+     */
+    @NotNull
+    public Attributes attributes(int ordinal) {
+        return attributes[ordinal];
+    }
+
+    /**
+     * @return the category names in use, as written by {@code SpellType#name()}
+     */
+    @NotNull
+    public Set<String> categories() {
+        return categoryNames;
+    }
+
+    /**
+     * @return the lower-case tags in use, sorted
+     */
+    @NotNull
+    public Set<String> tags() {
+        return tagNames;
+    }
+
+    /**
+     * @return the keys of the spells in {@code category}, ignoring case
+     */
+    @NotNull
+    public Set<String> keysInCategory(@NotNull String category) {
+        return categoryKeys.getOrDefault(category.toLowerCase(Locale.ROOT), Set.of());
+    }
+
+    /**
+     * @return the keys of the spells tagged {@code tag}, ignoring case
+     */
+    @NotNull
+    public Set<String> keysWithTag(@NotNull String tag) {
+        return tagKeys.getOrDefault(tag.toLowerCase(Locale.ROOT), Set.of());
+    }
+
+    /**
+     * @return the number of enabled spells
+     */
+    public int enabledCount() {
+        return enabled.cardinality();
+    }
+
+    /**
+     * Runs a query against this snapshot.
+     */
+    @NotNull
+    public List<Spell<?>> query(@NotNull SpellQuery query) {
+        BitSet match = (BitSet) all.clone();
+        String category = query.getCategory();
+        if (category != null && !category.isEmpty()) {
+            intersect(match, categories.get(category.toLowerCase(Locale.ROOT)));
+        }
+        String tag = query.getTag();
+        if (tag != null && !tag.isEmpty()) {
+            intersect(match, tags.get(tag.toLowerCase(Locale.ROOT)));
+        }
+        Boolean enabledFilter = query.isEnabled();
+        if (enabledFilter != null) {
+            if (enabledFilter) {
+                match.and(enabled);
+            } else {
+                match.andNot(enabled);
+            }
+        }
+
+        String nameContains = query.getNameContains();
+        String lowerName = nameContains == null || nameContains.isBlank() ? null
+                : nameContains.toLowerCase(Locale.ROOT);
+        long maxCooldown = query.getMaxCooldown();
+        double minRange = query.getMinRange();
+        double maxRange = query.getMaxRange();
+        int maxLevel = query.getMaxLevelRequirement();
+        if (lowerName != null || maxCooldown >= 0 || minRange >= 0 || maxRange >= 0 || maxLevel >= 0) {
+            for (int i = match.nextSetBit(0); i >= 0; i = match.nextSetBit(i + 1)) {
+                Attributes attrs = attributes[i];
+                if ((lowerName != null && !lowerNames[i].contains(lowerName))
+                        || (maxCooldown >= 0 && cooldownTicks[i] > maxCooldown)
+                        || (minRange >= 0 && attrs.range() < minRange)
+                        || (maxRange >= 0 && attrs.range() > maxRange)
+                        || (maxLevel >= 0 && attrs.levelRequirement() > maxLevel)) {
+                    match.clear(i);
+                }
+            }
+        }
+
+        int limit = query.getLimit() > 0 ? query.getLimit() : Integer.MAX_VALUE;
+        int size = Math.min(match.cardinality(), limit);
+        List<Spell<?>> result = new ArrayList<>(size);
+        if (size == 0) {
+            return result;
+        }
+        SpellQuery.SortField sortField = query.getSortField();
+        if (sortField == null) {
+            for (int i = match.nextSetBit(0); i >= 0 && result.size() < size; i = match.nextSetBit(i + 1)) {
+                result.add(spells[i]);
+            }
+            return result;
+        }
+        int[] order = sorted[sortField.ordinal()];
+        boolean descending = query.getSortOrder() == SpellQuery.SortOrder.DESCENDING;
+        for (int k = 0; k < order.length && result.size() < size; k++) {
+            int ordinal = order[descending ? order.length - 1 - k : k];
+            if (match.get(ordinal)) {
+                result.add(spells[ordinal]);
+            }
+        }
+        return result;
+    }
+
+    private static void intersect(BitSet match, BitSet members) {
+        if (members == null) {
+            match.clear();
+        } else {
+            match.and(members);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import nl.wantedchef.empirewand.core.config.ReadableConfig;
+import nl.wantedchef.empirewand.spell.Spell;
+
+/**
+ * Constructs the built-in spells for {@link SpellRegistryImpl}, in parallel when allowed.
+ * <p>
+ * Building a spell loads its class, runs its builder and binds its section of
+ * {@code spells.yml}; none of that touches the world, so it runs on a small pool of worker threads
+ * while the calling thread waits. Each spell is isolated: a builder that throws on a worker is run
+ * once more on the calling thread, for spells that insist on it, and only skipped when that fails
+ * too. One broken spell therefore no longer costs the whole set. Results keep the order of the
+ * builders, so ordinals do not depend on thread timing.
+ */
+final class SpellLoader {
+
+    /**
+     * Spells constructed by one run, in builder order, with their timings.
+     */
+    record Result(@NotNull List<Spell<?>> spells, @NotNull List<SpellStartupReport.Entry> entries,
+            @NotNull List<SpellStartupReport.Failure> failures, int threads, long constructNanos) {
+    }
+
+    private record Loaded(Spell<?> spell, long buildNanos, long configNanos) {
+    }
+
+    private final int threads;
+    private final Logger logger;
+
+    /**
+     * @param threads worker threads; 1 or less builds every spell on the calling thread
+     */
+    SpellLoader(int threads, @NotNull Logger logger) {
+        this.threads = Math.max(1, threads);
+        this.logger = logger;
+    }
+
+    /**
+     * Builds and configures every spell.
+     *
+     * @param builders      spell builder factories in registration order
+     * @param spellsSection the {@code spells} section of {@code spells.yml}, or null
+     */
+    @NotNull
+    Result load(@NotNull List<Supplier<Spell.Builder<?>>> builders, @Nullable ReadableConfig spellsSection) {
+        long start = System.nanoTime();
+        List<Spell<?>> spells = new ArrayList<>(builders.size());
+        List<SpellStartupReport.Entry> entries = new ArrayList<>(builders.size());
+        List<SpellStartupReport.Failure> failures = new ArrayList<>();
+        int workers = Math.min(threads, builders.size());
+
+        if (workers <= 1) {
+            for (int i = 0; i < builders.size(); i++) {
+                collect(i, builders.get(i), spellsSection, null, false, spells, entries, failures);
+            }
+            return new Result(spells, entries, failures, 1, System.nanoTime() - start);
+        }
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        ThreadFactory tf = r -> {
+            Thread t = new Thread(r);
+            t.setName("EmpireWand-SpellLoader-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        ExecutorService pool = Executors.newFixedThreadPool(workers, tf);
+        try {
+            List<Future<Loaded>> futures = new ArrayList<>(builders.size());
+            for (Supplier<Spell.Builder<?>> builder : builders) {
+                futures.add(pool.submit(() -> loadOne(builder, spellsSection)));
+            }
+            boolean interrupted = false;
+            for (int i = 0; i < futures.size(); i++) {
+                Loaded loaded = null;
+                if (!interrupted) {
+                    try {
+                        loaded = futures.get(i).get();
+                    } catch (ExecutionException e) {
+                        logger.fine(() -> "Spell builder failed on a worker, retrying on the calling thread: "
+                                + e.getCause());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        interrupted = true;
+                    }
+                }
+                collect(i, builders.get(i), spellsSection, loaded, loaded == null && !interrupted, spells, entries,
+                        failures);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return new Result(spells, entries, failures, workers, System.nanoTime() - start);
+    }
+
+    private void collect(int position, Supplier<Spell.Builder<?>> builder, ReadableConfig spellsSection,
+            Loaded loaded, boolean retried, List<Spell<?>> spells, List<SpellStartupReport.Entry> entries,
+            List<SpellStartupReport.Failure> failures) {
+        Loaded result = loaded;
+        if (result == null) {
+            try {
+                result = loadOne(builder, spellsSection);
+            } catch (Exception | LinkageError e) {
+                logger.log(Level.WARNING, "Skipping spell builder #" + position + ": " + e, e);
+                failures.add(new SpellStartupReport.Failure(position, e.toString()));
+                return;
+            }
+        }
+        spells.add(result.spell());
+        entries.add(new SpellStartupReport.Entry(result.spell().key(), result.buildNanos(), result.configNanos(),
+                retried));
+    }
+
+    private static Loaded loadOne(Supplier<Spell.Builder<?>> builder, ReadableConfig spellsSection) {
+        long start = System.nanoTime();
+        Spell<?> spell = builder.get().build();
+        long built = System.nanoTime();
+        if (spellsSection != null) {
+            ReadableConfig spellConfig = spellsSection.getConfigurationSection(spell.key());
+            if (spellConfig != null) {
+                spell.loadConfig(spellConfig);
+            }
+        }
+        return new Loaded(spell, built - start, System.nanoTime() - built);
+    }
+}
@@ -0,0 +1,105 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import java.util.BitSet;
+import java.util.function.Function;
+
+import org.bukkit.permissions.Permissible;
+import org.bukkit.permissions.PermissionAttachmentInfo;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The spells one player may use and bind, as bits indexed by spell ordinal.
+ * <p>
+ * Every permission check used to build a node string and resolve it through the player's
+ * attachments, once per spell for every menu render and tab completion. A mask resolves all
+ * nodes once against one {@link SpellIndex} snapshot; afterwards a check is a single bit test.
+ * Masks are immutable apart from the time of their next staleness check, and are replaced when
+ * the snapshot changes or the player's effective permissions no longer match
+ * {@link #fingerprint()}.
+ */
+public final class SpellPermissionMask {
+
+    private final SpellIndex index;
+    private final BitSet use;
+    private final BitSet bind;
+    private final int fingerprint;
+    private volatile long nextCheckMillis;
+
+    private SpellPermissionMask(SpellIndex index, BitSet use, BitSet bind, int fingerprint, long nextCheckMillis) {
+        this.index = index;
+        this.use = use;
+        this.bind = bind;
+        this.fingerprint = fingerprint;
+        this.nextCheckMillis = nextCheckMillis;
+    }
+
+    /**
+     * Resolves the use and bind node of every spell in {@code index}.
+     *
+     * @param useNode         the use permission node of a spell key
+     * @param bindNode        the bind permission node of a spell key
+     * @param nextCheckMillis when the mask should first be checked for staleness
+     */
+    @NotNull
+    public static SpellPermissionMask compute(@NotNull Permissible permissible, @NotNull SpellIndex index,
+            @NotNull Function<String, String> useNode, @NotNull Function<String, String> bindNode,
+            long nextCheckMillis) {
+        int size = index.size();
+        BitSet use = new BitSet(size);
+        BitSet bind = new BitSet(size);
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            String key = index.spell(ordinal).key();
+            if (permissible.hasPermission(useNode.apply(key))) {
+                use.set(ordinal);
+            }
+            if (permissible.hasPermission(bindNode.apply(key))) {
+                bind.set(ordinal);
+            }
+        }
+        return new SpellPermissionMask(index, use, bind, fingerprint(permissible), nextCheckMillis);
+    }
+
+    /**
+     * Hashes the effective permissions of {@code permissible}, independent of their order.
+     */
+    public static int fingerprint(@NotNull Permissible permissible) {
+        int hash = 0;
+        int size = 0;
+        for (PermissionAttachmentInfo info : permissible.getEffectivePermissions()) {
+            hash += info.getPermission().hashCode() * 31 + (info.getValue() ? 1 : 0);
+            size++;
+        }
+        return hash * 31 + size;
+    }
+
+    /**
+     * @return the snapshot the ordinals of this mask refer to
+     */
+    @NotNull
+    public SpellIndex index() {
+        return index;
+    }
+
+    /**
+     * @return the fingerprint of the permissions this mask was computed from
+     */
+    public int fingerprint() {
+        return fingerprint;
+    }
+
+    public boolean canUse(int ordinal) {
+        return use.get(ordinal);
+    }
+
+    public boolean canBind(int ordinal) {
+        return bind.get(ordinal);
+    }
+
+    long nextCheckMillis() {
+        return nextCheckMillis;
+    }
+
+    void deferCheck(long nextCheckMillis) {
+        this.nextCheckMillis = nextCheckMillis;
+    }
+}
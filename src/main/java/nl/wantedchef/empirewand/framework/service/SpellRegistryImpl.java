@@ -2,7 +2,6 @@ package nl.wantedchef.empirewand.framework.service;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -156,9 +155,11 @@ public class SpellRegistryImpl implements SpellRegistry {
     private final ConfigService configService;
     private final PerformanceMonitor performanceMonitor;
     private final Logger logger;
-    private final Map<String, Set<String>> categorySpellCache = new ConcurrentHashMap<>();
     private final Map<String, Set<String>> toggleableSpellCache = new ConcurrentHashMap<>();
-    private volatile Set<String> cachedCategories = null;
+    // Rebuilt and swapped whenever the registered spells change
+    private volatile SpellIndex index = SpellIndex.EMPTY;
+    private volatile SpellStartupReport startupReport = SpellStartupReport.EMPTY;
+    private static final int DEFAULT_LOADING_THREADS = 4;
     private final Map<String, SpellMetadata> metadataCache = new ConcurrentHashMap<>();
     private final Map<String, String> displayNameCache = new ConcurrentHashMap<>();
 
@@ -175,7 +176,9 @@ public class SpellRegistryImpl implements SpellRegistry {
     }
 
     /**
-     * Registers all the default spells.
+     * Registers all the default spells: they are constructed by a {@link SpellLoader}, which
+     * isolates failing builders, then published into the registry at once. Timings are kept in
+     * {@link #getStartupReport()} and summarised in the log.
      */
     @edu.umd.cs.findbugs.annotations.SuppressFBWarnings(
         value = "REC_CATCH_EXCEPTION",
@@ -368,18 +371,19 @@ public class SpellRegistryImpl implements SpellRegistry {
                 () -> new Reflect.Builder(api),
                 () -> new Absorb.Builder(api)
             };
-            for (Supplier<Spell.Builder<?>> builderSupplier : spellBuilders) {
-                Spell.Builder<?> builder = builderSupplier.get();
-                Spell<?> spell = builder.build();
-                if (bukkitSpells != null) {
-                    ReadableConfig spellCfg = bukkitSpells.getConfigurationSection(spell.key());
-                    if (spellCfg != null) {
-                        spell.loadConfig(spellCfg);
-                    }
-                }
+            // Construct phase: builders and config binding, on workers when allowed
+            SpellLoader.Result loaded = new SpellLoader(loadingThreads(), logger)
+                    .load(List.of(spellBuilders), bukkitSpells);
+
+            // Publish phase: register and index everything in one go
+            long publishStart = System.nanoTime();
+            for (Spell<?> spell : loaded.spells()) {
                 spells.put(spell.key(), spell);
             }
-            invalidateCaches();
+            invalidateCaches(loaded.spells());
+            startupReport = new SpellStartupReport(loaded.threads(), loaded.constructNanos(),
+                    System.nanoTime() - publishStart, loaded.entries(), loaded.failures());
+            logStartupReport(startupReport);
         } catch (Exception e) {
             // Log the error before falling back to reduced spell set
             if (e instanceof ClassNotFoundException) {
@@ -397,12 +401,14 @@ public class SpellRegistryImpl implements SpellRegistry {
 
             // Fall back to reduced spell set
             try {
+                List<Spell<?>> loaded = new ArrayList<>();
                 for (Supplier<Spell.Builder<?>> builderSupplier : getFallbackSpellBuilders()) {
                     Spell.Builder<?> builder = builderSupplier.get();
                     Spell<?> spell = builder.build();
                     spells.put(spell.key(), spell);
+                    loaded.add(spell);
                 }
-                invalidateCaches();
+                invalidateCaches(loaded);
                 logger.info("Fallback spell registration completed. " + spells.size() + " spells loaded.");
             } catch (Exception fallbackError) {
                 logger.severe("Critical error: Even fallback spell registration failed: " + fallbackError.getMessage());
@@ -411,6 +417,41 @@ public class SpellRegistryImpl implements SpellRegistry {
         }
     }
 
+    private int loadingThreads() {
+        try {
+            ReadableConfig config = configService.getConfig();
+            int configured = config == null ? DEFAULT_LOADING_THREADS
+                    : config.getInt("core.performance.spell-loading-threads", DEFAULT_LOADING_THREADS);
+            return Math.min(Math.max(1, configured), Runtime.getRuntime().availableProcessors());
+        } catch (RuntimeException e) {
+            return 1;
+        }
+    }
+
+    private void logStartupReport(SpellStartupReport report) {
+        logger.info(report.summary());
+        StringBuilder slowest = new StringBuilder("Slowest spells:");
+        for (SpellStartupReport.Entry entry : report.slowest(5)) {
+            slowest.append(String.format(" %s %.2f ms,", entry.key(), entry.totalNanos() / 1_000_000.0));
+        }
+        logger.info(slowest.substring(0, slowest.length() - 1));
+        if (logger.isLoggable(java.util.logging.Level.FINE)) {
+            for (SpellStartupReport.Entry entry : report.spells()) {
+                logger.fine(String.format("  %s: build %.2f ms, config %.2f ms%s", entry.key(),
+                        entry.buildNanos() / 1_000_000.0, entry.configNanos() / 1_000_000.0,
+                        entry.retried() ? " (retried on calling thread)" : ""));
+            }
+        }
+    }
+
+    /**
+     * @return timings of the last spell registration
+     */
+    @NotNull
+    public SpellStartupReport getStartupReport() {
+        return startupReport;
+    }
+
     /**
      * Fallback method for spell builder registration when reflection fails.
      */
@@ -598,14 +639,74 @@ public class SpellRegistryImpl implements SpellRegistry {
     }
 
     /**
-     * Invalidates all cached data to force recalculation on next access.
+     * Invalidates all cached data and swaps in a new index of the registered spells.
+     *
+     * @param added spells just registered, in registration order; they get the ordinals after
+     *              the spells already indexed
      */
-    private synchronized void invalidateCaches() {
-        categorySpellCache.clear();
+    private synchronized void invalidateCaches(List<Spell<?>> added) {
         toggleableSpellCache.clear();
         metadataCache.clear();
         displayNameCache.clear();
-        cachedCategories = null;
+
+        List<Spell<?>> ordered = new ArrayList<>(spells.size());
+        Set<String> indexed = new HashSet<>();
+        for (Spell<?> spell : index.spells()) {
+            if (spells.get(spell.key()) == spell && indexed.add(spell.key())) {
+                ordered.add(spell);
+            }
+        }
+        for (Spell<?> spell : added) {
+            if (spells.get(spell.key()) == spell && indexed.add(spell.key())) {
+                ordered.add(spell);
+            }
+        }
+        for (Spell<?> spell : spells.values()) {
+            if (indexed.add(spell.key())) {
+                ordered.add(spell);
+            }
+        }
+        ReadableConfig section = spellsSection();
+        index = SpellIndex.build(ordered, spell -> attributesOf(spell, section));
+    }
+
+    private ReadableConfig spellsSection() {
+        try {
+            var readable = configService.getSpellsConfig();
+            return readable == null ? null : readable.getConfigurationSection("spells");
+        } catch (RuntimeException e) {
+            logger.fine("Spell attributes unavailable: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static SpellIndex.Attributes attributesOf(Spell<?> spell, ReadableConfig spellsSection) {
+        ReadableConfig config = spellsSection == null ? null : spellsSection.getConfigurationSection(spell.key());
+        Set<String> tags = new HashSet<>();
+        if (spell instanceof ToggleableSpell) {
+            tags.add("toggleable");
+        }
+        if (config == null) {
+            return tags.isEmpty() ? SpellIndex.Attributes.DEFAULT
+                    : new SpellIndex.Attributes(0.0, 0, true, Set.copyOf(tags));
+        }
+        if (config.get("tags") instanceof List<?> configured) {
+            for (Object tag : configured) {
+                if (tag != null) {
+                    tags.add(tag.toString().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return new SpellIndex.Attributes(config.getDouble("range", 0.0), config.getInt("level-requirement", 0),
+                config.getBoolean("enabled", true), Set.copyOf(tags));
+    }
+
+    /**
+     * @return the current index snapshot of the registered spells
+     */
+    @NotNull
+    public SpellIndex getIndex() {
+        return index;
     }
 
     // ===== SpellRegistry API =====
@@ -670,7 +771,7 @@ public class SpellRegistryImpl implements SpellRegistry {
             boolean result = spells.putIfAbsent(spell.key(), spell) == null;
             if (result) {
                 // Invalidate caches when a new spell is registered
-                invalidateCaches();
+                invalidateCaches(List.of(spell));
             }
             return result;
         }
@@ -683,7 +784,7 @@ public class SpellRegistryImpl implements SpellRegistry {
             boolean result = spells.remove(key) != null;
             if (result) {
                 // Invalidate caches when a spell is unregistered
-                invalidateCaches();
+                invalidateCaches(List.of());
             }
             return result;
         }
@@ -704,7 +805,10 @@ public class SpellRegistryImpl implements SpellRegistry {
             if (spell == null) {
                 return Optional.empty();
             }
-            SpellMetadata metadata = new BasicSpellMetadata(spell);
+            SpellIndex snapshot = index;
+            int ordinal = snapshot.ordinal(key);
+            SpellMetadata metadata = new BasicSpellMetadata(spell,
+                    ordinal >= 0 ? snapshot.attributes(ordinal) : SpellIndex.Attributes.DEFAULT);
             // Cache the result
             metadataCache.put(key, metadata);
             return Optional.of(metadata);
@@ -719,69 +823,25 @@ public class SpellRegistryImpl implements SpellRegistry {
     @Override
     public @NotNull
     Set<String> getSpellCategories() {
-        // Use cached categories if available (double-checked locking pattern)
-        Set<String> categories = cachedCategories;
-        if (categories != null) {
-            return categories;
-        }
-
-        synchronized (this) {
-            // Check again inside synchronized block
-            categories = cachedCategories;
-            if (categories != null) {
-                return categories;
-            }
-
-            try (var timing = performanceMonitor.startTiming("SpellRegistryImpl.getSpellCategories", 10)) {
-                timing.observe();
-                // Calculate and cache categories more efficiently
-                Set<String> result = ConcurrentHashMap.newKeySet();
-                for (Spell<?> spell : spells.values()) {
-                    result.add(spell.type().name());
-                }
-
-                cachedCategories = Collections.unmodifiableSet(result);
-                return cachedCategories;
-            }
-        }
+        return index.categories();
     }
 
     @Override
     public @NotNull
     Set<String> getSpellsByCategory(@NotNull String category) {
-        // Check cache first
-        Set<String> cached = categorySpellCache.get(category);
-        if (cached != null) {
-            return cached;
-        }
-
-        try (var timing = performanceMonitor.startTiming("SpellRegistryImpl.getSpellsByCategory", 15)) {
-            timing.observe();
-            // Calculate and cache more efficiently
-            Set<String> result = ConcurrentHashMap.newKeySet();
-            String lowerCategory = category.toLowerCase();
-
-            for (Spell<?> spell : spells.values()) {
-                if (spell.type().name().toLowerCase().equals(lowerCategory)) {
-                    result.add(spell.key());
-                }
-            }
-
-            categorySpellCache.put(category, result);
-            return result;
-        }
+        return index.keysInCategory(category);
     }
 
     @Override
     public @NotNull
     Set<String> getSpellsByTag(@NotNull String tag) {
-        return Set.of();
+        return index.keysWithTag(tag);
     }
 
     @Override
     public @NotNull
     Set<String> getSpellTags() {
-        return Set.of();
+        return index.tags();
     }
 
     @Override
@@ -789,111 +849,14 @@ public class SpellRegistryImpl implements SpellRegistry {
     List<Spell<?>> findSpells(@NotNull SpellQuery query) {
         try (var timing = performanceMonitor.startTiming("SpellRegistryImpl.findSpells", 25)) {
             timing.observe();
-            // Use direct iteration instead of streams for better performance
-            List<Spell<?>> filtered = new ArrayList<>(Math.min(spells.size(), 64)); // Pre-size with reasonable estimate
-
-            String categoryFilter = query.getCategory();
-            String nameContainsFilter = query.getNameContains();
-            long maxCooldownFilter = query.getMaxCooldown();
-
-            // Pre-process filters for better performance (structured to avoid NPE warnings)
-            boolean hasCategoryFilter;
-            String lowerCategoryFilter;
-            if (categoryFilter != null && !categoryFilter.isEmpty()) {
-                lowerCategoryFilter = categoryFilter.toLowerCase(Locale.ROOT);
-                hasCategoryFilter = true;
-            } else {
-                lowerCategoryFilter = null;
-                hasCategoryFilter = false;
-            }
-
-            boolean hasNameFilter;
-            String lowerNameFilter;
-            if (nameContainsFilter != null && !nameContainsFilter.isBlank()) {
-                lowerNameFilter = nameContainsFilter.toLowerCase(Locale.ROOT);
-                hasNameFilter = true;
-            } else {
-                lowerNameFilter = null;
-                hasNameFilter = false;
-            }
-            boolean hasCooldownFilter = maxCooldownFilter >= 0;
-
-            // Pre-compute expensive operations
-            PlainTextComponentSerializer serializer = PlainTextComponentSerializer.plainText();
-
-            for (Spell<?> spell : spells.values()) {
-                // Apply category filter
-                if (hasCategoryFilter) {
-                    String spellCategory = spell.type().name();
-                    if (!spellCategory.toLowerCase(Locale.ROOT).equals(lowerCategoryFilter)) {
-                        continue;
-                    }
-                }
-
-                // Apply name filter
-                if (hasNameFilter) {
-                    String displayName = serializer.serialize(spell.displayName());
-                    if (!displayName.toLowerCase(Locale.ROOT).contains(lowerNameFilter)) {
-                        continue;
-                    }
-                }
-
-                // Apply cooldown filter
-                if (hasCooldownFilter) {
-                    long cooldownTicks = spell.getCooldown().toMillis() / 50;
-                    if (cooldownTicks > maxCooldownFilter) {
-                        continue;
-                    }
-                }
-
-                filtered.add(spell);
-            }
-
-            // Apply sorting if needed
-            var sortField = query.getSortField();
-            if (sortField != null) {
-                Comparator<Spell<?>> comparator;
-                switch (sortField) {
-                    case NAME -> {
-                        PlainTextComponentSerializer ser = PlainTextComponentSerializer.plainText();
-                        comparator = Comparator.comparing(s -> ser.serialize(s.displayName()));
-                    }
-                    case COOLDOWN ->
-                        comparator = Comparator.comparingLong(s -> s.getCooldown().toMillis());
-                    case RANGE ->
-                        comparator = Comparator.comparingDouble(s -> 0.0);
-                    case LEVEL_REQUIREMENT ->
-                        comparator = Comparator.comparingInt(s -> 0);
-                    case CATEGORY ->
-                        comparator = Comparator.comparing(s -> s.type().name());
-                    default ->
-                        comparator = Comparator.comparing(Spell::key);
-                }
-
-                if (query.getSortOrder() == SpellQuery.SortOrder.DESCENDING) {
-                    comparator = comparator.reversed();
-                }
-
-                // Only sort if we have more than 1 item
-                if (filtered.size() > 1) {
-                    filtered.sort(comparator);
-                }
-            }
-
-            // Apply limit if needed
-            int limit = query.getLimit();
-            if (limit > 0 && limit < filtered.size()) {
-                return new ArrayList<>(filtered.subList(0, limit)); // Return new list to avoid subList overhead
-            }
-
-            return filtered;
+            return index.query(query);
         }
     }
 
     @Override
     public @NotNull
     SpellQuery.Builder createQuery() {
-        return new SpellQueryBuilderImpl();
+        return new SpellQueryBuilderImpl(this);
     }
 
     @Override
@@ -903,17 +866,12 @@ public class SpellRegistryImpl implements SpellRegistry {
 
     @Override
     public int getSpellCountByCategory(@NotNull String category) {
-        try (var timing = performanceMonitor.startTiming("SpellRegistryImpl.getSpellCountByCategory", 10)) {
-            timing.observe();
-            return (int) spells.values().stream()
-                    .filter(s -> s.type().name().equalsIgnoreCase(category))
-                    .count();
-        }
+        return index.keysInCategory(category).size();
     }
 
     @Override
     public int getEnabledSpellCount() {
-        return spells.size(); // Assuming all enabled
+        return index.enabledCount();
     }
 
     @Override
@@ -941,7 +899,7 @@ public class SpellRegistryImpl implements SpellRegistry {
         try (var timing = performanceMonitor.startTiming("SpellRegistryImpl.reload", 200)) {
             timing.observe();
             spells.clear();
-            invalidateCaches();
+            invalidateCaches(List.of());
             registerAllSpells();
         }
     }
@@ -954,7 +912,7 @@ public class SpellRegistryImpl implements SpellRegistry {
         try (var timing = performanceMonitor.startTiming("SpellRegistryImpl.shutdown", 50)) {
             timing.observe();
             spells.clear();
-            invalidateCaches();
+            invalidateCaches(List.of());
         }
     }
 
@@ -1077,13 +1035,15 @@ public class SpellRegistryImpl implements SpellRegistry {
         private final String description;
         private final String category;
         private final long cooldownTicks;
+        private final SpellIndex.Attributes attributes;
 
-        public BasicSpellMetadata(Spell<?> spell) {
+        public BasicSpellMetadata(Spell<?> spell, SpellIndex.Attributes attributes) {
             this.key = spell.key();
             this.displayName = spell.displayName();
             this.description = spell.getDescription();
             this.category = spell.type().name();
             this.cooldownTicks = spell.getCooldown().toMillis() / 50;
+            this.attributes = attributes;
         }
 
         @Override
@@ -1108,7 +1068,7 @@ public class SpellRegistryImpl implements SpellRegistry {
 
         @Override
         public Set<String> getTags() {
-            return Set.of();
+            return attributes.tags();
         }
 
         @Override
@@ -1118,17 +1078,17 @@ public class SpellRegistryImpl implements SpellRegistry {
 
         @Override
         public double getRange() {
-            return 0;
+            return attributes.range();
         }
 
         @Override
         public int getLevelRequirement() {
-            return 0;
+            return attributes.levelRequirement();
         }
 
         @Override
         public boolean isEnabled() {
-            return true;
+            return attributes.enabled();
         }
 
         @Override
@@ -1150,6 +1110,8 @@ public class SpellRegistryImpl implements SpellRegistry {
      */
     private static class SpellQueryBuilderImpl implements SpellQuery.Builder {
 
+        private final SpellRegistryImpl registry;
+
         private String category;
         private String tag;
         private String nameContains;
@@ -1162,6 +1124,10 @@ public class SpellRegistryImpl implements SpellRegistry {
         private SpellQuery.SortOrder sortOrder = SpellQuery.SortOrder.ASCENDING;
         private int limit = -1;
 
+        SpellQueryBuilderImpl(SpellRegistryImpl registry) {
+            this.registry = registry;
+        }
+
         @Override
         public SpellQuery.Builder category(String category) {
             this.category = category;
@@ -1293,9 +1259,7 @@ public class SpellRegistryImpl implements SpellRegistry {
 
         @Override
         public List<Spell<?>> execute() {
-            // This would normally reference the registry, but we'll handle execution
-            // differently
-            throw new UnsupportedOperationException("Execute not supported on this implementation");
+            return builder.registry.findSpells(this);
         }
     }
 
@@ -0,0 +1,69 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Timings of the last spell registration: how long each phase took and what every spell cost to
+ * build and configure, plus the builders that failed.
+ *
+ * @param threads        worker threads used to construct spells; 1 means the calling thread
+ * @param constructNanos wall time of the construct phase: building and configuring every spell
+ * @param publishNanos   wall time of the publish phase: registering the spells and indexing them
+ * @param spells         per-spell timings in registration order
+ * @param failures       builders that could not produce a spell
+ */
+public record SpellStartupReport(int threads, long constructNanos, long publishNanos, @NotNull List<Entry> spells,
+        @NotNull List<Failure> failures) {
+
+    /** The report before any registration ran. */
+    public static final SpellStartupReport EMPTY = new SpellStartupReport(1, 0L, 0L, List.of(), List.of());
+
+    /**
+     * @param key         the spell key
+     * @param buildNanos  time spent in the builder, including class loading
+     * @param configNanos time spent in {@code Spell#loadConfig}
+     * @param retried     whether the spell failed on a worker and was built again on the calling thread
+     */
+    public record Entry(@NotNull String key, long buildNanos, long configNanos, boolean retried) {
+
+        public long totalNanos() {
+            return buildNanos + configNanos;
+        }
+    }
+
+    /**
+     * @param builder position of the builder in the registration list
+     * @param error   the exception that stopped it
+     */
+    public record Failure(int builder, @NotNull String error) {
+    }
+
+    public SpellStartupReport {
+        spells = List.copyOf(spells);
+        failures = List.copyOf(failures);
+    }
+
+    /**
+     * @return the {@code count} spells that took longest to build and configure, slowest first
+     */
+    @NotNull
+    public List<Entry> slowest(int count) {
+        return spells.stream()
+                .sorted(Comparator.comparingLong(Entry::totalNanos).reversed())
+                .limit(Math.max(0, count))
+                .toList();
+    }
+
+    /**
+     * @return a one-line summary for the log
+     */
+    @NotNull
+    public String summary() {
+        return String.format("Registered %d spells in %.1f ms (construct %.1f ms on %d threads, publish %.1f ms)%s",
+                spells.size(), (constructNanos + publishNanos) / 1_000_000.0, constructNanos / 1_000_000.0, threads,
+                publishNanos / 1_000_000.0, failures.isEmpty() ? "" : ", " + failures.size() + " failed");
+    }
+}
@@ -4,7 +4,6 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.WeakHashMap;
 import java.util.function.Consumer;
 
 import org.bukkit.Color;
@@ -27,7 +26,8 @@ public class SpellSwitchService {
 
     private final EmpireWandPlugin plugin;
     private final WandService wandService;
-    private final Map<UUID, Long> lastSwitchTime = new WeakHashMap<>();
+    private final PlayerSpellSession.Slot<Long> lastSwitchTime = PlayerSpellSession.global()
+            .slot("spell-switch", PlayerSpellSession.Scope.SESSION);
     private final Map<String, Consumer<Player>> effects;
 
     private static final Set<String> AVAILABLE_EFFECTS =
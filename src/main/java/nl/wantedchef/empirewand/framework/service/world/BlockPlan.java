@@ -0,0 +1,312 @@
+package nl.wantedchef.empirewand.framework.service.world;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable set of block changes computed off-thread by a {@link BlockPlanService} planner.
+ * <p>
+ * Positions are packed into a single {@code long} (26 bits x, 26 bits z, 12 bits y). Besides
+ * the changes, a planner can attach integer-tagged markers, for example the positions where a
+ * tree should be generated or a particle spawned once the changes are applied.
+ * <p>
+ * {@link #apply(boolean)} is the only method touching the world and must run on the main
+ * thread; it never loads a chunk and skips the changes of chunks that unloaded in the
+ * meantime. Large plans should rather be handed to the {@link WorldMutationQueue}, which
+ * spreads the writes over several ticks.
+ */
+public final class BlockPlan {
+
+    /**
+     * Receives a block position.
+     */
+    @FunctionalInterface
+    public interface BlockConsumer {
+        void accept(int x, int y, int z);
+    }
+
+    /**
+     * Receives a tagged marker.
+     */
+    @FunctionalInterface
+    public interface MarkerConsumer {
+        void accept(int tag, int x, int y, int z);
+    }
+
+    private final World world;
+    private final long[] positions;
+    private final Material[] types;
+    private final BlockData[] data;
+    private final Material[] expected;
+    private final int[] markerTags;
+    private final long[] markerPositions;
+
+    private BlockPlan(Builder builder) {
+        this.world = builder.world;
+        this.positions = Arrays.copyOf(builder.positions, builder.size);
+        this.types = Arrays.copyOf(builder.types, builder.size);
+        this.data = Arrays.copyOf(builder.data, builder.size);
+        this.expected = Arrays.copyOf(builder.expected, builder.size);
+        this.markerTags = Arrays.copyOf(builder.markerTags, builder.markerCount);
+        this.markerPositions = Arrays.copyOf(builder.markerPositions, builder.markerCount);
+    }
+
+    /**
+     * Starts a plan built directly on the main thread, without snapshots.
+     */
+    @NotNull
+    public static Builder builder(@NotNull World world) {
+        return new Builder(world);
+    }
+
+    /**
+     * Packs a block position into a {@code long}.
+     */
+    public static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public static int unpackX(long packed) {
+        return (int) (packed >> 38);
+    }
+
+    public static int unpackY(long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+
+    public static int unpackZ(long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+
+    @NotNull
+    public World world() {
+        return world;
+    }
+
+    /**
+     * @return number of block changes
+     */
+    public int size() {
+        return positions.length;
+    }
+
+    public boolean isEmpty() {
+        return positions.length == 0 && markerTags.length == 0;
+    }
+
+    /**
+     * Writes every change to the world. Main thread only.
+     *
+     * @param applyPhysics whether neighbouring blocks receive physics updates
+     * @return number of changes written; changes in unloaded chunks and replacements whose
+     *         block changed are skipped
+     */
+    public int apply(boolean applyPhysics) {
+        int applied = 0;
+        long lastChunk = Long.MIN_VALUE;
+        boolean lastLoaded = false;
+        for (int i = 0; i < positions.length; i++) {
+            int x = unpackX(positions[i]);
+            int y = unpackY(positions[i]);
+            int z = unpackZ(positions[i]);
+            long chunk = ((long) (x >> 4) << 32) | ((z >> 4) & 0xFFFFFFFFL);
+            if (chunk != lastChunk) {
+                lastChunk = chunk;
+                lastLoaded = world.isChunkLoaded(x >> 4, z >> 4);
+            }
+            if (lastLoaded && write(i, world.getBlockAt(x, y, z), applyPhysics)) {
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    long position(int i) {
+        return positions[i];
+    }
+
+    boolean write(int i, Block block, boolean applyPhysics) {
+        if (expected[i] != null && block.getType() != expected[i]) {
+            return false;
+        }
+        if (data[i] != null) {
+            block.setBlockData(data[i], applyPhysics);
+        } else {
+            block.setType(types[i], applyPhysics);
+        }
+        return true;
+    }
+
+    /**
+     * Visits the position of every change in planning order.
+     */
+    public void forEachChange(@NotNull BlockConsumer consumer) {
+        for (long position : positions) {
+            consumer.accept(unpackX(position), unpackY(position), unpackZ(position));
+        }
+    }
+
+    /**
+     * Visits every marker in planning order.
+     */
+    public void forEachMarker(@NotNull MarkerConsumer consumer) {
+        for (int i = 0; i < markerTags.length; i++) {
+            long position = markerPositions[i];
+            consumer.accept(markerTags[i], unpackX(position), unpackY(position), unpackZ(position));
+        }
+    }
+
+    /**
+     * Visits the markers carrying the given tag.
+     */
+    public void forEachMarker(int tag, @NotNull BlockConsumer consumer) {
+        for (int i = 0; i < markerTags.length; i++) {
+            if (markerTags[i] == tag) {
+                long position = markerPositions[i];
+                consumer.accept(unpackX(position), unpackY(position), unpackZ(position));
+            }
+        }
+    }
+
+    /**
+     * @return number of markers carrying the given tag
+     */
+    public int markerCount(int tag) {
+        int count = 0;
+        for (int markerTag : markerTags) {
+            if (markerTag == tag) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Collects the changes and markers of a plan. Owned by a single planner thread.
+     * <p>
+     * Setting the same position twice replaces the earlier change, and {@link SnapshotView}
+     * reads through the changes planned so far.
+     */
+    public static final class Builder {
+        private final World world;
+        private final Map<Long, Integer> index = new HashMap<>();
+        private long[] positions = new long[64];
+        private Material[] types = new Material[64];
+        private BlockData[] data = new BlockData[64];
+        private Material[] expected = new Material[64];
+        private int size;
+        private int[] markerTags = new int[16];
+        private long[] markerPositions = new long[16];
+        private int markerCount;
+        private int maxPlannedY = Integer.MIN_VALUE;
+
+        Builder(@NotNull World world) {
+            this.world = Objects.requireNonNull(world, "world");
+        }
+
+        /**
+         * Plans a material change.
+         */
+        @NotNull
+        public Builder set(int x, int y, int z, @NotNull Material type) {
+            put(x, y, z, type, null, null);
+            return this;
+        }
+
+        /**
+         * Plans a block data change.
+         */
+        @NotNull
+        public Builder set(int x, int y, int z, @NotNull BlockData blockData) {
+            put(x, y, z, blockData.getMaterial(), blockData, null);
+            return this;
+        }
+
+        /**
+         * Plans a material change that is only written while the block is still of the
+         * expected type, for example when removing temporary blocks players may have
+         * replaced in the meantime. Costs one block read when applied.
+         */
+        @NotNull
+        public Builder replace(int x, int y, int z, @NotNull Material expectedType, @NotNull Material type) {
+            put(x, y, z, type, null, expectedType);
+            return this;
+        }
+
+        /**
+         * Attaches a tagged marker; markers are not written to the world.
+         */
+        @NotNull
+        public Builder mark(int tag, int x, int y, int z) {
+            if (markerCount == markerTags.length) {
+                markerTags = Arrays.copyOf(markerTags, markerCount * 2);
+                markerPositions = Arrays.copyOf(markerPositions, markerCount * 2);
+            }
+            markerTags[markerCount] = tag;
+            markerPositions[markerCount] = pack(x, y, z);
+            markerCount++;
+            return this;
+        }
+
+        /**
+         * @return number of changes planned so far
+         */
+        public int size() {
+            return size;
+        }
+
+        @NotNull
+        public BlockPlan build() {
+            return new BlockPlan(this);
+        }
+
+        Material plannedType(int x, int y, int z) {
+            Integer i = index.get(pack(x, y, z));
+            return i == null ? null : types[i];
+        }
+
+        BlockData plannedData(int x, int y, int z) {
+            Integer i = index.get(pack(x, y, z));
+            if (i == null) {
+                return null;
+            }
+            return data[i] != null ? data[i] : types[i].createBlockData();
+        }
+
+        int maxPlannedY() {
+            return maxPlannedY;
+        }
+
+        private void put(int x, int y, int z, Material type, BlockData blockData, Material expectedType) {
+            long position = pack(x, y, z);
+            Integer existing = index.get(position);
+            if (existing != null) {
+                types[existing] = type;
+                data[existing] = blockData;
+                expected[existing] = expectedType;
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+                types = Arrays.copyOf(types, size * 2);
+                data = Arrays.copyOf(data, size * 2);
+                expected = Arrays.copyOf(expected, size * 2);
+            }
+            positions[size] = position;
+            types[size] = type;
+            data[size] = blockData;
+            expected[size] = expectedType;
+            index.put(position, size);
+            size++;
+            maxPlannedY = Math.max(maxPlannedY, y);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package nl.wantedchef.empirewand.framework.service.world;
+
+import nl.wantedchef.empirewand.core.task.TaskManager;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Computes area block edits off the main thread.
+ * <p>
+ * Spells that reshape terrain used to read every block of their area on the tick thread
+ * before deciding what to write. A plan instead captures one {@link ChunkSnapshot} per loaded
+ * chunk of the area on the main thread, runs the {@link Planner} on an async thread against
+ * those snapshots and hands back an immutable {@link BlockPlan}. The main thread then only
+ * pays for the snapshot copy and the writes.
+ * <p>
+ * Chunks are never loaded: columns in unloaded chunks read as void air and the planner
+ * simply skips them. The returned future completes on the main thread, so callbacks can
+ * apply the plan directly.
+ */
+public final class BlockPlanService {
+
+    /**
+     * Computes the changes of a plan. Runs off the main thread and must only use the
+     * view, the builder and its own state.
+     */
+    @FunctionalInterface
+    public interface Planner {
+        void plan(@NotNull SnapshotView view, @NotNull BlockPlan.Builder plan);
+    }
+
+    private final TaskManager taskManager;
+    private final Logger logger;
+
+    public BlockPlanService(@NotNull TaskManager taskManager, @NotNull Logger logger) {
+        this.taskManager = Objects.requireNonNull(taskManager, "taskManager");
+        this.logger = Objects.requireNonNull(logger, "logger");
+    }
+
+    /**
+     * Plans the square area of {@code radius} blocks around a location. Main thread only.
+     */
+    @NotNull
+    public CompletableFuture<BlockPlan> plan(@NotNull Location center, int radius, @NotNull Planner planner) {
+        World world = Objects.requireNonNull(center.getWorld(), "world");
+        int x = center.getBlockX();
+        int z = center.getBlockZ();
+        return plan(world, x - radius, z - radius, x + radius, z + radius, planner);
+    }
+
+    /**
+     * Captures the chunks overlapping the block area and plans it asynchronously. Main
+     * thread only.
+     *
+     * @return a future completed on the main thread with the plan, or exceptionally when
+     *         the planner failed
+     */
+    @NotNull
+    public CompletableFuture<BlockPlan> plan(@NotNull World world, int minX, int minZ, int maxX, int maxZ,
+            @NotNull Planner planner) {
+        SnapshotView view = capture(world, minX, minZ, maxX, maxZ);
+        CompletableFuture<BlockPlan> future = new CompletableFuture<>();
+        taskManager.runTaskAsynchronously(() -> {
+            BlockPlan plan;
+            try {
+                planner.plan(view, view.planned());
+                plan = view.planned().build();
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Block planner failed", e);
+                completeOnMainThread(future, null, e);
+                return;
+            }
+            completeOnMainThread(future, plan, null);
+        });
+        return future;
+    }
+
+    private SnapshotView capture(World world, int minX, int minZ, int maxX, int maxZ) {
+        int minChunkX = Math.min(minX, maxX) >> 4;
+        int minChunkZ = Math.min(minZ, maxZ) >> 4;
+        int width = (Math.max(minX, maxX) >> 4) - minChunkX + 1;
+        int depth = (Math.max(minZ, maxZ) >> 4) - minChunkZ + 1;
+        ChunkSnapshot[] chunks = new ChunkSnapshot[width * depth];
+        for (int cx = 0; cx < width; cx++) {
+            for (int cz = 0; cz < depth; cz++) {
+                if (world.isChunkLoaded(minChunkX + cx, minChunkZ + cz)) {
+                    chunks[cx * depth + cz] = world.getChunkAt(minChunkX + cx, minChunkZ + cz)
+                            .getChunkSnapshot(true, false, false);
+                }
+            }
+        }
+        return new SnapshotView(chunks, minChunkX, minChunkZ, width, depth, world.getMinHeight(),
+                world.getMaxHeight(), new BlockPlan.Builder(world));
+    }
+
+    private void completeOnMainThread(CompletableFuture<BlockPlan> future, BlockPlan plan, Throwable error) {
+        Runnable complete = () -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(plan);
+            }
+        };
+        try {
+            taskManager.runTask(complete);
+        } catch (RuntimeException e) {
+            // Plugin disabled while planning; nothing may touch the world any more
+            future.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package nl.wantedchef.empirewand.framework.service.world;
+
+import org.bukkit.FluidCollisionMode;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.util.BlockIterator;
+import org.bukkit.util.RayTraceResult;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Block reads for spells that never load a chunk.
+ * <p>
+ * {@code getTargetBlock}, {@code rayTraceBlocks} and {@code getHighestBlockYAt} load (or even
+ * generate) the chunks they touch synchronously, so a spell aimed at the edge of loaded
+ * terrain could stall the tick. Every read here checks the chunk first and reports "unloaded"
+ * instead: {@code null} for blocks and ray traces, {@link #UNLOADED} for heights. Ray traces
+ * are cut short at the first unloaded chunk along the ray.
+ * <p>
+ * Views are cheap wrappers around a {@link World}; create one per cast. Main thread only,
+ * except {@link #prewarm(Location, int)}, which merely requests chunks.
+ */
+public final class SafeWorldView {
+
+    /** Height returned for columns in unloaded chunks. */
+    public static final int UNLOADED = Integer.MIN_VALUE;
+
+    // Ray traces stop this far before the first unloaded chunk
+    private static final double BORDER_MARGIN = 0.01;
+
+    private final World world;
+
+    private SafeWorldView(World world) {
+        this.world = world;
+    }
+
+    @NotNull
+    public static SafeWorldView of(@NotNull World world) {
+        return new SafeWorldView(Objects.requireNonNull(world, "world"));
+    }
+
+    @NotNull
+    public World world() {
+        return world;
+    }
+
+    /**
+     * @return whether the chunk holding the block column is loaded
+     */
+    public boolean isLoaded(int blockX, int blockZ) {
+        return world.isChunkLoaded(blockX >> 4, blockZ >> 4);
+    }
+
+    /**
+     * Unlike {@code world.isChunkLoaded(location.getChunk())}, this never loads the chunk.
+     */
+    public boolean isLoaded(@NotNull Location location) {
+        return isLoaded(location.getBlockX(), location.getBlockZ());
+    }
+
+    /**
+     * @return the block, or {@code null} when its chunk is not loaded
+     */
+    @Nullable
+    public Block getBlock(int x, int y, int z) {
+        return isLoaded(x, z) ? world.getBlockAt(x, y, z) : null;
+    }
+
+    @Nullable
+    public Block getBlock(@NotNull Location location) {
+        return getBlock(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * @return the block type, or {@code null} when its chunk is not loaded
+     */
+    @Nullable
+    public Material getType(int x, int y, int z) {
+        return isLoaded(x, z) ? world.getBlockAt(x, y, z).getType() : null;
+    }
+
+    /**
+     * @return the y of the highest non-air block, or {@link #UNLOADED}
+     */
+    public int getHighestBlockYAt(int x, int z) {
+        return isLoaded(x, z) ? world.getHighestBlockYAt(x, z) : UNLOADED;
+    }
+
+    public int getHighestBlockYAt(@NotNull Location location) {
+        return getHighestBlockYAt(location.getBlockX(), location.getBlockZ());
+    }
+
+    /**
+     * Same as {@link LivingEntity#getTargetBlock(java.util.Set, int)} with only air being
+     * transparent: the first non-air block in sight, or the last block in range when there is
+     * none.
+     *
+     * @return the block, or {@code null} when the line of sight enters an unloaded chunk first
+     */
+    @Nullable
+    public Block getTargetBlock(@NotNull LivingEntity entity, int maxDistance) {
+        Location eye = entity.getEyeLocation();
+        if (!isLoaded(eye)) {
+            return null;
+        }
+        BlockIterator iterator = new BlockIterator(world, eye.toVector(), eye.getDirection(), 0.0, maxDistance);
+        Block last = null;
+        while (iterator.hasNext()) {
+            Block block = iterator.next();
+            if (!isLoaded(block.getX(), block.getZ())) {
+                return null;
+            }
+            last = block;
+            if (block.getType() != Material.AIR) {
+                break;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Ray traces blocks up to the first unloaded chunk along the ray.
+     *
+     * @return the hit, or {@code null} when nothing was hit within loaded terrain
+     */
+    @Nullable
+    public RayTraceResult rayTraceBlocks(@NotNull Location start, @NotNull Vector direction, double maxDistance,
+            @NotNull FluidCollisionMode fluidCollisionMode) {
+        double distance = loadedDistance(start, direction, maxDistance);
+        if (distance <= 0.0) {
+            return null;
+        }
+        return world.rayTraceBlocks(start, direction, distance, fluidCollisionMode, false);
+    }
+
+    /**
+     * Ray traces blocks from the eyes of an entity; see
+     * {@link #rayTraceBlocks(Location, Vector, double, FluidCollisionMode)}.
+     */
+    @Nullable
+    public RayTraceResult rayTraceBlocks(@NotNull LivingEntity entity, double maxDistance,
+            @NotNull FluidCollisionMode fluidCollisionMode) {
+        Location eye = entity.getEyeLocation();
+        return rayTraceBlocks(eye, eye.getDirection(), maxDistance, fluidCollisionMode);
+    }
+
+    /**
+     * @return how far the ray runs through loaded chunks, capped at {@code maxDistance}
+     */
+    public double loadedDistance(@NotNull Location start, @NotNull Vector direction, double maxDistance) {
+        if (direction.lengthSquared() == 0.0) {
+            return isLoaded(start) ? maxDistance : 0.0;
+        }
+        Vector unit = direction.clone().normalize();
+        double[] reach = { maxDistance };
+        walkChunks(start.getX(), start.getZ(), unit.getX(), unit.getZ(), maxDistance, (cx, cz, t) -> {
+            if (!world.isChunkLoaded(cx, cz)) {
+                reach[0] = Math.max(0.0, t - BORDER_MARGIN);
+                return false;
+            }
+            return true;
+        });
+        return reach[0];
+    }
+
+    /**
+     * Requests every chunk of the square area around a location asynchronously, so later
+     * reads find it loaded. Never blocks; already loaded chunks are skipped.
+     *
+     * @return a future completed once every requested chunk is loaded
+     */
+    @NotNull
+    public CompletableFuture<Void> prewarm(@NotNull Location center, int radius) {
+        int minChunkX = (center.getBlockX() - radius) >> 4;
+        int maxChunkX = (center.getBlockX() + radius) >> 4;
+        int minChunkZ = (center.getBlockZ() - radius) >> 4;
+        int maxChunkZ = (center.getBlockZ() + radius) >> 4;
+        List<CompletableFuture<?>> loads = new ArrayList<>();
+        for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+            for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                if (!world.isChunkLoaded(cx, cz)) {
+                    loads.add(world.getChunkAtAsync(cx, cz));
+                }
+            }
+        }
+        return allOf(loads);
+    }
+
+    /**
+     * Requests the unloaded chunks along the line of sight of an entity asynchronously.
+     *
+     * @return a future completed once every requested chunk is loaded
+     */
+    @NotNull
+    public CompletableFuture<Void> prewarmSight(@NotNull LivingEntity entity, double distance) {
+        Location eye = entity.getEyeLocation();
+        Vector unit = eye.getDirection();
+        List<CompletableFuture<?>> loads = new ArrayList<>();
+        walkChunks(eye.getX(), eye.getZ(), unit.getX(), unit.getZ(), distance, (cx, cz, t) -> {
+            if (!world.isChunkLoaded(cx, cz)) {
+                loads.add(world.getChunkAtAsync(cx, cz));
+            }
+            return true;
+        });
+        return allOf(loads);
+    }
+
+    @FunctionalInterface
+    interface ChunkVisitor {
+        /**
+         * @param distance distance along the ray at which it enters the chunk
+         * @return whether to continue walking
+         */
+        boolean visit(int chunkX, int chunkZ, double distance);
+    }
+
+    /**
+     * Visits the chunk columns a ray crosses, in order, until {@code maxDistance}.
+     *
+     * @param dx x component of the unit direction
+     * @param dz z component of the unit direction
+     */
+    static void walkChunks(double x, double z, double dx, double dz, double maxDistance, ChunkVisitor visitor) {
+        int chunkX = (int) Math.floor(x) >> 4;
+        int chunkZ = (int) Math.floor(z) >> 4;
+        int stepX = dx > 0 ? 1 : -1;
+        int stepZ = dz > 0 ? 1 : -1;
+        double nextX = dx == 0 ? Double.POSITIVE_INFINITY
+                : ((dx > 0 ? (chunkX + 1) << 4 : chunkX << 4) - x) / dx;
+        double nextZ = dz == 0 ? Double.POSITIVE_INFINITY
+                : ((dz > 0 ? (chunkZ + 1) << 4 : chunkZ << 4) - z) / dz;
+        double deltaX = dx == 0 ? Double.POSITIVE_INFINITY : 16.0 / Math.abs(dx);
+        double deltaZ = dz == 0 ? Double.POSITIVE_INFINITY : 16.0 / Math.abs(dz);
+        double t = 0.0;
+        while (t <= maxDistance && visitor.visit(chunkX, chunkZ, t)) {
+            if (nextX < nextZ) {
+                t = nextX;
+                nextX += deltaX;
+                chunkX += stepX;
+            } else {
+                t = nextZ;
+                nextZ += deltaZ;
+                chunkZ += stepZ;
+            }
+        }
+    }
+
+    private static CompletableFuture<Void> allOf(List<CompletableFuture<?>> loads) {
+        if (loads.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]));
+    }
+}
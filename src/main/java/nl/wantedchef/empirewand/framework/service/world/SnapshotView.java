@@ -0,0 +1,114 @@
+package nl.wantedchef.empirewand.framework.service.world;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Read-only block access over the {@link ChunkSnapshot}s captured for a plan, safe to use
+ * from the planner thread.
+ * <p>
+ * Reads go through the changes planned so far, so a planner sees its own earlier writes.
+ * Blocks in chunks that were not loaded at capture time, or outside the world height, read
+ * as {@link Material#VOID_AIR}.
+ */
+public final class SnapshotView {
+
+    private final ChunkSnapshot[] chunks;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int widthChunks;
+    private final int depthChunks;
+    private final int minHeight;
+    private final int maxHeight;
+    private final BlockPlan.Builder planned;
+
+    SnapshotView(@NotNull ChunkSnapshot[] chunks, int minChunkX, int minChunkZ, int widthChunks, int depthChunks,
+            int minHeight, int maxHeight, @NotNull BlockPlan.Builder planned) {
+        this.chunks = chunks;
+        this.minChunkX = minChunkX;
+        this.minChunkZ = minChunkZ;
+        this.widthChunks = widthChunks;
+        this.depthChunks = depthChunks;
+        this.minHeight = minHeight;
+        this.maxHeight = maxHeight;
+        this.planned = planned;
+    }
+
+    /**
+     * @return whether the column was captured
+     */
+    public boolean isCaptured(int x, int z) {
+        return chunk(x, z) != null;
+    }
+
+    @NotNull
+    public Material getType(int x, int y, int z) {
+        Material type = planned.plannedType(x, y, z);
+        if (type != null) {
+            return type;
+        }
+        ChunkSnapshot chunk = chunk(x, z);
+        if (chunk == null || y < minHeight || y >= maxHeight) {
+            return Material.VOID_AIR;
+        }
+        return chunk.getBlockType(x & 15, y, z & 15);
+    }
+
+    /**
+     * @return the block data, or {@code null} when the block was not captured
+     */
+    @Nullable
+    public BlockData getBlockData(int x, int y, int z) {
+        BlockData data = planned.plannedData(x, y, z);
+        if (data != null) {
+            return data;
+        }
+        ChunkSnapshot chunk = chunk(x, z);
+        if (chunk == null || y < minHeight || y >= maxHeight) {
+            return null;
+        }
+        return chunk.getBlockData(x & 15, y, z & 15);
+    }
+
+    /**
+     * Equivalent of {@code World#getHighestBlockYAt}: the highest non-air block of a column,
+     * including planned changes.
+     *
+     * @return the y coordinate, or {@link #getMinHeight()} - 1 for empty or uncaptured columns
+     */
+    public int getHighestY(int x, int z) {
+        ChunkSnapshot chunk = chunk(x, z);
+        if (chunk == null) {
+            return minHeight - 1;
+        }
+        int y = Math.min(maxHeight - 1, Math.max(chunk.getHighestBlockYAt(x & 15, z & 15), planned.maxPlannedY()));
+        while (y >= minHeight && getType(x, y, z).isAir()) {
+            y--;
+        }
+        return y;
+    }
+
+    public int getMinHeight() {
+        return minHeight;
+    }
+
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    BlockPlan.Builder planned() {
+        return planned;
+    }
+
+    private ChunkSnapshot chunk(int x, int z) {
+        int cx = (x >> 4) - minChunkX;
+        int cz = (z >> 4) - minChunkZ;
+        if (cx < 0 || cz < 0 || cx >= widthChunks || cz >= depthChunks) {
+            return null;
+        }
+        return chunks[cx * depthChunks + cz];
+    }
+}
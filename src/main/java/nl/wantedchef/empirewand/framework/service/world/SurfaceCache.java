@@ -0,0 +1,282 @@
+package nl.wantedchef.empirewand.framework.service.world;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Per-world cache of surface heights for weather and area-targeting spells.
+ * <p>
+ * Sky-spawned effects sample {@code getHighestBlockYAt} for many random columns every tick,
+ * each a chunk lookup plus a heightmap read. Here the heights of a whole chunk are copied into
+ * an {@code int[256]} from a {@link ChunkSnapshot} on first use, so later reads are a map
+ * lookup and an array read.
+ * <p>
+ * Columns are invalidated by block place, break and explosion events and by the
+ * {@link WorldMutationQueue}; invalidated columns are re-read individually. Changes nothing
+ * reports (fluids, growth, other plugins) are picked up once a chunk's heights are older than
+ * the configured age. Unloaded chunks are never loaded and read as {@link #UNLOADED}. Main
+ * thread only.
+ */
+public final class SurfaceCache implements Listener {
+
+    /** Height returned for columns in unloaded chunks. */
+    public static final int UNLOADED = SafeWorldView.UNLOADED;
+
+    // Marks a column whose height must be re-read
+    private static final int STALE = Integer.MIN_VALUE + 1;
+
+    private static final class ChunkHeights {
+        private final int[] heights = new int[256];
+        private long filledAt;
+    }
+
+    /**
+     * Result of {@link #sampleDisc}; points in unloaded chunks are left out.
+     */
+    public static final class Sample {
+        private final int[] xs;
+        private final int[] ys;
+        private final int[] zs;
+        private int size;
+
+        private Sample(int capacity) {
+            this.xs = new int[capacity];
+            this.ys = new int[capacity];
+            this.zs = new int[capacity];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int x(int i) {
+            return xs[i];
+        }
+
+        /**
+         * @return y of the surface block of the point
+         */
+        public int y(int i) {
+            return ys[i];
+        }
+
+        public int z(int i) {
+            return zs[i];
+        }
+
+        /**
+         * @return the centre of the block {@code yOffset} above the surface block of the point
+         */
+        @NotNull
+        public Location location(@NotNull World world, int i, double yOffset) {
+            return new Location(world, xs[i] + 0.5, ys[i] + yOffset, zs[i] + 0.5);
+        }
+    }
+
+    /**
+     * Cache statistics.
+     *
+     * @param cachedChunks chunks with cached heights
+     * @param hits         reads served from the cache
+     * @param misses       reads that filled a chunk or re-read a column
+     * @param unloaded     reads of unloaded columns
+     */
+    public record Stats(int cachedChunks, long hits, long misses, long unloaded) {
+    }
+
+    private final long maxAgeMillis;
+    private final LongSupplier clock;
+    private final Map<UUID, Map<Long, ChunkHeights>> worlds = new HashMap<>();
+    private long hits;
+    private long misses;
+    private long unloaded;
+
+    /**
+     * @param maxAgeMillis age after which a chunk's heights are re-read
+     */
+    public SurfaceCache(long maxAgeMillis) {
+        this(maxAgeMillis, System::currentTimeMillis);
+    }
+
+    SurfaceCache(long maxAgeMillis, @NotNull LongSupplier clock) {
+        this.maxAgeMillis = maxAgeMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the y of the highest non-air block, or {@link #UNLOADED}
+     */
+    public int getHighestBlockYAt(@NotNull World world, int x, int z) {
+        int chunkX = x >> 4;
+        int chunkZ = z >> 4;
+        if (!world.isChunkLoaded(chunkX, chunkZ)) {
+            unloaded++;
+            return UNLOADED;
+        }
+        Map<Long, ChunkHeights> chunks = worlds.computeIfAbsent(world.getUID(), id -> new HashMap<>());
+        long key = chunkKey(chunkX, chunkZ);
+        ChunkHeights cached = chunks.get(key);
+        long now = clock.getAsLong();
+        if (cached == null || now - cached.filledAt > maxAgeMillis) {
+            misses++;
+            cached = fill(world, chunkX, chunkZ, now);
+            chunks.put(key, cached);
+            return cached.heights[column(x, z)];
+        }
+        int height = cached.heights[column(x, z)];
+        if (height == STALE) {
+            misses++;
+            height = world.getHighestBlockYAt(x, z);
+            cached.heights[column(x, z)] = height;
+            return height;
+        }
+        hits++;
+        return height;
+    }
+
+    public int getHighestBlockYAt(@NotNull Location location) {
+        return getHighestBlockYAt(location.getWorld(), location.getBlockX(), location.getBlockZ());
+    }
+
+    /**
+     * Picks {@code count} uniformly distributed columns in a disc and reads their surface.
+     */
+    @NotNull
+    public Sample sampleDisc(@NotNull World world, double centerX, double centerZ, double radius, int count,
+            @NotNull RandomGenerator random) {
+        Sample sample = new Sample(Math.max(0, count));
+        for (int i = 0; i < count; i++) {
+            double distance = radius * Math.sqrt(random.nextDouble());
+            double angle = random.nextDouble() * Math.PI * 2;
+            int x = (int) Math.floor(centerX + Math.cos(angle) * distance);
+            int z = (int) Math.floor(centerZ + Math.sin(angle) * distance);
+            int y = getHighestBlockYAt(world, x, z);
+            if (y == UNLOADED) {
+                continue;
+            }
+            sample.xs[sample.size] = x;
+            sample.ys[sample.size] = y;
+            sample.zs[sample.size] = z;
+            sample.size++;
+        }
+        return sample;
+    }
+
+    /**
+     * Marks a column for re-reading.
+     */
+    public void invalidate(@NotNull World world, int x, int z) {
+        Map<Long, ChunkHeights> chunks = worlds.get(world.getUID());
+        if (chunks == null) {
+            return;
+        }
+        ChunkHeights cached = chunks.get(chunkKey(x >> 4, z >> 4));
+        if (cached != null) {
+            cached.heights[column(x, z)] = STALE;
+        }
+    }
+
+    /**
+     * Drops the heights of a chunk.
+     */
+    public void invalidateChunk(@NotNull World world, int chunkX, int chunkZ) {
+        Map<Long, ChunkHeights> chunks = worlds.get(world.getUID());
+        if (chunks != null) {
+            chunks.remove(chunkKey(chunkX, chunkZ));
+        }
+    }
+
+    @NotNull
+    public Stats stats() {
+        int cachedChunks = 0;
+        for (Map<Long, ChunkHeights> chunks : worlds.values()) {
+            cachedChunks += chunks.size();
+        }
+        return new Stats(cachedChunks, hits, misses, unloaded);
+    }
+
+    public void resetStats() {
+        hits = 0;
+        misses = 0;
+        unloaded = 0;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        invalidate(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        invalidate(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        invalidateChunk(event.getWorld(), event.getChunk().getX(), event.getChunk().getZ());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        worlds.remove(event.getWorld().getUID());
+    }
+
+    private void invalidate(Block block) {
+        invalidate(block.getWorld(), block.getX(), block.getZ());
+    }
+
+    private void invalidate(List<Block> blocks) {
+        for (Block block : blocks) {
+            invalidate(block);
+        }
+    }
+
+    private static ChunkHeights fill(World world, int chunkX, int chunkZ, long now) {
+        ChunkSnapshot snapshot = world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(true, false, false);
+        ChunkHeights chunk = new ChunkHeights();
+        for (int localX = 0; localX < 16; localX++) {
+            for (int localZ = 0; localZ < 16; localZ++) {
+                chunk.heights[localZ << 4 | localX] = snapshot.getHighestBlockYAt(localX, localZ);
+            }
+        }
+        chunk.filledAt = now;
+        return chunk;
+    }
+
+    private static int column(int x, int z) {
+        return (z & 15) << 4 | (x & 15);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,165 @@
+package nl.wantedchef.empirewand.framework.service.world;
+
+import io.papermc.paper.entity.TeleportFlag;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Shared teleport pipeline for movement spells.
+ * <p>
+ * A synchronous {@code teleport} into an unloaded chunk loads it on the main thread, and the
+ * block probing spells did to find a safe spot had the same effect. Here the destination chunk
+ * is requested with {@code getChunkAtAsync}; once it is there the destination column is
+ * validated against that chunk and the entity is moved with {@code teleportAsync}. A long
+ * range recall therefore costs the main thread nothing beyond the final position change.
+ * <p>
+ * All returned futures complete on the main thread, so spells can drive their arrival effects
+ * directly from them.
+ */
+public final class TeleportService {
+
+    /** Search range that teleports to the exact destination without validating it. */
+    public static final int UNCHECKED = -1;
+
+    static final int NOT_FOUND = Integer.MIN_VALUE;
+
+    private static final Set<Material> HAZARDS = EnumSet.of(Material.LAVA, Material.FIRE, Material.SOUL_FIRE,
+            Material.MAGMA_BLOCK, Material.CACTUS, Material.CAMPFIRE, Material.SOUL_CAMPFIRE,
+            Material.SWEET_BERRY_BUSH, Material.POWDER_SNOW, Material.WITHER_ROSE);
+
+    private final Logger logger;
+
+    public TeleportService(@NotNull Logger logger) {
+        this.logger = Objects.requireNonNull(logger, "logger");
+    }
+
+    /**
+     * Requests the chunk of a destination ahead of time, for example at the start of a
+     * channelled cast. Never blocks.
+     */
+    @NotNull
+    public CompletableFuture<Void> prefetch(@NotNull Location destination) {
+        World world = Objects.requireNonNull(destination.getWorld(), "world");
+        if (world.isChunkLoaded(destination.getBlockX() >> 4, destination.getBlockZ() >> 4)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return world.getChunkAtAsync(destination.getBlockX() >> 4, destination.getBlockZ() >> 4)
+                .thenAccept(chunk -> { });
+    }
+
+    /**
+     * Teleports to the exact destination.
+     *
+     * @return a future completed on the main thread with the arrival location, or {@code null}
+     *         when the teleport was refused
+     */
+    @NotNull
+    public CompletableFuture<Location> teleport(@NotNull Entity entity, @NotNull Location destination,
+            @NotNull TeleportFlag... flags) {
+        return teleport(entity, destination, UNCHECKED, flags);
+    }
+
+    /**
+     * Teleports to the nearest safe standing spot at most {@code searchRange} blocks above or
+     * below the destination: two passable, harmless blocks over a solid floor. A range of 0
+     * only validates the destination itself.
+     *
+     * @return a future completed on the main thread with the arrival location, or {@code null}
+     *         when no safe spot was found or the teleport was refused
+     */
+    @NotNull
+    public CompletableFuture<Location> teleport(@NotNull Entity entity, @NotNull Location destination,
+            int searchRange, @NotNull TeleportFlag... flags) {
+        World world = Objects.requireNonNull(destination.getWorld(), "world");
+        if (!entity.isValid()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        int blockX = destination.getBlockX();
+        int blockZ = destination.getBlockZ();
+        return world.getChunkAtAsync(blockX >> 4, blockZ >> 4).thenCompose(chunk -> {
+            Location arrival = destination.clone();
+            if (searchRange != UNCHECKED) {
+                int y = findSafeY(column(chunk, blockX, blockZ), destination.getBlockY(), world.getMinHeight(),
+                        world.getMaxHeight(), searchRange);
+                if (y == NOT_FOUND) {
+                    return CompletableFuture.completedFuture(null);
+                }
+                arrival.setY(y);
+            }
+            if (!entity.isValid()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return entity.teleportAsync(arrival, PlayerTeleportEvent.TeleportCause.PLUGIN, flags)
+                    .thenApply(moved -> moved ? arrival : null);
+        }).exceptionally(e -> {
+            logger.log(Level.WARNING, "Teleport of " + entity.getName() + " failed", e);
+            return null;
+        });
+    }
+
+    /**
+     * @return whether an entity can stand in the destination column at that height; only
+     *         meaningful for loaded chunks
+     */
+    public static boolean isSafe(@NotNull Location location) {
+        World world = Objects.requireNonNull(location.getWorld(), "world");
+        int x = location.getBlockX();
+        int z = location.getBlockZ();
+        if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+            return false;
+        }
+        int y = location.getBlockY();
+        return isSafe(by -> world.getBlockAt(x, by, z).getType(), y, world.getMinHeight(), world.getMaxHeight());
+    }
+
+    /**
+     * Searches {@code y}, {@code y + 1}, {@code y - 1}, {@code y + 2}, ... for a safe spot.
+     *
+     * @return the y of the feet, or {@link #NOT_FOUND}
+     */
+    static int findSafeY(IntFunction<Material> column, int y, int minHeight, int maxHeight, int range) {
+        for (int offset = 0; offset <= range; offset++) {
+            if (isSafe(column, y + offset, minHeight, maxHeight)) {
+                return y + offset;
+            }
+            if (offset > 0 && isSafe(column, y - offset, minHeight, maxHeight)) {
+                return y - offset;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static boolean isSafe(IntFunction<Material> column, int y, int minHeight, int maxHeight) {
+        if (y - 1 < minHeight || y + 1 >= maxHeight) {
+            return false;
+        }
+        Material floor = column.apply(y - 1);
+        if (!floor.isSolid() || HAZARDS.contains(floor)) {
+            return false;
+        }
+        return isPassable(column.apply(y)) && isPassable(column.apply(y + 1));
+    }
+
+    private static boolean isPassable(Material type) {
+        return !type.isSolid() && !HAZARDS.contains(type);
+    }
+
+    private static IntFunction<Material> column(Chunk chunk, int blockX, int blockZ) {
+        int localX = blockX & 15;
+        int localZ = blockZ & 15;
+        return y -> chunk.getBlock(localX, y, localZ).getType();
+    }
+}
@@ -0,0 +1,381 @@
+package nl.wantedchef.empirewand.framework.service.world;
+
+import nl.wantedchef.empirewand.core.task.TaskManager;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Main-thread queue that spreads block writes over ticks.
+ * <p>
+ * A terrain-heavy cast used to write all of its blocks in the tick it was cast, which can
+ * spike that tick by tens of milliseconds. Submitted {@link BlockPlan}s are instead split into
+ * one batch per chunk and drained once per tick in priority order until the per-tick budget
+ * is spent; the loaded check is done once per chunk batch rather than per block.
+ * <p>
+ * Each submission carries a deadline in ticks. Batches that reach their deadline are written
+ * in full on that tick regardless of the budget, so short-lived effects (platforms, debris
+ * holes) never wait behind a large crater. Physics is left to the submitter: spells that
+ * only place or remove full blocks pass {@code false}. Bukkit offers no way to defer light
+ * updates, so those still happen per write. When a {@link SurfaceCache} is attached, the
+ * surface heights of every chunk written to are invalidated. Main thread only.
+ */
+public final class WorldMutationQueue {
+
+    /** Deadline value for writes that may wait indefinitely. */
+    public static final int NO_DEADLINE = -1;
+
+    private static final int CLOCK_CHECK_INTERVAL = 16;
+
+    /**
+     * Drain order of batches without an expired deadline.
+     */
+    public enum Priority {
+        /** Blocks players interact with right away, such as platforms and walls. */
+        HIGH,
+        /** Regular spell terrain changes. */
+        NORMAL,
+        /** Cosmetic changes and cleanup of temporary blocks. */
+        LOW
+    }
+
+    /**
+     * Queue statistics.
+     *
+     * @param pendingWrites     writes waiting to be applied
+     * @param pendingBatches    chunk batches waiting to be applied
+     * @param peakPendingWrites highest backlog since start or reset
+     * @param appliedWrites     writes applied since start or reset
+     * @param droppedWrites     writes skipped because their chunk unloaded or the block changed
+     * @param overdueWrites     writes applied past the budget because their deadline expired
+     * @param lastTickNanos     time spent in the last drain
+     */
+    public record Stats(int pendingWrites, int pendingBatches, int peakPendingWrites, long appliedWrites,
+            long droppedWrites, long overdueWrites, long lastTickNanos) {
+    }
+
+    private static final class Ticket {
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private int remainingBatches;
+    }
+
+    private static final class IndexList {
+        private int[] values = new int[8];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class ChunkBatch {
+        private final BlockPlan plan;
+        private final int chunkX;
+        private final int chunkZ;
+        private final int[] indices;
+        private final Priority priority;
+        private final long deadlineTick;
+        private final long sequence;
+        private final boolean applyPhysics;
+        private final Ticket ticket;
+        private final BlockPlan.BlockConsumer onWrite;
+        private int cursor;
+        private boolean finished;
+
+        private ChunkBatch(BlockPlan plan, int chunkX, int chunkZ, int[] indices, Priority priority,
+                long deadlineTick, long sequence, boolean applyPhysics, Ticket ticket,
+                BlockPlan.BlockConsumer onWrite) {
+            this.plan = plan;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.indices = indices;
+            this.priority = priority;
+            this.deadlineTick = deadlineTick;
+            this.sequence = sequence;
+            this.applyPhysics = applyPhysics;
+            this.ticket = ticket;
+            this.onWrite = onWrite;
+        }
+
+        private int remaining() {
+            return indices.length - cursor;
+        }
+    }
+
+    private final long budgetNanos;
+    private final LongSupplier clock;
+    private final Logger logger;
+    private final SurfaceCache surfaceCache;
+    private final PriorityQueue<ChunkBatch> byPriority = new PriorityQueue<>(
+            Comparator.<ChunkBatch, Priority>comparing(b -> b.priority)
+                    .thenComparingLong(b -> b.deadlineTick)
+                    .thenComparingLong(b -> b.sequence));
+    private final PriorityQueue<ChunkBatch> byDeadline = new PriorityQueue<>(
+            Comparator.<ChunkBatch>comparingLong(b -> b.deadlineTick).thenComparingLong(b -> b.sequence));
+
+    private BukkitTask task;
+    private long tick;
+    private long sequence;
+    private int pendingWrites;
+    private int pendingBatches;
+    private int peakPendingWrites;
+    private long appliedWrites;
+    private long droppedWrites;
+    private long overdueWrites;
+    private long lastTickNanos;
+
+    /**
+     * @param budgetMicros time the queue may spend writing per tick
+     */
+    public WorldMutationQueue(long budgetMicros, @NotNull Logger logger) {
+        this(budgetMicros, System::nanoTime, null, logger);
+    }
+
+    /**
+     * @param budgetMicros time the queue may spend writing per tick
+     * @param surfaceCache cache whose heights are invalidated for written chunks
+     */
+    public WorldMutationQueue(long budgetMicros, @Nullable SurfaceCache surfaceCache, @NotNull Logger logger) {
+        this(budgetMicros, System::nanoTime, surfaceCache, logger);
+    }
+
+    WorldMutationQueue(long budgetMicros, @NotNull LongSupplier clock, @NotNull Logger logger) {
+        this(budgetMicros, clock, null, logger);
+    }
+
+    private WorldMutationQueue(long budgetMicros, LongSupplier clock, SurfaceCache surfaceCache, Logger logger) {
+        this.budgetNanos = Math.max(0L, budgetMicros) * 1000L;
+        this.clock = clock;
+        this.surfaceCache = surfaceCache;
+        this.logger = logger;
+    }
+
+    /**
+     * Starts draining once per tick.
+     */
+    public void start(@NotNull TaskManager taskManager) {
+        if (task == null) {
+            task = taskManager.runTaskTimer("world-mutations", this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stops the drain task and writes everything still queued, so no terrain change is
+     * left half done.
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        if (pendingWrites > 0) {
+            logger.info(String.format("Flushing %d queued block writes", pendingWrites));
+        }
+        ChunkBatch batch;
+        while ((batch = byPriority.poll()) != null) {
+            if (!batch.finished) {
+                drain(batch, Long.MAX_VALUE);
+            }
+        }
+        byDeadline.clear();
+    }
+
+    /**
+     * Queues every change of a plan.
+     *
+     * @param plan          the plan
+     * @param priority      drain priority
+     * @param deadlineTicks ticks after which the remaining writes ignore the budget, or
+     *                      {@link #NO_DEADLINE}
+     * @param applyPhysics  whether neighbouring blocks receive physics updates
+     * @return a future completed on the main thread once every write was applied or dropped
+     */
+    @NotNull
+    public CompletableFuture<Void> submit(@NotNull BlockPlan plan, @NotNull Priority priority, int deadlineTicks,
+            boolean applyPhysics) {
+        return submit(plan, priority, deadlineTicks, applyPhysics, null);
+    }
+
+    /**
+     * Queues every change of a plan and reports each write as it is applied.
+     *
+     * @param plan          the plan
+     * @param priority      drain priority
+     * @param deadlineTicks ticks after which the remaining writes ignore the budget, or
+     *                      {@link #NO_DEADLINE}
+     * @param applyPhysics  whether neighbouring blocks receive physics updates
+     * @param onWrite       called on the main thread for every position actually written; skipped
+     *                      replacements and writes in unloaded chunks are not reported
+     * @return a future completed on the main thread once every write was applied or dropped
+     */
+    @NotNull
+    public CompletableFuture<Void> submit(@NotNull BlockPlan plan, @NotNull Priority priority, int deadlineTicks,
+            boolean applyPhysics, @Nullable BlockPlan.BlockConsumer onWrite) {
+        Ticket ticket = new Ticket();
+        if (plan.size() == 0) {
+            ticket.done.complete(null);
+            return ticket.done;
+        }
+
+        // Group by chunk, keeping the planning order within each chunk
+        Map<Long, IndexList> groups = new LinkedHashMap<>();
+        for (int i = 0; i < plan.size(); i++) {
+            long position = plan.position(i);
+            long chunk = chunkKey(BlockPlan.unpackX(position) >> 4, BlockPlan.unpackZ(position) >> 4);
+            groups.computeIfAbsent(chunk, key -> new IndexList()).add(i);
+        }
+
+        long deadlineTick = deadlineTicks < 0 ? Long.MAX_VALUE : tick + deadlineTicks;
+        ticket.remainingBatches = groups.size();
+        for (Map.Entry<Long, IndexList> entry : groups.entrySet()) {
+            long chunk = entry.getKey();
+            int[] indices = entry.getValue().toArray();
+            ChunkBatch batch = new ChunkBatch(plan, (int) (chunk >> 32), (int) chunk, indices, priority,
+                    deadlineTick, sequence++, applyPhysics, ticket, onWrite);
+            byPriority.add(batch);
+            if (deadlineTick != Long.MAX_VALUE) {
+                byDeadline.add(batch);
+            }
+            pendingWrites += indices.length;
+            pendingBatches++;
+        }
+        peakPendingWrites = Math.max(peakPendingWrites, pendingWrites);
+        return ticket.done;
+    }
+
+    /**
+     * Applies due batches, then drains by priority until the budget is spent.
+     */
+    void tick() {
+        tick++;
+        long start = clock.getAsLong();
+
+        ChunkBatch batch;
+        while ((batch = byDeadline.peek()) != null && (batch.finished || batch.deadlineTick <= tick)) {
+            byDeadline.poll();
+            if (!batch.finished) {
+                overdueWrites += batch.remaining();
+                drain(batch, Long.MAX_VALUE);
+            }
+        }
+
+        long stopAt = start + budgetNanos;
+        while ((batch = byPriority.peek()) != null) {
+            if (batch.finished) {
+                byPriority.poll();
+                continue;
+            }
+            if (clock.getAsLong() >= stopAt) {
+                break;
+            }
+            drain(batch, stopAt);
+            if (batch.finished) {
+                byPriority.poll();
+            }
+        }
+        lastTickNanos = clock.getAsLong() - start;
+    }
+
+    /**
+     * @return current statistics
+     */
+    @NotNull
+    public Stats stats() {
+        return new Stats(pendingWrites, pendingBatches, peakPendingWrites, appliedWrites, droppedWrites,
+                overdueWrites, lastTickNanos);
+    }
+
+    /**
+     * @return writes waiting to be applied
+     */
+    public int backlog() {
+        return pendingWrites;
+    }
+
+    /**
+     * Clears the counters, keeping queued writes.
+     */
+    public void resetStats() {
+        peakPendingWrites = pendingWrites;
+        appliedWrites = 0;
+        droppedWrites = 0;
+        overdueWrites = 0;
+    }
+
+    private void drain(ChunkBatch batch, long stopAt) {
+        World world = batch.plan.world();
+        if (!world.isChunkLoaded(batch.chunkX, batch.chunkZ)) {
+            droppedWrites += batch.remaining();
+            finish(batch);
+            return;
+        }
+        int written = 0;
+        while (batch.cursor < batch.indices.length) {
+            int i = batch.indices[batch.cursor++];
+            long position = batch.plan.position(i);
+            int x = BlockPlan.unpackX(position);
+            int y = BlockPlan.unpackY(position);
+            int z = BlockPlan.unpackZ(position);
+            if (batch.plan.write(i, world.getBlockAt(x, y, z), batch.applyPhysics)) {
+                written++;
+                appliedWrites++;
+                if (batch.onWrite != null) {
+                    notifyWrite(batch.onWrite, x, y, z);
+                }
+            } else {
+                droppedWrites++;
+            }
+            pendingWrites--;
+            if (batch.cursor % CLOCK_CHECK_INTERVAL == 0 && clock.getAsLong() >= stopAt) {
+                break;
+            }
+        }
+        if (written > 0 && surfaceCache != null) {
+            surfaceCache.invalidateChunk(world, batch.chunkX, batch.chunkZ);
+        }
+        if (batch.cursor == batch.indices.length) {
+            finish(batch);
+        }
+    }
+
+    private void notifyWrite(BlockPlan.BlockConsumer onWrite, int x, int y, int z) {
+        try {
+            onWrite.accept(x, y, z);
+        } catch (RuntimeException e) {
+            // A failing effect must not leave the rest of the batch unwritten
+            logger.log(Level.WARNING, "Block write callback failed", e);
+        }
+    }
+
+    private void finish(ChunkBatch batch) {
+        pendingWrites -= batch.remaining();
+        batch.cursor = batch.indices.length;
+        batch.finished = true;
+        pendingBatches--;
+        if (--batch.ticket.remainingBatches == 0) {
+            batch.ticket.done.complete(null);
+        }
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
@@ -110,37 +110,8 @@ public class CategorySelectionMenu {
     private void addDifficultyCategory(@NotNull Gui gui, @NotNull Player player, @NotNull String wandKey,
                                      @NotNull WandSessionManager.WandSession session) {
 
-        ItemStack item = new ItemStack(Material.EXPERIENCE_BOTTLE);
-        ItemMeta meta = item.getItemMeta();
-
-        meta.displayName(Component.text("Difficulty Settings")
-                .color(NamedTextColor.YELLOW)
-                .decorate(TextDecoration.BOLD)
-                .decoration(TextDecoration.ITALIC, false));
-
-        List<Component> lore = new ArrayList<>();
-        lore.add(Component.empty());
-        lore.add(Component.text("Quick difficulty configuration")
-                .color(NamedTextColor.GRAY)
-                .decoration(TextDecoration.ITALIC, false));
-        lore.add(Component.empty());
-
-        // Show available options
-        lore.add(Component.text("Available Options:")
-                .color(NamedTextColor.YELLOW)
-                .decoration(TextDecoration.ITALIC, false));
-        lore.add(Component.text("• Left Click: Easy Mode")
-                .color(NamedTextColor.GREEN)
-                .decoration(TextDecoration.ITALIC, false));
-        lore.add(Component.text("• Right Click: Medium Mode")
-                .color(NamedTextColor.YELLOW)
-                .decoration(TextDecoration.ITALIC, false));
-        lore.add(Component.text("• Shift+Click: Hard Mode")
-                .color(NamedTextColor.RED)
-                .decoration(TextDecoration.ITALIC, false));
-
-        meta.lore(lore);
-        item.setItemMeta(meta);
+        ItemStack item = plugin.getIconTemplateCache().icon("category.difficulty",
+                this::createDifficultyCategoryIcon);
 
         gui.setItem(DIFFICULTY_CATEGORY_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
             event.setCancelled(true);
@@ -180,42 +151,46 @@ public class CategorySelectionMenu {
         }));
     }
 
-    private void addDamageCategory(@NotNull Gui gui, @NotNull Player player, @NotNull String wandKey,
-                                 @NotNull WandSessionManager.WandSession session) {
-
-        ItemStack item = new ItemStack(Material.DIAMOND_SWORD);
+    private ItemStack createDifficultyCategoryIcon() {
+        ItemStack item = new ItemStack(Material.EXPERIENCE_BOTTLE);
         ItemMeta meta = item.getItemMeta();
 
-        meta.displayName(Component.text("Damage Settings")
-                .color(NamedTextColor.RED)
+        meta.displayName(Component.text("Difficulty Settings")
+                .color(NamedTextColor.YELLOW)
                 .decorate(TextDecoration.BOLD)
                 .decoration(TextDecoration.ITALIC, false));
 
         List<Component> lore = new ArrayList<>();
         lore.add(Component.empty());
-        lore.add(Component.text("Quick damage configuration")
+        lore.add(Component.text("Quick difficulty configuration")
                 .color(NamedTextColor.GRAY)
                 .decoration(TextDecoration.ITALIC, false));
         lore.add(Component.empty());
 
+        // Show available options
         lore.add(Component.text("Available Options:")
                 .color(NamedTextColor.YELLOW)
                 .decoration(TextDecoration.ITALIC, false));
-        lore.add(Component.text("• Left Click: Enable All Damage")
+        lore.add(Component.text("• Left Click: Easy Mode")
                 .color(NamedTextColor.GREEN)
                 .decoration(TextDecoration.ITALIC, false));
-        lore.add(Component.text("• Right Click: Disable All Damage")
-                .color(NamedTextColor.RED)
-                .decoration(TextDecoration.ITALIC, false));
-        lore.add(Component.text("• Shift+Left: PvP Only")
-                .color(NamedTextColor.GOLD)
+        lore.add(Component.text("• Right Click: Medium Mode")
+                .color(NamedTextColor.YELLOW)
                 .decoration(TextDecoration.ITALIC, false));
-        lore.add(Component.text("• Shift+Right: Environment Only")
-                .color(NamedTextColor.BLUE)
+        lore.add(Component.text("• Shift+Click: Hard Mode")
+                .color(NamedTextColor.RED)
                 .decoration(TextDecoration.ITALIC, false));
 
         meta.lore(lore);
         item.setItemMeta(meta);
+        return item;
+    }
+
+    private void addDamageCategory(@NotNull Gui gui, @NotNull Player player, @NotNull String wandKey,
+                                 @NotNull WandSessionManager.WandSession session) {
+
+        ItemStack item = plugin.getIconTemplateCache().icon("category.damage",
+                this::createDamageCategoryIcon);
 
         gui.setItem(DAMAGE_CATEGORY_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
             event.setCancelled(true);
@@ -264,20 +239,18 @@ public class CategorySelectionMenu {
         }));
     }
 
-    private void addCooldownCategory(@NotNull Gui gui, @NotNull Player player, @NotNull String wandKey,
-                                   @NotNull WandSessionManager.WandSession session) {
-
-        ItemStack item = new ItemStack(Material.CLOCK);
+    private ItemStack createDamageCategoryIcon() {
+        ItemStack item = new ItemStack(Material.DIAMOND_SWORD);
         ItemMeta meta = item.getItemMeta();
 
-        meta.displayName(Component.text("Cooldown Settings")
-                .color(NamedTextColor.BLUE)
+        meta.displayName(Component.text("Damage Settings")
+                .color(NamedTextColor.RED)
                 .decorate(TextDecoration.BOLD)
                 .decoration(TextDecoration.ITALIC, false));
 
         List<Component> lore = new ArrayList<>();
         lore.add(Component.empty());
-        lore.add(Component.text("Quick cooldown configuration")
+        lore.add(Component.text("Quick damage configuration")
                 .color(NamedTextColor.GRAY)
                 .decoration(TextDecoration.ITALIC, false));
         lore.add(Component.empty());
@@ -285,15 +258,29 @@ public class CategorySelectionMenu {
         lore.add(Component.text("Available Options:")
                 .color(NamedTextColor.YELLOW)
                 .decoration(TextDecoration.ITALIC, false));
-        lore.add(Component.text("• Left Click: Enable Cooldown Block")
+        lore.add(Component.text("• Left Click: Enable All Damage")
                 .color(NamedTextColor.GREEN)
                 .decoration(TextDecoration.ITALIC, false));
-        lore.add(Component.text("• Right Click: Disable Cooldown Block")
+        lore.add(Component.text("• Right Click: Disable All Damage")
                 .color(NamedTextColor.RED)
                 .decoration(TextDecoration.ITALIC, false));
+        lore.add(Component.text("• Shift+Left: PvP Only")
+                .color(NamedTextColor.GOLD)
+                .decoration(TextDecoration.ITALIC, false));
+        lore.add(Component.text("• Shift+Right: Environment Only")
+                .color(NamedTextColor.BLUE)
+                .decoration(TextDecoration.ITALIC, false));
 
         meta.lore(lore);
         item.setItemMeta(meta);
+        return item;
+    }
+
+    private void addCooldownCategory(@NotNull Gui gui, @NotNull Player player, @NotNull String wandKey,
+                                   @NotNull WandSessionManager.WandSession session) {
+
+        ItemStack item = plugin.getIconTemplateCache().icon("category.cooldown",
+                this::createCooldownCategoryIcon);
 
         gui.setItem(COOLDOWN_CATEGORY_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
             event.setCancelled(true);
@@ -322,30 +309,39 @@ public class CategorySelectionMenu {
         }));
     }
 
-    private void addBackItem(@NotNull Gui gui, @NotNull Player player, @NotNull String wandKey) {
-        ItemStack item = new ItemStack(Material.ARROW);
+    private ItemStack createCooldownCategoryIcon() {
+        ItemStack item = new ItemStack(Material.CLOCK);
         ItemMeta meta = item.getItemMeta();
 
-        meta.displayName(Component.text("Back to Wand Settings")
-                .color(NamedTextColor.WHITE)
+        meta.displayName(Component.text("Cooldown Settings")
+                .color(NamedTextColor.BLUE)
                 .decorate(TextDecoration.BOLD)
                 .decoration(TextDecoration.ITALIC, false));
 
         List<Component> lore = new ArrayList<>();
         lore.add(Component.empty());
-        lore.add(Component.text("Return to detailed wand")
-                .color(NamedTextColor.GRAY)
-                .decoration(TextDecoration.ITALIC, false));
-        lore.add(Component.text("configuration menu.")
+        lore.add(Component.text("Quick cooldown configuration")
                 .color(NamedTextColor.GRAY)
                 .decoration(TextDecoration.ITALIC, false));
         lore.add(Component.empty());
-        lore.add(Component.text("Click to go back")
+
+        lore.add(Component.text("Available Options:")
+                .color(NamedTextColor.YELLOW)
+                .decoration(TextDecoration.ITALIC, false));
+        lore.add(Component.text("• Left Click: Enable Cooldown Block")
                 .color(NamedTextColor.GREEN)
-                .decoration(TextDecoration.ITALIC, true));
+                .decoration(TextDecoration.ITALIC, false));
+        lore.add(Component.text("• Right Click: Disable Cooldown Block")
+                .color(NamedTextColor.RED)
+                .decoration(TextDecoration.ITALIC, false));
 
         meta.lore(lore);
         item.setItemMeta(meta);
+        return item;
+    }
+
+    private void addBackItem(@NotNull Gui gui, @NotNull Player player, @NotNull String wandKey) {
+        ItemStack item = plugin.getIconTemplateCache().icon("category.back", this::createBackIcon);
 
         gui.setItem(BACK_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
             event.setCancelled(true);
@@ -359,6 +355,33 @@ public class CategorySelectionMenu {
         }));
     }
 
+    private ItemStack createBackIcon() {
+        ItemStack item = new ItemStack(Material.ARROW);
+        ItemMeta meta = item.getItemMeta();
+
+        meta.displayName(Component.text("Back to Wand Settings")
+                .color(NamedTextColor.WHITE)
+                .decorate(TextDecoration.BOLD)
+                .decoration(TextDecoration.ITALIC, false));
+
+        List<Component> lore = new ArrayList<>();
+        lore.add(Component.empty());
+        lore.add(Component.text("Return to detailed wand")
+                .color(NamedTextColor.GRAY)
+                .decoration(TextDecoration.ITALIC, false));
+        lore.add(Component.text("configuration menu.")
+                .color(NamedTextColor.GRAY)
+                .decoration(TextDecoration.ITALIC, false));
+        lore.add(Component.empty());
+        lore.add(Component.text("Click to go back")
+                .color(NamedTextColor.GREEN)
+                .decoration(TextDecoration.ITALIC, true));
+
+        meta.lore(lore);
+        item.setItemMeta(meta);
+        return item;
+    }
+
     private WandSettings getCurrentSettings(@NotNull String wandKey, @NotNull WandSessionManager.WandSession session) {
         // Check for pending changes first, fallback to saved settings
         WandSettings pendingSettings = session.getPendingChanges(wandKey);
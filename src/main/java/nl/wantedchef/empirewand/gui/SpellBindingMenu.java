@@ -1,14 +1,15 @@
 package nl.wantedchef.empirewand.gui;
 
 import dev.triumphteam.gui.guis.Gui;
-import dev.triumphteam.gui.guis.PaginatedGui;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import nl.wantedchef.empirewand.EmpireWandPlugin;
+import nl.wantedchef.empirewand.api.service.PermissionService;
 import nl.wantedchef.empirewand.api.service.WandService;
 import nl.wantedchef.empirewand.api.spell.SpellMetadata;
 import nl.wantedchef.empirewand.api.spell.SpellRegistry;
+import nl.wantedchef.empirewand.gui.util.IconTemplateCache;
 import nl.wantedchef.empirewand.gui.util.ItemBuilder;
 import org.bukkit.Material;
 import org.bukkit.Sound;
@@ -20,20 +21,43 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
 
 /**
  * Spell binding GUI. Shows all spells and lets players bind/unbind to the held wand.
+ * <p>
+ * Spell icons come from an {@link IconTemplateCache} table built once per reload, so opening
+ * the menu or turning a page only copies the templates of the visible page.
  */
 public class SpellBindingMenu {
 
     private static final int ROWS = 6;
     private static final int PAGE_SIZE = 45;
+    private static final int PREVIOUS_SLOT = 45;
     private static final int INFO_SLOT = 49;
+    private static final int NEXT_SLOT = 53;
+
+    private static final String SPELL_ICONS_KEY = "binding.spells";
+
+    /**
+     * Spell icon templates in display name order, one variant per binding state.
+     */
+    private record SpellIcons(String[] keys, String[] displayNames, ItemStack[] unbound, ItemStack[] bound,
+            ItemStack[] locked) {
+
+        int size() {
+            return keys.length;
+        }
+
+        int pageCount() {
+            return Math.max(1, (keys.length + PAGE_SIZE - 1) / PAGE_SIZE);
+        }
+    }
 
     private final EmpireWandPlugin plugin;
     private final Logger logger;
@@ -44,12 +68,17 @@ public class SpellBindingMenu {
     }
 
     public void openMenu(@NotNull Player player, @NotNull String wandKey) {
+        openMenu(player, wandKey, 0);
+    }
+
+    public void openMenu(@NotNull Player player, @NotNull String wandKey, int page) {
         Objects.requireNonNull(player, "player");
         Objects.requireNonNull(wandKey, "wandKey");
 
         try {
             SpellRegistry registry = plugin.getSpellRegistry();
             WandService wandService = plugin.getWandService();
+            IconTemplateCache templates = plugin.getIconTemplateCache();
 
             // Validate held wand
             ItemStack held = wandService.getHeldWand(player);
@@ -59,23 +88,33 @@ public class SpellBindingMenu {
                 return;
             }
 
-            PaginatedGui gui = Gui.paginated()
-                    .title(Component.text("Bind Spells")
-                            .color(NamedTextColor.LIGHT_PURPLE)
-                            .decorate(TextDecoration.BOLD))
+            SpellIcons icons = templates.template(SPELL_ICONS_KEY, () -> createSpellIcons(registry));
+            int pages = icons.pageCount();
+            int current = Math.max(0, Math.min(page, pages - 1));
+
+            Component title = Component.text("Bind Spells")
+                    .color(NamedTextColor.LIGHT_PURPLE)
+                    .decorate(TextDecoration.BOLD);
+            if (pages > 1) {
+                title = title.append(Component.text(" (" + (current + 1) + "/" + pages + ")")
+                        .color(NamedTextColor.GRAY)
+                        .decoration(TextDecoration.BOLD, false));
+            }
+            Gui gui = Gui.gui()
+                    .title(title)
                     .rows(ROWS)
-                    .pageSize(PAGE_SIZE)
                     .disableAllInteractions()
                     .create();
 
             // Build current bindings set for quick lookup
-            List<String> bound = new ArrayList<>(wandService.getSpells(held));
+            Set<String> bound = new HashSet<>(wandService.getSpells(held));
 
             // Add spell items
-            addSpellItems(gui, registry, bound, player, held);
+            addSpellItems(gui, icons, current, bound, player, held, wandKey);
 
-            // Info item
-            addInfoItem(gui, wandKey);
+            // Navigation and info items
+            addNavigationItems(gui, templates, current, pages, player, wandKey);
+            addInfoItem(gui, templates, wandKey);
 
             gui.open(player);
             player.playSound(player.getLocation(), Sound.BLOCK_CHEST_OPEN, 0.7f, 1.05f);
@@ -86,66 +125,107 @@ public class SpellBindingMenu {
         }
     }
 
-    private void addSpellItems(@NotNull PaginatedGui gui,
-                               @NotNull SpellRegistry registry,
-                               @NotNull List<String> bound,
+    private void addSpellItems(@NotNull Gui gui,
+                               @NotNull SpellIcons icons,
+                               int page,
+                               @NotNull Set<String> bound,
                                @NotNull Player player,
-                               @NotNull ItemStack heldWand) {
+                               @NotNull ItemStack heldWand,
+                               @NotNull String wandKey) {
 
-        // Sort by display name for UX
-        Map<String, nl.wantedchef.empirewand.spell.Spell<?>> all = registry.getAllSpells();
-        List<String> keys = new ArrayList<>(all.keySet());
-        keys.sort(Comparator.comparing(k -> safeDisplayName(registry, k)));
+        PermissionService permissions = plugin.getPermissionService();
+        int from = page * PAGE_SIZE;
+        int to = Math.min(icons.size(), from + PAGE_SIZE);
 
-        for (String key : keys) {
+        for (int i = from; i < to; i++) {
+            String key = icons.keys()[i];
+            String displayName = icons.displayNames()[i];
             boolean isBound = bound.contains(key);
-            ItemStack item = createSpellIcon(registry, key, isBound);
+            ItemStack template;
+            if (isBound) {
+                template = icons.bound()[i];
+            } else if (permissions.canBindSpell(player, key)) {
+                template = icons.unbound()[i];
+            } else {
+                template = icons.locked()[i];
+            }
 
-            gui.addItem(ItemBuilder.from(item).asGuiItem((InventoryClickEvent event) -> {
+            gui.setItem(i - from, ItemBuilder.from(template).asGuiItem((InventoryClickEvent event) -> {
                 event.setCancelled(true);
+                toggleBinding(player, heldWand, key, displayName, isBound, wandKey, page);
+            }));
+        }
+    }
 
-                try {
-                    boolean result;
-                    if (isBound) {
-                        result = plugin.getWandService().unbindSpell(heldWand, key);
-                    } else {
-                        // Permission check for binding
-                        if (!plugin.getPermissionService().canBindSpell(player, key)) {
-                            player.sendMessage(Component.text("No permission to bind " + safeDisplayName(registry, key))
-                                    .color(NamedTextColor.RED));
-                            player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.7f, 0.6f);
-                            return;
-                        }
-                        result = plugin.getWandService().bindSpell(heldWand, key);
-                    }
-
-                    if (result) {
-                        if (isBound) {
-                            player.sendMessage(Component.text("Unbound " + safeDisplayName(registry, key))
-                                    .color(NamedTextColor.YELLOW));
-                            player.playSound(player.getLocation(), Sound.UI_BUTTON_CLICK, 0.7f, 0.9f);
-                        } else {
-                            player.sendMessage(Component.text("Bound " + safeDisplayName(registry, key))
-                                    .color(NamedTextColor.GREEN));
-                            player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.9f, 1.2f);
-                        }
-                        // Refresh view by reopening
-                        player.closeInventory();
-                        openMenu(player, plugin.getWandService().isMephidantesZeist(heldWand) ? "mephidantes_zeist" : "empirewand");
-                    } else {
-                        player.sendMessage(Component.text("No change for " + safeDisplayName(registry, key))
-                                .color(NamedTextColor.GRAY));
-                    }
-                } catch (Exception ex) {
-                    player.sendMessage(Component.text("Failed: " + ex.getMessage())
+    private void toggleBinding(@NotNull Player player,
+                               @NotNull ItemStack heldWand,
+                               @NotNull String key,
+                               @NotNull String displayName,
+                               boolean isBound,
+                               @NotNull String wandKey,
+                               int page) {
+        try {
+            boolean result;
+            if (isBound) {
+                result = plugin.getWandService().unbindSpell(heldWand, key);
+            } else {
+                // Permission check for binding
+                if (!plugin.getPermissionService().canBindSpell(player, key)) {
+                    player.sendMessage(Component.text("No permission to bind " + displayName)
                             .color(NamedTextColor.RED));
-                    player.playSound(player.getLocation(), Sound.BLOCK_ANVIL_LAND, 0.7f, 0.7f);
+                    player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.7f, 0.6f);
+                    return;
                 }
-            }));
+                result = plugin.getWandService().bindSpell(heldWand, key);
+            }
+
+            if (result) {
+                if (isBound) {
+                    player.sendMessage(Component.text("Unbound " + displayName)
+                            .color(NamedTextColor.YELLOW));
+                    player.playSound(player.getLocation(), Sound.UI_BUTTON_CLICK, 0.7f, 0.9f);
+                } else {
+                    player.sendMessage(Component.text("Bound " + displayName)
+                            .color(NamedTextColor.GREEN));
+                    player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.9f, 1.2f);
+                }
+                // Refresh view by reopening the same page
+                player.closeInventory();
+                openMenu(player, wandKey, page);
+            } else {
+                player.sendMessage(Component.text("No change for " + displayName)
+                        .color(NamedTextColor.GRAY));
+            }
+        } catch (Exception ex) {
+            player.sendMessage(Component.text("Failed: " + ex.getMessage())
+                    .color(NamedTextColor.RED));
+            player.playSound(player.getLocation(), Sound.BLOCK_ANVIL_LAND, 0.7f, 0.7f);
+        }
+    }
+
+    private SpellIcons createSpellIcons(@NotNull SpellRegistry registry) {
+        // Sort by display name for UX
+        List<String> keys = new ArrayList<>(registry.getAllSpells().keySet());
+        List<String> names = new ArrayList<>(keys.size());
+        keys.sort(Comparator.comparing(k -> safeDisplayName(registry, k)));
+
+        int size = keys.size();
+        ItemStack[] unbound = new ItemStack[size];
+        ItemStack[] bound = new ItemStack[size];
+        ItemStack[] locked = new ItemStack[size];
+        for (int i = 0; i < size; i++) {
+            String key = keys.get(i);
+            String display = safeDisplayName(registry, key);
+            Material material = spellMaterial(registry, key);
+            names.add(display);
+            unbound[i] = createSpellIcon(material, display, false);
+            bound[i] = createSpellIcon(material, display, true);
+            locked[i] = createLockedSpellIcon(material, display);
         }
+        return new SpellIcons(keys.toArray(new String[0]), names.toArray(new String[0]), unbound, bound, locked);
     }
 
-    private ItemStack createSpellIcon(@NotNull SpellRegistry registry, @NotNull String key, boolean bound) {
+    private Material spellMaterial(@NotNull SpellRegistry registry, @NotNull String key) {
         Material material = Material.BOOK;
         try {
             Optional<SpellMetadata> metaOpt = registry.getSpellMetadata(key);
@@ -157,10 +237,12 @@ public class SpellBindingMenu {
                 }
             }
         } catch (Exception ignored) { }
+        return material;
+    }
 
+    private ItemStack createSpellIcon(@NotNull Material material, @NotNull String display, boolean bound) {
         ItemStack item = new ItemStack(material);
         ItemMeta meta = item.getItemMeta();
-        String display = safeDisplayName(registry, key);
         meta.displayName(Component.text(display)
                 .color(bound ? NamedTextColor.GREEN : NamedTextColor.WHITE)
                 .decoration(TextDecoration.BOLD, bound)
@@ -180,6 +262,27 @@ public class SpellBindingMenu {
         return item;
     }
 
+    private ItemStack createLockedSpellIcon(@NotNull Material material, @NotNull String display) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        meta.displayName(Component.text(display)
+                .color(NamedTextColor.DARK_GRAY)
+                .decoration(TextDecoration.ITALIC, false));
+
+        List<Component> lore = new ArrayList<>(3); // Pre-size for 3 elements
+        lore.add(Component.empty());
+        lore.add(Component.text("Locked")
+                .color(NamedTextColor.RED)
+                .decoration(TextDecoration.ITALIC, false));
+        lore.add(Component.text("No permission to bind")
+                .color(NamedTextColor.GRAY)
+                .decoration(TextDecoration.ITALIC, true));
+
+        meta.lore(lore);
+        item.setItemMeta(meta);
+        return item;
+    }
+
     private String safeDisplayName(@NotNull SpellRegistry registry, @NotNull String key) {
         try {
             return registry.getSpellDisplayName(key);
@@ -188,7 +291,45 @@ public class SpellBindingMenu {
         }
     }
 
-    private void addInfoItem(@NotNull PaginatedGui gui, @NotNull String wandKey) {
+    private void addNavigationItems(@NotNull Gui gui, @NotNull IconTemplateCache templates, int page, int pages,
+                                    @NotNull Player player, @NotNull String wandKey) {
+        if (page > 0) {
+            ItemStack previous = templates.icon("binding.previous", () -> createPageIcon("Previous Page"));
+            gui.setItem(PREVIOUS_SLOT, ItemBuilder.from(previous).asGuiItem(event -> {
+                event.setCancelled(true);
+                player.playSound(player.getLocation(), Sound.UI_BUTTON_CLICK, 0.7f, 0.9f);
+                player.closeInventory();
+                openMenu(player, wandKey, page - 1);
+            }));
+        }
+        if (page < pages - 1) {
+            ItemStack next = templates.icon("binding.next", () -> createPageIcon("Next Page"));
+            gui.setItem(NEXT_SLOT, ItemBuilder.from(next).asGuiItem(event -> {
+                event.setCancelled(true);
+                player.playSound(player.getLocation(), Sound.UI_BUTTON_CLICK, 0.7f, 1.1f);
+                player.closeInventory();
+                openMenu(player, wandKey, page + 1);
+            }));
+        }
+    }
+
+    private ItemStack createPageIcon(@NotNull String label) {
+        ItemStack item = new ItemStack(Material.ARROW);
+        ItemMeta meta = item.getItemMeta();
+        meta.displayName(Component.text(label)
+                .color(NamedTextColor.WHITE)
+                .decorate(TextDecoration.BOLD)
+                .decoration(TextDecoration.ITALIC, false));
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    private void addInfoItem(@NotNull Gui gui, @NotNull IconTemplateCache templates, @NotNull String wandKey) {
+        ItemStack info = templates.icon(List.of("binding.info", wandKey), () -> createInfoIcon(wandKey));
+        gui.setItem(INFO_SLOT, ItemBuilder.from(info).asGuiItem());
+    }
+
+    private ItemStack createInfoIcon(@NotNull String wandKey) {
         ItemStack info = new ItemStack(Material.PAPER);
         ItemMeta meta = info.getItemMeta();
         meta.displayName(Component.text("Binding: " + wandKey)
@@ -196,11 +337,14 @@ public class SpellBindingMenu {
                 .decorate(TextDecoration.BOLD)
                 .decoration(TextDecoration.ITALIC, false));
 
-        List<Component> lore = new ArrayList<>(4); // Pre-size for 4 elements
+        List<Component> lore = new ArrayList<>(5); // Pre-size for 5 elements
         lore.add(Component.empty());
         lore.add(Component.text("- Green = bound, White = not bound")
                 .color(NamedTextColor.GRAY)
                 .decoration(TextDecoration.ITALIC, false));
+        lore.add(Component.text("- Dark gray = no permission")
+                .color(NamedTextColor.GRAY)
+                .decoration(TextDecoration.ITALIC, false));
         lore.add(Component.text("- Click to toggle binding")
                 .color(NamedTextColor.GRAY)
                 .decoration(TextDecoration.ITALIC, false));
@@ -209,9 +353,6 @@ public class SpellBindingMenu {
                 .decoration(TextDecoration.ITALIC, false));
         meta.lore(lore);
         info.setItemMeta(meta);
-
-        gui.setItem(INFO_SLOT, ItemBuilder.from(info).asGuiItem());
+        return info;
     }
 }
-
-
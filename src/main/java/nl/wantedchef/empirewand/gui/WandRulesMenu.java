@@ -140,6 +140,27 @@ public class WandRulesMenu {
                                   @NotNull String wandKey, @NotNull WandSessionManager.WandSession session) {
 
         WandDifficulty difficulty = settings.getDifficulty();
+        ItemStack item = plugin.getIconTemplateCache().icon(List.of("rules.difficulty", difficulty),
+                () -> createDifficultyIcon(difficulty));
+
+        gui.setItem(DIFFICULTY_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
+            event.setCancelled(true);
+
+            // Cycle through difficulties
+            WandDifficulty nextDifficulty = getNextDifficulty(difficulty);
+            WandSettings newSettings = settings.toBuilder().difficulty(nextDifficulty).build();
+            session.setPendingChanges(wandKey, newSettings);
+
+            // Play sound
+            safePlay(player, Sound.UI_BUTTON_CLICK, 0.8f, 1.1f);
+
+            // Refresh menu
+            player.closeInventory();
+            openMenu(player, wandKey);
+        }));
+    }
+
+    private ItemStack createDifficultyIcon(@NotNull WandDifficulty difficulty) {
         Material material = difficulty.getDisplayMaterial();
 
         ItemStack item = new ItemStack(material);
@@ -186,17 +207,25 @@ public class WandRulesMenu {
 
         meta.lore(lore);
         item.setItemMeta(meta);
+        return item;
+    }
 
-        gui.setItem(DIFFICULTY_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
+    private void addCooldownBlockItem(@NotNull Gui gui, @NotNull WandSettings settings, @NotNull Player player,
+                                     @NotNull String wandKey, @NotNull WandSessionManager.WandSession session) {
+
+        boolean enabled = settings.isCooldownBlock();
+        ItemStack item = plugin.getIconTemplateCache().icon(List.of("rules.cooldown-block", enabled),
+                () -> createCooldownBlockIcon(enabled));
+
+        gui.setItem(COOLDOWN_BLOCK_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
             event.setCancelled(true);
 
-            // Cycle through difficulties
-            WandDifficulty nextDifficulty = getNextDifficulty(difficulty);
-            WandSettings newSettings = settings.toBuilder().difficulty(nextDifficulty).build();
+            // Toggle setting
+            WandSettings newSettings = settings.toBuilder().cooldownBlock(!enabled).build();
             session.setPendingChanges(wandKey, newSettings);
 
             // Play sound
-            safePlay(player, Sound.UI_BUTTON_CLICK, 0.8f, 1.1f);
+            safePlay(player, Sound.UI_BUTTON_CLICK, 0.8f, enabled ? 0.8f : 1.2f);
 
             // Refresh menu
             player.closeInventory();
@@ -204,10 +233,7 @@ public class WandRulesMenu {
         }));
     }
 
-    private void addCooldownBlockItem(@NotNull Gui gui, @NotNull WandSettings settings, @NotNull Player player,
-                                     @NotNull String wandKey, @NotNull WandSessionManager.WandSession session) {
-
-        boolean enabled = settings.isCooldownBlock();
+    private ItemStack createCooldownBlockIcon(boolean enabled) {
         Material material = enabled ? Material.REDSTONE_BLOCK : Material.STONE;
 
         ItemStack item = new ItemStack(material);
@@ -242,12 +268,21 @@ public class WandRulesMenu {
 
         meta.lore(lore);
         item.setItemMeta(meta);
+        return item;
+    }
 
-        gui.setItem(COOLDOWN_BLOCK_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
+    private void addBlockDamageItem(@NotNull Gui gui, @NotNull WandSettings settings, @NotNull Player player,
+                                   @NotNull String wandKey, @NotNull WandSessionManager.WandSession session) {
+
+        boolean enabled = settings.isGriefBlockDamage();
+        ItemStack item = plugin.getIconTemplateCache().icon(List.of("rules.block-damage", enabled),
+                () -> createBlockDamageIcon(enabled));
+
+        gui.setItem(BLOCK_DAMAGE_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
             event.setCancelled(true);
 
             // Toggle setting
-            WandSettings newSettings = settings.toBuilder().cooldownBlock(!enabled).build();
+            WandSettings newSettings = settings.toBuilder().griefBlockDamage(!enabled).build();
             session.setPendingChanges(wandKey, newSettings);
 
             // Play sound
@@ -259,10 +294,7 @@ public class WandRulesMenu {
         }));
     }
 
-    private void addBlockDamageItem(@NotNull Gui gui, @NotNull WandSettings settings, @NotNull Player player,
-                                   @NotNull String wandKey, @NotNull WandSessionManager.WandSession session) {
-
-        boolean enabled = settings.isGriefBlockDamage();
+    private ItemStack createBlockDamageIcon(boolean enabled) {
         Material material = enabled ? Material.TNT : Material.OBSIDIAN;
 
         ItemStack item = new ItemStack(material);
@@ -297,12 +329,21 @@ public class WandRulesMenu {
 
         meta.lore(lore);
         item.setItemMeta(meta);
+        return item;
+    }
 
-        gui.setItem(BLOCK_DAMAGE_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
+    private void addPlayerDamageItem(@NotNull Gui gui, @NotNull WandSettings settings, @NotNull Player player,
+                                    @NotNull String wandKey, @NotNull WandSessionManager.WandSession session) {
+
+        boolean enabled = settings.isPlayerDamage();
+        ItemStack item = plugin.getIconTemplateCache().icon(List.of("rules.player-damage", enabled),
+                () -> createPlayerDamageIcon(enabled));
+
+        gui.setItem(PLAYER_DAMAGE_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
             event.setCancelled(true);
 
             // Toggle setting
-            WandSettings newSettings = settings.toBuilder().griefBlockDamage(!enabled).build();
+            WandSettings newSettings = settings.toBuilder().playerDamage(!enabled).build();
             session.setPendingChanges(wandKey, newSettings);
 
             // Play sound
@@ -314,10 +355,7 @@ public class WandRulesMenu {
         }));
     }
 
-    private void addPlayerDamageItem(@NotNull Gui gui, @NotNull WandSettings settings, @NotNull Player player,
-                                    @NotNull String wandKey, @NotNull WandSessionManager.WandSession session) {
-
-        boolean enabled = settings.isPlayerDamage();
+    private ItemStack createPlayerDamageIcon(boolean enabled) {
         Material material = enabled ? Material.DIAMOND_SWORD : Material.SHIELD;
 
         ItemStack item = new ItemStack(material);
@@ -352,24 +390,17 @@ public class WandRulesMenu {
 
         meta.lore(lore);
         item.setItemMeta(meta);
+        return item;
+    }
 
-        gui.setItem(PLAYER_DAMAGE_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
-            event.setCancelled(true);
-
-            // Toggle setting
-            WandSettings newSettings = settings.toBuilder().playerDamage(!enabled).build();
-            session.setPendingChanges(wandKey, newSettings);
-
-            // Play sound
-            safePlay(player, Sound.UI_BUTTON_CLICK, 0.8f, enabled ? 0.8f : 1.2f);
+    private void addInfoItem(@NotNull Gui gui, @NotNull String wandKey) {
+        ItemStack item = plugin.getIconTemplateCache().icon(List.of("rules.info", wandKey),
+                () -> createInfoIcon(wandKey));
 
-            // Refresh menu
-            player.closeInventory();
-            openMenu(player, wandKey);
-        }));
+        gui.setItem(INFO_SLOT, ItemBuilder.from(item).asGuiItem());
     }
 
-    private void addInfoItem(@NotNull Gui gui, @NotNull String wandKey) {
+    private ItemStack createInfoIcon(@NotNull String wandKey) {
         ItemStack item = new ItemStack(Material.KNOWLEDGE_BOOK);
         ItemMeta meta = item.getItemMeta();
 
@@ -397,31 +428,12 @@ public class WandRulesMenu {
 
         meta.lore(lore);
         item.setItemMeta(meta);
-
-        gui.setItem(INFO_SLOT, ItemBuilder.from(item).asGuiItem());
+        return item;
     }
 
     private void addGetWandItem(@NotNull Gui gui, @NotNull Player player, @NotNull String wandKey) {
-        Material material = switch (wandKey.toLowerCase()) {
-            case "mephidantes_zeist" -> Material.NETHERITE_HOE;
-            case "empirewand" -> Material.BLAZE_ROD;
-            default -> Material.STICK;
-        };
-
-        ItemStack item = new ItemStack(material);
-        ItemMeta meta = item.getItemMeta();
-        meta.displayName(Component.text("Get " + GuiUtil.formatWandDisplayName(wandKey))
-                .color(NamedTextColor.AQUA)
-                .decorate(TextDecoration.BOLD)
-                .decoration(TextDecoration.ITALIC, false));
-
-        List<Component> lore = new ArrayList<>();
-        lore.add(Component.empty());
-        lore.add(Component.text("Click to receive this wand")
-                .color(NamedTextColor.GREEN)
-                .decoration(TextDecoration.ITALIC, true));
-        meta.lore(lore);
-        item.setItemMeta(meta);
+        ItemStack item = plugin.getIconTemplateCache().icon(List.of("rules.get-wand", wandKey),
+                () -> createGetWandIcon(wandKey));
 
         gui.setItem(GET_WAND_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
             event.setCancelled(true);
@@ -452,24 +464,32 @@ public class WandRulesMenu {
         }));
     }
 
-    private void addBindSpellsItem(@NotNull Gui gui, @NotNull Player player, @NotNull String wandKey) {
-        ItemStack item = new ItemStack(Material.ENCHANTED_BOOK);
+    private ItemStack createGetWandIcon(@NotNull String wandKey) {
+        Material material = switch (wandKey.toLowerCase()) {
+            case "mephidantes_zeist" -> Material.NETHERITE_HOE;
+            case "empirewand" -> Material.BLAZE_ROD;
+            default -> Material.STICK;
+        };
+
+        ItemStack item = new ItemStack(material);
         ItemMeta meta = item.getItemMeta();
-        meta.displayName(Component.text("Bind Spells")
-                .color(NamedTextColor.LIGHT_PURPLE)
+        meta.displayName(Component.text("Get " + GuiUtil.formatWandDisplayName(wandKey))
+                .color(NamedTextColor.AQUA)
                 .decorate(TextDecoration.BOLD)
                 .decoration(TextDecoration.ITALIC, false));
 
         List<Component> lore = new ArrayList<>();
         lore.add(Component.empty());
-        lore.add(Component.text("Open the spell binding menu")
-                .color(NamedTextColor.GRAY)
-                .decoration(TextDecoration.ITALIC, false));
-        lore.add(Component.text("Hold your wand to bind/unbind")
-                .color(NamedTextColor.YELLOW)
-                .decoration(TextDecoration.ITALIC, false));
+        lore.add(Component.text("Click to receive this wand")
+                .color(NamedTextColor.GREEN)
+                .decoration(TextDecoration.ITALIC, true));
         meta.lore(lore);
         item.setItemMeta(meta);
+        return item;
+    }
+
+    private void addBindSpellsItem(@NotNull Gui gui, @NotNull Player player, @NotNull String wandKey) {
+        ItemStack item = plugin.getIconTemplateCache().icon("rules.bind-spells", this::createBindSpellsIcon);
 
         gui.setItem(BIND_SPELLS_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
             event.setCancelled(true);
@@ -479,40 +499,33 @@ public class WandRulesMenu {
         }));
     }
 
-    private void addSaveItem(@NotNull Gui gui, @NotNull Player player, @NotNull String wandKey,
-                           @NotNull WandSessionManager.WandSession session) {
-
-        boolean hasPendingChanges = session.hasPendingChanges(wandKey);
-        Material material = hasPendingChanges ? Material.EMERALD_BLOCK : Material.GRAY_STAINED_GLASS;
-
-        ItemStack item = new ItemStack(material);
+    private ItemStack createBindSpellsIcon() {
+        ItemStack item = new ItemStack(Material.ENCHANTED_BOOK);
         ItemMeta meta = item.getItemMeta();
-
-        meta.displayName(Component.text("Save Changes")
-                .color(hasPendingChanges ? NamedTextColor.GREEN : NamedTextColor.GRAY)
+        meta.displayName(Component.text("Bind Spells")
+                .color(NamedTextColor.LIGHT_PURPLE)
                 .decorate(TextDecoration.BOLD)
                 .decoration(TextDecoration.ITALIC, false));
 
         List<Component> lore = new ArrayList<>();
         lore.add(Component.empty());
-
-        if (hasPendingChanges) {
-            lore.add(Component.text("You have unsaved changes!")
-                    .color(NamedTextColor.YELLOW)
-                    .decorate(TextDecoration.BOLD)
-                    .decoration(TextDecoration.ITALIC, false));
-            lore.add(Component.empty());
-            lore.add(Component.text("Click to save your changes")
-                    .color(NamedTextColor.GREEN)
-                    .decoration(TextDecoration.ITALIC, true));
-        } else {
-            lore.add(Component.text("No pending changes")
-                    .color(NamedTextColor.GRAY)
-                    .decoration(TextDecoration.ITALIC, false));
-        }
-
+        lore.add(Component.text("Open the spell binding menu")
+                .color(NamedTextColor.GRAY)
+                .decoration(TextDecoration.ITALIC, false));
+        lore.add(Component.text("Hold your wand to bind/unbind")
+                .color(NamedTextColor.YELLOW)
+                .decoration(TextDecoration.ITALIC, false));
         meta.lore(lore);
         item.setItemMeta(meta);
+        return item;
+    }
+
+    private void addSaveItem(@NotNull Gui gui, @NotNull Player player, @NotNull String wandKey,
+                           @NotNull WandSessionManager.WandSession session) {
+
+        boolean hasPendingChanges = session.hasPendingChanges(wandKey);
+        ItemStack item = plugin.getIconTemplateCache().icon(List.of("rules.save", hasPendingChanges),
+                () -> createSaveIcon(hasPendingChanges));
 
         gui.setItem(SAVE_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
             event.setCancelled(true);
@@ -554,17 +567,14 @@ public class WandRulesMenu {
         }));
     }
 
-    private void addCancelItem(@NotNull Gui gui, @NotNull Player player, @NotNull String wandKey,
-                             @NotNull WandSessionManager.WandSession session) {
-
-        boolean hasPendingChanges = session.hasPendingChanges(wandKey);
-        Material material = hasPendingChanges ? Material.RED_STAINED_GLASS : Material.GRAY_STAINED_GLASS;
+    private ItemStack createSaveIcon(boolean hasPendingChanges) {
+        Material material = hasPendingChanges ? Material.EMERALD_BLOCK : Material.GRAY_STAINED_GLASS;
 
         ItemStack item = new ItemStack(material);
         ItemMeta meta = item.getItemMeta();
 
-        meta.displayName(Component.text("Cancel Changes")
-                .color(hasPendingChanges ? NamedTextColor.RED : NamedTextColor.GRAY)
+        meta.displayName(Component.text("Save Changes")
+                .color(hasPendingChanges ? NamedTextColor.GREEN : NamedTextColor.GRAY)
                 .decorate(TextDecoration.BOLD)
                 .decoration(TextDecoration.ITALIC, false));
 
@@ -572,24 +582,31 @@ public class WandRulesMenu {
         lore.add(Component.empty());
 
         if (hasPendingChanges) {
-            lore.add(Component.text("Discard all unsaved changes")
-                    .color(NamedTextColor.RED)
-                    .decoration(TextDecoration.ITALIC, false));
-            lore.add(Component.text("and return to the original settings.")
-                    .color(NamedTextColor.RED)
+            lore.add(Component.text("You have unsaved changes!")
+                    .color(NamedTextColor.YELLOW)
+                    .decorate(TextDecoration.BOLD)
                     .decoration(TextDecoration.ITALIC, false));
             lore.add(Component.empty());
-            lore.add(Component.text("Click to cancel changes")
-                    .color(NamedTextColor.RED)
+            lore.add(Component.text("Click to save your changes")
+                    .color(NamedTextColor.GREEN)
                     .decoration(TextDecoration.ITALIC, true));
         } else {
-            lore.add(Component.text("No changes to cancel")
+            lore.add(Component.text("No pending changes")
                     .color(NamedTextColor.GRAY)
                     .decoration(TextDecoration.ITALIC, false));
         }
 
         meta.lore(lore);
         item.setItemMeta(meta);
+        return item;
+    }
+
+    private void addCancelItem(@NotNull Gui gui, @NotNull Player player, @NotNull String wandKey,
+                             @NotNull WandSessionManager.WandSession session) {
+
+        boolean hasPendingChanges = session.hasPendingChanges(wandKey);
+        ItemStack item = plugin.getIconTemplateCache().icon(List.of("rules.cancel", hasPendingChanges),
+                () -> createCancelIcon(hasPendingChanges));
 
         gui.setItem(CANCEL_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
             event.setCancelled(true);
@@ -614,7 +631,58 @@ public class WandRulesMenu {
         }));
     }
 
+    private ItemStack createCancelIcon(boolean hasPendingChanges) {
+        Material material = hasPendingChanges ? Material.RED_STAINED_GLASS : Material.GRAY_STAINED_GLASS;
+
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+
+        meta.displayName(Component.text("Cancel Changes")
+                .color(hasPendingChanges ? NamedTextColor.RED : NamedTextColor.GRAY)
+                .decorate(TextDecoration.BOLD)
+                .decoration(TextDecoration.ITALIC, false));
+
+        List<Component> lore = new ArrayList<>();
+        lore.add(Component.empty());
+
+        if (hasPendingChanges) {
+            lore.add(Component.text("Discard all unsaved changes")
+                    .color(NamedTextColor.RED)
+                    .decoration(TextDecoration.ITALIC, false));
+            lore.add(Component.text("and return to the original settings.")
+                    .color(NamedTextColor.RED)
+                    .decoration(TextDecoration.ITALIC, false));
+            lore.add(Component.empty());
+            lore.add(Component.text("Click to cancel changes")
+                    .color(NamedTextColor.RED)
+                    .decoration(TextDecoration.ITALIC, true));
+        } else {
+            lore.add(Component.text("No changes to cancel")
+                    .color(NamedTextColor.GRAY)
+                    .decoration(TextDecoration.ITALIC, false));
+        }
+
+        meta.lore(lore);
+        item.setItemMeta(meta);
+        return item;
+    }
+
     private void addBackItem(@NotNull Gui gui, @NotNull Player player) {
+        ItemStack item = plugin.getIconTemplateCache().icon("rules.back", this::createBackIcon);
+
+        gui.setItem(BACK_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
+            event.setCancelled(true);
+
+            // Play sound
+            safePlay(player, Sound.UI_BUTTON_CLICK, 0.7f, 0.9f);
+
+            // Close current menu and open wand selector
+            player.closeInventory();
+            new WandSelectorMenu(wandSettingsService, sessionManager, logger, plugin).openMenu(player);
+        }));
+    }
+
+    private ItemStack createBackIcon() {
         ItemStack item = new ItemStack(Material.ARROW);
         ItemMeta meta = item.getItemMeta();
 
@@ -638,17 +706,7 @@ public class WandRulesMenu {
 
         meta.lore(lore);
         item.setItemMeta(meta);
-
-        gui.setItem(BACK_SLOT, ItemBuilder.from(item).asGuiItem(event -> {
-            event.setCancelled(true);
-
-            // Play sound
-            safePlay(player, Sound.UI_BUTTON_CLICK, 0.7f, 0.9f);
-
-            // Close current menu and open wand selector
-            player.closeInventory();
-            new WandSelectorMenu(wandSettingsService, sessionManager, logger, plugin).openMenu(player);
-        }));
+        return item;
     }
 
     private WandDifficulty getNextDifficulty(@NotNull WandDifficulty current) {
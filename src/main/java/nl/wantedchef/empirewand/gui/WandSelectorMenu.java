@@ -127,6 +127,29 @@ public class WandSelectorMenu {
     }
 
     private GuiItem createWandItem(@NotNull String wandKey, @NotNull WandSettings settings) {
+        ItemStack item = plugin.getIconTemplateCache().icon(List.of("selector.wand", wandKey, settings),
+                () -> createWandIcon(wandKey, settings));
+
+        // Create GUI item with click handler
+        return ItemBuilder.from(item)
+                .asGuiItem(event -> {
+                    event.setCancelled(true);
+                    Player player = (Player) event.getWhoClicked();
+
+                    // Update session with selected wand
+                    WandSessionManager.WandSession session = sessionManager.getOrCreateSession(player);
+                    session.setCurrentWandKey(wandKey);
+
+                    // Play sound feedback
+                    player.playSound(player.getLocation(), Sound.UI_BUTTON_CLICK, 0.7f, 1.0f);
+
+                    // Close current GUI and open wand rules menu
+                    player.closeInventory();
+                    new WandRulesMenu(wandSettingsService, sessionManager, logger, plugin).openMenu(player, wandKey);
+                });
+    }
+
+    private ItemStack createWandIcon(@NotNull String wandKey, @NotNull WandSettings settings) {
         // Determine display material based on wand type
         Material displayMaterial = getWandDisplayMaterial(wandKey);
 
@@ -186,24 +209,7 @@ public class WandSelectorMenu {
 
         meta.lore(lore);
         item.setItemMeta(meta);
-
-        // Create GUI item with click handler
-        return ItemBuilder.from(item)
-                .asGuiItem(event -> {
-                    event.setCancelled(true);
-                    Player player = (Player) event.getWhoClicked();
-
-                    // Update session with selected wand
-                    WandSessionManager.WandSession session = sessionManager.getOrCreateSession(player);
-                    session.setCurrentWandKey(wandKey);
-
-                    // Play sound feedback
-                    player.playSound(player.getLocation(), Sound.UI_BUTTON_CLICK, 0.7f, 1.0f);
-
-                    // Close current GUI and open wand rules menu
-                    player.closeInventory();
-                    new WandRulesMenu(wandSettingsService, sessionManager, logger, plugin).openMenu(player, wandKey);
-                });
+        return item;
     }
 
     private Material getWandDisplayMaterial(@NotNull String wandKey) {
@@ -226,6 +232,14 @@ public class WandSelectorMenu {
 
     private void addNavigationItems(@NotNull PaginatedGui gui) {
         // Info item
+        ItemStack infoItem = plugin.getIconTemplateCache().icon("selector.info", this::createInfoIcon);
+
+        gui.setItem(INFO_SLOT, ItemBuilder.from(infoItem).asGuiItem());
+
+        // Navigation items (previous/next page) are handled by the PaginatedGui automatically
+    }
+
+    private ItemStack createInfoIcon() {
         ItemStack infoItem = new ItemStack(Material.BOOK);
         ItemMeta infoMeta = infoItem.getItemMeta();
         infoMeta.displayName(Component.text("Wand Settings")
@@ -251,10 +265,7 @@ public class WandSelectorMenu {
 
         infoMeta.lore(infoLore);
         infoItem.setItemMeta(infoMeta);
-
-        gui.setItem(INFO_SLOT, ItemBuilder.from(infoItem).asGuiItem());
-
-        // Navigation items (previous/next page) are handled by the PaginatedGui automatically
+        return infoItem;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package nl.wantedchef.empirewand.gui.util;
+
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Caches the icons behind the wand menus, so opening a menu or turning a page copies prebuilt
+ * templates instead of building every item, lore list and component again.
+ * <p>
+ * Templates are memoized by a key that describes everything they depend on, for example a wand
+ * key or a settings value. Menus apply only the per-player part, such as whether a spell is
+ * bound, when they open. Templates are shared and must never be modified; always wrap them with
+ * {@link ItemBuilder#from(ItemStack)}, which copies. {@link #invalidate()} drops everything and
+ * runs on every config reload. Main thread only.
+ */
+public final class IconTemplateCache {
+
+    private final Map<Object, Object> templates = new HashMap<>();
+
+    /**
+     * Returns the icon cached under {@code key}, building it with {@code factory} on first use.
+     */
+    @NotNull
+    public ItemStack icon(@NotNull Object key, @NotNull Supplier<ItemStack> factory) {
+        return template(key, factory);
+    }
+
+    /**
+     * Returns the template cached under {@code key}, building it with {@code factory} on first
+     * use. Used for composite templates such as a menu's whole spell icon table.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <T> T template(@NotNull Object key, @NotNull Supplier<T> factory) {
+        Object template = templates.get(key);
+        if (template == null) {
+            template = factory.get();
+            templates.put(key, template);
+        }
+        return (T) template;
+    }
+
+    /**
+     * @return the number of cached templates
+     */
+    public int size() {
+        return templates.size();
+    }
+
+    /**
+     * Drops all templates; they are rebuilt the next time a menu opens.
+     */
+    public void invalidate() {
+        templates.clear();
+    }
+}
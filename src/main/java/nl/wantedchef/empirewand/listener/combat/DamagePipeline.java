@@ -0,0 +1,254 @@
+package nl.wantedchef.empirewand.listener.combat;
+
+import nl.wantedchef.empirewand.framework.service.PlayerEffectState;
+import nl.wantedchef.empirewand.framework.service.PlayerEffectState.Effect;
+import nl.wantedchef.empirewand.framework.service.SpellEntityRegistry;
+import nl.wantedchef.empirewand.spell.life.BloodBarrier;
+import nl.wantedchef.empirewand.spell.toggle.godmode.Elementosgod;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Single damage listener for every spell that modifies combat damage.
+ * <p>
+ * Spell damage handling used to be spread over one listener per spell, each paying for its
+ * own metadata or PDC probe on every hit. The pipeline instead builds one flag word per hit:
+ * <ul>
+ * <li>bits {@code 0-23}: {@link PlayerEffectState} flags of the victim, when it is a player</li>
+ * <li>bits {@code 24-47}: {@link PlayerEffectState} flags of the attacking player</li>
+ * <li>bits {@code 48-55}: {@link SpellEntityRegistry} flags of a non-player damager</li>
+ * </ul>
+ * A hit whose word shares no bit with the union of all stage masks exits after that single
+ * check. Otherwise stages run in {@link Phase} order, each only when its own mask matches,
+ * and the chain stops as soon as a stage cancels the event.
+ * <p>
+ * Stages are registered by the listeners that own the spell logic and compiled into a sorted
+ * array on registration. Main thread only.
+ * <p>
+ * All stages share one {@code HIGH} handler that ignores cancelled hits. The former
+ * Elementosgod and BloodBarrier listeners ran at {@code NORMAL} and the aura and lightning
+ * handlers at {@code HIGH}, none of them ignoring cancelled hits, so reflection and thorns
+ * could fire for hits a protection plugin had already cancelled. Minion friendly fire keeps its
+ * own {@code HIGHEST} handler in {@link MinionFriendlyFireListener}.
+ */
+public final class DamagePipeline implements Listener {
+
+    /** Shift of the attacking player's effect flags in the hit word. */
+    public static final int ATTACKER_SHIFT = 24;
+    /** Shift of the damager's spell entity flags in the hit word. */
+    public static final int DAMAGER_SHIFT = 48;
+
+    private static final long DAMAGER_BITS = 0xFFL << DAMAGER_SHIFT;
+
+    /**
+     * Execution order of the stages; stages within a phase run in registration order.
+     */
+    public enum Phase {
+        /** Drops the hit entirely. */
+        CANCEL,
+        /** Sends the hit back to the attacker. */
+        REFLECT,
+        /** Replaces the base damage of spell-sourced hits. */
+        SET,
+        /** Scales the damage down. */
+        REDUCE,
+        /** Passes (part of) the final damage on to other entities. */
+        REDIRECT
+    }
+
+    /**
+     * A damage modifier. Implementations may read and change the event.
+     */
+    @FunctionalInterface
+    public interface Modifier {
+        void apply(@NotNull EntityDamageEvent event, @NotNull Hit hit);
+    }
+
+    /**
+     * Per-hit data resolved once by the pipeline and shared by all stages. The instance is
+     * reused between events and must not be retained.
+     */
+    public static final class Hit {
+        private Entity victim;
+        private Entity damager;
+        private SpellEntityRegistry.Tag damagerTag;
+        private long flags;
+
+        @NotNull
+        public Entity victim() {
+            return victim;
+        }
+
+        /**
+         * @return the damaging entity, or {@code null} for damage without an entity source
+         */
+        @Nullable
+        public Entity damager() {
+            return damager;
+        }
+
+        /**
+         * @return the spell data of a non-player damager, or {@code null}
+         */
+        @Nullable
+        public SpellEntityRegistry.Tag damagerTag() {
+            return damagerTag;
+        }
+
+        public long flags() {
+            return flags;
+        }
+    }
+
+    private record Stage(String name, Phase phase, long mask, boolean needsDamager, Modifier modifier) {
+    }
+
+    private final PlayerEffectState effects;
+    private final SpellEntityRegistry entities;
+    private final Logger logger;
+    private final Hit sharedHit = new Hit();
+    // Reflect and thorns stages damage the attacker, which re-enters the pipeline
+    private int depth;
+
+    private Stage[] stages = new Stage[0];
+    private long unionMask;
+
+    public DamagePipeline(@NotNull PlayerEffectState effects, @NotNull SpellEntityRegistry entities,
+            @NotNull Logger logger) {
+        this.effects = effects;
+        this.entities = entities;
+        this.logger = logger;
+    }
+
+    /**
+     * Creates a pipeline with the built-in stages: Elementosgod reflection and BloodBarrier
+     * reduction.
+     */
+    @NotNull
+    public static DamagePipeline withDefaultStages(@NotNull PlayerEffectState effects,
+            @NotNull SpellEntityRegistry entities, @NotNull Logger logger) {
+        DamagePipeline pipeline = new DamagePipeline(effects, entities, logger);
+        pipeline.register("elementosgod", Phase.REFLECT, victim(Effect.ELEMENTOSGOD), true,
+                (event, hit) -> Elementosgod.handleDamageEvent((EntityDamageByEntityEvent) event));
+        pipeline.register("blood-barrier", Phase.REDUCE, victim(Effect.BLOOD_BARRIER), true,
+                (event, hit) -> BloodBarrier.handleDamageEvent((EntityDamageByEntityEvent) event));
+        return pipeline;
+    }
+
+    /**
+     * @return the hit word mask for an effect on the damaged player
+     */
+    public static long victim(@NotNull Effect effect) {
+        return effect.bit() & 0xFFFFFFL;
+    }
+
+    /**
+     * @return the hit word mask for an effect on the attacking player
+     */
+    public static long attacker(@NotNull Effect effect) {
+        return (effect.bit() & 0xFFFFFFL) << ATTACKER_SHIFT;
+    }
+
+    /**
+     * @return the hit word mask for a {@link SpellEntityRegistry} flag on the damager
+     */
+    public static long damager(int entityFlag) {
+        return (entityFlag & 0xFFL) << DAMAGER_SHIFT;
+    }
+
+    /**
+     * Adds a stage to the chain.
+     *
+     * @param name         stage name used in error logs
+     * @param phase        execution phase
+     * @param mask         hit word bits of which at least one must be set for the stage to run
+     * @param needsDamager whether the stage only applies to {@link EntityDamageByEntityEvent}
+     * @param modifier     the modifier
+     */
+    public void register(@NotNull String name, @NotNull Phase phase, long mask, boolean needsDamager,
+            @NotNull Modifier modifier) {
+        if (mask == 0L) {
+            throw new IllegalArgumentException("Stage '" + name + "' needs a non-empty mask");
+        }
+        Stage[] compiled = Arrays.copyOf(stages, stages.length + 1);
+        compiled[stages.length] = new Stage(name, phase, mask, needsDamager, modifier);
+        // Stable sort keeps registration order within a phase
+        Arrays.sort(compiled, Comparator.comparing(Stage::phase));
+        stages = compiled;
+        unionMask |= mask;
+    }
+
+    /**
+     * @return number of registered stages
+     */
+    public int size() {
+        return stages.length;
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onEntityDamage(EntityDamageEvent event) {
+        Entity victim = event.getEntity();
+        long word = victim instanceof Player ? effects.flags(victim.getUniqueId()) : 0L;
+
+        Entity damager = null;
+        SpellEntityRegistry.Tag tag = null;
+        if (event instanceof EntityDamageByEntityEvent byEntity) {
+            damager = byEntity.getDamager();
+            if (damager instanceof Player attacker) {
+                word |= (long) effects.flags(attacker.getUniqueId()) << ATTACKER_SHIFT;
+            } else if ((unionMask & DAMAGER_BITS) != 0L) {
+                tag = entities.lookup(damager);
+                if (tag != null) {
+                    word |= damager(tag.flags());
+                }
+            }
+        }
+
+        if ((word & unionMask) == 0L) {
+            return;
+        }
+        run(event, victim, damager, tag, word);
+    }
+
+    private void run(EntityDamageEvent event, Entity victim, Entity damager, SpellEntityRegistry.Tag tag,
+            long word) {
+        Hit hit = depth == 0 ? sharedHit : new Hit();
+        hit.victim = victim;
+        hit.damager = damager;
+        hit.damagerTag = tag;
+        hit.flags = word;
+        depth++;
+        try {
+            for (Stage stage : stages) {
+                if ((word & stage.mask()) == 0L || (stage.needsDamager() && damager == null)) {
+                    continue;
+                }
+                try {
+                    stage.modifier().apply(event, hit);
+                } catch (Exception e) {
+                    logger.log(Level.WARNING, String.format("Damage stage '%s' failed", stage.name()), e);
+                }
+                if (event.isCancelled()) {
+                    break;
+                }
+            }
+        } finally {
+            depth--;
+            hit.victim = null;
+            hit.damager = null;
+            hit.damagerTag = null;
+        }
+    }
+}
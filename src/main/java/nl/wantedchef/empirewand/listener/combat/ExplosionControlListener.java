@@ -2,7 +2,7 @@ package nl.wantedchef.empirewand.listener.combat;
 
 import nl.wantedchef.empirewand.EmpireWandPlugin;
 import nl.wantedchef.empirewand.framework.service.ConfigService;
-import nl.wantedchef.empirewand.core.storage.Keys;
+import nl.wantedchef.empirewand.framework.service.SpellEntityRegistry;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -24,9 +24,9 @@ public final class ExplosionControlListener implements Listener {
             return;
         }
 
-        String tag = event.getEntity().getPersistentDataContainer().get(Keys.PROJECTILE_SPELL,
-                Keys.STRING_TYPE.getType());
-        if (tag == null || !"explosive".equals(tag)) {
+        SpellEntityRegistry.Tag tag = plugin.getSpellEntityRegistry()
+                .lookup(event.getEntity(), SpellEntityRegistry.PROJECTILE);
+        if (tag == null || !"explosive".equals(tag.spellKey())) {
             return;
         }
 
@@ -1,6 +1,6 @@
 package nl.wantedchef.empirewand.listener.combat;
 
-import nl.wantedchef.empirewand.core.storage.Keys;
+import nl.wantedchef.empirewand.framework.service.SpellEntityRegistry;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Vex;
@@ -9,19 +9,33 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityTargetEvent;
-import org.bukkit.persistence.PersistentDataContainer;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Prevents swarm minions from targeting or damaging their caster.
+ * <p>
+ * Damage is handled here rather than as a {@link DamagePipeline} stage so the cancel runs at
+ * {@code HIGHEST}, after other plugins and the pipeline have seen the hit.
  */
 public final class MinionFriendlyFireListener implements Listener {
 
-    private static boolean isOwnedBy(@NotNull Entity entity, @NotNull Player player) {
+    private final SpellEntityRegistry registry;
+
+    /**
+     * Creates a listener with its own registry, resolving owners from the minion PDC tag.
+     */
+    public MinionFriendlyFireListener() {
+        this(new SpellEntityRegistry());
+    }
+
+    public MinionFriendlyFireListener(@NotNull SpellEntityRegistry registry) {
+        this.registry = registry;
+    }
+
+    private boolean isOwnedBy(@NotNull Entity entity, @NotNull Player player) {
         try {
-            PersistentDataContainer pdc = entity.getPersistentDataContainer();
-            String owner = pdc.get(Keys.createKey("minion.owner"), Keys.STRING_TYPE.getType());
-            return owner != null && owner.equals(player.getUniqueId().toString());
+            SpellEntityRegistry.Tag tag = registry.lookup(entity);
+            return tag != null && tag.isOwnedBy(player.getUniqueId());
         } catch (Exception e) {
             return false;
         }
@@ -52,5 +66,3 @@ public final class MinionFriendlyFireListener implements Listener {
         }
     }
 }
-
-
@@ -1,9 +1,12 @@
 package nl.wantedchef.empirewand.listener.player;
 
 import nl.wantedchef.empirewand.EmpireWandPlugin;
+import nl.wantedchef.empirewand.framework.service.PermissionServiceImpl;
+import nl.wantedchef.empirewand.framework.service.PlayerSpellSession;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
@@ -19,13 +22,35 @@ public final class PlayerJoinQuitListener implements Listener {
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerJoin(PlayerJoinEvent event) {
-        // Lichtgewicht: evt. toekomstige migratie/repair hooks.
+        // Actieve spell-effecten uit de PDC naar het geheugen halen.
+        plugin.getPlayerEffectState().load(event.getPlayer());
+        // Spell-permissies eenmalig als bitmasker vastleggen.
+        if (plugin.getPermissionService() instanceof PermissionServiceImpl permissions) {
+            permissions.refresh(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        // Permissieplugins kunnen per wereld andere rechten geven.
+        if (plugin.getPermissionService() instanceof PermissionServiceImpl permissions) {
+            permissions.refresh(event.getPlayer());
+        }
+        // Wereldgebonden spell-state loslaten; toggles zijn hiervoor al uitgezet.
+        PlayerSpellSession.global().changeWorld(event.getPlayer().getUniqueId());
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerQuit(PlayerQuitEvent event) {
         var player = event.getPlayer();
         plugin.getCooldownManager().clearPlayerCooldowns(player.getUniqueId());
+        // Effect-flags alleen bij quit terug naar de PDC schrijven.
+        plugin.getPlayerEffectState().unload(player);
+        if (plugin.getPermissionService() instanceof PermissionServiceImpl permissions) {
+            permissions.forget(player.getUniqueId());
+        }
+        // Alle per-speler spell-state op één plek opruimen.
+        PlayerSpellSession.global().release(player.getUniqueId());
     }
 }
 
@@ -1,7 +1,7 @@
 package nl.wantedchef.empirewand.listener.projectile;
 
 import nl.wantedchef.empirewand.EmpireWandPlugin;
-import nl.wantedchef.empirewand.core.storage.Keys;
+import nl.wantedchef.empirewand.framework.service.SpellEntityRegistry;
 import nl.wantedchef.empirewand.spell.ProjectileSpell;
 import nl.wantedchef.empirewand.spell.Spell;
 import org.bukkit.Bukkit;
@@ -13,7 +13,6 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.entity.ProjectileHitEvent;
 
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * Stuurt projectile-hits door naar spells die ProjectileSpell implementeren.
@@ -34,16 +33,12 @@ public final class ProjectileHitListener implements Listener {
             return;
         }
         
-        // Get spell key with null safety
-        var stringType = Keys.STRING_TYPE.getType();
-        if (stringType == null) {
-            return;
-        }
-        
-        String spellKey = projectile.getPersistentDataContainer().get(Keys.PROJECTILE_SPELL, stringType);
-        if (spellKey == null || spellKey.isEmpty()) {
+        // Single int-keyed lookup; falls back to the PDC tags once per entity
+        SpellEntityRegistry.Tag tag = plugin.getSpellEntityRegistry().lookup(projectile, SpellEntityRegistry.PROJECTILE);
+        if (tag == null || tag.spellKey() == null) {
             return;
         }
+        String spellKey = tag.spellKey();
 
         // Validate spell exists and is ProjectileSpell
         Optional<Spell<?>> spellOpt = plugin.getSpellRegistry().getSpell(spellKey);
@@ -56,18 +51,8 @@ public final class ProjectileHitListener implements Listener {
             return;
         }
 
-        // Get caster with improved error handling
-        Player caster = null;
-        String ownerId = projectile.getPersistentDataContainer().get(Keys.PROJECTILE_OWNER, stringType);
-        if (ownerId != null && !ownerId.isEmpty()) {
-            try {
-                UUID ownerUUID = UUID.fromString(ownerId);
-                caster = Bukkit.getPlayer(ownerUUID);
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning(String.format("Invalid UUID format for projectile owner: %s", ownerId));
-                return;
-            }
-        }
+        // Get caster
+        Player caster = tag.caster() != null ? Bukkit.getPlayer(tag.caster()) : null;
 
         // Only proceed if we have a valid caster
         if (caster == null) {
@@ -82,10 +67,11 @@ public final class ProjectileHitListener implements Listener {
                 String.format("ProjectileSpell '%s' threw exception during hit handling: %s", spellKey, e.getMessage()), e);
             
             // Fire SpellFailEvent for error tracking
-            var failEvent = new nl.wantedchef.empirewand.api.event.SpellFailEvent(
-                caster, spell, spellKey, nl.wantedchef.empirewand.api.event.SpellFailEvent.FailReason.OTHER, "ProjectileSpell hit handling failed: " + e.getMessage()
-            );
-            plugin.getServer().getPluginManager().callEvent(failEvent);
+            plugin.getSpellEventDispatcher().dispatch(
+                nl.wantedchef.empirewand.api.event.SpellFailEvent.getHandlerList(),
+                () -> new nl.wantedchef.empirewand.api.event.SpellFailEvent(
+                    caster, spell, spellKey, nl.wantedchef.empirewand.api.event.SpellFailEvent.FailReason.OTHER,
+                    "ProjectileSpell hit handling failed: " + e.getMessage()));
         }
     }
 }
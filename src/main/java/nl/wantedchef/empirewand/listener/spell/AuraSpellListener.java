@@ -8,6 +8,9 @@ import nl.wantedchef.empirewand.core.storage.Keys;
 import nl.wantedchef.empirewand.core.task.TaskManager;
 import nl.wantedchef.empirewand.framework.service.ConfigService;
 import nl.wantedchef.empirewand.framework.service.FxService;
+import nl.wantedchef.empirewand.framework.service.PlayerEffectState;
+import nl.wantedchef.empirewand.framework.service.QualityGovernor;
+import nl.wantedchef.empirewand.listener.combat.DamagePipeline;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.Particle;
@@ -26,6 +29,7 @@ import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -39,6 +43,11 @@ import java.util.logging.Logger;
 /**
  * Handles aura spell effects including passive damage auras, protective auras,
  * and toggle-based aura management.
+ * <p>
+ * Aura pulses are driven by an {@link AuraTimingWheel} advanced once per tick. Each aura fires
+ * every {@code tick-interval} ticks on its own phase, at most
+ * {@code core.performance.aura-max-pulses-per-tick} auras pulse in a single tick, and each pulse
+ * does one spatial query around its caster.
  */
 @Service
 public class AuraSpellListener implements Listener {
@@ -60,8 +69,12 @@ public class AuraSpellListener implements Listener {
     // Track aura participants for efficient proximity checking
     private final Set<UUID> auraParticipants = ConcurrentHashMap.newKeySet();
 
-    // Aura processing task
-    private static final long AURA_TICK_INTERVAL = 15L; // 0.75 seconds
+    // Pulse scheduling: 256 buckets covers every configured interval in one revolution
+    private static final int WHEEL_BITS = 8;
+    private static final int DEFAULT_MAX_PULSES_PER_TICK = 8;
+    private final AuraTimingWheel<ScheduledAura> pulseWheel = new AuraTimingWheel<>(WHEEL_BITS, 64);
+    private long auraTick;
+    private int maxPulsesPerTick = DEFAULT_MAX_PULSES_PER_TICK;
 
     public AuraSpellListener() {
         // Service constructor
@@ -69,13 +82,19 @@ public class AuraSpellListener implements Listener {
 
     @PostConstruct
     public void initialize() {
-        // Main aura processing task
-        this.taskManager.runTaskTimer(this::processAuras, 20L, AURA_TICK_INTERVAL);
+        this.maxPulsesPerTick = Math.max(1,
+                this.configService.getConfig().getInt("core.performance.aura-max-pulses-per-tick",
+                        DEFAULT_MAX_PULSES_PER_TICK));
+
+        // Main aura processing task: advances the pulse wheel by one tick
+        this.taskManager.runTaskTimer("aura-pulses", this::processAuras, 20L, 1L);
 
         // Cleanup task for expired auras
-        this.taskManager.runTaskTimer(this::cleanupExpiredAuras, 200L, 200L);
+        this.taskManager.runTaskTimer("aura-cleanup", this::cleanupExpiredAuras, 200L, 200L);
 
         this.plugin.getServer().getPluginManager().registerEvents(this, this.plugin);
+        this.plugin.getDamagePipeline().register("aura-protection", DamagePipeline.Phase.REDUCE,
+                DamagePipeline.victim(PlayerEffectState.Effect.AURA), false, this::applyAuraProtection);
         this.logger.info("AuraSpellListener initialized and fully integrated with OptimizedServiceRegistry.");
     }
     
@@ -99,23 +118,26 @@ public class AuraSpellListener implements Listener {
         // Remove from active tracking
         activeAuras.remove(playerId);
         auraParticipants.remove(playerId);
+        pulseWheel.cancelIf(scheduled -> scheduled.playerId().equals(playerId));
+        this.plugin.getPlayerEffectState().deactivate(playerId, PlayerEffectState.Effect.AURA);
     }
     
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onPlayerMove(PlayerMoveEvent event) {
         Player player = event.getPlayer();
         
-        // Only process if player has moved significantly or has auras
-        boolean moved = event.getFrom().distanceSquared(event.getTo()) >= 0.01;
-        if (moved || hasActiveAuras(player)) {
-            // Check for entering/leaving aura ranges
-            checkAuraProximity(player);
+        // Only players with an active aura need proximity checks
+        if (!this.plugin.getPlayerEffectState().isActive(player, PlayerEffectState.Effect.AURA)) {
+            return;
         }
+        checkAuraProximity(player);
     }
     
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onEntityDamage(EntityDamageEvent event) {
-        if (!(event.getEntity() instanceof Player player)) {
+    /**
+     * Damage pipeline stage for players with an active aura.
+     */
+    private void applyAuraProtection(EntityDamageEvent event, DamagePipeline.Hit hit) {
+        if (!(hit.victim() instanceof Player player)) {
             return;
         }
         
@@ -148,9 +170,15 @@ public class AuraSpellListener implements Listener {
                 System.currentTimeMillis() + (durationTicks * 50L)
         );
         
-        // Add to active auras
-        activeAuras.computeIfAbsent(playerId, k -> new HashSet<>()).add(aura);
+        // Add to active auras, replacing an earlier instance of the same aura
+        Set<AuraEffect> playerAuras = activeAuras.computeIfAbsent(playerId, k -> new HashSet<>());
+        if (playerAuras.removeIf(existing -> existing.spellKey().equals(spellKey))) {
+            cancelPulses(playerId, spellKey);
+        }
+        playerAuras.add(aura);
         auraParticipants.add(playerId);
+        pulseWheel.schedule(new ScheduledAura(playerId, aura), tickInterval, auraTick);
+        this.plugin.getPlayerEffectState().activate(player, PlayerEffectState.Effect.AURA);
         
         // Mark player as having active aura
         PersistentDataContainer pdc = player.getPersistentDataContainer();
@@ -171,12 +199,14 @@ public class AuraSpellListener implements Listener {
         UUID playerId = player.getUniqueId();
         
         Set<AuraEffect> playerAuras = activeAuras.get(playerId);
+        cancelPulses(playerId, spellKey);
         if (playerAuras != null) {
             playerAuras.removeIf(aura -> aura.spellKey().equals(spellKey));
             
             if (playerAuras.isEmpty()) {
                 activeAuras.remove(playerId);
                 auraParticipants.remove(playerId);
+                this.plugin.getPlayerEffectState().deactivate(playerId, PlayerEffectState.Effect.AURA);
             }
         }
         
@@ -229,30 +259,37 @@ public class AuraSpellListener implements Listener {
         return playerAuras.stream().anyMatch(aura -> aura.spellKey().equals(spellKey));
     }
     
+    private void cancelPulses(UUID playerId, String spellKey) {
+        pulseWheel.cancelIf(scheduled -> scheduled.playerId().equals(playerId)
+                && scheduled.aura().spellKey().equals(spellKey));
+    }
+
     private void processAuras() {
-        long currentTime = System.currentTimeMillis();
-        
-        for (UUID playerId : new HashSet<>(auraParticipants)) {
-            Player player = this.plugin.getServer().getPlayer(playerId);
-            if (player == null || !player.isOnline()) {
-                continue;
-            }
-            
-            Set<AuraEffect> playerAuras = activeAuras.get(playerId);
-            if (playerAuras == null || playerAuras.isEmpty()) {
-                continue;
-            }
-            
-            Location playerLocation = player.getLocation();
-            
-            for (AuraEffect aura : new HashSet<>(playerAuras)) {
-                // Check if it's time to tick this aura
-                if (currentTime % (aura.tickInterval() * 50L) != 0) {
-                    continue;
-                }
-                
-                processAuraEffect(player, playerLocation, aura);
-            }
+        long tick = ++auraTick;
+        if (pulseWheel.size() == 0) {
+            return;
+        }
+        // Under load, fewer pulses per tick; the rest are deferred rather than dropped
+        QualityGovernor governor = this.plugin.getQualityGovernor();
+        int budget = governor != null ? governor.scaleCount(maxPulsesPerTick) : maxPulsesPerTick;
+        pulseWheel.advance(tick, budget, this::pulse);
+    }
+
+    private void pulse(ScheduledAura scheduled) {
+        AuraEffect aura = scheduled.aura();
+        if (System.currentTimeMillis() >= aura.expiryTime()) {
+            // Expired; cleanupExpiredAuras cancels the entry and clears persistent data
+            return;
+        }
+        Player player = this.plugin.getServer().getPlayer(scheduled.playerId());
+        if (player == null || !player.isOnline()) {
+            return;
+        }
+        try {
+            processAuraEffect(player, player.getLocation(), aura);
+        } catch (RuntimeException e) {
+            this.logger.warning(String.format("Aura %s pulse failed for %s: %s",
+                    aura.spellKey(), player.getName(), e.getMessage()));
         }
     }
     
@@ -271,13 +308,11 @@ public class AuraSpellListener implements Listener {
     }
     
     private void processDamageAura(Player caster, Location center, AuraEffect aura) {
-        List<LivingEntity> targets = center.getWorld().getLivingEntities().stream()
-                .filter(entity -> entity != caster)
-                .filter(entity -> entity.getLocation().distance(center) <= aura.radius())
-                .filter(this::isValidAuraTarget)
-                .toList();
-        
-        for (LivingEntity target : targets) {
+        for (LivingEntity target : nearbyLivingEntities(center, aura.radius())) {
+            if (target == caster || !isValidAuraTarget(target)) {
+                continue;
+            }
+
             // Apply damage
             target.damage(aura.damage(), caster);
             
@@ -291,12 +326,10 @@ public class AuraSpellListener implements Listener {
     }
     
     private void processHealAura(Player caster, Location center, AuraEffect aura) {
-        List<Player> allies = center.getWorld().getPlayers().stream()
-                .filter(player -> player.getLocation().distance(center) <= aura.radius())
-                .filter(player -> isAlly(caster, player))
-                .toList();
-        
-        for (Player ally : allies) {
+        for (Player ally : nearbyPlayers(center, aura.radius())) {
+            if (!isAlly(caster, ally)) {
+                continue;
+            }
             double max = getMaxHealth(ally);
             if (ally.getHealth() < max) {
                 ally.setHealth(Math.min(max, ally.getHealth() + aura.healAmount()));
@@ -308,18 +341,43 @@ public class AuraSpellListener implements Listener {
         }
     }
 
+    /**
+     * One spatial query per pulse: the world's entity lookup narrows to nearby chunks, the
+     * squared-distance check trims the bounding box to a sphere. The result is a copy, so
+     * damage callbacks cannot disturb iteration.
+     */
+    private List<LivingEntity> nearbyLivingEntities(Location center, double radius) {
+        double radiusSquared = radius * radius;
+        List<LivingEntity> result = new ArrayList<>();
+        for (LivingEntity entity : center.getWorld().getNearbyLivingEntities(center, radius)) {
+            if (entity.getLocation().distanceSquared(center) <= radiusSquared) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    private List<Player> nearbyPlayers(Location center, double radius) {
+        double radiusSquared = radius * radius;
+        List<Player> result = new ArrayList<>();
+        for (Player player : center.getWorld().getNearbyPlayers(center, radius)) {
+            if (player.getLocation().distanceSquared(center) <= radiusSquared) {
+                result.add(player);
+            }
+        }
+        return result;
+    }
+
     private double getMaxHealth(LivingEntity entity) {
         var attr = entity.getAttribute(Attribute.GENERIC_MAX_HEALTH);
         return attr != null ? attr.getValue() : 20.0;
     }
     
     private void processProtectionAura(Player caster, Location center, AuraEffect aura) {
-        List<Player> allies = center.getWorld().getPlayers().stream()
-                .filter(player -> player.getLocation().distance(center) <= aura.radius())
-                .filter(player -> isAlly(caster, player))
-                .toList();
-        
-        for (Player ally : allies) {
+        for (Player ally : nearbyPlayers(center, aura.radius())) {
+            if (!isAlly(caster, ally)) {
+                continue;
+            }
             // Apply temporary resistance
             ally.addPotionEffect(new PotionEffect(PotionEffectType.RESISTANCE, 
                     aura.tickInterval() + 10, 0));
@@ -332,11 +390,7 @@ public class AuraSpellListener implements Listener {
     
     private void processDivineAura(Player caster, Location center, AuraEffect aura) {
         // Divine aura: heal allies, damage undead
-        List<LivingEntity> entities = center.getWorld().getLivingEntities().stream()
-                .filter(entity -> entity.getLocation().distance(center) <= aura.radius())
-                .toList();
-        
-        for (LivingEntity entity : entities) {
+        for (LivingEntity entity : nearbyLivingEntities(center, aura.radius())) {
             if (entity instanceof Player player && isAlly(caster, player)) {
                 // Heal allies
                 double max = getMaxHealth(player);
@@ -365,13 +419,10 @@ public class AuraSpellListener implements Listener {
     
     private void processEvilAura(Player caster, Location center, AuraEffect aura) {
         // Evil aura: damage based on distance, apply fear effects
-        List<LivingEntity> targets = center.getWorld().getLivingEntities().stream()
-                .filter(entity -> entity != caster)
-                .filter(entity -> entity.getLocation().distance(center) <= aura.radius())
-                .filter(this::isValidAuraTarget)
-                .toList();
-        
-        for (LivingEntity target : targets) {
+        for (LivingEntity target : nearbyLivingEntities(center, aura.radius())) {
+            if (target == caster || !isValidAuraTarget(target)) {
+                continue;
+            }
             double distance = target.getLocation().distance(center);
             double distanceBasedDamage = aura.damage() * (1.0 - (distance / aura.radius()));
             
@@ -392,13 +443,10 @@ public class AuraSpellListener implements Listener {
     
     private void processEmpireAura(Player caster, Location center, AuraEffect aura) {
         // Empire aura: powerful damage with golden effects
-        List<LivingEntity> targets = center.getWorld().getLivingEntities().stream()
-                .filter(entity -> entity != caster)
-                .filter(entity -> entity.getLocation().distance(center) <= aura.radius())
-                .filter(this::isValidAuraTarget)
-                .toList();
-        
-        for (LivingEntity target : targets) {
+        for (LivingEntity target : nearbyLivingEntities(center, aura.radius())) {
+            if (target == caster || !isValidAuraTarget(target)) {
+                continue;
+            }
             // Enhanced damage
             target.damage(aura.damage() * 1.3, caster);
             
@@ -529,6 +577,8 @@ public class AuraSpellListener implements Listener {
             boolean removed = playerAuras.removeIf(aura -> currentTime >= aura.expiryTime());
             
             if (removed) {
+                pulseWheel.cancelIf(scheduled -> scheduled.playerId().equals(playerId)
+                        && currentTime >= scheduled.aura().expiryTime());
                 Player player = this.plugin.getServer().getPlayer(playerId);
                 if (player != null) {
                     // Cleanup persistent data for expired auras
@@ -545,6 +595,7 @@ public class AuraSpellListener implements Listener {
             if (playerAuras.isEmpty()) {
                 activeAuras.remove(playerId);
                 auraParticipants.remove(playerId);
+                this.plugin.getPlayerEffectState().deactivate(playerId, PlayerEffectState.Effect.AURA);
             }
         }
     }
@@ -576,6 +627,11 @@ public class AuraSpellListener implements Listener {
             long expiryTime
     ) {}
     
+    /**
+     * Pulse wheel payload: the aura and the player it is centred on
+     */
+    private record ScheduledAura(UUID playerId, AuraEffect aura) {}
+    
     /**
      * Aura type enumeration
      */
@@ -0,0 +1,198 @@
+package nl.wantedchef.empirewand.listener.spell;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Tick-indexed scheduler for periodic aura pulses.
+ * <p>
+ * Entries live in flat parallel arrays and are linked into one of {@code 2^n} buckets keyed by
+ * their next-fire tick. Advancing one tick only walks the bucket for that tick, so the cost of a
+ * tick is proportional to the auras due in it rather than to all active auras. New entries are
+ * phased into the least-loaded tick of their first period, and {@link #advance} fires at most
+ * {@code budget} entries per tick, deferring the rest to the following tick, so pulses spread
+ * evenly instead of bunching up.
+ * <p>
+ * Not thread-safe; driven from the main thread.
+ *
+ * @param <T> the payload fired for each entry
+ */
+final class AuraTimingWheel<T> {
+
+    private static final int NONE = -1;
+
+    private final int mask;
+    private final int[] heads;
+    private final int[] bucketLoad;
+
+    private int[] next;
+    private long[] due;
+    private int[] period;
+    private boolean[] live;
+    private Object[] payload;
+    private int freeHead = NONE;
+    private int highWater;
+    private int size;
+
+    /**
+     * @param wheelBits  log2 of the number of buckets; periods longer than the wheel still work
+     *                   but cost one extra bucket visit per revolution
+     * @param capacity   initial number of entry slots, grown on demand
+     */
+    AuraTimingWheel(int wheelBits, int capacity) {
+        int buckets = 1 << wheelBits;
+        this.mask = buckets - 1;
+        this.heads = new int[buckets];
+        this.bucketLoad = new int[buckets];
+        Arrays.fill(heads, NONE);
+        int initial = Math.max(4, capacity);
+        this.next = new int[initial];
+        this.due = new long[initial];
+        this.period = new int[initial];
+        this.live = new boolean[initial];
+        this.payload = new Object[initial];
+    }
+
+    /**
+     * Schedules {@code item} to fire every {@code periodTicks}. The first pulse lands on the
+     * least-loaded tick within the first period after {@code nowTick}.
+     *
+     * @return the slot handle, usable with {@link #cancel(int)}
+     */
+    int schedule(T item, int periodTicks, long nowTick) {
+        int p = Math.max(1, periodTicks);
+        int slot = allocate();
+        payload[slot] = item;
+        period[slot] = p;
+        live[slot] = true;
+        size++;
+
+        int window = Math.min(p, mask + 1);
+        long best = nowTick + 1;
+        int bestLoad = Integer.MAX_VALUE;
+        for (int offset = 1; offset <= window; offset++) {
+            int load = bucketLoad[(int) ((nowTick + offset) & mask)];
+            if (load < bestLoad) {
+                bestLoad = load;
+                best = nowTick + offset;
+                if (load == 0) {
+                    break;
+                }
+            }
+        }
+        insert(slot, best);
+        return slot;
+    }
+
+    /**
+     * Cancels one entry. Its slot is reclaimed when its bucket is next visited.
+     */
+    void cancel(int slot) {
+        if (slot >= 0 && slot < highWater && live[slot]) {
+            live[slot] = false;
+            payload[slot] = null;
+            size--;
+        }
+    }
+
+    /**
+     * Cancels every entry whose payload matches.
+     *
+     * @return the number of cancelled entries
+     */
+    @SuppressWarnings("unchecked")
+    int cancelIf(Predicate<? super T> filter) {
+        int cancelled = 0;
+        for (int slot = 0; slot < highWater; slot++) {
+            if (live[slot] && filter.test((T) payload[slot])) {
+                cancel(slot);
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Fires the entries due at {@code tick}, at most {@code budget} of them; entries over budget
+     * move to the next tick. Fired entries are rescheduled one period later.
+     *
+     * @return the number of entries fired
+     */
+    @SuppressWarnings("unchecked")
+    int advance(long tick, int budget, Consumer<? super T> fire) {
+        int bucket = (int) (tick & mask);
+        int slot = heads[bucket];
+        heads[bucket] = NONE;
+        bucketLoad[bucket] = 0;
+
+        int fired = 0;
+        while (slot != NONE) {
+            int following = next[slot];
+            if (!live[slot]) {
+                release(slot);
+            } else if (due[slot] > tick) {
+                // Not this revolution
+                insert(slot, due[slot]);
+            } else if (fired < budget) {
+                fired++;
+                insert(slot, tick + period[slot]);
+                fire.accept((T) payload[slot]);
+            } else {
+                insert(slot, tick + 1);
+            }
+            slot = following;
+        }
+        return fired;
+    }
+
+    /**
+     * @return number of live entries
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Drops every entry.
+     */
+    void clear() {
+        Arrays.fill(heads, NONE);
+        Arrays.fill(bucketLoad, 0);
+        Arrays.fill(live, 0, highWater, false);
+        Arrays.fill(payload, 0, highWater, null);
+        freeHead = NONE;
+        highWater = 0;
+        size = 0;
+    }
+
+    private void insert(int slot, long tick) {
+        int bucket = (int) (tick & mask);
+        due[slot] = tick;
+        next[slot] = heads[bucket];
+        heads[bucket] = slot;
+        bucketLoad[bucket]++;
+    }
+
+    private int allocate() {
+        if (freeHead != NONE) {
+            int slot = freeHead;
+            freeHead = next[slot];
+            return slot;
+        }
+        if (highWater == next.length) {
+            int grown = next.length * 2;
+            next = Arrays.copyOf(next, grown);
+            due = Arrays.copyOf(due, grown);
+            period = Arrays.copyOf(period, grown);
+            live = Arrays.copyOf(live, grown);
+            payload = Arrays.copyOf(payload, grown);
+        }
+        return highWater++;
+    }
+
+    private void release(int slot) {
+        next[slot] = freeHead;
+        freeHead = slot;
+    }
+}
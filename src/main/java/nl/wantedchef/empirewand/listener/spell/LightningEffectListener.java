@@ -3,6 +3,9 @@ package nl.wantedchef.empirewand.listener.spell;
 import nl.wantedchef.empirewand.EmpireWandPlugin;
 import nl.wantedchef.empirewand.core.storage.Keys;
 import nl.wantedchef.empirewand.framework.service.FxService;
+import nl.wantedchef.empirewand.framework.service.PlayerEffectState.Effect;
+import nl.wantedchef.empirewand.framework.service.SpellEntityRegistry;
+import nl.wantedchef.empirewand.listener.combat.DamagePipeline;
 import org.bukkit.Location;
 
 import org.bukkit.entity.LivingEntity;
@@ -10,7 +13,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.weather.LightningStrikeEvent;
 import org.bukkit.persistence.PersistentDataContainer;
@@ -25,7 +27,8 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles lightning spell effects including chain lightning, lightning strikes, and electrical damage.
- * Manages chain lightning propagation and prevents infinite loops.
+ * Manages chain lightning propagation and prevents infinite loops. Damage effects run as stages of
+ * the {@link DamagePipeline}.
  */
 public class LightningEffectListener implements Listener {
     private final EmpireWandPlugin plugin;
@@ -36,93 +39,82 @@ public class LightningEffectListener implements Listener {
     private final Map<UUID, Long> chainLightningStartTime = new ConcurrentHashMap<>();
     private static final long CHAIN_RESET_TIME = 5000; // 5 seconds
     
-    // Track lightning strikes to apply spell effects
-    private final Map<Location, LightningSpellData> lightningStrikes = new ConcurrentHashMap<>();
-    private static final double LIGHTNING_EFFECT_RADIUS = 5.0;
-    
     public LightningEffectListener(EmpireWandPlugin plugin) {
         this.plugin = plugin;
         this.fxService = plugin.getFxService();
         
         // Cleanup task for chain lightning tracking
         plugin.getTaskManager().runTaskTimerAsynchronously(this::cleanupChainTracking, 100L, 100L);
+        
+        // Damage handling runs as stages of the shared damage pipeline
+        DamagePipeline pipeline = plugin.getDamagePipeline();
+        pipeline.register("spell-lightning", DamagePipeline.Phase.SET,
+                DamagePipeline.damager(SpellEntityRegistry.LIGHTNING), true, this::applySpellLightning);
+        pipeline.register("chain-lightning", DamagePipeline.Phase.REDIRECT,
+                DamagePipeline.attacker(Effect.CHAIN_LIGHTNING), true, this::applyChainLightning);
+        pipeline.register("lightning-arrow", DamagePipeline.Phase.REDIRECT,
+                DamagePipeline.attacker(Effect.LIGHTNING_ARROW), true, this::applyLightningArrow);
     }
     
     @EventHandler(priority = EventPriority.HIGH)
     public void onLightningStrike(LightningStrikeEvent event) {
-        Location strike = event.getLightning().getLocation();
-        
         // Check if this is a spell-generated lightning
-        if (event.getLightning().getPersistentDataContainer().has(Keys.createKey("spell_lightning"), Keys.STRING_TYPE.getType())) {
-            String spellKey = event.getLightning().getPersistentDataContainer()
-                    .get(Keys.createKey("spell_lightning"), Keys.STRING_TYPE.getType());
-            String casterUUID = event.getLightning().getPersistentDataContainer()
-                    .get(Keys.createKey("spell_caster"), Keys.STRING_TYPE.getType());
-            
-            if (spellKey != null && casterUUID != null) {
-                try {
-                    UUID caster = UUID.fromString(casterUUID);
-                    Player casterPlayer = plugin.getServer().getPlayer(caster);
-                    
-                    if (casterPlayer != null) {
-                        // Store lightning data for damage processing
-                        LightningSpellData data = new LightningSpellData(spellKey, caster, System.currentTimeMillis());
-                        lightningStrikes.put(strike, data);
-                        
-                        // Handle specific lightning spell effects
-                        handleLightningSpellStrike(event, casterPlayer, spellKey, strike);
-                        
-                        // Schedule cleanup
-                        plugin.getTaskManager().runTaskLater(() -> lightningStrikes.remove(strike), 100L);
-                    }
-                } catch (IllegalArgumentException e) {
-                    plugin.getLogger().warning("Invalid caster UUID for lightning spell: " + casterUUID);
-                }
-            }
+        SpellEntityRegistry.Tag tag = plugin.getSpellEntityRegistry()
+                .lookup(event.getLightning(), SpellEntityRegistry.LIGHTNING);
+        if (tag == null || tag.spellKey() == null || tag.caster() == null) {
+            return;
+        }
+
+        Player casterPlayer = plugin.getServer().getPlayer(tag.caster());
+        if (casterPlayer != null) {
+            // Handle specific lightning spell effects
+            handleLightningSpellStrike(event, casterPlayer, tag.spellKey(), event.getLightning().getLocation());
         }
     }
     
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onEntityDamageByLightning(EntityDamageEvent event) {
+    /**
+     * Damage pipeline stage for hits by a registered spell lightning bolt.
+     */
+    private void applySpellLightning(EntityDamageEvent event, DamagePipeline.Hit hit) {
         if (event.getCause() != EntityDamageEvent.DamageCause.LIGHTNING) {
             return;
         }
         
-        if (!(event.getEntity() instanceof LivingEntity target)) {
+        if (!(hit.victim() instanceof LivingEntity target)) {
             return;
         }
         
-        // Check if this damage is from a spell lightning
-        Location targetLoc = target.getLocation();
-        LightningSpellData lightningData = findNearbyLightningSpell(targetLoc);
-        
-        if (lightningData != null) {
-            Player caster = plugin.getServer().getPlayer(lightningData.casterUUID());
+        // The pipeline resolved the bolt by entity id
+        SpellEntityRegistry.Tag tag = hit.damagerTag();
+        if (tag != null && tag.spellKey() != null && tag.caster() != null) {
+            Player caster = plugin.getServer().getPlayer(tag.caster());
             if (caster != null) {
                 // Apply spell-specific lightning effects
-                handleLightningSpellDamage(event, target, caster, lightningData.spellKey());
+                handleLightningSpellDamage(event, target, caster, tag.spellKey());
             }
         }
     }
     
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
-        if (!(event.getEntity() instanceof LivingEntity target)) {
-            return;
-        }
-        
-        if (!(event.getDamager() instanceof Player caster)) {
+    /**
+     * Damage pipeline stage for hits by a player with active chain lightning.
+     */
+    private void applyChainLightning(EntityDamageEvent event, DamagePipeline.Hit hit) {
+        if (!(hit.victim() instanceof LivingEntity target) || !(hit.damager() instanceof Player caster)) {
             return;
         }
         
         // Check for chain lightning propagation
-        if (shouldPropagateChainLightning(caster, target)) {
+        if (!isAlreadyChainTarget(caster.getUniqueId(), target.getUniqueId())) {
             handleChainLightningPropagation(caster, target, event.getDamage());
         }
-        
-        // Check for lightning arrow effects
-        if (hasLightningArrowEffect(event)) {
-            handleLightningArrowHit(event, caster, target);
+    }
+    
+    /**
+     * Damage pipeline stage for hits by a player with the lightning arrow effect.
+     */
+    private void applyLightningArrow(EntityDamageEvent event, DamagePipeline.Hit hit) {
+        if (hit.victim() instanceof LivingEntity target && hit.damager() instanceof Player caster) {
+            handleLightningArrowHit(caster, target);
         }
     }
     
@@ -167,12 +159,6 @@ public class LightningEffectListener implements Listener {
         applyLightningStatusEffects(target, spellKey);
     }
     
-    private boolean shouldPropagateChainLightning(Player caster, LivingEntity target) {
-        PersistentDataContainer pdc = caster.getPersistentDataContainer();
-        return pdc.has(Keys.createKey("chain_lightning_active"), Keys.BOOLEAN_TYPE.getType()) &&
-               !isAlreadyChainTarget(caster.getUniqueId(), target.getUniqueId());
-    }
-    
     private void handleChainLightningPropagation(Player caster, LivingEntity target, double baseDamage) {
         UUID casterId = caster.getUniqueId();
         UUID targetId = target.getUniqueId();
@@ -220,7 +206,7 @@ public class LightningEffectListener implements Listener {
         }
     }
     
-    private void handleLightningArrowHit(EntityDamageByEntityEvent event, Player caster, LivingEntity target) {
+    private void handleLightningArrowHit(Player caster, LivingEntity target) {
         // Apply additional lightning damage
         double lightningDamage = caster.getPersistentDataContainer()
                 .getOrDefault(Keys.createKey("lightning_arrow_bonus"), Keys.DOUBLE_TYPE.getType(), 12.0);
@@ -239,14 +225,14 @@ public class LightningEffectListener implements Listener {
     
     private void scheduleChainLightning(Player caster, LivingEntity initialTarget, int maxJumps) {
         // Mark caster as having active chain lightning
-        caster.getPersistentDataContainer().set(Keys.createKey("chain_lightning_active"), Keys.BOOLEAN_TYPE.getType(), (byte) 1);
+        plugin.getPlayerEffectState().activate(caster, Effect.CHAIN_LIGHTNING);
         caster.getPersistentDataContainer().set(Keys.createKey("chain_lightning_jumps"), Keys.INTEGER_TYPE.getType(), maxJumps);
         caster.getPersistentDataContainer().set(Keys.createKey("chain_lightning_range"), Keys.DOUBLE_TYPE.getType(), 18.0);
         caster.getPersistentDataContainer().set(Keys.createKey("chain_lightning_damage_mult"), Keys.DOUBLE_TYPE.getType(), 0.4);
         
         // Clear after duration
         plugin.getTaskManager().runTaskLater(() -> {
-            caster.getPersistentDataContainer().remove(Keys.createKey("chain_lightning_active"));
+            plugin.getPlayerEffectState().deactivate(caster, Effect.CHAIN_LIGHTNING);
             chainLightningTargets.remove(caster.getUniqueId());
             chainLightningStartTime.remove(caster.getUniqueId());
         }, 100L);
@@ -323,24 +309,11 @@ public class LightningEffectListener implements Listener {
         fxService.playSound(to, "ENTITY_LIGHTNING_BOLT_THUNDER", 0.3f, 1.8f);
     }
     
-    private LightningSpellData findNearbyLightningSpell(Location location) {
-        return lightningStrikes.entrySet().stream()
-                .filter(entry -> entry.getKey().distance(location) <= LIGHTNING_EFFECT_RADIUS)
-                .map(Map.Entry::getValue)
-                .findFirst()
-                .orElse(null);
-    }
-    
     private boolean isAlreadyChainTarget(UUID casterId, UUID targetId) {
         Set<UUID> targets = chainLightningTargets.get(casterId);
         return targets != null && targets.contains(targetId);
     }
     
-    private boolean hasLightningArrowEffect(EntityDamageByEntityEvent event) {
-        return event.getDamager().getPersistentDataContainer()
-                .has(Keys.createKey("lightning_arrow"), Keys.BOOLEAN_TYPE.getType());
-    }
-    
     private boolean allowFriendlyFire(Player caster) {
         return plugin.getConfigService().getSpellsConfig()
                 .getBoolean("elemental-lightning-attack.values.friendly-fire", false);
@@ -398,9 +371,4 @@ public class LightningEffectListener implements Listener {
         fxService.spawnParticle("ELECTRIC_SPARK", strike, 40, 2, 2, 2, 0.5);
         fxService.playSound(strike, "ENTITY_LIGHTNING_BOLT_THUNDER", 1.0f, 0.8f);
     }
-    
-    /**
-     * Data record for tracking spell-generated lightning strikes
-     */
-    private record LightningSpellData(String spellKey, UUID casterUUID, long timestamp) {}
 }
\ No newline at end of file
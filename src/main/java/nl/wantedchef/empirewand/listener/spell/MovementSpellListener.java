@@ -1,8 +1,9 @@
 package nl.wantedchef.empirewand.listener.spell;
 
 import nl.wantedchef.empirewand.EmpireWandPlugin;
-import nl.wantedchef.empirewand.core.storage.Keys;
 import nl.wantedchef.empirewand.framework.service.FxService;
+import nl.wantedchef.empirewand.framework.service.PlayerEffectState;
+import nl.wantedchef.empirewand.framework.service.PlayerEffectState.Effect;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -12,7 +13,6 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
-import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.util.Vector;
@@ -26,10 +26,14 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Handles movement-related spell effects including teleportation safety, 
  * dash mechanics, and movement-based spell triggers.
+ * <p>
+ * Effect flags are read from {@link PlayerEffectState}; players without an active
+ * movement effect cost a single mask test per move event.
  */
 public class MovementSpellListener implements Listener {
     private final EmpireWandPlugin plugin;
     private final FxService fxService;
+    private final PlayerEffectState effects;
     
     // Track teleportation for safety checks
     private final Set<UUID> pendingTeleports = ConcurrentHashMap.newKeySet();
@@ -51,6 +55,7 @@ public class MovementSpellListener implements Listener {
     public MovementSpellListener(EmpireWandPlugin plugin) {
         this.plugin = plugin;
         this.fxService = plugin.getFxService();
+        this.effects = plugin.getPlayerEffectState();
     }
     
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
@@ -62,30 +67,35 @@ public class MovementSpellListener implements Listener {
         }
         
         // Handle specific teleport spell effects
-        handleTeleportSpellEffects(event);
+        if ((effects.flags(event.getPlayer().getUniqueId()) & PlayerEffectState.TELEPORT_MASK) != 0) {
+            handleTeleportSpellEffects(event);
+        }
     }
     
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerMove(PlayerMoveEvent event) {
         Player player = event.getPlayer();
+        PlayerEffectState.State state = effects.peek(player.getUniqueId());
+        if (state == null || (state.flags() & PlayerEffectState.MOVEMENT_MASK) == 0) {
+            return;
+        }
         
         // Handle movement-based spell effects
-        handleMovementSpellEffects(player, event);
+        handleMovementSpellEffects(player, state, event);
         
         // Check for dash completion
-        handleDashMovement(player, event);
+        handleDashMovement(player, state);
         
         // Handle teleport trail effects
-        handleTeleportTrails(player, event);
+        handleTeleportTrails(state, event);
         
         // Handle movement speed modifications
-        handleMovementSpeedEffects(player, event);
+        handleMovementSpeedEffects(player, state, event);
     }
     
     private boolean isSpellTeleport(PlayerTeleportEvent event) {
         return event.getCause() == PlayerTeleportEvent.TeleportCause.PLUGIN ||
-               event.getPlayer().getPersistentDataContainer()
-                       .has(Keys.createKey("pending_spell_teleport"), Keys.BOOLEAN_TYPE.getType());
+               effects.isActive(event.getPlayer(), Effect.PENDING_SPELL_TELEPORT);
     }
     
     private void handleSpellTeleport(PlayerTeleportEvent event) {
@@ -122,59 +132,54 @@ public class MovementSpellListener implements Listener {
     }
     
     private void handleTeleportSpellEffects(PlayerTeleportEvent event) {
-        Player player = event.getPlayer();
-        PersistentDataContainer pdc = player.getPersistentDataContainer();
+        PlayerEffectState.State state = effects.state(event.getPlayer());
         
         // Check for specific teleport spell effects
-        if (pdc.has(Keys.createKey("blink_strike_active"), Keys.BOOLEAN_TYPE.getType())) {
-            handleBlinkStrikeEffect(event);
+        if (state.has(Effect.BLINK_STRIKE)) {
+            handleBlinkStrikeEffect(event, state);
         }
         
-        if (pdc.has(Keys.createKey("void_swap_active"), Keys.BOOLEAN_TYPE.getType())) {
-            handleVoidSwapEffect(event);
+        if (state.has(Effect.VOID_SWAP)) {
+            handleVoidSwapEffect(event, state);
         }
         
-        if (pdc.has(Keys.createKey("shadow_step_active"), Keys.BOOLEAN_TYPE.getType())) {
-            handleShadowStepEffect(event);
+        if (state.has(Effect.SHADOW_STEP)) {
+            handleShadowStepEffect(event, state);
         }
         
-        if (pdc.has(Keys.createKey("stellar_dash_active"), Keys.BOOLEAN_TYPE.getType())) {
-            handleStellarDashEffect(event);
+        if (state.has(Effect.STELLAR_DASH)) {
+            handleStellarDashEffect(event, state);
         }
     }
     
-    private void handleMovementSpellEffects(Player player, PlayerMoveEvent event) {
-        PersistentDataContainer pdc = player.getPersistentDataContainer();
-        
+    private void handleMovementSpellEffects(Player player, PlayerEffectState.State state, PlayerMoveEvent event) {
         // Handle lifewalk healing
-        if (pdc.has(Keys.createKey("lifewalk_active"), Keys.BOOLEAN_TYPE.getType())) {
-            handleLifewalkMovement(player, event);
+        if (state.has(Effect.LIFEWALK)) {
+            handleLifewalkMovement(player, state, event);
         }
         
         // Handle ethereal form movement
-        if (pdc.has(Keys.createKey("ethereal_form_active"), Keys.BOOLEAN_TYPE.getType())) {
+        if (state.has(Effect.ETHEREAL_FORM)) {
             handleEtherealFormMovement(player, event);
         }
         
         // Handle shadow cloak movement effects
-        if (pdc.has(Keys.createKey("shadow_cloak_active"), Keys.BOOLEAN_TYPE.getType())) {
-            handleShadowCloakMovement(player, event);
+        if (state.has(Effect.SHADOW_CLOAK)) {
+            handleShadowCloakMovement(player, state, event);
         }
         
         // Handle movement-triggered spell effects
-        handleMovementTriggers(player, event);
+        handleMovementTriggers(player, state, event);
     }
     
-    private void handleDashMovement(Player player, PlayerMoveEvent event) {
-        PersistentDataContainer pdc = player.getPersistentDataContainer();
-        
-        if (pdc.has(Keys.createKey("dash_active"), Keys.BOOLEAN_TYPE.getType())) {
+    private void handleDashMovement(Player player, PlayerEffectState.State state) {
+        if (state.has(Effect.DASH)) {
             Vector velocity = player.getVelocity();
             
             // Check if dash has ended (low velocity)
             if (velocity.length() < 0.3) {
                 // End dash effect
-                pdc.remove(Keys.createKey("dash_active"));
+                state.set(Effect.DASH, false);
                 
                 // Apply landing effects
                 fxService.spawnParticle("CLOUD", player.getLocation(), 10, 1, 0.2, 1, 0.1);
@@ -190,37 +195,26 @@ public class MovementSpellListener implements Listener {
         }
     }
     
-    private void handleTeleportTrails(Player player, PlayerMoveEvent event) {
-        PersistentDataContainer pdc = player.getPersistentDataContainer();
-        
-        if (pdc.has(Keys.createKey("teleport_trail_active"), Keys.BOOLEAN_TYPE.getType())) {
-            Long trailEnd = pdc.get(Keys.createKey("teleport_trail_end"), Keys.LONG_TYPE.getType());
-            
-            if (trailEnd != null && System.currentTimeMillis() < trailEnd) {
+    private void handleTeleportTrails(PlayerEffectState.State state, PlayerMoveEvent event) {
+        if (state.has(Effect.TELEPORT_TRAIL)) {
+            if (System.currentTimeMillis() < state.getTeleportTrailEnd()) {
                 // Create teleport particle trail
-                String trailType = pdc.getOrDefault(Keys.createKey("teleport_trail_type"), 
-                        Keys.STRING_TYPE.getType(), "PORTAL");
-                
-                fxService.spawnParticle(trailType, 
+                fxService.spawnParticle(state.getTeleportTrailType(), 
                         event.getFrom().add(0, 1, 0), 
                         3, 0.3, 0.3, 0.3, 0.1);
             } else {
                 // Trail expired
-                pdc.remove(Keys.createKey("teleport_trail_active"));
-                pdc.remove(Keys.createKey("teleport_trail_end"));
-                pdc.remove(Keys.createKey("teleport_trail_type"));
+                state.set(Effect.TELEPORT_TRAIL, false);
             }
         }
     }
     
-    private void handleMovementSpeedEffects(Player player, PlayerMoveEvent event) {
-        PersistentDataContainer pdc = player.getPersistentDataContainer();
-        
+    private void handleMovementSpeedEffects(Player player, PlayerEffectState.State state, PlayerMoveEvent event) {
         // Handle speed boost effects from movement spells
-        if (pdc.has(Keys.createKey("speed_boost_active"), Keys.BOOLEAN_TYPE.getType())) {
-            Double speedMultiplier = pdc.get(Keys.createKey("speed_boost_multiplier"), Keys.DOUBLE_TYPE.getType());
+        if (state.has(Effect.SPEED_BOOST)) {
+            double speedMultiplier = state.getSpeedMultiplier();
             
-            if (speedMultiplier != null && speedMultiplier > 1.0) {
+            if (speedMultiplier > 1.0) {
                 Vector velocity = event.getPlayer().getVelocity();
                 
                 // Only boost horizontal movement
@@ -288,11 +282,10 @@ public class MovementSpellListener implements Listener {
         player.addPotionEffect(new PotionEffect(PotionEffectType.RESISTANCE, 40, 0));
         
         // Mark protection for tracking
-        player.getPersistentDataContainer().set(Keys.createKey("teleport_protection"), 
-                Keys.LONG_TYPE.getType(), System.currentTimeMillis() + 2000L);
+        effects.state(player).setTeleportProtectionUntil(System.currentTimeMillis() + 2000L);
     }
     
-    private void handleBlinkStrikeEffect(PlayerTeleportEvent event) {
+    private void handleBlinkStrikeEffect(PlayerTeleportEvent event, PlayerEffectState.State state) {
         Player player = event.getPlayer();
         
         // Create blink visual effects
@@ -307,10 +300,10 @@ public class MovementSpellListener implements Listener {
         fxService.playSound(event.getTo(), "ENTITY_ENDERMAN_TELEPORT", 0.8f, 1.2f);
         
         // Cleanup
-        player.getPersistentDataContainer().remove(Keys.createKey("blink_strike_active"));
+        state.set(Effect.BLINK_STRIKE, false);
     }
     
-    private void handleVoidSwapEffect(PlayerTeleportEvent event) {
+    private void handleVoidSwapEffect(PlayerTeleportEvent event, PlayerEffectState.State state) {
         Player player = event.getPlayer();
         
         // Void particle effects
@@ -321,10 +314,10 @@ public class MovementSpellListener implements Listener {
         player.addPotionEffect(new PotionEffect(PotionEffectType.WEAKNESS, 60, 0));
         
         // Cleanup
-        player.getPersistentDataContainer().remove(Keys.createKey("void_swap_active"));
+        state.set(Effect.VOID_SWAP, false);
     }
     
-    private void handleShadowStepEffect(PlayerTeleportEvent event) {
+    private void handleShadowStepEffect(PlayerTeleportEvent event, PlayerEffectState.State state) {
         Player player = event.getPlayer();
         
         // Shadow particle effects
@@ -338,10 +331,10 @@ public class MovementSpellListener implements Listener {
         createShadowEchoes(event.getFrom(), event.getTo());
         
         // Cleanup
-        player.getPersistentDataContainer().remove(Keys.createKey("shadow_step_active"));
+        state.set(Effect.SHADOW_STEP, false);
     }
     
-    private void handleStellarDashEffect(PlayerTeleportEvent event) {
+    private void handleStellarDashEffect(PlayerTeleportEvent event, PlayerEffectState.State state) {
         Player player = event.getPlayer();
         
         // Stellar particle trail
@@ -354,19 +347,17 @@ public class MovementSpellListener implements Listener {
         player.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, 60, 1));
         
         // Cleanup
-        player.getPersistentDataContainer().remove(Keys.createKey("stellar_dash_active"));
+        state.set(Effect.STELLAR_DASH, false);
     }
     
-    private void handleLifewalkMovement(Player player, PlayerMoveEvent event) {
+    private void handleLifewalkMovement(Player player, PlayerEffectState.State state, PlayerMoveEvent event) {
         // Heal player gradually while moving
-        if (event.getFrom().distance(event.getTo()) > 0.1) { // Only when actually moving
-            PersistentDataContainer pdc = player.getPersistentDataContainer();
-            Long lastHeal = pdc.get(Keys.createKey("lifewalk_last_heal"), Keys.LONG_TYPE.getType());
+        if (event.getFrom().distanceSquared(event.getTo()) > 0.01) { // Only when actually moving
+            long lastHeal = state.getLifewalkLastHeal();
             long now = System.currentTimeMillis();
             
-            if (lastHeal == null || now - lastHeal > 1000) { // Heal every second
-                double healAmount = pdc.getOrDefault(Keys.createKey("lifewalk_heal_rate"), 
-                        Keys.DOUBLE_TYPE.getType(), 0.5);
+            if (lastHeal == Long.MIN_VALUE || now - lastHeal > 1000) { // Heal every second
+                double healAmount = state.getLifewalkHealRate();
                 
                 double max = getMaxHealth(player);
                 if (player.getHealth() < max) {
@@ -377,7 +368,7 @@ public class MovementSpellListener implements Listener {
                             2, 0.3, 0.3, 0.3, 0);
                 }
                 
-                pdc.set(Keys.createKey("lifewalk_last_heal"), Keys.LONG_TYPE.getType(), now);
+                state.setLifewalkLastHeal(now);
             }
         }
     }
@@ -395,14 +386,13 @@ public class MovementSpellListener implements Listener {
         }
     }
     
-    private void handleShadowCloakMovement(Player player, PlayerMoveEvent event) {
+    private void handleShadowCloakMovement(Player player, PlayerEffectState.State state, PlayerMoveEvent event) {
         // Random shadow step chance
-        PersistentDataContainer pdc = player.getPersistentDataContainer();
-        Double stepChance = pdc.get(Keys.createKey("shadow_step_chance_per_second"), Keys.DOUBLE_TYPE.getType());
+        double stepChance = state.getShadowStepChance();
         
-        if (stepChance != null && Math.random() < stepChance / 20.0) { // Per tick chance
+        if (stepChance > 0 && Math.random() < stepChance / 20.0) { // Per tick chance
             // Trigger shadow step
-            performShadowStep(player);
+            performShadowStep(player, state);
         }
         
         // Dark particle trail
@@ -413,16 +403,13 @@ public class MovementSpellListener implements Listener {
         }
     }
     
-    private void handleMovementTriggers(Player player, PlayerMoveEvent event) {
-        // Check for movement-triggered spell effects
-        PersistentDataContainer pdc = player.getPersistentDataContainer();
-        
+    private void handleMovementTriggers(Player player, PlayerEffectState.State state, PlayerMoveEvent event) {
         // Explosion trail
-        if (pdc.has(Keys.createKey("explosion_trail_active"), Keys.BOOLEAN_TYPE.getType())) {
-            Long lastExplosion = pdc.get(Keys.createKey("explosion_trail_last"), Keys.LONG_TYPE.getType());
+        if (state.has(Effect.EXPLOSION_TRAIL)) {
+            long lastExplosion = state.getExplosionTrailLast();
             long now = System.currentTimeMillis();
             
-            if (lastExplosion == null || now - lastExplosion > 500) { // Every 0.5 seconds
+            if (lastExplosion == Long.MIN_VALUE || now - lastExplosion > 500) { // Every 0.5 seconds
                 // Create small explosion at old location
                 Location explosionLoc = event.getFrom();
                 fxService.spawnParticle("EXPLOSION_NORMAL", explosionLoc, 5, 0.5, 0.5, 0.5, 0);
@@ -433,7 +420,7 @@ public class MovementSpellListener implements Listener {
                         .filter(entity -> entity.getLocation().distance(explosionLoc) <= 3.0)
                         .forEach(entity -> entity.damage(2.0, player));
                 
-                pdc.set(Keys.createKey("explosion_trail_last"), Keys.LONG_TYPE.getType(), now);
+                state.setExplosionTrailLast(now);
             }
         }
     }
@@ -467,22 +454,16 @@ public class MovementSpellListener implements Listener {
         }
     }
     
-    private void performShadowStep(Player player) {
-        PersistentDataContainer pdc = player.getPersistentDataContainer();
-        Double maxDistance = pdc.get(Keys.createKey("shadow_step_max_distance"), Keys.DOUBLE_TYPE.getType());
-        Long cooldownTicks = pdc.get(Keys.createKey("shadow_step_cooldown_ticks"), Keys.LONG_TYPE.getType());
-        Long lastStep = pdc.get(Keys.createKey("shadow_step_last"), Keys.LONG_TYPE.getType());
+    private void performShadowStep(Player player, PlayerEffectState.State state) {
+        double maxDistance = state.getShadowStepMaxDistance();
+        long lastStep = state.getShadowStepLast();
         
         long now = player.getWorld().getFullTime();
         
-        if (lastStep != null && cooldownTicks != null && now - lastStep < cooldownTicks) {
+        if (lastStep != Long.MIN_VALUE && now - lastStep < state.getShadowStepCooldownTicks()) {
             return; // On cooldown
         }
         
-        if (maxDistance == null) {
-            maxDistance = 6.0;
-        }
-        
         // Find random location within range
         double angle = Math.random() * 2 * Math.PI;
         double distance = 2 + Math.random() * (maxDistance - 2);
@@ -495,13 +476,13 @@ public class MovementSpellListener implements Listener {
         
         if (isSafeTeleportLocation(newLocation)) {
             // Mark as shadow step teleport
-            pdc.set(Keys.createKey("shadow_step_active"), Keys.BOOLEAN_TYPE.getType(), (byte) 1);
+            state.set(Effect.SHADOW_STEP, true);
             player.teleport(newLocation);
             
             // Update cooldown
-            pdc.set(Keys.createKey("shadow_step_last"), Keys.LONG_TYPE.getType(), now);
+            state.setShadowStepLast(now);
             
-            pdc.set(Keys.createKey("lifewalk_last_heal"), Keys.LONG_TYPE.getType(), now);
+            state.setLifewalkLastHeal(now);
         }
     }
     
@@ -3,6 +3,7 @@ package nl.wantedchef.empirewand.listener.spell;
 import nl.wantedchef.empirewand.EmpireWandPlugin;
 import nl.wantedchef.empirewand.core.storage.Keys;
 import nl.wantedchef.empirewand.framework.service.FxService;
+import nl.wantedchef.empirewand.framework.service.PlayerEffectState;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -183,19 +184,18 @@ public class StatusEffectListener implements Listener {
     }
     
     private boolean hasShadowCloakEffect(Player player) {
-        return player.getPersistentDataContainer()
-                .has(Keys.createKey("shadow_cloak_active"), Keys.BOOLEAN_TYPE.getType());
+        return plugin.getPlayerEffectState().isActive(player, PlayerEffectState.Effect.SHADOW_CLOAK);
     }
     
     private void handleShadowCloakMovement(Player player) {
         // Check light level and cancel shadow cloak if too bright
+        PlayerEffectState.State state = plugin.getPlayerEffectState().state(player);
         int lightLevel = player.getLocation().getBlock().getLightLevel();
-        int maxLightLevel = player.getPersistentDataContainer()
-                .getOrDefault(Keys.createKey("shadow_cloak_max_light"), Keys.INTEGER_TYPE.getType(), 4);
+        int maxLightLevel = state.getShadowCloakMaxLight();
         
         if (lightLevel > maxLightLevel) {
             // Cancel shadow cloak
-            player.getPersistentDataContainer().remove(Keys.createKey("shadow_cloak_active"));
+            state.set(PlayerEffectState.Effect.SHADOW_CLOAK, false);
             player.removePotionEffect(PotionEffectType.INVISIBILITY);
             
             fxService.sendActionBar(player, "&c&lYour cloak was ripped away by the light!");
@@ -206,7 +206,7 @@ public final class WandCastListener implements Listener {
         var perms = plugin.getPermissionService();
 
         // Re-check permissions in case they changed dynamically (use config key for permissions)
-        if (!perms.has(player, perms.getSpellUsePermission(configSpellKey))) {
+        if (!perms.canUseSpell(player, configSpellKey)) {
             plugin.getFxService().showError(player, "wand.no-permission");
             return;
         }
@@ -218,12 +218,9 @@ public final class WandCastListener implements Listener {
         var cooldownManager = plugin.getCooldownManager();
         if (cooldownManager.isSpellOnCooldown(player.getUniqueId(), actualSpellKey, nowTicks, item)) {
             long remainingTicks = cooldownManager.getSpellCooldownRemaining(player.getUniqueId(), actualSpellKey, nowTicks, item);
-            double remainingSeconds = Math.max(0.1, remainingTicks / 20.0);
-            String formattedTime = String.format(java.util.Locale.US, "%.1f", remainingSeconds);
-
             Map<String, String> ph = Map.of(
                 "spell", plugin.getSpellRegistry().getSpellDisplayName(configSpellKey),
-                "seconds", formattedTime
+                "seconds", FxService.formatTenths(remainingTicks * 50L)
             );
             plugin.getFxService().actionBarKey(player, "wand.on-cooldown", ph);
             plugin.getFxService().playUISound(player, "cooldown");
@@ -0,0 +1,192 @@
+package nl.wantedchef.empirewand.listener.wand;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compact HUD state of every player holding a wand, advanced by one shared ticker.
+ * <p>
+ * A player's state is only sampled from the wand again when it was marked dirty by a join, slot
+ * change, cast or spell switch, or when its periodic refresh is due. In between, the only thing
+ * that moves is the cooldown, which is tracked as a bucket derived from the stored end tick, so a
+ * clean player costs two comparisons per tick. The action bar is sent when the rendered text
+ * changes, and otherwise only on refresh so the client does not fade it out.
+ * <p>
+ * Not thread-safe; driven from the main thread.
+ */
+final class WandHud {
+
+    /** Ticks per cooldown bucket; the countdown is shown in steps of this size. */
+    static final int COOLDOWN_BUCKET_TICKS = 10;
+    /** Ticks after which an unchanged state is sampled and sent again; action bars fade after 60. */
+    static final long REFRESH_TICKS = 40L;
+
+    static final String NO_SPELLS = "§7No spells bound";
+
+    /**
+     * What the held wand shows right now.
+     *
+     * @param displayName   display name of the active spell, or null when nothing is bound
+     * @param activeIndex   position of the active spell on the wand
+     * @param spellCount    number of spells bound to the wand
+     * @param cooldownTicks ticks until the active spell is ready again, 0 when ready
+     */
+    record Sample(@Nullable String displayName, int activeIndex, int spellCount, long cooldownTicks) {
+    }
+
+    private static final class State {
+        final Player player;
+        String displayName;
+        int activeIndex;
+        int spellCount;
+        long cooldownEnd;
+        long cooldownBucket;
+        boolean dirty = true;
+        String rendered;
+        long sentAt;
+
+        State(Player player) {
+            this.player = player;
+        }
+    }
+
+    private final Map<UUID, State> states = new HashMap<>();
+    private final Function<Player, Sample> sampler;
+    private final BiConsumer<Player, String> sender;
+    private final long period;
+    private final Logger logger;
+    private long now;
+    private long sent;
+
+    /**
+     * @param sampler reads the wand in the player's main hand, or returns null when it is no wand
+     * @param sender  shows a rendered status on the player's action bar
+     * @param period  ticks between two calls of {@link #tick()}
+     */
+    WandHud(@NotNull Function<Player, Sample> sampler, @NotNull BiConsumer<Player, String> sender, long period,
+            @NotNull Logger logger) {
+        this.sampler = sampler;
+        this.sender = sender;
+        this.period = Math.max(1L, period);
+        this.logger = logger;
+    }
+
+    /**
+     * Marks the player's state dirty, starting to track the player if needed. The wand is sampled
+     * on the next tick; a player found without a wand is dropped again.
+     */
+    void markDirty(@NotNull Player player) {
+        State state = states.get(player.getUniqueId());
+        if (state == null || state.player != player) {
+            states.put(player.getUniqueId(), new State(player));
+        } else {
+            state.dirty = true;
+        }
+    }
+
+    void forget(@NotNull UUID playerId) {
+        states.remove(playerId);
+    }
+
+    void clear() {
+        states.clear();
+    }
+
+    /**
+     * @return the number of players currently tracked
+     */
+    int size() {
+        return states.size();
+    }
+
+    /**
+     * @return the number of action bars sent so far
+     */
+    long sent() {
+        return sent;
+    }
+
+    /**
+     * Advances the HUD by one period: recomputes dirty and refresh-due states, moves cooldown
+     * buckets and sends the states whose text changed.
+     */
+    void tick() {
+        now += period;
+        Iterator<State> it = states.values().iterator();
+        while (it.hasNext()) {
+            State state = it.next();
+            try {
+                if (!advance(state)) {
+                    it.remove();
+                }
+            } catch (Exception e) {
+                logger.warning(String.format("Error in WandStatusListener for player %s: %s",
+                        state.player.getName(), e.getMessage()));
+                it.remove();
+            }
+        }
+    }
+
+    private boolean advance(State state) {
+        boolean refresh = now - state.sentAt >= REFRESH_TICKS;
+        boolean resampled = state.dirty || refresh;
+        if (resampled) {
+            if (!state.player.isOnline() || !state.player.isValid()) {
+                return false;
+            }
+            Sample sample = sampler.apply(state.player);
+            if (sample == null) {
+                return false;
+            }
+            state.dirty = false;
+            state.displayName = sample.displayName();
+            state.activeIndex = sample.activeIndex();
+            state.spellCount = sample.spellCount();
+            state.cooldownEnd = now + Math.max(0L, sample.cooldownTicks());
+        }
+
+        long bucket = bucket(state.cooldownEnd - now);
+        if (!resampled && bucket == state.cooldownBucket) {
+            return true;
+        }
+        state.cooldownBucket = bucket;
+        String rendered = render(state.displayName, state.activeIndex, state.spellCount, bucket);
+        if (refresh || !rendered.equals(state.rendered)) {
+            sender.accept(state.player, rendered);
+            state.rendered = rendered;
+            state.sentAt = now;
+            sent++;
+        }
+        return true;
+    }
+
+    /**
+     * @return the cooldown bucket of {@code remainingTicks}, rounded up so 0 means ready
+     */
+    static long bucket(long remainingTicks) {
+        if (remainingTicks <= 0L) {
+            return 0L;
+        }
+        return (remainingTicks + COOLDOWN_BUCKET_TICKS - 1) / COOLDOWN_BUCKET_TICKS;
+    }
+
+    @NotNull
+    static String render(@Nullable String displayName, int activeIndex, int spellCount, long cooldownBucket) {
+        if (spellCount <= 0 || displayName == null) {
+            return NO_SPELLS;
+        }
+        if (cooldownBucket > 0L) {
+            return String.format("§c%s §7(%.1fs)", displayName, cooldownBucket * COOLDOWN_BUCKET_TICKS / 20.0);
+        }
+        return String.format("§a%s §7(%d/%d)", displayName, activeIndex + 1, spellCount);
+    }
+}
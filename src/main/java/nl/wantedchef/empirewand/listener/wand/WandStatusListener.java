@@ -1,6 +1,8 @@
 package nl.wantedchef.empirewand.listener.wand;
 
 import nl.wantedchef.empirewand.EmpireWandPlugin;
+import nl.wantedchef.empirewand.api.event.SpellCastEvent;
+import nl.wantedchef.empirewand.api.event.WandSelectEvent;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -9,165 +11,102 @@ import org.bukkit.event.player.PlayerItemHeldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 
 /**
  * Listener that manages persistent action bar status updates for wand users.
  * Shows current spell selection or cooldown information continuously.
+ * <p>
+ * All players share one HUD ticker. Joins, slot changes, casts and spell switches mark a player's
+ * HUD dirty, as do the bind, set-spell and cooldown clear commands through {@link #markDirty};
+ * only dirty players are read from their wand again, and an action bar is only sent when the
+ * rendered status changes or is about to fade.
  */
 public final class WandStatusListener implements Listener {
+    /** Ticks between two HUD ticks. */
+    private static final long TICK_PERIOD = 2L;
+
     private final EmpireWandPlugin plugin;
-    private final Map<UUID, BukkitTask> activeUpdaters = new HashMap<>();
+    private final WandHud hud;
+    private final BukkitTask ticker;
 
     public WandStatusListener(EmpireWandPlugin plugin) {
         this.plugin = plugin;
+        this.hud = new WandHud(this::sample, (player, message) -> plugin.getFxService().actionBar(player, message),
+                TICK_PERIOD, plugin.getLogger());
+        this.ticker = plugin.getTaskManager().runTaskTimer("wand-hud", hud::tick, TICK_PERIOD, TICK_PERIOD);
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerJoin(PlayerJoinEvent event) {
-        Player player = event.getPlayer();
-        // Use async task to avoid blocking main thread during join
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            if (player.isOnline()) {
-                scheduleStatusUpdates(player);
-            }
-        }, 5L); // Slight delay to let join process complete
+        hud.markDirty(event.getPlayer());
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerQuit(PlayerQuitEvent event) {
-        UUID playerId = event.getPlayer().getUniqueId();
-        stopStatusUpdates(playerId);
+        hud.forget(event.getPlayer().getUniqueId());
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onItemHeld(PlayerItemHeldEvent event) {
-        Player player = event.getPlayer();
-
-        // Schedule status updates with a slight delay to ensure the item change is processed
-        // Use task manager for better resource tracking
-        BukkitTask task = plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            if (player.isOnline()) {
-                scheduleStatusUpdates(player);
-            }
-        }, 2L);
-        plugin.getTaskManager().registerTask(task);
+        // The new slot is only in effect after the event; the next HUD tick reads it
+        hud.markDirty(event.getPlayer());
     }
 
-    private void scheduleStatusUpdates(Player player) {
-        UUID playerId = player.getUniqueId();
-
-        // Stop any existing updater for this player
-        stopStatusUpdates(playerId);
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onSpellCast(SpellCastEvent event) {
+        hud.markDirty(event.getCaster());
+    }
 
-        // Only start updates if player is holding a wand
-        ItemStack heldItem = player.getInventory().getItemInMainHand();
-        if (!plugin.getWandService().isWand(heldItem)) {
-            return;
-        }
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWandSelect(WandSelectEvent event) {
+        hud.markDirty(event.getPlayer());
+    }
 
-        // Create a new repeating task that updates every 10 ticks (0.5 seconds)
-        BukkitTask task = new BukkitRunnable() {
-            private int updateCount = 0;
-            
-            @Override
-            public void run() {
-                try {
-                    // Quick validation checks for performance
-                    if (!player.isOnline() || !player.isValid()) {
-                        cancel();
-                        activeUpdaters.remove(playerId);
-                        return;
-                    }
-
-                    ItemStack currentItem = player.getInventory().getItemInMainHand();
-                    if (!plugin.getWandService().isWand(currentItem)) {
-                        // Player is no longer holding a wand, stop updates
-                        cancel();
-                        activeUpdaters.remove(playerId);
-                        return;
-                    }
-
-                    updateWandStatus(player, currentItem);
-                    
-                    // Periodic cleanup to prevent memory leaks
-                    updateCount++;
-                    if (updateCount > 1200) { // Every 10 minutes (1200 * 0.5s)
-                        // Restart task to clean up any potential memory issues
-                        cancel();
-                        activeUpdaters.remove(playerId);
-                        scheduleStatusUpdates(player);
-                        return;
-                    }
-                } catch (Exception e) {
-                    plugin.getLogger().warning(String.format("Error in WandStatusListener for player %s: %s", 
-                        player.getName(), e.getMessage()));
-                    cancel();
-                    activeUpdaters.remove(playerId);
-                }
-            }
-        }.runTaskTimer(plugin, 0L, 10L); // Run immediately, then every 10 ticks
-
-        activeUpdaters.put(playerId, task);
+    /**
+     * Marks the player's status dirty so it is rebuilt on the next HUD tick, for changes that do
+     * not raise an event of their own, such as binding spells or clearing cooldowns.
+     *
+     * @param player the player whose wand changed
+     */
+    public void markDirty(Player player) {
+        hud.markDirty(player);
     }
 
-    private void stopStatusUpdates(UUID playerId) {
-        BukkitTask existingTask = activeUpdaters.remove(playerId);
-        if (existingTask != null && !existingTask.isCancelled()) {
-            existingTask.cancel();
+    private WandHud.Sample sample(Player player) {
+        ItemStack wand = player.getInventory().getItemInMainHand();
+        if (!plugin.getWandService().isWand(wand)) {
+            return null;
         }
-    }
 
-    private void updateWandStatus(Player player, ItemStack wand) {
-        List<String> spells = new ArrayList<>(plugin.getWandService().getSpells(wand));
+        List<String> spells = plugin.getWandService().getSpells(wand);
         if (spells.isEmpty()) {
-            plugin.getFxService().actionBar(player, "§7No spells bound");
-            return;
+            return new WandHud.Sample(null, 0, 0, 0L);
         }
 
         int activeIndex = Math.max(0, Math.min(plugin.getWandService().getActiveIndex(wand), spells.size() - 1));
         String currentSpellKey = spells.get(activeIndex);
         String displayName = plugin.getSpellRegistry().getSpellDisplayName(currentSpellKey);
 
-        // Check if the current spell is on cooldown
         var cooldownManager = plugin.getCooldownManager();
         long currentTicks = player.getWorld().getFullTime();
-
+        long remainingTicks = 0L;
         if (cooldownManager.isSpellOnCooldown(player.getUniqueId(), currentSpellKey, currentTicks, wand)) {
-            // Show cooldown information
-            long remainingTicks = cooldownManager.getSpellCooldownRemaining(player.getUniqueId(), currentSpellKey, currentTicks, wand);
-            double remainingSeconds = remainingTicks / 20.0;
-
-            String message = String.format("§c%s §7(%.1fs)", displayName, remainingSeconds);
-            plugin.getFxService().actionBar(player, message);
-        } else {
-            // Show current spell ready to cast
-            String message = String.format("§a%s §7(%d/%d)", displayName, activeIndex + 1, spells.size());
-            plugin.getFxService().actionBar(player, message);
+            remainingTicks = cooldownManager.getSpellCooldownRemaining(player.getUniqueId(), currentSpellKey,
+                    currentTicks, wand);
         }
+        return new WandHud.Sample(displayName, activeIndex, spells.size(), remainingTicks);
     }
 
     /**
-     * Cleanup method to stop all active updaters when the plugin is disabled.
+     * Cleanup method to stop the HUD ticker when the plugin is disabled.
      */
     public void shutdown() {
-        for (BukkitTask task : activeUpdaters.values()) {
-            if (!task.isCancelled()) {
-                task.cancel();
-            }
+        if (ticker != null && !ticker.isCancelled()) {
+            ticker.cancel();
         }
-        activeUpdaters.clear();
+        hud.clear();
     }
 }
-
-
-
-
-
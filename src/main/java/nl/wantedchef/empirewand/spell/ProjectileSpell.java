@@ -2,14 +2,14 @@ package nl.wantedchef.empirewand.spell;
 
 import nl.wantedchef.empirewand.EmpireWandPlugin;
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
-import nl.wantedchef.empirewand.core.storage.Keys;
+import nl.wantedchef.empirewand.framework.service.SpellEntityRegistry;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Projectile;
 import org.bukkit.event.entity.ProjectileHitEvent;
-import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
@@ -170,7 +170,7 @@ public abstract class ProjectileSpell<P extends Projectile> extends Spell<Void>
             }
             
             // Tag projectile with spell information
-            tagProjectile(projectile, caster);
+            tagProjectile(context, projectile, caster);
             
         } catch (Exception e) {
             context.plugin().getLogger().log(Level.WARNING, 
@@ -239,21 +239,23 @@ public abstract class ProjectileSpell<P extends Projectile> extends Spell<Void>
     }
 
     /**
-     * Tags the projectile with spell identification data.
+     * Tags a projectile spawned by this spell with spell identification data.
      * <p>
-     * This method stores spell information in the projectile's persistent data
-     * container for later identification in hit events.
+     * The projectile is registered with the {@link SpellEntityRegistry}, so hit and explode
+     * handlers resolve spell and caster without reading its persistent data container; the
+     * registry also writes the container keys as a fallback after a reload. Overrides of
+     * {@link #launchProjectile} that spawn their own entities call this for each of them.
      *
+     * @param context the spell context
      * @param projectile the projectile to tag
      * @param caster the player who cast the spell
      */
-    protected void tagProjectile(@NotNull P projectile, @NotNull Player caster) {
+    protected void tagProjectile(@NotNull SpellContext context, @NotNull Entity projectile, @NotNull Player caster) {
         Objects.requireNonNull(projectile, "Projectile cannot be null");
         Objects.requireNonNull(caster, "Caster cannot be null");
-        
-        var container = projectile.getPersistentDataContainer();
-        container.set(Keys.PROJECTILE_SPELL, PersistentDataType.STRING, key());
-        container.set(Keys.PROJECTILE_OWNER, PersistentDataType.STRING, caster.getUniqueId().toString());
+
+        context.plugin().getSpellEntityRegistry().tag(projectile, key(), caster.getUniqueId(),
+                SpellEntityRegistry.PROJECTILE);
     }
 
     /**
@@ -7,10 +7,16 @@ import java.time.Duration;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.Objects;
+import java.util.function.Supplier;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import nl.wantedchef.empirewand.core.config.ReadableConfig;
+import nl.wantedchef.empirewand.core.util.AllocationProfiler;
+import nl.wantedchef.empirewand.framework.service.SpellEventDispatcher;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.entity.ProjectileHitEvent;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
@@ -305,6 +311,20 @@ public abstract class Spell<T> {
         // NOTE: Cooldown is now handled by listeners (WandSwingListener, WandCastListener, CastCommand)
         // to ensure consistency and avoid duplicate cooldown application
 
+        EmpireWandPlugin plugin = context.plugin();
+        if (plugin != null && plugin.getCastPrewarmDistance() > 0) {
+            // Request the terrain in sight now; spells read it through a SafeWorldView
+            SafeWorldView.of(context.caster().getWorld())
+                    .prewarmSight(context.caster(), plugin.getCastPrewarmDistance());
+        }
+        AllocationProfiler profiler = plugin != null ? plugin.getAllocationProfiler() : null;
+        if (profiler != null && profiler.isEnabled()) {
+            // Tasks scheduled through the TaskManager during the cast inherit this spell key
+            try (AllocationProfiler.Sample sample = profiler.begin(key(), "cast")) {
+                return requiresAsyncExecution() ? castAsync(context) : castSync(context);
+            }
+        }
+
         if (requiresAsyncExecution()) {
             return castAsync(context);
         } else {
@@ -417,17 +437,10 @@ public abstract class Spell<T> {
         context.plugin().getLogger().log(Level.WARNING, 
             "Async error casting spell " + key() + " for player " + context.caster().getName(), exception);
         
-        // Fire failure event on main thread
-        BukkitRunnable errorTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                fireSpellFailEvent(context,
-                    nl.wantedchef.empirewand.api.event.SpellFailEvent.FailReason.OTHER,
-                    "Spell casting failed: " + exception.getMessage());
-            }
-        };
-        
-        scheduleMainThreadTask(context, errorTask);
+        // The dispatcher moves the failure event to the main thread
+        fireSpellFailEvent(context,
+            nl.wantedchef.empirewand.api.event.SpellFailEvent.FailReason.OTHER,
+            "Spell casting failed: " + exception.getMessage());
     }
 
     /**
@@ -461,26 +474,18 @@ public abstract class Spell<T> {
     }
 
     /**
-     * Fires a spell cast event on the appropriate thread.
+     * Fires a spell cast event on the main thread, if anyone listens.
      *
      * @param context the spell context
      * @param result the cast result
      */
     private void fireSpellCastEvent(@NotNull SpellContext context, @NotNull CastResult result) {
-        Runnable task = () -> {
-            SpellCastEvent event = new SpellCastEvent(context.caster(), this, context, result);
-            Bukkit.getPluginManager().callEvent(event);
-        };
-
-        if (Bukkit.isPrimaryThread()) {
-            task.run();
-        } else {
-            Bukkit.getScheduler().runTask(context.plugin(), task);
-        }
+        dispatchEvent(context, SpellCastEvent.getHandlerList(),
+            () -> new SpellCastEvent(context.caster(), this, context, result));
     }
 
     /**
-     * Fires a spell failure event on the appropriate thread.
+     * Fires a spell failure event on the main thread, if anyone listens.
      *
      * @param context the spell context
      * @param reason the failure reason
@@ -489,16 +494,26 @@ public abstract class Spell<T> {
     private void fireSpellFailEvent(@NotNull SpellContext context,
             @NotNull nl.wantedchef.empirewand.api.event.SpellFailEvent.FailReason reason,
             @NotNull String message) {
-        Runnable task = () -> {
-            var event = new nl.wantedchef.empirewand.api.event.SpellFailEvent(
-                context.caster(), this, key(), reason, message);
-            Bukkit.getPluginManager().callEvent(event);
-        };
-        
+        dispatchEvent(context, nl.wantedchef.empirewand.api.event.SpellFailEvent.getHandlerList(),
+            () -> new nl.wantedchef.empirewand.api.event.SpellFailEvent(
+                context.caster(), this, key(), reason, message));
+    }
+
+    private void dispatchEvent(@NotNull SpellContext context, @NotNull HandlerList handlers,
+            @NotNull Supplier<? extends Event> factory) {
+        SpellEventDispatcher dispatcher = context.plugin().getSpellEventDispatcher();
+        if (dispatcher != null) {
+            dispatcher.dispatch(handlers, factory);
+            return;
+        }
+        // Dispatcher not created yet
+        if (!SpellEventDispatcher.hasListeners(handlers)) {
+            return;
+        }
         if (Bukkit.isPrimaryThread()) {
-            task.run();
+            Bukkit.getPluginManager().callEvent(factory.get());
         } else {
-            Bukkit.getScheduler().runTask(context.plugin(), task);
+            Bukkit.getScheduler().runTask(context.plugin(), () -> Bukkit.getPluginManager().callEvent(factory.get()));
         }
     }
 
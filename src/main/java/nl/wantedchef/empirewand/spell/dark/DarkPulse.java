@@ -3,7 +3,7 @@ package nl.wantedchef.empirewand.spell.dark;
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.api.service.ConfigService;
 
-import nl.wantedchef.empirewand.core.storage.Keys;
+import nl.wantedchef.empirewand.framework.service.SpellEntityRegistry;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -211,7 +211,8 @@ public class DarkPulse extends Spell<Void> {
         skull.setCharged(true);
         skull.setVelocity(direction.multiply(getConfig().speed));
         skull.setShooter(player);
-        skull.getPersistentDataContainer().set(Keys.PROJECTILE_SPELL, Keys.STRING_TYPE.getType(), key());
+        context.plugin().getSpellEntityRegistry().tag(skull, key(), player.getUniqueId(),
+                SpellEntityRegistry.PROJECTILE);
 
         context.plugin().getTaskManager().runTaskTimer(
             new RingPulse(context, skull, getConfig().ringParticleCount, getConfig().ringRadiusStep,
@@ -362,9 +363,9 @@ public class DarkPulse extends Spell<Void> {
             if (!(projectile instanceof WitherSkull))
                 return;
 
-            String spellType = projectile.getPersistentDataContainer().get(Keys.PROJECTILE_SPELL,
-                    Keys.STRING_TYPE.getType());
-            if (!"dark-pulse".equals(spellType))
+            SpellEntityRegistry.Tag tag = context.plugin().getSpellEntityRegistry()
+                    .lookup(projectile, SpellEntityRegistry.PROJECTILE);
+            if (tag == null || !"dark-pulse".equals(tag.spellKey()))
                 return;
 
             Location hitLoc = projectile.getLocation();
@@ -6,6 +6,7 @@ import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
 import nl.wantedchef.empirewand.common.visual.Afterimages;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -136,25 +137,23 @@ public class ShadowStep extends Spell<Void> {
         int echoSamples = spellConfig.getInt("visual.echo-samples", 6);
 
         Location target = getTargetLocation(player, range);
-        if (!isLocationSafe(target)) {
-            context.fx().fizzle(player);
-            return null;
-        }
-
         Location from = player.getLocation().clone();
-        for (int i = 0; i < echoSamples; i++) {
-            double t = (i + 1) / (double) (echoSamples + 1);
-            Afterimages.record(lerp(from, target, t));
-        }
-        Afterimages.record(from);
-
-        context.fx().spawnParticles(from, Particle.CLOUD, 25, 0.4, 0.6, 0.4, 0.02);
-        context.fx().playSound(player, Sound.ENTITY_ENDERMAN_TELEPORT, 0.6f, 0.4f);
-
-        player.teleport(target);
+        context.plugin().getTeleportService().teleport(player, target, 0).thenAccept(arrival -> {
+            if (arrival == null) {
+                context.fx().fizzle(player);
+                return;
+            }
+            for (int i = 0; i < echoSamples; i++) {
+                double t = (i + 1) / (double) (echoSamples + 1);
+                Afterimages.record(lerp(from, arrival, t));
+            }
+            Afterimages.record(from);
 
-        context.fx().spawnParticles(target, Particle.CLOUD, 30, 0.5, 0.8, 0.5, 0.05);
-        context.fx().playSound(target, Sound.ENTITY_ENDERMAN_TELEPORT, 0.7f, 0.7f);
+            context.fx().spawnParticles(from, Particle.CLOUD, 25, 0.4, 0.6, 0.4, 0.02);
+            context.fx().playSound(from, Sound.ENTITY_ENDERMAN_TELEPORT, 0.6f, 0.4f);
+            context.fx().spawnParticles(arrival, Particle.CLOUD, 30, 0.5, 0.8, 0.5, 0.05);
+            context.fx().playSound(arrival, Sound.ENTITY_ENDERMAN_TELEPORT, 0.7f, 0.7f);
+        });
 
         return null;
     }
@@ -210,8 +209,12 @@ public class ShadowStep extends Spell<Void> {
         
         BlockIterator iterator = new BlockIterator(player, (int) range);
         Location targetLoc = player.getEyeLocation().add(player.getEyeLocation().getDirection().multiply(range));
+        SafeWorldView view = SafeWorldView.of(player.getWorld());
         while (iterator.hasNext()) {
             Block block = iterator.next();
+            if (!view.isLoaded(block.getX(), block.getZ())) {
+                break;
+            }
             if (block.getType().isSolid()) {
                 targetLoc = block.getLocation();
                 targetLoc.setY(targetLoc.getY() + 1);
@@ -225,26 +228,4 @@ public class ShadowStep extends Spell<Void> {
         }
         return targetLoc;
     }
-
-    /**
-     * Checks if a location is safe for teleportation.
-     * <p>
-     * This method verifies that the target location has:
-     * <ul>
-     *   <li>Non-solid block at feet level</li>
-     *   <li>Non-solid block at head level</li>
-     *   <li>Solid block at ground level</li>
-     * </ul>
-     *
-     * @param location the location to check
-     * @return true if the location is safe, false otherwise
-     */
-    private boolean isLocationSafe(@NotNull Location location) {
-        Objects.requireNonNull(location, "Location cannot be null");
-        
-        var feet = location.getBlock();
-        var head = location.clone().add(0, 1, 0).getBlock();
-        var ground = location.clone().add(0, -1, 0).getBlock();
-        return !feet.getType().isSolid() && !head.getType().isSolid() && ground.getType().isSolid();
-    }
 }
@@ -6,10 +6,10 @@ import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
+import nl.wantedchef.empirewand.framework.service.world.TeleportService;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.block.Block;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
@@ -149,7 +149,7 @@ public class VoidSwap extends Spell<Void> {
 
         Location a = player.getLocation();
         Location b = target.getLocation();
-        if (!isLocationSafe(a) || !isLocationSafe(b)) {
+        if (!TeleportService.isSafe(a) || !TeleportService.isSafe(b)) {
             context.fx().fizzle(player);
             return null;
         }
@@ -158,8 +158,9 @@ public class VoidSwap extends Spell<Void> {
         context.fx().spawnParticles(b, Particle.PORTAL, 25, 0.4, 0.8, 0.4, 0.05);
         context.fx().playSound(player, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
 
-        player.teleport(b);
-        target.teleport(a);
+        TeleportService teleports = context.plugin().getTeleportService();
+        teleports.teleport(player, b);
+        teleports.teleport(target, a);
         return null;
     }
 
@@ -175,26 +176,4 @@ public class VoidSwap extends Spell<Void> {
     protected void handleEffect(@NotNull SpellContext context, @NotNull Void result) {
         // Instant effect.
     }
-
-    /**
-     * Checks if a location is safe for teleportation.
-     * <p>
-     * This method verifies that the target location has:
-     * <ul>
- *   <li>Non-solid block at feet level</li>
- *   <li>Non-solid block at head level</li>
- *   <li>Solid block at ground level</li>
-     * </ul>
-     *
-     * @param location the location to check
-     * @return true if the location is safe, false otherwise
-     */
-    private boolean isLocationSafe(@NotNull Location location) {
-        Objects.requireNonNull(location, "Location cannot be null");
-        
-        Block feet = location.getBlock();
-        Block head = location.clone().add(0, 1, 0).getBlock();
-        Block ground = location.clone().add(0, -1, 0).getBlock();
-        return !feet.getType().isSolid() && !head.getType().isSolid() && ground.getType().isSolid();
-    }
 }
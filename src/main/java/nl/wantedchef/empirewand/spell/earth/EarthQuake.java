@@ -2,6 +2,7 @@ package nl.wantedchef.empirewand.spell.earth;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.core.config.ReadableConfig;
+import nl.wantedchef.empirewand.framework.service.world.WorldMutationQueue;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -23,6 +24,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 
@@ -82,6 +85,11 @@ public class EarthQuake extends Spell<Void> {
         double leapUp
     ) {}
 
+    /**
+     * A crater block launched as a falling block.
+     */
+    private record Debris(int x, int y, int z, BlockData data, Vector velocity) {}
+
     /**
      * Default configuration values.
      */
@@ -343,52 +351,60 @@ public class EarthQuake extends Spell<Void> {
                     }
                 }
 
-                // Crater: bowl shape (deeper toward center)
+                // Crater: bowl shape (deeper toward center), planned off-thread from chunk snapshots
                 final int r = Math.max(2, radius);
-                for (int x = -r; x <= r; x++) {
-                    for (int z = -r; z <= r; z++) {
-                        double dist = Math.sqrt(x * x + z * z);
-                        if (dist > r)
-                            continue;
-
-                        double t = 1.0 - (dist / r); // 1 at center -> 0 at edge
-                        int depth = (int) Math.round(minDepth + t * (maxDepth - minDepth));
-
-                        // Wave-like excavation: begin slightly above center so surface moves
-                        int surfaceY = center.getBlockY();
-
-                        for (int dy = 0; dy < depth; dy++) {
-                            Block b = w.getBlockAt(center.getBlockX() + x, surfaceY - dy, center.getBlockZ() + z);
-                            Material type = b.getType();
-                            if (type.isAir())
+                final int cx = center.getBlockX();
+                final int cz = center.getBlockZ();
+                // Wave-like excavation: begin slightly above center so surface moves
+                final int surfaceY = center.getBlockY();
+                final List<Debris> debris = new ArrayList<>();
+                context.plugin().getBlockPlanService().plan(center, r, (view, plan) -> {
+                    for (int x = -r; x <= r; x++) {
+                        for (int z = -r; z <= r; z++) {
+                            double dist = Math.sqrt(x * x + z * z);
+                            if (dist > r)
                                 continue;
 
-                            BlockData data = b.getBlockData();
-
-                            // Outward velocity + slight random lift
-                            Vector out = new Vector(x, 0, z);
-                            if (out.lengthSquared() > 0) {
-                                out = out.normalize();
-                            } else {
-                                // If at center, use random direction
-                                out = new Vector(rng.nextDouble() - 0.5, 0, rng.nextDouble() - 0.5).normalize();
+                            double t = 1.0 - (dist / r); // 1 at center -> 0 at edge
+                            int depth = (int) Math.round(minDepth + t * (maxDepth - minDepth));
+
+                            for (int dy = 0; dy < depth; dy++) {
+                                int by = surfaceY - dy;
+                                if (view.getType(cx + x, by, cz + z).isAir())
+                                    continue;
+
+                                BlockData data = view.getBlockData(cx + x, by, cz + z);
+
+                                // Outward velocity + slight random lift
+                                Vector out = new Vector(x, 0, z);
+                                if (out.lengthSquared() > 0) {
+                                    out = out.normalize();
+                                } else {
+                                    // If at center, use random direction
+                                    out = new Vector(rng.nextDouble() - 0.5, 0, rng.nextDouble() - 0.5).normalize();
+                                }
+                                double speed = 0.25 + rng.nextDouble() * 0.45; // 0.25..0.7
+                                Vector vel = out.multiply(speed).add(new Vector(0, 0.25 + rng.nextDouble() * 0.4, 0));
+                                debris.add(new Debris(cx + x, by, cz + z, data, vel));
+
+                                // Remove real block (griefing allowed)
+                                plan.set(cx + x, by, cz + z, Material.AIR);
                             }
-                            double speed = 0.25 + rng.nextDouble() * 0.45; // 0.25..0.7
-                            Vector vel = out.multiply(speed).add(new Vector(0, 0.25 + rng.nextDouble() * 0.4, 0));
-
-                            // Modern entity spawn without deprecated overloads
-                            w.spawn(b.getLocation().add(0.5, 0.5, 0.5), FallingBlock.class, fb -> {
-                                fb.setBlockData(data);
-                                fb.setDropItem(false); // no items
-                                fb.setHurtEntities(false); // no entity damage
-                                fb.setVelocity(vel);
-                            });
-
-                            // Remove real block (griefing allowed)
-                            b.setType(Material.AIR, false);
                         }
                     }
-                }
+                }).thenAccept(plan -> {
+                    // Modern entity spawn without deprecated overloads
+                    for (Debris piece : debris) {
+                        w.spawn(new Location(w, piece.x() + 0.5, piece.y() + 0.5, piece.z() + 0.5), FallingBlock.class, fb -> {
+                            fb.setBlockData(piece.data());
+                            fb.setDropItem(false); // no items
+                            fb.setHurtEntities(false); // no entity damage
+                            fb.setVelocity(piece.velocity());
+                        });
+                    }
+                    // The debris must not spawn inside blocks for long: remove them on the next tick
+                    context.plugin().getWorldMutationQueue().submit(plan, WorldMutationQueue.Priority.HIGH, 0, false);
+                });
 
                 // Aftershock (subtle)
                 w.spawnParticle(Particle.LARGE_SMOKE, center, 40, 2.0, 0.6, 2.0, 0.0);
@@ -1,6 +1,8 @@
 package nl.wantedchef.empirewand.spell.earth;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.framework.service.world.BlockPlan;
+import nl.wantedchef.empirewand.framework.service.world.WorldMutationQueue;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -15,8 +17,6 @@ import org.bukkit.scheduler.BukkitRunnable;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Platform - Creates a platform to stand on from real Empirewand
@@ -41,6 +41,7 @@ public class Platform extends Spell<Player> {
 
     private static final int DEFAULT_SIZE = 5;
     private static final int DEFAULT_DURATION_TICKS = 400;
+    private static final int REMOVAL_DEADLINE_TICKS = 40;
 
     private Platform(Builder builder) {
         super(builder);
@@ -67,7 +68,9 @@ public class Platform extends Spell<Player> {
         int duration = spellConfig.getInt("values.duration_ticks", DEFAULT_DURATION_TICKS);
         
         Location center = player.getLocation().subtract(0, 1, 0);
-        List<Block> platformBlocks = new ArrayList<>();
+        WorldMutationQueue queue = context.plugin().getWorldMutationQueue();
+        BlockPlan.Builder platform = BlockPlan.builder(center.getWorld());
+        BlockPlan.Builder removal = BlockPlan.builder(center.getWorld());
         
         // Create platform
         for (int x = -size/2; x <= size/2; x++) {
@@ -75,11 +78,13 @@ public class Platform extends Spell<Player> {
                 Location blockLoc = center.clone().add(x, 0, z);
                 Block block = blockLoc.getBlock();
                 if (block.getType() == Material.AIR) {
-                    block.setType(Material.STONE);
-                    platformBlocks.add(block);
+                    platform.set(block.getX(), block.getY(), block.getZ(), Material.STONE);
+                    removal.replace(block.getX(), block.getY(), block.getZ(), Material.STONE, Material.AIR);
                 }
             }
         }
+        queue.submit(platform.build(), WorldMutationQueue.Priority.HIGH, 0, false);
+        BlockPlan platformRemoval = removal.build();
         
         // Effects
         context.fx().playSound(center, Sound.BLOCK_STONE_PLACE, 1.5f, 1.0f);
@@ -92,13 +97,11 @@ public class Platform extends Spell<Player> {
         new BukkitRunnable() {
             @Override
             public void run() {
-                for (Block block : platformBlocks) {
-                    if (block.getType() == Material.STONE) {
-                        block.setType(Material.AIR);
-                        block.getWorld().spawnParticle(Particle.DUST, block.getLocation(), 3, 0.2, 0.1, 0.2, 0,
-                            new org.bukkit.Particle.DustOptions(org.bukkit.Color.fromRGB(169, 169, 169), 1.0f)); // Stone gray dust
-                    }
-                }
+                // Dust only where the platform stone was still there when removed
+                queue.submit(platformRemoval, WorldMutationQueue.Priority.LOW, REMOVAL_DEADLINE_TICKS, false,
+                        (x, y, z) -> center.getWorld().spawnParticle(Particle.DUST,
+                                x, y, z, 3, 0.2, 0.1, 0.2, 0,
+                                new org.bukkit.Particle.DustOptions(org.bukkit.Color.fromRGB(169, 169, 169), 1.0f))); // Stone gray dust
                 context.fx().playSound(center, Sound.BLOCK_STONE_BREAK, 0.8f, 1.2f);
             }
         }.runTaskLater(context.plugin(), duration);
@@ -1,6 +1,8 @@
 package nl.wantedchef.empirewand.spell.earth;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.framework.service.world.BlockPlan;
+import nl.wantedchef.empirewand.framework.service.world.WorldMutationQueue;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -16,8 +18,6 @@ import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Wall - Creates temporary barrier from real Empirewand
@@ -43,6 +43,7 @@ public class Wall extends Spell<Player> {
     private static final int DEFAULT_WIDTH = 7;
     private static final int DEFAULT_HEIGHT = 5;
     private static final int DEFAULT_DURATION_TICKS = 300;
+    private static final int REMOVAL_DEADLINE_TICKS = 40;
 
     private Wall(Builder builder) {
         super(builder);
@@ -73,7 +74,9 @@ public class Wall extends Spell<Player> {
         Vector direction = player.getLocation().getDirection();
         Vector perpendicular = new Vector(-direction.getZ(), 0, direction.getX()).normalize();
         
-        List<Block> wallBlocks = new ArrayList<>();
+        WorldMutationQueue queue = context.plugin().getWorldMutationQueue();
+        BlockPlan.Builder wall = BlockPlan.builder(start.getWorld());
+        BlockPlan.Builder removal = BlockPlan.builder(start.getWorld());
         
         // Create the wall
         for (int w = -width/2; w <= width/2; w++) {
@@ -81,11 +84,13 @@ public class Wall extends Spell<Player> {
                 Location blockLoc = start.clone().add(perpendicular.clone().multiply(w)).add(0, h, 0);
                 Block block = blockLoc.getBlock();
                 if (block.getType() == Material.AIR) {
-                    block.setType(Material.STONE_BRICKS);
-                    wallBlocks.add(block);
+                    wall.set(block.getX(), block.getY(), block.getZ(), Material.STONE_BRICKS);
+                    removal.replace(block.getX(), block.getY(), block.getZ(), Material.STONE_BRICKS, Material.AIR);
                 }
             }
         }
+        queue.submit(wall.build(), WorldMutationQueue.Priority.HIGH, 0, false);
+        BlockPlan wallRemoval = removal.build();
         
         // Effects
         context.fx().playSound(start, Sound.BLOCK_STONE_PLACE, 2.0f, 0.5f);
@@ -98,13 +103,10 @@ public class Wall extends Spell<Player> {
         new BukkitRunnable() {
             @Override
             public void run() {
-                for (Block block : wallBlocks) {
-                    if (block.getType() == Material.STONE_BRICKS) {
-                        block.setType(Material.AIR);
-                        block.getWorld().spawnParticle(Particle.DUST, block.getLocation(), 5, 0.2, 0.2, 0.2, 0, 
-                            Material.STONE_BRICKS.createBlockData());
-                    }
-                }
+                // Debris only where the wall bricks were still there when removed
+                queue.submit(wallRemoval, WorldMutationQueue.Priority.LOW, REMOVAL_DEADLINE_TICKS, false,
+                        (x, y, z) -> start.getWorld().spawnParticle(Particle.BLOCK,
+                                x, y, z, 5, 0.2, 0.2, 0.2, 0, Material.STONE_BRICKS.createBlockData()));
                 context.fx().playSound(start, Sound.BLOCK_STONE_BREAK, 1.0f, 1.0f);
             }
         }.runTaskLater(context.plugin(), duration);
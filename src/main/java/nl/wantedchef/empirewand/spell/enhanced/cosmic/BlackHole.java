@@ -6,6 +6,7 @@ import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -182,10 +183,8 @@ public class BlackHole extends Spell<Void> {
         double eventHorizonRadius = config.eventHorizonRadius;
 
         // Get target location
-        Location targetLocation = player.getTargetBlock(null, 40).getLocation();
-        if (targetLocation == null) {
-            targetLocation = player.getLocation();
-        }
+        var targetBlock = SafeWorldView.of(player.getWorld()).getTargetBlock(player, 40);
+        Location targetLocation = targetBlock != null ? targetBlock.getLocation() : player.getLocation();
 
         // Play initial sound
         var world = player.getWorld();
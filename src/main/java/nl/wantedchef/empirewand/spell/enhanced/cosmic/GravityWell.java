@@ -5,6 +5,7 @@ import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import java.util.Collection;
 import org.bukkit.Location;
 import org.bukkit.Particle;
@@ -147,10 +148,8 @@ public class GravityWell extends Spell<Void> {
         double maxPullStrength = spellConfig.getDouble("values.max-pull-strength", 1.2);
 
         // Get target location (or use player location)
-        Location targetLocation = player.getTargetBlock(null, 30).getLocation();
-        if (targetLocation == null) {
-            targetLocation = player.getLocation();
-        }
+        var targetBlock = SafeWorldView.of(player.getWorld()).getTargetBlock(player, 30);
+        Location targetLocation = targetBlock != null ? targetBlock.getLocation() : player.getLocation();
 
         // Play initial sound
         if (world != null) {
@@ -5,6 +5,7 @@ import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
+import nl.wantedchef.empirewand.framework.service.world.SurfaceCache;
 import org.bukkit.Material;
 import org.bukkit.Location;
 import org.bukkit.Particle;
@@ -284,7 +285,12 @@ public class VoidZone extends Spell<Void> {
             double distance = random.nextDouble() * (radius - 5);
             double x = center.getX() + Math.cos(angle) * distance;
             double z = center.getZ() + Math.sin(angle) * distance;
-            Location zoneLocation = new Location(world, x, world.getHighestBlockYAt((int)x, (int)z), z);
+            int ground = context.plugin().getSurfaceCache()
+                    .getHighestBlockYAt(world, Location.locToBlock(x), Location.locToBlock(z));
+            if (ground == SurfaceCache.UNLOADED) {
+                return;
+            }
+            Location zoneLocation = new Location(world, x, ground, z);
             
             voidZones.add(new VoidZoneInstance(zoneLocation, 4.0, 60));
         }
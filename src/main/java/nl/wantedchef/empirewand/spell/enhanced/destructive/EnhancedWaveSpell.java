@@ -207,6 +207,7 @@ public abstract class EnhancedWaveSpell extends Spell<WaveProjectile> {
         WaveProjectile wave = new WaveProjectile(
             context.plugin(), 
             context.fx(), 
+            context.plugin().getSpellEntityRegistry(),
             context.caster(), 
             projectileConfig
         );
@@ -6,6 +6,7 @@ import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
+import nl.wantedchef.empirewand.framework.service.world.SurfaceCache;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -332,11 +333,17 @@ public class LightningStorm extends Spell<Void> {
                     double distance = random.nextDouble() * 20;
                     double x = center.getX() + Math.cos(angle) * distance;
                     double z = center.getZ() + Math.sin(angle) * distance;
-                    lightningLocation = new Location(center.getWorld(), x, center.getWorld().getHighestBlockYAt((int)x, (int)z) + 1, z);
+                    int ground = context.plugin().getSurfaceCache()
+                            .getHighestBlockYAt(world, Location.locToBlock(x), Location.locToBlock(z));
+                    // Strikes that would land in unloaded terrain are skipped
+                    lightningLocation = ground == SurfaceCache.UNLOADED ? null
+                            : new Location(world, x, ground + 1, z);
                 }
 
-                strikeLightning(lightningLocation, target);
-                lightningsSpawned++;
+                if (lightningLocation != null) {
+                    strikeLightning(lightningLocation, target);
+                    lightningsSpawned++;
+                }
             }
 
             ticks++;
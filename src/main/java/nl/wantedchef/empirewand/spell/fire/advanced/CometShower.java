@@ -6,6 +6,8 @@ import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
 import nl.wantedchef.empirewand.spell.util.SpellUtils;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
+import org.bukkit.FluidCollisionMode;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -122,11 +124,8 @@ public class CometShower extends Spell<Void> {
         double rayDist = SpellUtils.getConfigDouble(spellConfig, "values.ray-trace-distance", DEFAULT_RAY_TRACE_DISTANCE);
         int fallbackDistance = SpellUtils.getConfigInt(spellConfig, "values.fallback-distance", DEFAULT_FALLBACK_DISTANCE);
 
-        RayTraceResult rayTrace = caster.getWorld().rayTraceBlocks(
-            caster.getEyeLocation(),
-            caster.getEyeLocation().getDirection(),
-            rayDist
-        );
+        RayTraceResult rayTrace = SafeWorldView.of(caster.getWorld())
+            .rayTraceBlocks(caster, rayDist, FluidCollisionMode.NEVER);
 
         if (rayTrace != null && rayTrace.getHitPosition() != null) {
             return rayTrace.getHitPosition().toLocation(caster.getWorld());
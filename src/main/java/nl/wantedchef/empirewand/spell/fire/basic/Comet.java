@@ -4,12 +4,11 @@ import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.api.service.ConfigService;
 import nl.wantedchef.empirewand.common.visual.ProjectileTrail;
 import nl.wantedchef.empirewand.core.config.ReadableConfig;
-import nl.wantedchef.empirewand.core.storage.Keys;
+import nl.wantedchef.empirewand.framework.service.SpellEntityRegistry;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.ProjectileSpell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
-import java.util.UUID;
 import org.bukkit.Bukkit;
 import org.bukkit.util.Vector;
 import org.bukkit.Location;
@@ -22,7 +21,6 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Projectile;
 import org.bukkit.event.entity.ProjectileHitEvent;
-import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.jetbrains.annotations.NotNull;
 
@@ -157,9 +155,7 @@ public class Comet extends ProjectileSpell<Fireball> {
             fb.setYield(config.yield);
             fb.setIsIncendiary(enhancementLevel == EnhancementLevel.ENHANCED);
             fb.setDirection(direction);
-            fb.getPersistentDataContainer().set(Keys.PROJECTILE_SPELL, PersistentDataType.STRING, key());
-            fb.getPersistentDataContainer().set(Keys.PROJECTILE_OWNER, PersistentDataType.STRING,
-                    caster.getUniqueId().toString());
+            tagProjectile(context, fb, caster);
         });
 
         if (enhancementLevel == EnhancementLevel.ENHANCED) {
@@ -212,11 +208,11 @@ public class Comet extends ProjectileSpell<Fireball> {
         context.fx().impact(projectile.getLocation());
 
         if (event.getHitEntity() instanceof LivingEntity target) {
-            String ownerUUID = projectile.getPersistentDataContainer().get(Keys.PROJECTILE_OWNER,
-                    PersistentDataType.STRING);
+            SpellEntityRegistry.Tag tag = context.plugin().getSpellEntityRegistry()
+                    .lookup(projectile, SpellEntityRegistry.PROJECTILE);
 
-            if (ownerUUID != null) {
-                Player caster = Bukkit.getPlayer(UUID.fromString(ownerUUID));
+            if (tag != null && tag.caster() != null) {
+                Player caster = Bukkit.getPlayer(tag.caster());
                 if (caster != null && !(target.equals(caster) && !config.friendlyFire)) {
                     target.damage(config.damage, caster);
                 }
@@ -242,11 +238,11 @@ public class Comet extends ProjectileSpell<Fireball> {
 
         // Handle entity damage
         if (event.getHitEntity() instanceof LivingEntity target) {
-            String ownerUUID = projectile.getPersistentDataContainer().get(Keys.PROJECTILE_OWNER,
-                    PersistentDataType.STRING);
+            SpellEntityRegistry.Tag tag = context.plugin().getSpellEntityRegistry()
+                    .lookup(projectile, SpellEntityRegistry.PROJECTILE);
 
-            if (ownerUUID != null) {
-                Player caster = Bukkit.getPlayer(UUID.fromString(ownerUUID));
+            if (tag != null && tag.caster() != null) {
+                Player caster = Bukkit.getPlayer(tag.caster());
                 if (caster != null && !(target.equals(caster) && !config.friendlyFire)) {
                     target.damage(config.damage, caster);
                 }
@@ -2,7 +2,7 @@ package nl.wantedchef.empirewand.spell.fire.basic;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 
-import nl.wantedchef.empirewand.core.storage.Keys;
+import nl.wantedchef.empirewand.framework.service.SpellEntityRegistry;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.ProjectileSpell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -14,7 +14,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.entity.Projectile;
 import org.bukkit.entity.WitherSkull;
 import org.bukkit.event.entity.ProjectileHitEvent;
-import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.NotNull;
 import java.util.Objects;
 
@@ -113,9 +112,8 @@ public class Explosive extends ProjectileSpell<WitherSkull> {
         caster.launchProjectile(WitherSkull.class, eye.getDirection(), skull -> {
             skull.setYield(yield);
             skull.setIsIncendiary(setsFire);
-            skull.getPersistentDataContainer().set(Keys.PROJECTILE_SPELL, PersistentDataType.STRING, key());
-            skull.getPersistentDataContainer().set(Keys.PROJECTILE_OWNER, PersistentDataType.STRING,
-                    caster.getUniqueId().toString());
+            context.plugin().getSpellEntityRegistry().tag(skull, key(), caster.getUniqueId(),
+                    SpellEntityRegistry.PROJECTILE);
         });
     }
 
@@ -3,7 +3,6 @@ package nl.wantedchef.empirewand.spell.fire.basic;
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.common.visual.ProjectileTrail;
 import nl.wantedchef.empirewand.core.config.ReadableConfig;
-import nl.wantedchef.empirewand.core.storage.Keys;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.ProjectileSpell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -18,7 +17,6 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Projectile;
 import org.bukkit.event.entity.ProjectileHitEvent;
-import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
@@ -158,9 +156,7 @@ public class Fireball extends ProjectileSpell<org.bukkit.entity.Fireball> {
                 player.getEyeLocation().getDirection().multiply(speed), fireball -> {
                     fireball.setYield((float) config.yield);
                     fireball.setIsIncendiary(config.incendiary);
-                    fireball.getPersistentDataContainer().set(Keys.PROJECTILE_SPELL, PersistentDataType.STRING, key());
-                    fireball.getPersistentDataContainer().set(Keys.PROJECTILE_OWNER, PersistentDataType.STRING,
-                            player.getUniqueId().toString());
+                    tagProjectile(context, fireball, player);
 
                     // Create spectacular fire trail with enhancement-based effects
                     if (enhancementLevel == EnhancementLevel.ENHANCED) {
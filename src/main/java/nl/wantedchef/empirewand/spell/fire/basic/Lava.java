@@ -5,6 +5,7 @@ import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
@@ -62,8 +63,8 @@ public class Lava extends Spell<Location> {
         Player player = context.caster();
         double range = spellConfig.getDouble("values.range", DEFAULT_RANGE);
         
-        Block targetBlock = player.getTargetBlock(null, (int) range);
-        if (targetBlock.getType() == Material.AIR) {
+        Block targetBlock = SafeWorldView.of(player.getWorld()).getTargetBlock(player, (int) range);
+        if (targetBlock == null || targetBlock.getType() == Material.AIR) {
             player.sendMessage("§cYou must target a solid block!");
             return null;
         }
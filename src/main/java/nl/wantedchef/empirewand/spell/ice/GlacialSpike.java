@@ -1,7 +1,6 @@
 package nl.wantedchef.empirewand.spell.ice;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
-import nl.wantedchef.empirewand.core.storage.Keys;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.ProjectileSpell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -21,7 +20,6 @@ import org.bukkit.entity.Arrow;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Projectile;
 import org.bukkit.event.entity.ProjectileHitEvent;
-import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
@@ -70,9 +68,7 @@ public class GlacialSpike extends ProjectileSpell<Arrow> {
             arrow.setDamage(damage);
             arrow.setPickupStatus(AbstractArrow.PickupStatus.DISALLOWED);
             arrow.setCritical(true);
-            arrow.getPersistentDataContainer().set(Keys.PROJECTILE_SPELL, PersistentDataType.STRING, key());
-            arrow.getPersistentDataContainer().set(Keys.PROJECTILE_OWNER, PersistentDataType.STRING,
-                    caster.getUniqueId().toString());
+            tagProjectile(context, arrow, caster);
             new IceSpikeTrail(arrow, spikeLen, lifeTicks).runTaskTimer(context.plugin(), 0L, 1L);
         });
     }
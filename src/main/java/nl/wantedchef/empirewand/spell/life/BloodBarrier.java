@@ -1,6 +1,7 @@
 package nl.wantedchef.empirewand.spell.life;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.framework.service.PlayerEffectState;
 
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
@@ -60,6 +61,7 @@ public class BloodBarrier extends Spell<Void> {
 
         player.setMetadata(BARRIER_ACTIVE_KEY, new org.bukkit.metadata.FixedMetadataValue(context.plugin(),
                 new BarrierData(damageReduction, thornsDamage)));
+        setPipelineFlag(context, player, true);
         new BarrierTask(player, context).runTaskLater(context.plugin(), duration);
 
         spawnBarrierParticles(player);
@@ -116,6 +118,21 @@ public class BloodBarrier extends Spell<Void> {
         }
     }
 
+    /**
+     * Mirrors the barrier metadata into the effect flags the damage pipeline gates on.
+     */
+    private static void setPipelineFlag(SpellContext context, org.bukkit.entity.Player player, boolean active) {
+        PlayerEffectState effects = context.plugin().getPlayerEffectState();
+        if (effects == null) {
+            return;
+        }
+        if (active) {
+            effects.activate(player, PlayerEffectState.Effect.BLOOD_BARRIER);
+        } else {
+            effects.deactivate(player, PlayerEffectState.Effect.BLOOD_BARRIER);
+        }
+    }
+
     private record BarrierData(double damageReduction, double thornsDamage) {
     }
 
@@ -139,10 +156,12 @@ public class BloodBarrier extends Spell<Void> {
             World world = player.getWorld();
             if (world == null) {
                 player.removeMetadata(BARRIER_ACTIVE_KEY, context.plugin());
+                setPipelineFlag(context, player, false);
                 return;
             }
             Location playerLoc = Objects.requireNonNull(player.getLocation(), "player location");
             player.removeMetadata(BARRIER_ACTIVE_KEY, context.plugin());
+            setPipelineFlag(context, player, false);
             double radius = 3.0;
             world.getNearbyLivingEntities(playerLoc, radius).forEach(entity -> {
                 if (!entity.equals(player)) {
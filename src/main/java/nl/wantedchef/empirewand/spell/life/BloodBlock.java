@@ -6,7 +6,9 @@ import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import org.bukkit.Color;
+import org.bukkit.FluidCollisionMode;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
@@ -76,8 +78,8 @@ public class BloodBlock extends Spell<Void> {
     }
 
     private void placeBloodBlock(Player caster, SpellContext context) {
-        RayTraceResult rayTrace = caster.getWorld().rayTraceBlocks(caster.getEyeLocation(),
-                caster.getEyeLocation().getDirection(), 20.0);
+        RayTraceResult rayTrace = SafeWorldView.of(caster.getWorld())
+                .rayTraceBlocks(caster, 20.0, FluidCollisionMode.NEVER);
         if (rayTrace == null || rayTrace.getHitBlock() == null || rayTrace.getHitBlockFace() == null) {
             return;
         }
@@ -104,7 +106,14 @@ public class BloodBlock extends Spell<Void> {
     }
 
     private void launchBloodBlock(Player caster, Location blockLoc, SpellContext context) {
-        if (blockLoc.getBlock().getType() != Material.REDSTONE_BLOCK) {
+        SafeWorldView view = SafeWorldView.of(caster.getWorld());
+        Material stored = view.getType(blockLoc.getBlockX(), blockLoc.getBlockY(), blockLoc.getBlockZ());
+        if (stored == null) {
+            // Out of reach for now; keep it for a later cast instead of loading its chunk
+            context.fx().fizzle(caster);
+            return;
+        }
+        if (stored != Material.REDSTONE_BLOCK) {
             caster.getPersistentDataContainer().remove(BLOOD_BLOCK_LOCATION);
             return;
         }
@@ -112,8 +121,7 @@ public class BloodBlock extends Spell<Void> {
         blockLoc.getBlock().setType(Material.AIR);
         caster.getPersistentDataContainer().remove(BLOOD_BLOCK_LOCATION);
 
-        RayTraceResult rayTrace = caster.getWorld().rayTraceBlocks(caster.getEyeLocation(),
-                caster.getEyeLocation().getDirection(), 20.0);
+        RayTraceResult rayTrace = view.rayTraceBlocks(caster, 20.0, FluidCollisionMode.NEVER);
         Location targetLoc = (rayTrace != null)
                 ? rayTrace.getHitPosition().toLocation(caster.getWorld())
                 : caster.getEyeLocation().add(caster.getEyeLocation().getDirection().multiply(20));
@@ -86,9 +86,7 @@ public class BloodSpam extends ProjectileSpell<Snowball> {
         Vector direction = caster.getEyeLocation().getDirection().add(spread).normalize();
 
         caster.launchProjectile(Snowball.class, direction.multiply(1.3), projectile -> {
-            projectile.getPersistentDataContainer().set(Keys.PROJECTILE_SPELL, PersistentDataType.STRING, key());
-            projectile.getPersistentDataContainer().set(Keys.PROJECTILE_OWNER, PersistentDataType.STRING,
-                    caster.getUniqueId().toString());
+            tagProjectile(context, projectile, caster);
             projectile.getPersistentDataContainer().set(Keys.DAMAGE, PersistentDataType.DOUBLE, damage);
             new BloodTrail(projectile, trailSteps, redDustCount, context).runTaskTimer(context.plugin(), 0L, 1L);
         });
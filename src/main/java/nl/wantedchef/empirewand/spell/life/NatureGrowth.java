@@ -1,6 +1,7 @@
 package nl.wantedchef.empirewand.spell.life;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.framework.service.world.WorldMutationQueue;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -9,7 +10,8 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.block.Block;
+import org.bukkit.TreeType;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
@@ -38,6 +40,8 @@ public class NatureGrowth extends Spell<Player> {
     }
 
     private static final double DEFAULT_RADIUS = 15.0;
+    private static final int TREE_MARKER = 0;
+    private static final int GROWTH_DEADLINE_TICKS = 40;
     private static final Material[] NATURE_BLOCKS = {
         Material.GRASS_BLOCK, Material.MOSS_BLOCK, Material.AZALEA_LEAVES,
         Material.OAK_LEAVES, Material.BIRCH_LEAVES, Material.JUNGLE_LEAVES
@@ -67,57 +71,74 @@ public class NatureGrowth extends Spell<Player> {
         double radius = spellConfig.getDouble("values.radius", DEFAULT_RADIUS);
         
         Location center = player.getLocation();
-        ThreadLocalRandom random = ThreadLocalRandom.current();
-        
-        // Transform area into lush nature
-        for (int x = (int) -radius; x <= radius; x++) {
-            for (int y = -5; y <= 5; y++) {
-                for (int z = (int) -radius; z <= radius; z++) {
-                    if (x * x + z * z <= radius * radius) {
-                        Block block = center.clone().add(x, y, z).getBlock();
-                        
-                        // Convert stone/dirt to nature blocks
-                        if ((block.getType() == Material.STONE || block.getType() == Material.DIRT || 
-                             block.getType() == Material.SAND) && random.nextInt(3) == 0) {
-                            block.setType(NATURE_BLOCKS[random.nextInt(NATURE_BLOCKS.length)]);
-                        }
-                        
-                        // Add vines
-                        if (block.getType().isSolid() && random.nextInt(5) == 0) {
-                            Block side = block.getRelative(org.bukkit.block.BlockFace.NORTH);
-                            if (side.getType() == Material.AIR) {
-                                side.setType(Material.VINE);
+        World world = center.getWorld();
+        int cx = center.getBlockX();
+        int cy = center.getBlockY();
+        int cz = center.getBlockZ();
+        int bound = (int) radius;
+
+        // Vines reach one block north of the disc
+        context.plugin().getBlockPlanService()
+                .plan(world, cx - bound, cz - bound - 1, cx + bound, cz + bound, (view, plan) -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                    // Transform area into lush nature
+                    for (int x = -bound; x <= radius; x++) {
+                        for (int y = -5; y <= 5; y++) {
+                            for (int z = -bound; z <= radius; z++) {
+                                if (x * x + z * z > radius * radius) {
+                                    continue;
+                                }
+                                int bx = cx + x;
+                                int by = cy + y;
+                                int bz = cz + z;
+                                Material type = view.getType(bx, by, bz);
+
+                                // Convert stone/dirt to nature blocks
+                                if ((type == Material.STONE || type == Material.DIRT || type == Material.SAND)
+                                        && random.nextInt(3) == 0) {
+                                    type = NATURE_BLOCKS[random.nextInt(NATURE_BLOCKS.length)];
+                                    plan.set(bx, by, bz, type);
+                                }
+
+                                // Add vines
+                                if (type.isSolid() && random.nextInt(5) == 0
+                                        && view.getType(bx, by, bz - 1) == Material.AIR) {
+                                    plan.set(bx, by, bz - 1, Material.VINE);
+                                }
+
+                                // Add tall grass and flowers
+                                if (type == Material.AIR && view.getType(bx, by - 1, bz).isSolid()
+                                        && random.nextInt(3) == 0) {
+                                    plan.set(bx, by, bz, random.nextBoolean() ? Material.TALL_GRASS : Material.FERN);
+                                }
                             }
                         }
-                        
-                        // Add tall grass and flowers
-                        if (block.getType() == Material.AIR && 
-                            block.getRelative(org.bukkit.block.BlockFace.DOWN).getType().isSolid() && 
-                            random.nextInt(3) == 0) {
-                            block.setType(random.nextBoolean() ? Material.TALL_GRASS : Material.FERN);
+                    }
+
+                    // Pick some tree spots
+                    for (int i = 0; i < 5; i++) {
+                        int dx = random.nextInt(bound * 2) - bound;
+                        int dz = random.nextInt(bound * 2) - bound;
+                        Material ground = view.getType(cx + dx, cy, cz + dz);
+                        if (ground == Material.GRASS_BLOCK || ground == Material.DIRT) {
+                            plan.mark(TREE_MARKER, cx + dx, cy + 1, cz + dz);
                         }
                     }
-                }
-            }
-        }
-        
-        // Generate some trees
-        for (int i = 0; i < 5; i++) {
-            int dx = random.nextInt((int) (radius * 2)) - (int) radius;
-            int dz = random.nextInt((int) (radius * 2)) - (int) radius;
-            Location treeLoc = center.clone().add(dx, 0, dz);
-            Block ground = treeLoc.getBlock();
-            if (ground.getType() == Material.GRASS_BLOCK || ground.getType() == Material.DIRT) {
-                treeLoc.getWorld().generateTree(treeLoc.add(0, 1, 0), org.bukkit.TreeType.BIG_TREE);
-            }
-        }
-        
-        // Effects
-        center.getWorld().spawnParticle(Particle.SPORE_BLOSSOM_AIR, center, 200, radius/2, 3, radius/2, 0.1);
-        center.getWorld().spawnParticle(Particle.HAPPY_VILLAGER, center, 100, radius/2, 3, radius/2, 0);
-        context.fx().playSound(center, Sound.BLOCK_CHORUS_FLOWER_GROW, 2.0f, 0.8f);
-        context.fx().playSound(center, Sound.ITEM_TRIDENT_THUNDER, 1.0f, 2.0f);
-        
-        player.sendMessage("§a§lNature Growth §2exploded into life!");
+                })
+                .thenAccept(plan -> context.plugin().getWorldMutationQueue()
+                        .submit(plan, WorldMutationQueue.Priority.NORMAL, GROWTH_DEADLINE_TICKS, true)
+                        .thenRun(() -> {
+                            plan.forEachMarker(TREE_MARKER,
+                                    (x, y, z) -> world.generateTree(new Location(world, x, y, z), TreeType.BIG_TREE));
+
+                            // Effects
+                            world.spawnParticle(Particle.SPORE_BLOSSOM_AIR, center, 200, radius/2, 3, radius/2, 0.1);
+                            world.spawnParticle(Particle.HAPPY_VILLAGER, center, 100, radius/2, 3, radius/2, 0);
+                            context.fx().playSound(center, Sound.BLOCK_CHORUS_FLOWER_GROW, 2.0f, 0.8f);
+                            context.fx().playSound(center, Sound.ITEM_TRIDENT_THUNDER, 1.0f, 2.0f);
+
+                            player.sendMessage("§a§lNature Growth §2exploded into life!");
+                        }));
     }
 }
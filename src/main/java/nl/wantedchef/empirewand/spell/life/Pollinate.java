@@ -1,6 +1,7 @@
 package nl.wantedchef.empirewand.spell.life;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.framework.service.world.WorldMutationQueue;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -9,7 +10,6 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.block.Block;
 import org.bukkit.block.data.Ageable;
 import org.bukkit.entity.Player;
 import org.bukkit.TreeType;
@@ -38,6 +38,11 @@ public class Pollinate extends Spell<Player> {
         }
     }
 
+    private static final int GROWN_MARKER = 0;
+    private static final int TREE_MARKER_BASE = 1;
+    private static final TreeType[] TREE_TYPES = TreeType.values();
+    private static final int GROWTH_DEADLINE_TICKS = 40;
+
     private Pollinate(Builder builder) {
         super(builder);
     }
@@ -77,45 +82,64 @@ public class Pollinate extends Spell<Player> {
             return;
         }
         final org.bukkit.World world = Objects.requireNonNull(center.getWorld(), "world");
-        int growthCount = 0;
-        
-        // Grow all crops and plants in radius
-        for (int x = (int) -radius; x <= radius; x++) {
-            for (int y = -3; y <= 3; y++) {
-                for (int z = (int) -radius; z <= radius; z++) {
-                    if (x * x + z * z <= radius * radius) {
-                        final Location scan = center.clone().add(x, y, z);
-                        Block block = scan.getBlock();
-                        
+        final int cx = center.getBlockX();
+        final int cy = center.getBlockY();
+        final int cz = center.getBlockZ();
+        final int bound = (int) radius;
+
+        context.plugin().getBlockPlanService().plan(center, bound, (view, plan) -> {
+            // Grow all crops and plants in radius
+            for (int x = -bound; x <= radius; x++) {
+                for (int y = -3; y <= 3; y++) {
+                    for (int z = -bound; z <= radius; z++) {
+                        if (x * x + z * z > radius * radius) {
+                            continue;
+                        }
+                        int bx = cx + x;
+                        int by = cy + y;
+                        int bz = cz + z;
+                        Material type = view.getType(bx, by, bz);
+                        if (type.isAir()) {
+                            continue;
+                        }
+
                         // Grow crops
-                        if (block.getBlockData() instanceof Ageable ageable && ageable.getAge() < ageable.getMaximumAge()) {
+                        if (view.getBlockData(bx, by, bz) instanceof Ageable ageable
+                                && ageable.getAge() < ageable.getMaximumAge()) {
                             ageable.setAge(ageable.getMaximumAge());
-                            block.setBlockData(ageable);
-                            growthCount++;
-                            
-                            // Particle effect
-                            world.spawnParticle(Particle.HAPPY_VILLAGER,
-                                block.getLocation().add(0.5, 0.5, 0.5), 3, 0.2, 0.2, 0.2, 0);
+                            plan.set(bx, by, bz, ageable);
+                            plan.mark(GROWN_MARKER, bx, by, bz);
                         }
-                        
+
                         // Convert saplings to trees (with small chance)
-                        if (block.getType().name().contains("SAPLING") && Math.random() < 0.3) {
-                            Material saplingType = block.getType();
-                            block.setType(Material.AIR);
-                            world.generateTree(block.getLocation(), getTreeType(saplingType));
-                            growthCount++;
+                        if (type.name().contains("SAPLING") && Math.random() < 0.3) {
+                            plan.set(bx, by, bz, Material.AIR);
+                            plan.mark(TREE_MARKER_BASE + getTreeType(type).ordinal(), bx, by, bz);
                         }
                     }
                 }
             }
-        }
-        
-        // Effects
-        world.spawnParticle(Particle.SPORE_BLOSSOM_AIR, center, 100, radius/2, 2, radius/2, 0.1);
-        world.spawnParticle(Particle.HAPPY_VILLAGER, center, 50, radius/2, 2, radius/2, 0);
-        context.fx().playSound(center, Sound.ITEM_BONE_MEAL_USE, 2.0f, 1.0f);
-        context.fx().playSound(center, Sound.BLOCK_GRASS_PLACE, 1.5f, 1.2f);
-        
-        player.sendMessage("§a§lPollinate §2cast! " + growthCount + " plants grown!");
+        }).thenAccept(plan -> context.plugin().getWorldMutationQueue()
+                .submit(plan, WorldMutationQueue.Priority.NORMAL, GROWTH_DEADLINE_TICKS, true)
+                .thenRun(() -> {
+                    int[] growthCount = {0};
+                    plan.forEachMarker((tag, x, y, z) -> {
+                        growthCount[0]++;
+                        if (tag == GROWN_MARKER) {
+                            // Particle effect
+                            world.spawnParticle(Particle.HAPPY_VILLAGER, x + 0.5, y + 0.5, z + 0.5, 3, 0.2, 0.2, 0.2, 0);
+                        } else {
+                            world.generateTree(new Location(world, x, y, z), TREE_TYPES[tag - TREE_MARKER_BASE]);
+                        }
+                    });
+
+                    // Effects
+                    world.spawnParticle(Particle.SPORE_BLOSSOM_AIR, center, 100, radius/2, 2, radius/2, 0.1);
+                    world.spawnParticle(Particle.HAPPY_VILLAGER, center, 50, radius/2, 2, radius/2, 0);
+                    context.fx().playSound(center, Sound.ITEM_BONE_MEAL_USE, 2.0f, 1.0f);
+                    context.fx().playSound(center, Sound.BLOCK_GRASS_PLACE, 1.5f, 1.2f);
+
+                    player.sendMessage("§a§lPollinate §2cast! " + growthCount[0] + " plants grown!");
+                }));
     }
 }
@@ -6,6 +6,7 @@ import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import org.bukkit.FluidCollisionMode;
 import org.bukkit.Location;
 import org.bukkit.Particle;
@@ -116,7 +117,8 @@ public class ElementalLightningAttack extends Spell<Void> {
         
         Player player = context.caster();
         
-        RayTraceResult result = player.rayTraceBlocks(config.maxRange, FluidCollisionMode.NEVER);
+        RayTraceResult result = SafeWorldView.of(player.getWorld())
+                .rayTraceBlocks(player, config.maxRange, FluidCollisionMode.NEVER);
         if (result == null || result.getHitBlock() == null) {
             player.sendMessage("No target within range.");
             context.fx().fizzle(player);
@@ -62,13 +62,8 @@ public class LightningArrow extends ProjectileSpell<Arrow> {
             arrow.setCritical(true);
             arrow.setDamage(0.0); // We handle damage manually.
             arrow.setKnockbackStrength(0);
-            // PDC tags are set automatically by the base ProjectileSpell class if we were
-            // to call super,
-            // but since we are customizing the launch, we set them manually.
-            arrow.getPersistentDataContainer().set(nl.wantedchef.empirewand.core.storage.Keys.PROJECTILE_SPELL,
-                    org.bukkit.persistence.PersistentDataType.STRING, key());
-            arrow.getPersistentDataContainer().set(nl.wantedchef.empirewand.core.storage.Keys.PROJECTILE_OWNER,
-                    org.bukkit.persistence.PersistentDataType.STRING, caster.getUniqueId().toString());
+            // Customized launch, so tag the arrow the way the base ProjectileSpell launch would
+            tagProjectile(context, arrow, caster);
         });
         context.fx().playSound(caster, Sound.ENTITY_ARROW_SHOOT, 1.0f, 1.0f);
     }
@@ -7,6 +7,7 @@ import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -68,7 +69,7 @@ public class LightningBolt extends Spell<Void> {
         }
 
         Location targetLoc = target.getLocation();
-        if (targetLoc.getWorld().getHighestBlockYAt(targetLoc) < targetLoc.getY()) {
+        if (SafeWorldView.of(targetLoc.getWorld()).getHighestBlockYAt(targetLoc) < targetLoc.getY()) {
             context.fx().fizzle(player);
             return null;
         }
@@ -7,8 +7,10 @@ import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.TextColor;
+import org.bukkit.FluidCollisionMode;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -99,7 +101,8 @@ public class LightningStorm extends Spell<Void> {
             return context.targetLocation();
         }
         // Try block in sight first (clear to the player)
-        var block = player.getTargetBlockExact(40);
+        var hit = SafeWorldView.of(player.getWorld()).rayTraceBlocks(player, 40, FluidCollisionMode.NEVER);
+        var block = hit != null ? hit.getHitBlock() : null;
         if (block != null) {
             return block.getLocation().add(0.5, 0, 0.5); // center of block
         }
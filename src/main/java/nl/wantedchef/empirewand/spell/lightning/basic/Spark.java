@@ -60,13 +60,7 @@ public class Spark extends ProjectileSpell<Snowball> {
 
         context.caster().launchProjectile(Snowball.class,
                 context.caster().getEyeLocation().getDirection().multiply(speed), projectile -> {
-                    projectile.getPersistentDataContainer().set(
-                            nl.wantedchef.empirewand.core.storage.Keys.PROJECTILE_SPELL,
-                            org.bukkit.persistence.PersistentDataType.STRING, key());
-                    projectile.getPersistentDataContainer().set(
-                            nl.wantedchef.empirewand.core.storage.Keys.PROJECTILE_OWNER,
-                            org.bukkit.persistence.PersistentDataType.STRING,
-                            context.caster().getUniqueId().toString());
+                    tagProjectile(context, projectile, context.caster());
                     new ParticleTrail(context, projectile, particleCount, trailSteps, burstInterval)
                             .runTaskTimer(context.plugin(), 0L, 1L);
                 });
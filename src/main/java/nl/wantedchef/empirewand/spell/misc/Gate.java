@@ -1,6 +1,7 @@
 package nl.wantedchef.empirewand.spell.misc;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.framework.service.world.TeleportService;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -14,6 +15,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -22,7 +24,15 @@ import java.util.UUID;
  */
 public class Gate extends Spell<Player> {
 
-    private static final Map<UUID, Map<String, Location>> gateLocations = new HashMap<>();
+    private static final int MAX_GATE_OWNERS = 1000; // Limit to prevent memory leaks
+
+    // Gates outlive the session, so they are kept across logouts; the least recently used player's gates go first
+    private static final Map<UUID, Map<String, Location>> gateLocations = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Map<String, Location>> eldest) {
+            return size() > MAX_GATE_OWNERS;
+        }
+    };
 
     public static class Builder extends Spell.Builder<Player> {
         public Builder(EmpireWandAPI api) {
@@ -102,6 +112,10 @@ public class Gate extends Spell<Player> {
         Location gateLoc = playerGates.get("default");
         player.sendMessage("§d§lGate §5opening...");
         
+        // Load the gate while channelling
+        TeleportService teleports = context.plugin().getTeleportService();
+        teleports.prefetch(gateLoc);
+        
         // Channel effect
         new BukkitRunnable() {
             int ticks = 0;
@@ -110,16 +124,17 @@ public class Gate extends Spell<Player> {
             @Override
             public void run() {
                 if (ticks >= castTime) {
-                    // Create portal effect
-                    createPortalEffect(startLoc);
-                    createPortalEffect(gateLoc);
-                    
-                    // Teleport
-                    player.teleport(gateLoc);
-                    
-                    context.fx().playSound(gateLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 0.8f);
-                    player.sendMessage("§5Gate travel complete!");
                     cancel();
+                    createPortalEffect(startLoc);
+                    teleports.teleport(player, gateLoc).thenAccept(arrival -> {
+                        if (arrival == null) {
+                            player.sendMessage("§cThe gate collapsed!");
+                            return;
+                        }
+                        createPortalEffect(arrival);
+                        context.fx().playSound(arrival, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 0.8f);
+                        player.sendMessage("§5Gate travel complete!");
+                    });
                     return;
                 }
                 
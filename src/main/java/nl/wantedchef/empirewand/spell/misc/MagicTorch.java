@@ -1,22 +1,27 @@
 package nl.wantedchef.empirewand.spell.misc;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.framework.service.world.BlockPlan;
+import nl.wantedchef.empirewand.framework.service.world.BlockPlanService;
+import nl.wantedchef.empirewand.framework.service.world.WorldMutationQueue;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * MagicTorch - Creates magical light sources from real Empirewand
@@ -42,6 +47,7 @@ public class MagicTorch extends Spell<Player> {
     private static final int DEFAULT_DURATION = 600;
     private static final int DEFAULT_RADIUS = 3;
     private static final boolean DEFAULT_FOLLOW_PLAYER = false;
+    private static final int LIGHT_MARKER = 0;
 
     private MagicTorch(Builder builder) {
         super(builder);
@@ -67,6 +73,8 @@ public class MagicTorch extends Spell<Player> {
         int duration = spellConfig.getInt("values.duration", DEFAULT_DURATION);
         int radius = spellConfig.getInt("values.radius", DEFAULT_RADIUS);
         boolean followPlayer = spellConfig.getBoolean("flags.follow_player", DEFAULT_FOLLOW_PLAYER);
+        BlockPlanService planner = context.plugin().getBlockPlanService();
+        WorldMutationQueue queue = context.plugin().getWorldMutationQueue();
         
         if (followPlayer) {
             // Create floating torch that follows player
@@ -74,48 +82,77 @@ public class MagicTorch extends Spell<Player> {
             
             new BukkitRunnable() {
                 int ticks = 0;
-                List<Block> lightBlocks = new ArrayList<>();
+                final Set<Long> lightBlocks = new HashSet<>();
+                World lightWorld;
+                boolean planning;
                 
                 @Override
                 public void run() {
                     if (ticks >= duration || !player.isOnline()) {
                         // Remove light blocks
-                        lightBlocks.forEach(block -> {
-                            if (block.getType() == Material.LIGHT) {
-                                block.setType(Material.AIR);
-                            }
-                        });
+                        removeLights(lightWorld, lightBlocks);
                         player.sendMessage("§7Magic torch has faded.");
                         cancel();
                         return;
                     }
                     
-                    // Clear old light blocks
-                    lightBlocks.forEach(block -> {
-                        if (block.getType() == Material.LIGHT) {
-                            block.setType(Material.AIR);
-                        }
-                    });
-                    lightBlocks.clear();
-                    
-                    // Create light around player
                     Location playerLoc = player.getLocation();
-                    for (int x = -radius; x <= radius; x++) {
-                        for (int y = -1; y <= 2; y++) {
-                            for (int z = -radius; z <= radius; z++) {
-                                if (x * x + z * z <= radius * radius) {
-                                    Block block = playerLoc.clone().add(x, y, z).getBlock();
-                                    if (block.getType() == Material.AIR) {
-                                        block.setType(Material.LIGHT);
-                                        lightBlocks.add(block);
+                    if (playerLoc.getWorld() != lightWorld) {
+                        removeLights(lightWorld, lightBlocks);
+                        lightWorld = playerLoc.getWorld();
+                    }
+                    
+                    // Move the light around the player; only blocks that changed are written
+                    if (!planning) {
+                        planning = true;
+                        Set<Long> previous = Set.copyOf(lightBlocks);
+                        int px = playerLoc.getBlockX();
+                        int py = playerLoc.getBlockY();
+                        int pz = playerLoc.getBlockZ();
+                        planner.plan(playerLoc, radius, (view, plan) -> {
+                            Set<Long> kept = new HashSet<>();
+                            for (int x = -radius; x <= radius; x++) {
+                                for (int y = -1; y <= 2; y++) {
+                                    for (int z = -radius; z <= radius; z++) {
+                                        if (x * x + z * z > radius * radius) {
+                                            continue;
+                                        }
+                                        int bx = px + x;
+                                        int by = py + y;
+                                        int bz = pz + z;
+                                        Material type = view.getType(bx, by, bz);
+                                        long position = BlockPlan.pack(bx, by, bz);
+                                        if (type == Material.AIR) {
+                                            plan.set(bx, by, bz, Material.LIGHT);
+                                        } else if (type != Material.LIGHT || !previous.contains(position)) {
+                                            continue;
+                                        }
+                                        kept.add(position);
+                                        plan.mark(LIGHT_MARKER, bx, by, bz);
                                     }
                                 }
                             }
-                        }
+                            for (long position : previous) {
+                                int bx = BlockPlan.unpackX(position);
+                                int by = BlockPlan.unpackY(position);
+                                int bz = BlockPlan.unpackZ(position);
+                                if (!kept.contains(position) && view.getType(bx, by, bz) == Material.LIGHT) {
+                                    plan.set(bx, by, bz, Material.AIR);
+                                }
+                            }
+                        }).whenComplete((plan, error) -> {
+                            planning = false;
+                            if (plan == null || isCancelled() || plan.world() != lightWorld) {
+                                return;
+                            }
+                            queue.submit(plan, WorldMutationQueue.Priority.HIGH, 0, false);
+                            lightBlocks.clear();
+                            plan.forEachMarker(LIGHT_MARKER, (x, y, z) -> lightBlocks.add(BlockPlan.pack(x, y, z)));
+                        });
                     }
                     
                     // Floating torch particle effect
-                    Location torchLoc = player.getLocation().add(0, 2.5, 0);
+                    Location torchLoc = playerLoc.add(0, 2.5, 0);
                     torchLoc.getWorld().spawnParticle(Particle.FLAME, torchLoc, 3, 0.05, 0.05, 0.05, 0.01);
                     torchLoc.getWorld().spawnParticle(Particle.LAVA, torchLoc, 1, 0.1, 0.1, 0.1, 0);
                     
@@ -124,54 +161,84 @@ public class MagicTorch extends Spell<Player> {
             }.runTaskTimer(context.plugin(), 0L, 10L);
         } else {
             // Create stationary magic torches
-            Location targetLoc = player.getTargetBlock(null, 20).getLocation();
-            List<Block> torchBlocks = new ArrayList<>();
+            Block target = SafeWorldView.of(player.getWorld()).getTargetBlock(player, 20);
+            if (target == null) {
+                context.fx().fizzle(player);
+                return;
+            }
+            Location targetLoc = target.getLocation();
+            World world = targetLoc.getWorld();
+            int tx = targetLoc.getBlockX();
+            int ty = targetLoc.getBlockY();
+            int tz = targetLoc.getBlockZ();
             
-            // Place magic torches in pattern
-            for (int x = -1; x <= 1; x++) {
-                for (int z = -1; z <= 1; z++) {
-                    if (x == 0 && z == 0) continue;
-                    
-                    Location torchLoc = targetLoc.clone().add(x * 2, 1, z * 2);
-                    Block block = torchLoc.getBlock();
-                    
-                    if (block.getType() == Material.AIR) {
-                        block.setType(Material.TORCH);
-                        torchBlocks.add(block);
+            planner.plan(targetLoc, 3, (view, plan) -> {
+                // Place magic torches in pattern
+                for (int x = -1; x <= 1; x++) {
+                    for (int z = -1; z <= 1; z++) {
+                        if (x == 0 && z == 0) continue;
+                        
+                        int torchX = tx + x * 2;
+                        int torchY = ty + 1;
+                        int torchZ = tz + z * 2;
+                        if (view.getType(torchX, torchY, torchZ) != Material.AIR) {
+                            continue;
+                        }
+                        plan.set(torchX, torchY, torchZ, Material.TORCH);
                         
                         // Light blocks around torch
                         for (int lx = -1; lx <= 1; lx++) {
                             for (int lz = -1; lz <= 1; lz++) {
-                                Block lightBlock = torchLoc.clone().add(lx, 0, lz).getBlock();
-                                if (lightBlock.getType() == Material.AIR) {
-                                    lightBlock.setType(Material.LIGHT);
-                                    torchBlocks.add(lightBlock);
+                                if (view.getType(torchX + lx, torchY, torchZ + lz) == Material.AIR) {
+                                    plan.set(torchX + lx, torchY, torchZ + lz, Material.LIGHT);
                                 }
                             }
                         }
                     }
                 }
-            }
-            
-            // Effects
-            targetLoc.getWorld().spawnParticle(Particle.END_ROD, targetLoc.add(0, 1, 0), 20, 1, 0.5, 1, 0.05);
-            context.fx().playSound(targetLoc, Sound.BLOCK_FIRE_AMBIENT, 1.0f, 1.5f);
-            
-            player.sendMessage("§e§lMagic Torches §6placed for " + (duration/20) + " seconds!");
-            
-            // Remove after duration
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    torchBlocks.forEach(block -> {
-                        if (block.getType() == Material.TORCH || block.getType() == Material.LIGHT) {
-                            block.setType(Material.AIR);
-                            block.getWorld().spawnParticle(Particle.SMOKE, block.getLocation(), 3, 0.1, 0.1, 0.1, 0.01);
-                        }
-                    });
-                    context.fx().playSound(targetLoc, Sound.BLOCK_FIRE_EXTINGUISH, 0.5f, 1.0f);
+            }).thenAccept(plan -> {
+                queue.submit(plan, WorldMutationQueue.Priority.HIGH, 0, true);
+                
+                // Effects
+                world.spawnParticle(Particle.END_ROD, targetLoc.clone().add(0, 1, 0), 20, 1, 0.5, 1, 0.05);
+                context.fx().playSound(targetLoc, Sound.BLOCK_FIRE_AMBIENT, 1.0f, 1.5f);
+                
+                player.sendMessage("§e§lMagic Torches §6placed for " + (duration/20) + " seconds!");
+                
+                // Remove after duration
+                new BukkitRunnable() {
+                    @Override
+                    public void run() {
+                        plan.forEachChange((x, y, z) -> {
+                            if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+                                return;
+                            }
+                            Block block = world.getBlockAt(x, y, z);
+                            if (block.getType() == Material.TORCH || block.getType() == Material.LIGHT) {
+                                block.setType(Material.AIR);
+                                world.spawnParticle(Particle.SMOKE, block.getLocation(), 3, 0.1, 0.1, 0.1, 0.01);
+                            }
+                        });
+                        context.fx().playSound(targetLoc, Sound.BLOCK_FIRE_EXTINGUISH, 0.5f, 1.0f);
+                    }
+                }.runTaskLater(context.plugin(), duration);
+            });
+        }
+    }
+
+    private static void removeLights(World world, Set<Long> positions) {
+        if (world != null) {
+            for (long position : positions) {
+                int x = BlockPlan.unpackX(position);
+                int z = BlockPlan.unpackZ(position);
+                if (world.isChunkLoaded(x >> 4, z >> 4)) {
+                    Block block = world.getBlockAt(x, BlockPlan.unpackY(position), z);
+                    if (block.getType() == Material.LIGHT) {
+                        block.setType(Material.AIR);
+                    }
                 }
-            }.runTaskLater(context.plugin(), duration);
+            }
         }
+        positions.clear();
     }
 }
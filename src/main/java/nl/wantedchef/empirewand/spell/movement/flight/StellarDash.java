@@ -5,18 +5,21 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.bukkit.Color;
+import org.bukkit.FluidCollisionMode;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.util.RayTraceResult;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import net.kyori.adventure.text.Component;
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -35,6 +38,9 @@ import nl.wantedchef.empirewand.spell.SpellType;
  */
 public final class StellarDash extends Spell<StellarDash.DashEffect> {
 
+    /** Blocks above or below the dash end searched for footing. */
+    private static final int LANDING_SEARCH_RANGE = 2;
+
     /* ---------------------------------------- */
     /* BUILDER */
     /* ---------------------------------------- */
@@ -102,19 +108,25 @@ public final class StellarDash extends Spell<StellarDash.DashEffect> {
     protected void handleEffect(@NotNull SpellContext context, @NotNull DashEffect effect) {
         Player player = (Player) context.caster();
         
-        // Teleport player instantly
-        player.teleport(effect.destination);
-        
-        // Play arrival sound
-        player.playSound(effect.destination, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 0.9f);
-        player.playSound(effect.destination, Sound.BLOCK_BEACON_ACTIVATE, 0.6f, 2.2f);
-        
-        // Show success message
-        player.sendMessage(Component.text("\u00A7b✦ \u00A77You dash through the cosmic void! \u00A7b✦"));
-        
-        // Create spectacular visual effects
-        createStellarTrail(context, effect);
-        createConstellationBursts(context, effect);
+        // Land on the nearest footing at the end of the dash
+        context.plugin().getTeleportService().teleport(player, effect.destination, LANDING_SEARCH_RANGE)
+                .thenAccept(arrival -> {
+                    if (arrival == null) {
+                        player.sendMessage(Component.text("\u00A7c✦ No valid dash target found within range!"));
+                        return;
+                    }
+                    // Play arrival sound
+                    player.playSound(arrival, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 0.9f);
+                    player.playSound(arrival, Sound.BLOCK_BEACON_ACTIVATE, 0.6f, 2.2f);
+                    
+                    // Show success message
+                    player.sendMessage(Component.text("\u00A7b✦ \u00A77You dash through the cosmic void! \u00A7b✦"));
+                    
+                    // Create spectacular visual effects
+                    DashEffect landed = new DashEffect(effect.origin, arrival, player);
+                    createStellarTrail(context, landed);
+                    createConstellationBursts(context, landed);
+                });
     }
     
     /* ---------------------------------------- */
@@ -123,25 +135,18 @@ public final class StellarDash extends Spell<StellarDash.DashEffect> {
     private @Nullable Location getTargetLocation(Player player, double range) {
         Location eyeLoc = player.getEyeLocation();
         Vector direction = eyeLoc.getDirection().normalize();
+        SafeWorldView view = SafeWorldView.of(player.getWorld());
         
-        // Raycast to find target location
-        for (double i = 1; i <= range; i += 0.5) {
-            Location checkLoc = eyeLoc.clone().add(direction.clone().multiply(i));
-            
-            // Check if we hit a solid block
-            if (!checkLoc.getBlock().isPassable()) {
-                // Step back slightly and check if there's room for the player
-                Location targetLoc = eyeLoc.clone().add(direction.clone().multiply(Math.max(1, i - 1)));
-                if (isLocationSafe(targetLoc)) {
-                    return targetLoc;
-                }
-                return null;
-            }
+        // Raycast to the first solid block, stopping short of unloaded terrain
+        RayTraceResult hit = view.rayTraceBlocks(eyeLoc, direction, range, FluidCollisionMode.NEVER);
+        double reach = hit != null
+                ? Math.max(1, hit.getHitPosition().distance(eyeLoc.toVector()) - 1)
+                : view.loadedDistance(eyeLoc, direction, range);
+        if (reach < 1) {
+            return null;
         }
-        
-        // Max range location
-        Location targetLoc = eyeLoc.clone().add(direction.clone().multiply(range));
-        return isLocationSafe(targetLoc) ? targetLoc : null;
+        // The landing spot itself is validated by the teleport service
+        return eyeLoc.clone().add(direction.clone().multiply(reach));
     }
     
     private boolean isPathClear(Location start, Location end) {
@@ -157,12 +162,6 @@ public final class StellarDash extends Spell<StellarDash.DashEffect> {
         return true;
     }
     
-    private boolean isLocationSafe(Location loc) {
-        return loc.getBlock().isPassable() && 
-               loc.clone().add(0, 1, 0).getBlock().isPassable() &&
-               !loc.clone().subtract(0, 1, 0).getBlock().isPassable();
-    }
-    
     private void createStellarTrail(SpellContext context, DashEffect effect) {
         new BukkitRunnable() {
             private int step = 0;
@@ -6,13 +6,14 @@ import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import java.util.Collection;
 import org.bukkit.Color;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.attribute.Attribute;
-import org.bukkit.block.Block;
+import org.bukkit.World;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -65,9 +66,14 @@ public class SunburstStep extends Spell<Void> {
             return null;
         }
 
-        player.teleport(destination);
-        applyPulseEffects(player, destination);
-        createVisualEffects(context, startLocation, destination);
+        context.plugin().getTeleportService().teleport(player, destination).thenAccept(arrival -> {
+            if (arrival == null) {
+                context.fx().fizzle(player);
+                return;
+            }
+            applyPulseEffects(player, arrival);
+            createVisualEffects(context, startLocation, arrival);
+        });
 
         return null;
     }
@@ -78,20 +84,27 @@ public class SunburstStep extends Spell<Void> {
     }
 
     private Location findSafeDestination(Location start, Vector direction, double maxDistance) {
+        SafeWorldView view = SafeWorldView.of(start.getWorld());
         for (double d = maxDistance; d >= 1.0; d -= 0.5) {
             Location testLoc = start.clone().add(direction.clone().multiply(d));
-            if (isSafeLocation(testLoc)) {
+            if (isSafeLocation(view, testLoc)) {
                 return testLoc;
             }
         }
         return null;
     }
 
-    private boolean isSafeLocation(Location location) {
-        Block feet = location.getBlock();
-        Block head = location.clone().add(0, 1, 0).getBlock();
-        Block ground = location.clone().add(0, -1, 0).getBlock();
-        return feet.getType().isAir() && head.getType().isAir() && ground.getType().isSolid();
+    private boolean isSafeLocation(SafeWorldView view, Location location) {
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+        // Spots in unloaded chunks are passed over rather than loaded
+        if (!view.isLoaded(x, z)) {
+            return false;
+        }
+        World world = view.world();
+        return world.getBlockAt(x, y, z).getType().isAir() && world.getBlockAt(x, y + 1, z).getType().isAir()
+                && world.getBlockAt(x, y - 1, z).getType().isSolid();
     }
 
     private void applyPulseEffects(Player player, Location center) {
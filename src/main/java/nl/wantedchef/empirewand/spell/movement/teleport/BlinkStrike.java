@@ -9,7 +9,6 @@ import nl.wantedchef.empirewand.spell.SpellType;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.block.Block;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
@@ -67,17 +66,18 @@ public class BlinkStrike extends Spell<Void> {
         blinkLoc.setYaw(targetLoc.getYaw());
         blinkLoc.setPitch(targetLoc.getPitch());
 
-        if (!isLocationSafe(blinkLoc)) {
-            context.fx().fizzle(player);
-            return null;
-        }
-
-        context.fx().spawnParticles(player.getLocation(), Particle.PORTAL, 20, 0.3, 0.3, 0.3, 0.1);
-        context.fx().playSound(player, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.2f);
-        player.teleport(blinkLoc);
-
-        target.damage(damage, player);
-        context.fx().spawnParticles(target.getLocation(), Particle.CRIT, 15, 0.2, 0.2, 0.2, 0.01);
+        Location from = player.getLocation();
+        // Allow a step up or down so blinking behind a target on a slope still lands
+        context.plugin().getTeleportService().teleport(player, blinkLoc, 1).thenAccept(arrival -> {
+            if (arrival == null || !target.isValid()) {
+                context.fx().fizzle(player);
+                return;
+            }
+            context.fx().spawnParticles(from, Particle.PORTAL, 20, 0.3, 0.3, 0.3, 0.1);
+            context.fx().playSound(player, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.2f);
+            target.damage(damage, player);
+            context.fx().spawnParticles(target.getLocation(), Particle.CRIT, 15, 0.2, 0.2, 0.2, 0.01);
+        });
         return null;
     }
 
@@ -85,11 +85,4 @@ public class BlinkStrike extends Spell<Void> {
     protected void handleEffect(@NotNull SpellContext context, @NotNull Void result) {
         // Instant effect.
     }
-
-    private boolean isLocationSafe(Location location) {
-        Block feet = location.getBlock();
-        Block head = location.clone().add(0, 1, 0).getBlock();
-        Block ground = location.clone().add(0, -1, 0).getBlock();
-        return !feet.getType().isSolid() && !head.getType().isSolid() && ground.getType().isSolid();
-    }
 }
@@ -7,14 +7,12 @@ import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
 import nl.wantedchef.empirewand.spell.util.SpellUtils;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import org.bukkit.FluidCollisionMode;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
-import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.util.RayTraceResult;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -108,7 +106,8 @@ public class ElementalTeleporter extends Spell<Void> {
         Player player = context.caster();
         Location originalLoc = player.getLocation();
         
-        RayTraceResult result = player.rayTraceBlocks(config.maxRange, FluidCollisionMode.NEVER);
+        RayTraceResult result = SafeWorldView.of(player.getWorld())
+                .rayTraceBlocks(player, config.maxRange, FluidCollisionMode.NEVER);
         if (result == null || result.getHitBlock() == null) {
             player.sendMessage("No valid teleport target within range.");
             context.fx().fizzle(player);
@@ -119,24 +118,17 @@ public class ElementalTeleporter extends Spell<Void> {
         destination.setYaw(player.getLocation().getYaw());
         destination.setPitch(player.getLocation().getPitch());
         
-        if (!isSafeLocation(destination)) {
-            player.sendMessage("Cannot teleport to that location - it's not safe!");
-            context.fx().fizzle(player);
-            return null;
-        }
-        
-        context.fx().spawnParticles(originalLoc, Particle.PORTAL, 50, 1, 1, 1, 0.1);
-        context.fx().playSound(originalLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
-        
-        boolean success = player.teleport(destination, PlayerTeleportEvent.TeleportCause.PLUGIN);
-        
-        if (success) {
-            context.fx().spawnParticles(destination, Particle.PORTAL, 50, 1, 1, 1, 0.1);
-            context.fx().playSound(destination, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.2f);
-        } else {
-            player.sendMessage("Teleportation failed!");
-            context.fx().fizzle(player);
-        }
+        context.plugin().getTeleportService().teleport(player, destination, 0).thenAccept(arrival -> {
+            if (arrival == null) {
+                player.sendMessage("Cannot teleport to that location - it's not safe!");
+                context.fx().fizzle(player);
+                return;
+            }
+            context.fx().spawnParticles(originalLoc, Particle.PORTAL, 50, 1, 1, 1, 0.1);
+            context.fx().playSound(originalLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
+            context.fx().spawnParticles(arrival, Particle.PORTAL, 50, 1, 1, 1, 0.1);
+            context.fx().playSound(arrival, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.2f);
+        });
         
         return null;
     }
@@ -145,38 +137,4 @@ public class ElementalTeleporter extends Spell<Void> {
     protected void handleEffect(@NotNull SpellContext context, @NotNull Void result) {
         // Instant effect
     }
-
-    /**
-     * Checks if a location is safe for teleportation.
-     * <p>
-     * This method verifies that the feet and head positions are not solid blocks
-     * and that the destination is within world boundaries.
-     *
-     * @param destination the location to check
-     * @return true if the location is safe for teleportation
-     */
-    private boolean isSafeLocation(Location destination) {
-        var world = destination.getWorld();
-        if (world == null) {
-            return false;
-        }
-        
-        Block feetBlock = destination.getBlock();
-        Block headBlock = destination.clone().add(0, 1, 0).getBlock();
-        
-        if (feetBlock.getType().isSolid() || headBlock.getType().isSolid()) {
-            return false;
-        }
-        
-        if (feetBlock.getType() == Material.LAVA || headBlock.getType() == Material.LAVA) {
-            return false;
-        }
-        
-        if (feetBlock.getType() == Material.FIRE || headBlock.getType() == Material.FIRE) {
-            return false;
-        }
-        
-        double y = destination.getY();
-        return y >= world.getMinHeight() && y <= world.getMaxHeight();
-    }
-}
\ No newline at end of file
+}
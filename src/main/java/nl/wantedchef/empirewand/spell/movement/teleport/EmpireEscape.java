@@ -6,6 +6,9 @@ import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
+import nl.wantedchef.empirewand.framework.service.world.TeleportService;
+import org.bukkit.FluidCollisionMode;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -15,8 +18,12 @@ import org.bukkit.potion.PotionEffectType;
 import org.bukkit.util.RayTraceResult;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 public class EmpireEscape extends Spell<Void> {
 
+    private static final int SAFE_SEARCH_RANGE = 3;
+
     public static class Builder extends Spell.Builder<Void> {
         public Builder(EmpireWandAPI api) {
             super(api);
@@ -54,19 +61,29 @@ public class EmpireEscape extends Spell<Void> {
         double maxRange = spellConfig.getDouble("values.max-range", 16.0);
         int speedDuration = spellConfig.getInt("values.speed-duration", 40);
 
-        RayTraceResult rayTrace = caster.getWorld().rayTraceBlocks(caster.getEyeLocation(),
-                caster.getEyeLocation().getDirection(), maxRange);
+        RayTraceResult rayTrace = SafeWorldView.of(caster.getWorld())
+                .rayTraceBlocks(caster, maxRange, FluidCollisionMode.NEVER);
         Location destination = (rayTrace != null && rayTrace.getHitPosition() != null)
                 ? rayTrace.getHitPosition().toLocation(caster.getWorld())
                         .subtract(caster.getEyeLocation().getDirection().multiply(0.5))
                 : caster.getLocation().add(caster.getEyeLocation().getDirection().multiply(6.0));
 
-        caster.teleport(findSafeLocation(destination));
-        caster.setFallDistance(0);
-        caster.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, speedDuration, 0, false, true));
+        // Prefer solid footing nearby, but an escape may also end in mid-air
+        TeleportService teleports = context.plugin().getTeleportService();
+        teleports.teleport(caster, destination, SAFE_SEARCH_RANGE)
+                .thenCompose(arrival -> arrival != null ? CompletableFuture.completedFuture(arrival)
+                        : teleports.teleport(caster, destination))
+                .thenAccept(arrival -> {
+                    if (arrival == null) {
+                        context.fx().fizzle(caster);
+                        return;
+                    }
+                    caster.setFallDistance(0);
+                    caster.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, speedDuration, 0, false, true));
 
-        context.fx().spawnParticles(caster.getLocation(), Particle.SMOKE, 20, 0.3, 0.3, 0.3, 0.1);
-        context.fx().playSound(caster.getLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.2f);
+                    context.fx().spawnParticles(arrival, Particle.SMOKE, 20, 0.3, 0.3, 0.3, 0.1);
+                    context.fx().playSound(arrival, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.2f);
+                });
         return null;
     }
 
@@ -74,14 +91,4 @@ public class EmpireEscape extends Spell<Void> {
     protected void handleEffect(@NotNull SpellContext context, @NotNull Void result) {
         // Instant effect.
     }
-
-    private Location findSafeLocation(Location location) {
-        for (int y = 0; y <= 3; y++) {
-            Location testLoc = location.clone().add(0, y, 0);
-            if (testLoc.getBlock().isEmpty() && testLoc.clone().add(0, 1, 0).getBlock().isEmpty()) {
-                return testLoc;
-            }
-        }
-        return location;
-    }
 }
@@ -1,6 +1,7 @@
 package nl.wantedchef.empirewand.spell.movement.teleport;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.framework.service.world.TeleportService;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -13,7 +14,7 @@ import org.bukkit.scheduler.BukkitRunnable;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -23,9 +24,16 @@ import java.util.UUID;
 public class Recall extends Spell<Player> {
 
     
-    private static final Map<UUID, Location> deathLocations = new HashMap<>();
     private static final int MAX_DEATH_LOCATIONS = 1000; // Limit to prevent memory leaks
 
+    // Kept across logouts so players can still recall to a death from an earlier session; oldest deaths go first
+    private static final Map<UUID, Location> deathLocations = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Location> eldest) {
+            return size() > MAX_DEATH_LOCATIONS;
+        }
+    };
+
     public static class Builder extends Spell.Builder<Player> {
         public Builder(EmpireWandAPI api) {
             super(api);
@@ -64,15 +72,8 @@ public class Recall extends Spell<Player> {
     }
     
     public static void recordDeath(Player player) {
-        // Clean up old entries if we exceed the limit to prevent memory leaks
-        if (deathLocations.size() >= MAX_DEATH_LOCATIONS) {
-            // Remove the first entry (oldest) to make room
-            var iterator = deathLocations.entrySet().iterator();
-            if (iterator.hasNext()) {
-                iterator.next();
-                iterator.remove();
-            }
-        }
+        // Re-insert so a repeated death counts as the newest entry
+        deathLocations.remove(player.getUniqueId());
         deathLocations.put(player.getUniqueId(), player.getLocation());
     }
 
@@ -95,6 +96,10 @@ public class Recall extends Spell<Player> {
             player.sendMessage("\u00A7e\u00A7lRecalling \u00A76to world spawn...");
         }
         
+        // Load the destination while channelling
+        TeleportService teleports = context.plugin().getTeleportService();
+        teleports.prefetch(recallLocation);
+        
         // Channel effect
         new BukkitRunnable() {
             int ticks = 0;
@@ -103,16 +108,19 @@ public class Recall extends Spell<Player> {
             @Override
             public void run() {
                 if (ticks >= castTime) {
-                    // Teleport player
-                    player.teleport(recallLocation);
-                    
-                    // Effects at destination
-                    recallLocation.getWorld().spawnParticle(Particle.PORTAL, 
-                        recallLocation, 50, 0.5, 1, 0.5, 0.1);
-                    context.fx().playSound(recallLocation, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
-                    
-                    player.sendMessage("\u00A7aRecall complete!");
                     cancel();
+                    teleports.teleport(player, recallLocation).thenAccept(arrival -> {
+                        if (arrival == null) {
+                            player.sendMessage("\u00A7cRecall failed!");
+                            return;
+                        }
+                        // Effects at destination
+                        arrival.getWorld().spawnParticle(Particle.PORTAL, 
+                            arrival, 50, 0.5, 1, 0.5, 0.1);
+                        context.fx().playSound(arrival, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
+                        
+                        player.sendMessage("\u00A7aRecall complete!");
+                    });
                     return;
                 }
                 
@@ -8,6 +8,7 @@ import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
 import nl.wantedchef.empirewand.common.visual.Afterimages;
 import nl.wantedchef.empirewand.common.visual.RingRenderer;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -19,6 +20,9 @@ import org.jetbrains.annotations.NotNull;
 
 public class Teleport extends Spell<Void> {
 
+    /** Blocks above or below the aimed spot searched for solid footing. */
+    private static final int SAFE_SEARCH_RANGE = 2;
+
     public static class Builder extends Spell.Builder<Void> {
         public Builder(EmpireWandAPI api) {
             super(api);
@@ -57,23 +61,26 @@ public class Teleport extends Spell<Void> {
         boolean requiresLineOfSight = spellConfig.getBoolean("flags.requires-los", true);
 
         Location targetLoc = getTargetLocation(player, range, requiresLineOfSight);
-        if (targetLoc == null || !isLocationSafe(targetLoc)) {
+        if (targetLoc == null) {
             context.fx().fizzle(player);
             return null;
         }
 
         Location from = player.getLocation().clone();
-        Afterimages.record(from);
-        context.fx().spawnParticles(from, Particle.PORTAL, 35, 0.5, 0.8, 0.5, 0.15);
-        context.fx().playSound(player, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
-
-        player.teleport(targetLoc);
+        context.plugin().getTeleportService().teleport(player, targetLoc, SAFE_SEARCH_RANGE).thenAccept(to -> {
+            if (to == null) {
+                context.fx().fizzle(player);
+                return;
+            }
+            Afterimages.record(from);
+            context.fx().spawnParticles(from, Particle.PORTAL, 35, 0.5, 0.8, 0.5, 0.15);
+            context.fx().playSound(from, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
 
-        Location to = targetLoc.clone();
-        Afterimages.record(to);
-        context.fx().spawnParticles(to, Particle.PORTAL, 45, 0.6, 1.0, 0.6, 0.2);
-        new RingVisual(to, 0.3, 0.35).runTaskTimer(context.plugin(), 0L, 2L);
-        context.fx().playSound(to, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
+            Afterimages.record(to);
+            context.fx().spawnParticles(to, Particle.PORTAL, 45, 0.6, 1.0, 0.6, 0.2);
+            new RingVisual(to, 0.3, 0.35).runTaskTimer(context.plugin(), 0L, 2L);
+            context.fx().playSound(to, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
+        });
 
         return null;
     }
@@ -84,26 +91,19 @@ public class Teleport extends Spell<Void> {
     }
 
     private Location getTargetLocation(Player player, double range, boolean requiresLineOfSight) {
+        SafeWorldView view = SafeWorldView.of(player.getWorld());
         BlockIterator iterator = new BlockIterator(player, (int) range);
-        Location targetLoc = null;
         while (iterator.hasNext()) {
             Block block = iterator.next();
-            if (block.getType().isSolid()) {
-                targetLoc = block.getLocation().add(0, 1, 0);
+            if (!view.isLoaded(block.getX(), block.getZ())) {
+                // The destination chunk is fetched asynchronously instead
                 break;
             }
+            if (block.getType().isSolid()) {
+                return block.getLocation().add(0, 1, 0);
+            }
         }
-        if (targetLoc == null) {
-            targetLoc = player.getEyeLocation().add(player.getEyeLocation().getDirection().multiply(range));
-        }
-        return targetLoc;
-    }
-
-    private boolean isLocationSafe(Location location) {
-        Block feetBlock = location.getBlock();
-        Block headBlock = location.clone().add(0, 1, 0).getBlock();
-        Block groundBlock = location.clone().add(0, -1, 0).getBlock();
-        return !feetBlock.getType().isSolid() && !headBlock.getType().isSolid() && groundBlock.getType().isSolid();
+        return player.getEyeLocation().add(player.getEyeLocation().getDirection().multiply(range));
     }
 
     private static class RingVisual extends BukkitRunnable {
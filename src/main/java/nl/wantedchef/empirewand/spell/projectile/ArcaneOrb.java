@@ -3,7 +3,6 @@ package nl.wantedchef.empirewand.spell.projectile;
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 
 import nl.wantedchef.empirewand.api.service.ConfigService;
-import nl.wantedchef.empirewand.core.storage.Keys;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.ProjectileSpell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -14,7 +13,6 @@ import org.bukkit.Sound;
 import org.bukkit.entity.Projectile;
 import org.bukkit.entity.Snowball;
 import org.bukkit.event.entity.ProjectileHitEvent;
-import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
@@ -62,10 +60,7 @@ public class ArcaneOrb extends ProjectileSpell<Snowball> {
 
         context.caster().launchProjectile(Snowball.class,
                 context.caster().getEyeLocation().getDirection().multiply(speed), projectile -> {
-                    projectile.getPersistentDataContainer().set(Keys.PROJECTILE_SPELL, PersistentDataType.STRING,
-                            key());
-                    projectile.getPersistentDataContainer().set(Keys.PROJECTILE_OWNER, PersistentDataType.STRING,
-                            context.caster().getUniqueId().toString());
+                    tagProjectile(context, projectile, context.caster());
                     new OrbVisuals(projectile, haloParticles, haloSpeedDeg)
                             .runTaskTimer(context.plugin(), 0L, 1L);
                 });
@@ -1,6 +1,8 @@
 package nl.wantedchef.empirewand.spell.swarns;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.framework.service.MinionBrainScheduler;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
@@ -14,10 +16,10 @@ import org.bukkit.Particle;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.World;
-import org.bukkit.entity.Entity;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Mob;
 import org.bukkit.entity.Player;
 import org.bukkit.Color;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -25,7 +27,7 @@ import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import nl.wantedchef.empirewand.api.service.ConfigService;
-import nl.wantedchef.empirewand.core.storage.Keys;
+import nl.wantedchef.empirewand.framework.service.SpellEntityRegistry;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
@@ -33,6 +35,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Random;
 import java.util.Objects;
+import java.util.logging.Level;
 
 /**
  * A powerful necromancy spell that summons a swarm of minions to fight for you.
@@ -66,6 +69,9 @@ import java.util.Objects;
  * @since 1.0.0
  */
 public class SummonSwarm extends Spell<Void> {
+    /** Radius in blocks within which minions look for enemies. */
+    private static final double SEARCH_RANGE = 16.0;
+
     protected enum Variant { VEX, SHADOW, STORM, FROST, FLAME, TOXIC, ARCANE, RADIANT, VOID, WIND, STONE }
 
     /**
@@ -158,16 +164,18 @@ public class SummonSwarm extends Spell<Void> {
         double minionHealth = SpellUtils.getConfigDouble(spellConfig, "values.minion-health", 10.0);
         double minionDamage = SpellUtils.getConfigDouble(spellConfig, "values.minion-damage", 4.0);
         Variant variant = getVariant(context);
+        boolean friendlyFire = EmpireWandAPI.getService(ConfigService.class)
+                .getMainConfig().getBoolean("features.friendly-fire", false);
 
         // Play summoning sound
         var world = player.getWorld();
         if (world != null) {
-            world.playSound(player.getLocation(), Sound.ENTITY_ILLUSIONER_CAST_SPELL, 2.0f, 0.8f);
+            context.fx().playSound(player.getLocation(), Sound.ENTITY_ILLUSIONER_CAST_SPELL, 2.0f, 0.8f);
         }
 
         // Start summoning effect
         BukkitRunnable summonTask = new SummonSwarmTask(this, context, player.getLocation(), minionCount, radius, durationTicks,
-                minionHealth, minionDamage, variant);
+                minionHealth, minionDamage, variant, friendlyFire);
         context.plugin().getTaskManager().runTaskTimer(summonTask, 0L, 5L);
         return null;
     }
@@ -206,6 +214,8 @@ public class SummonSwarm extends Spell<Void> {
         private final List<Vex> summonedMinions = new ArrayList<>();
         private final Random random = new Random();
         private final Variant variant;
+        private final boolean friendlyFire;
+        private final List<MinionBrainScheduler.Handle> brains = new ArrayList<>();
 
         /**
          * Creates a new SummonSwarmTask instance.
@@ -217,9 +227,10 @@ public class SummonSwarm extends Spell<Void> {
          * @param durationTicks the duration of the spell in ticks
          * @param minionHealth the health value for each summoned minion
          * @param minionDamage the damage value for each summoned minion
+         * @param friendlyFire whether minions may attack players, read once per cast
          */
         public SummonSwarmTask(@NotNull SummonSwarm owner, @NotNull SpellContext context, @NotNull Location center, int minionCount, double radius,
-                int durationTicks, double minionHealth, double minionDamage, Variant variant) {
+                int durationTicks, double minionHealth, double minionDamage, Variant variant, boolean friendlyFire) {
             this.owner = Objects.requireNonNull(owner, "Owner cannot be null");
             this.context = Objects.requireNonNull(context, "Context cannot be null");
             this.center = Objects.requireNonNull(center, "Center location cannot be null");
@@ -231,6 +242,7 @@ public class SummonSwarm extends Spell<Void> {
             this.world = center.getWorld();
             this.maxTicks = durationTicks / 5; // Convert to our tick interval
             this.variant = variant != null ? variant : Variant.VEX;
+            this.friendlyFire = friendlyFire;
         }
 
         /**
@@ -252,11 +264,18 @@ public class SummonSwarm extends Spell<Void> {
 
             // Summon minions at the beginning
             if (ticks == 0) {
-                summonMinions();
+                try {
+                    summonMinions();
+                } catch (RuntimeException e) {
+                    // Never retry the summon: a failure here would spawn another minion every run
+                    context.plugin().getLogger().log(Level.WARNING, "Summon swarm failed to spawn its minions", e);
+                    this.cancel();
+                    dismissMinions();
+                    return;
+                }
             }
 
-            // Update minion behavior
-            updateMinionBehavior();
+            // Minion behavior runs staggered on the shared MinionBrainScheduler
 
             // CRITICAL: Emergency caster protection - check every tick
             preventCasterTargeting();
@@ -280,6 +299,7 @@ public class SummonSwarm extends Spell<Void> {
          */
         private void summonMinions() {
             Player player = context.caster();
+            SafeWorldView view = SafeWorldView.of(world);
             
             for (int i = 0; i < minionCount; i++) {
                 // Calculate position in a circle around the player with some randomness
@@ -287,7 +307,11 @@ public class SummonSwarm extends Spell<Void> {
                 double randomRadius = radius + (random.nextDouble() - 0.5) * 2.0; // Vary radius slightly
                 double x = center.getX() + Math.cos(angle) * randomRadius;
                 double z = center.getZ() + Math.sin(angle) * randomRadius;
-                Location spawnLoc = new Location(world, x, world.getHighestBlockYAt((int)x, (int)z) + 1, z);
+                int ground = view.getHighestBlockYAt(Location.locToBlock(x), Location.locToBlock(z));
+                if (ground == SafeWorldView.UNLOADED) {
+                    continue;
+                }
+                Location spawnLoc = new Location(world, x, ground + 1, z);
                 
                 // Spawn vex minion (do NOT target player; we handle following via velocity)
                 Vex minion = world.spawn(spawnLoc, Vex.class, vex -> {
@@ -311,15 +335,15 @@ public class SummonSwarm extends Spell<Void> {
 
                     // Tag minion owner to enforce no friendly-fire on caster
                     try {
-                        vex.getPersistentDataContainer().set(
-                                Keys.createKey("minion.owner"),
-                                Keys.STRING_TYPE.getType(),
-                                player.getUniqueId().toString());
+                        context.plugin().getSpellEntityRegistry().tag(vex, owner.key(),
+                                player.getUniqueId(), SpellEntityRegistry.MINION);
                     } catch (Exception ignored) {
                     }
                 });
                 
                 summonedMinions.add(minion);
+                brains.add(context.plugin().getMinionBrainScheduler().register(minion, SEARCH_RANGE,
+                        new MinionBrain()));
                 
                 // Visual effect for summoning (variant themed)
                 switch (variant) {
@@ -343,157 +367,112 @@ public class SummonSwarm extends Spell<Void> {
             
             // Sound effect
             switch (variant) {
-                case STORM -> world.playSound(center, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 0.8f, 2.0f);
-                case FROST -> world.playSound(center, Sound.BLOCK_GLASS_PLACE, 1.2f, 0.6f);
-                case SHADOW -> world.playSound(center, Sound.ENTITY_VEX_CHARGE, 1.5f, 0.8f);
-                case FLAME -> world.playSound(center, Sound.ITEM_FIRECHARGE_USE, 0.9f, 1.1f);
-                case TOXIC -> world.playSound(center, Sound.BLOCK_BREWING_STAND_BREW, 0.7f, 1.2f);
-                case ARCANE -> world.playSound(center, Sound.BLOCK_ENCHANTMENT_TABLE_USE, 1.0f, 1.6f);
-                case RADIANT -> world.playSound(center, Sound.BLOCK_BEACON_ACTIVATE, 0.8f, 1.8f);
-                case VOID -> world.playSound(center, Sound.ENTITY_ENDERMAN_AMBIENT, 0.7f, 0.5f);
-                case WIND -> world.playSound(center, Sound.ENTITY_PHANTOM_FLAP, 0.6f, 1.6f);
-                case STONE -> world.playSound(center, Sound.BLOCK_STONE_PLACE, 1.0f, 0.8f);
-                default -> world.playSound(center, Sound.ENTITY_VEX_CHARGE, 1.5f, 1.2f);
+                case STORM -> context.fx().playSound(center, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 0.8f, 2.0f);
+                case FROST -> context.fx().playSound(center, Sound.BLOCK_GLASS_PLACE, 1.2f, 0.6f);
+                case SHADOW -> context.fx().playSound(center, Sound.ENTITY_VEX_CHARGE, 1.5f, 0.8f);
+                case FLAME -> context.fx().playSound(center, Sound.ITEM_FIRECHARGE_USE, 0.9f, 1.1f);
+                case TOXIC -> context.fx().playSound(center, Sound.BLOCK_BREWING_STAND_BREW, 0.7f, 1.2f);
+                case ARCANE -> context.fx().playSound(center, Sound.BLOCK_ENCHANTMENT_TABLE_USE, 1.0f, 1.6f);
+                case RADIANT -> context.fx().playSound(center, Sound.BLOCK_BEACON_ACTIVATE, 0.8f, 1.8f);
+                case VOID -> context.fx().playSound(center, Sound.ENTITY_ENDERMAN_AMBIENT, 0.7f, 0.5f);
+                case WIND -> context.fx().playSound(center, Sound.ENTITY_PHANTOM_FLAP, 0.6f, 1.6f);
+                case STONE -> context.fx().playSound(center, Sound.BLOCK_STONE_PLACE, 1.0f, 0.8f);
+                default -> context.fx().playSound(center, Sound.ENTITY_VEX_CHARGE, 1.5f, 1.2f);
             }
         }
 
         /**
-         * Updates the behavior of summoned minions.
+         * Think step of one summoned minion, run by the {@link MinionBrainScheduler}.
          * <p>
-         * This method makes minions follow the caster and attack nearby enemies,
-         * and creates periodic visual effects.
+         * Makes the minion attack the nearest enemy handed in by the scheduler, follow the
+         * caster and create periodic visual effects.
          */
-        private void updateMinionBehavior() {
-            Player player = context.caster();
-            Location playerLoc = player.getLocation();
-            
-            if (playerLoc == null) {
-                return;
-            }
-            
-            for (Vex minion : summonedMinions) {
-                if (minion.isValid() && !minion.isDead()) {
-                    // CRITICAL: Always check and prevent caster targeting first
-                    LivingEntity currentTarget = minion.getTarget();
-                    if (currentTarget != null && currentTarget.equals(context.caster())) {
-                        minion.setTarget(null); // Immediately clear if targeting caster
-                    }
+        private final class MinionBrain implements MinionBrainScheduler.Brain {
+            private int steps;
 
-                    // Determine nearest valid enemy (never the caster)
-                    LivingEntity target = findNearestEnemy(minion);
-                    if (target != null && target.isValid() && !target.isDead()) {
-                        // Double-check: never target the caster
-                        if (!target.equals(context.caster())) {
-                            minion.setTarget(target);
-                            // On-hit themed effects per variant
-                            switch (variant) {
-                                case FROST -> target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 20, 1, false, true));
-                                case FLAME -> target.setFireTicks(Math.max(0, target.getFireTicks()) + 40);
-                                case TOXIC -> target.addPotionEffect(new PotionEffect(PotionEffectType.POISON, 40, 0, false, true));
-                                case ARCANE -> target.addPotionEffect(new PotionEffect(PotionEffectType.WEAKNESS, 40, 1, false, true));
-                                case RADIANT -> target.addPotionEffect(new PotionEffect(PotionEffectType.GLOWING, 40, 0, false, true));
-                                case VOID -> target.addPotionEffect(new PotionEffect(PotionEffectType.BLINDNESS, 25, 0, false, true));
-                                case WIND -> {
-                                    var ml = minion.getLocation();
-                                    var tl = target.getLocation();
-                                    if (ml != null && tl != null) {
-                                        Vector kb = tl.toVector().subtract(ml.toVector()).normalize().multiply(0.4);
-                                        kb.setY(0.25);
-                                        target.setVelocity(target.getVelocity().add(kb));
-                                    }
-                                }
-                                case STONE -> {
-                                    target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 30, 0, false, true));
-                                    target.addPotionEffect(new PotionEffect(PotionEffectType.MINING_FATIGUE, 60, 1, false, true));
-                                }
-                                default -> {}
-                            }
-                        } else {
-                            // Target was caster, clear it
-                            minion.setTarget(null);
-                        }
-                    } else {
-                        // No target; ensure the minion isn't hostile toward the caster
-                        minion.setTarget(null);
-                    }
-                    
-                    var minionLoc = minion.getLocation();
-                    if (minionLoc != null) {
-                        Vector toPlayer = playerLoc.toVector().subtract(minionLoc.toVector());
-                        double d2 = toPlayer.lengthSquared();
-                        if (d2 > 1.0) {
-                            Vector direction = toPlayer.normalize();
-                            minion.setVelocity(direction.multiply(0.5));
-                        }
-                    }
-                    
-                    // Visual effect periodically by variant
-                    if (ticks % 20 == 0) {
-                        var effLoc = minion.getLocation();
-                        if (effLoc != null && world != null) {
-                            switch (variant) {
-                                case STORM -> world.spawnParticle(Particle.ELECTRIC_SPARK, effLoc.add(0, 1, 0), 6, 0.2, 0.2, 0.2, 0.02);
-                                case FROST -> world.spawnParticle(Particle.SNOWFLAKE, effLoc.add(0, 1, 0), 8, 0.25, 0.25, 0.25, 0.02);
-                                case SHADOW -> world.spawnParticle(Particle.SMOKE, effLoc.add(0, 1, 0), 4, 0.2, 0.2, 0.2, 0.02);
-                                default -> world.spawnParticle(Particle.ENCHANT, effLoc.add(0, 1, 0), 4, 0.2, 0.2, 0.2, 0.01);
-                            }
-                        }
-                    }
-                    owner.onMinionTick(minion, ticks, context);
+            @Override
+            public boolean canTarget(@NotNull LivingEntity candidate) {
+                if (candidate instanceof Vex) {
+                    return false;
+                }
+                // AGGRESSIVE CASTER PROTECTION: Multiple checks to prevent caster targeting
+                Player caster = context.caster();
+                if (candidate.equals(caster) || candidate.getUniqueId().equals(caster.getUniqueId())) {
+                    return false;
                 }
+                // Respect friendly-fire: skip players if disabled
+                return friendlyFire || !(candidate instanceof Player);
             }
 
-            // FINAL SAFETY CHECK: Ensure no minions are targeting caster at end of behavior update
-            preventCasterTargeting();
-        }
-
-        /**
-         * Finds the nearest enemy to a minion within search distance.
-         * <p>
-         * This method searches for valid living entities near a minion and returns
-         * the closest one that is not the caster or another minion.
-         *
-         * @param minion the vex minion to find enemies for
-         * @return the nearest enemy entity, or null if none found
-         */
-        private @Nullable LivingEntity findNearestEnemy(@NotNull Vex minion) {
-            Objects.requireNonNull(minion, "Minion cannot be null");
-
-            LivingEntity nearest = null;
-            double nearestDistance = 16.0 * 16.0; // squared
-            boolean friendlyFire = EmpireWandAPI.getService(ConfigService.class)
-                    .getMainConfig().getBoolean("features.friendly-fire", false);
-
-            Player caster = context.caster();
+            @Override
+            public void think(@NotNull Mob mob, @Nullable LivingEntity target) {
+                Vex minion = (Vex) mob;
+                int step = steps++;
+                Location playerLoc = context.caster().getLocation();
+                if (playerLoc == null) {
+                    return;
+                }
 
-            for (Entity entity : minion.getNearbyEntities(16, 16, 16)) {
-                if (entity instanceof LivingEntity && !(entity instanceof Vex) &&
-                    entity.isValid() && !entity.isDead()) {
+                // CRITICAL: Always check and prevent caster targeting first
+                LivingEntity currentTarget = minion.getTarget();
+                if (currentTarget != null && currentTarget.equals(context.caster())) {
+                    minion.setTarget(null); // Immediately clear if targeting caster
+                }
 
-                    // AGGRESSIVE CASTER PROTECTION: Multiple checks to prevent caster targeting
-                    if (entity.equals(caster) || entity.getUniqueId().equals(caster.getUniqueId())) {
-                        continue; // Skip caster completely
+                if (target != null) {
+                    minion.setTarget(target);
+                    // On-hit themed effects per variant
+                    switch (variant) {
+                        case FROST -> target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 20, 1, false, true));
+                        case FLAME -> target.setFireTicks(Math.max(0, target.getFireTicks()) + 40);
+                        case TOXIC -> target.addPotionEffect(new PotionEffect(PotionEffectType.POISON, 40, 0, false, true));
+                        case ARCANE -> target.addPotionEffect(new PotionEffect(PotionEffectType.WEAKNESS, 40, 1, false, true));
+                        case RADIANT -> target.addPotionEffect(new PotionEffect(PotionEffectType.GLOWING, 40, 0, false, true));
+                        case VOID -> target.addPotionEffect(new PotionEffect(PotionEffectType.BLINDNESS, 25, 0, false, true));
+                        case WIND -> {
+                            var ml = minion.getLocation();
+                            var tl = target.getLocation();
+                            if (ml != null && tl != null) {
+                                Vector kb = tl.toVector().subtract(ml.toVector()).normalize().multiply(0.4);
+                                kb.setY(0.25);
+                                target.setVelocity(target.getVelocity().add(kb));
+                            }
+                        }
+                        case STONE -> {
+                            target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 30, 0, false, true));
+                            target.addPotionEffect(new PotionEffect(PotionEffectType.MINING_FATIGUE, 60, 1, false, true));
+                        }
+                        default -> {}
                     }
+                } else {
+                    // No target; ensure the minion isn't hostile toward the caster
+                    minion.setTarget(null);
+                }
 
-                    // Respect friendly-fire: skip players if disabled
-                    if (!friendlyFire && entity instanceof Player) {
-                        continue;
+                var minionLoc = minion.getLocation();
+                if (minionLoc != null) {
+                    Vector toPlayer = playerLoc.toVector().subtract(minionLoc.toVector());
+                    double d2 = toPlayer.lengthSquared();
+                    if (d2 > 1.0) {
+                        Vector direction = toPlayer.normalize();
+                        minion.setVelocity(direction.multiply(0.5));
                     }
+                }
 
-                    var entityLocation = entity.getLocation();
-                    var minionLocation = minion.getLocation();
-
-                    if (entityLocation != null && minionLocation != null) {
-                        double d2 = entityLocation.toVector().distanceSquared(minionLocation.toVector());
-                        if (d2 < nearestDistance) {
-                            nearest = (LivingEntity) entity;
-                            nearestDistance = d2;
+                // Visual effect periodically by variant
+                if (step % 20 == 0) {
+                    var effLoc = minion.getLocation();
+                    if (effLoc != null && world != null) {
+                        switch (variant) {
+                            case STORM -> world.spawnParticle(Particle.ELECTRIC_SPARK, effLoc.add(0, 1, 0), 6, 0.2, 0.2, 0.2, 0.02);
+                            case FROST -> world.spawnParticle(Particle.SNOWFLAKE, effLoc.add(0, 1, 0), 8, 0.25, 0.25, 0.25, 0.02);
+                            case SHADOW -> world.spawnParticle(Particle.SMOKE, effLoc.add(0, 1, 0), 4, 0.2, 0.2, 0.2, 0.02);
+                            default -> world.spawnParticle(Particle.ENCHANT, effLoc.add(0, 1, 0), 4, 0.2, 0.2, 0.2, 0.01);
                         }
                     }
                 }
+                owner.onMinionTick(minion, step, context);
             }
-
-            return nearest;
         }
 
         /**
@@ -611,7 +590,7 @@ public class SummonSwarm extends Spell<Void> {
             }
             
             // Play warning sound
-            world.playSound(center, Sound.BLOCK_NOTE_BLOCK_PLING, 0.5f, 0.5f);
+            context.fx().playSound(center, Sound.BLOCK_NOTE_BLOCK_PLING, 0.5f, 0.5f);
         }
 
         /**
@@ -625,6 +604,11 @@ public class SummonSwarm extends Spell<Void> {
                 return;
             }
             
+            for (MinionBrainScheduler.Handle brain : brains) {
+                brain.cancel();
+            }
+            brains.clear();
+
             // Dismiss all minions with visual effects
             for (Vex minion : summonedMinions) {
                 if (minion.isValid() && !minion.isDead()) {
@@ -640,7 +624,7 @@ public class SummonSwarm extends Spell<Void> {
             }
             
             // Sound effect
-            world.playSound(center, Sound.ENTITY_EVOKER_CAST_SPELL, 1.5f, 1.2f);
+            context.fx().playSound(center, Sound.ENTITY_EVOKER_CAST_SPELL, 1.5f, 1.2f);
             
             summonedMinions.clear();
         }
@@ -1,6 +1,8 @@
 package nl.wantedchef.empirewand.spell.swarns;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.framework.service.MinionBrainScheduler;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import nl.wantedchef.empirewand.api.service.ConfigService;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
@@ -10,8 +12,8 @@ import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.World;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Mob;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Wolf;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -23,6 +25,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.logging.Level;
 
 public class SummonWolves extends Spell<Void> {
 
@@ -65,10 +68,12 @@ public class SummonWolves extends Spell<Void> {
         int count = spellConfig.getInt("values.count", 3);
         double radius = spellConfig.getDouble("values.radius", 5.0);
         int durationTicks = spellConfig.getInt("values.duration-ticks", 20 * 20); // 20s
+        boolean friendlyFire = EmpireWandAPI.getService(ConfigService.class)
+                .getMainConfig().getBoolean("features.friendly-fire", false);
 
         world.playSound(caster.getLocation(), Sound.ENTITY_WOLF_HOWL, 1.0f, 1.0f);
 
-        context.plugin().getTaskManager().runTaskTimer(new PackTask(context, count, radius, durationTicks), 0L, 5L);
+        context.plugin().getTaskManager().runTaskTimer(new PackTask(context, count, radius, durationTicks, friendlyFire), 0L, 5L);
         return null;
     }
 
@@ -82,14 +87,17 @@ public class SummonWolves extends Spell<Void> {
         private final int count;
         private final double radius;
         private final int maxSteps;
+        private final boolean friendlyFire;
         private final List<Wolf> wolves = new ArrayList<>();
+        private final List<MinionBrainScheduler.Handle> brains = new ArrayList<>();
         private int steps = 0;
 
-        PackTask(SpellContext context, int count, double radius, int durationTicks) {
+        PackTask(SpellContext context, int count, double radius, int durationTicks, boolean friendlyFire) {
             this.context = Objects.requireNonNull(context);
             this.count = count;
             this.radius = radius;
             this.maxSteps = Math.max(1, durationTicks / 5);
+            this.friendlyFire = friendlyFire;
         }
 
         @Override
@@ -97,10 +105,19 @@ public class SummonWolves extends Spell<Void> {
             World world = context.caster().getWorld();
             if (world == null) { cancel(); return; }
 
-            if (steps == 0) spawnWolves();
+            if (steps == 0) {
+                try {
+                    spawnWolves();
+                } catch (RuntimeException e) {
+                    // Never retry the spawn: a failure here would add wolves every run
+                    context.plugin().getLogger().log(Level.WARNING, "Summon wolves failed to spawn the pack", e);
+                    dismiss();
+                    cancel();
+                    return;
+                }
+            }
             if (steps >= maxSteps) { dismiss(); cancel(); return; }
 
-            updateBehavior();
             ringEffects();
             steps++;
         }
@@ -109,11 +126,16 @@ public class SummonWolves extends Spell<Void> {
             Player caster = context.caster();
             World world = caster.getWorld();
             Location c = caster.getLocation();
+            SafeWorldView view = SafeWorldView.of(world);
             for (int i = 0; i < count; i++) {
                 double angle = 2 * Math.PI * i / Math.max(1, count);
                 double x = c.getX() + Math.cos(angle) * radius;
                 double z = c.getZ() + Math.sin(angle) * radius;
-                Location spawn = new Location(world, x, world.getHighestBlockYAt((int) x, (int) z) + 1, z);
+                int ground = view.getHighestBlockYAt(Location.locToBlock(x), Location.locToBlock(z));
+                if (ground == SafeWorldView.UNLOADED) {
+                    continue;
+                }
+                Location spawn = new Location(world, x, ground + 1, z);
                 Wolf wolf = world.spawn(spawn, Wolf.class, w -> {
                     w.setOwner(caster);
                     w.setInvulnerable(false);
@@ -121,23 +143,28 @@ public class SummonWolves extends Spell<Void> {
                     w.setCollarColor(org.bukkit.DyeColor.BLUE);
                 });
                 wolves.add(wolf);
+                brains.add(context.plugin().getMinionBrainScheduler().register(wolf, 16.0, new WolfBrain()));
                 world.spawnParticle(Particle.HEART, spawn, 4, 0.3, 0.3, 0.3, 0.01);
             }
         }
 
-        private void updateBehavior() {
-            Player caster = context.caster();
-            boolean friendlyFire = EmpireWandAPI.getService(ConfigService.class)
-                    .getMainConfig().getBoolean("features.friendly-fire", false);
-            for (Wolf wolf : wolves) {
-                if (!wolf.isValid() || wolf.isDead()) continue;
-                LivingEntity target = nearestEnemy(wolf, friendlyFire);
+        private final class WolfBrain implements MinionBrainScheduler.Brain {
+            private int thoughts;
+
+            @Override
+            public boolean canTarget(@NotNull LivingEntity candidate) {
+                if (candidate.equals(context.caster())) return false;
+                return friendlyFire || !(candidate instanceof Player);
+            }
+
+            @Override
+            public void think(@NotNull Mob wolf, @Nullable LivingEntity target) {
                 if (target != null) {
                     wolf.setTarget(target);
                 } else {
                     // follow owner via small velocity nudge
                     Location wl = wolf.getLocation();
-                    Location cl = caster.getLocation();
+                    Location cl = context.caster().getLocation();
                     if (wl != null && cl != null) {
                         Vector dir = cl.toVector().subtract(wl.toVector());
                         if (dir.lengthSquared() > 4.0) { // only nudge if far
@@ -145,27 +172,13 @@ public class SummonWolves extends Spell<Void> {
                         }
                     }
                 }
-                if (steps % 8 == 0) {
+                if (thoughts++ % 8 == 0) {
                     World w = wolf.getWorld();
                     if (w != null) w.spawnParticle(Particle.ENCHANT, wolf.getLocation().add(0, 1, 0), 2, 0.2, 0.2, 0.2, 0.01);
                 }
             }
         }
 
-        private @Nullable LivingEntity nearestEnemy(Wolf source, boolean friendlyFire) {
-            LivingEntity best = null;
-            double dist = 16.0;
-            for (Entity e : source.getNearbyEntities(16, 16, 16)) {
-                if (!(e instanceof LivingEntity le)) continue;
-                if (le.equals(context.caster())) continue;
-                if (!friendlyFire && le instanceof Player) continue;
-                if (!le.isValid() || le.isDead()) continue;
-                double d = le.getLocation().distanceSquared(source.getLocation());
-                if (d < dist * dist) { best = le; dist = Math.sqrt(d); }
-            }
-            return best;
-        }
-
         private void ringEffects() {
             if (steps % 4 != 0) return;
             World world = context.caster().getWorld();
@@ -180,6 +193,8 @@ public class SummonWolves extends Spell<Void> {
         }
 
         private void dismiss() {
+            for (MinionBrainScheduler.Handle brain : brains) brain.cancel();
+            brains.clear();
             for (Wolf w : wolves) {
                 if (w.isValid()) {
                     World world = w.getWorld();
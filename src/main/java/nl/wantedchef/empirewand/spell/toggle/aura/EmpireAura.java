@@ -2,6 +2,7 @@ package nl.wantedchef.empirewand.spell.toggle.aura;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.api.spell.toggle.ToggleableSpell;
+import nl.wantedchef.empirewand.framework.service.PlayerSpellSession;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -21,10 +22,7 @@ import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
-import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.WeakHashMap;
 
 /**
  * EmpireAura – Configurable toggleable aura granting strength & resistance with
@@ -40,7 +38,8 @@ public final class EmpireAura extends Spell<Void> implements ToggleableSpell {
     /* ---------------------------------------- */
  /* DATA */
  /* ---------------------------------------- */
-    private final Map<UUID, AuraData> auras = new WeakHashMap<>();
+    private final PlayerSpellSession.Slot<AuraData> auras = PlayerSpellSession.global()
+            .slot("empire-aura", PlayerSpellSession.Scope.WORLD, AuraData::stop);
 
     /* ---------------------------------------- */
  /* BUILDER */
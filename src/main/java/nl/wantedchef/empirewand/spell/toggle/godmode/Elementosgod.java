@@ -1,10 +1,7 @@
 package nl.wantedchef.empirewand.spell.toggle.godmode;
 
 import java.time.Duration;
-import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.WeakHashMap;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -23,7 +20,10 @@ import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import nl.wantedchef.empirewand.EmpireWandPlugin;
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.framework.service.PlayerEffectState;
+import nl.wantedchef.empirewand.framework.service.PlayerSpellSession;
 import nl.wantedchef.empirewand.api.spell.toggle.ToggleableSpell;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
@@ -45,8 +45,10 @@ public final class Elementosgod extends Spell<Void> implements ToggleableSpell {
     private static final String ACTIVE_KEY = "elementosgod_active";
     private static final String REFLECT_META = "elementosgod_reflect";
 
-    private final Map<UUID, HaloData> halos = new WeakHashMap<>();
-    private final Map<UUID, Long> lastToggle = new WeakHashMap<>();
+    private final PlayerSpellSession.Slot<HaloData> halos = PlayerSpellSession.global()
+            .slot("elementosgod", PlayerSpellSession.Scope.WORLD, HaloData::stop);
+    private final PlayerSpellSession.Slot<Long> lastToggle = PlayerSpellSession.global()
+            .slot("elementosgod-last-toggle", PlayerSpellSession.Scope.SESSION);
 
     /**
      * Builder for creating {@link Elementosgod} instances.
@@ -125,6 +127,10 @@ public final class Elementosgod extends Spell<Void> implements ToggleableSpell {
         double healFactor = cfgDouble("effects.heal-factor", 0.5);
         double reflectMultiplier = cfgDouble("effects.reflect-damage", 1.0);
         player.setMetadata(ACTIVE_KEY, new FixedMetadataValue(context.plugin(), new GodData(healFactor, reflectMultiplier)));
+        PlayerEffectState effects = context.plugin().getPlayerEffectState();
+        if (effects != null) {
+            effects.activate(player, PlayerEffectState.Effect.ELEMENTOSGOD);
+        }
 
         if (cfgBool("particles.show-halo", true)) {
             halos.put(player.getUniqueId(), new HaloData(player, context));
@@ -151,6 +157,9 @@ public final class Elementosgod extends Spell<Void> implements ToggleableSpell {
     private void doDeactivate(@NotNull Player player, @Nullable SpellContext context) {
         var plugin = context != null ? context.plugin() : JavaPlugin.getProvidingPlugin(Elementosgod.class);
         player.removeMetadata(ACTIVE_KEY, plugin);
+        if (plugin instanceof EmpireWandPlugin ewPlugin && ewPlugin.getPlayerEffectState() != null) {
+            ewPlugin.getPlayerEffectState().deactivate(player, PlayerEffectState.Effect.ELEMENTOSGOD);
+        }
         Optional.ofNullable(halos.remove(player.getUniqueId())).ifPresent(HaloData::stop);
         Location loc = player.getLocation();
         if (loc != null) {
@@ -1,10 +1,7 @@
 package nl.wantedchef.empirewand.spell.toggle.movement;
 
 import java.time.Duration;
-import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.WeakHashMap;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
@@ -25,6 +22,7 @@ import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.api.spell.toggle.ToggleableSpell;
+import nl.wantedchef.empirewand.framework.service.PlayerSpellSession;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -50,7 +48,8 @@ public final class AngelWings extends Spell<Void> implements ToggleableSpell {
     /* ---------------------------------------- */
     /* DATA */
     /* ---------------------------------------- */
-    private final Map<UUID, WingData> wings = new WeakHashMap<>();
+    private final PlayerSpellSession.Slot<WingData> wings = PlayerSpellSession.global()
+            .slot("angel-wings", PlayerSpellSession.Scope.WORLD, WingData::stop);
 
     /* ---------------------------------------- */
     /* BUILDER */
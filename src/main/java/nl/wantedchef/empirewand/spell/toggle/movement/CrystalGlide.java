@@ -1,11 +1,8 @@
 package nl.wantedchef.empirewand.spell.toggle.movement;
 
 import java.time.Duration;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.WeakHashMap;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
@@ -27,10 +24,12 @@ import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.api.spell.toggle.ToggleableSpell;
+import nl.wantedchef.empirewand.framework.service.PlayerSpellSession;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 
 /**
  * CrystalGlide 1.0 - Revolutionary ice skating movement spell with crystalline frost mechanics.
@@ -52,7 +51,8 @@ public final class CrystalGlide extends Spell<Void> implements ToggleableSpell {
     /* ---------------------------------------- */
     /* DATA */
     /* ---------------------------------------- */
-    private final Map<UUID, CrystalGliderData> crystalGliders = new WeakHashMap<>();
+    private final PlayerSpellSession.Slot<CrystalGliderData> crystalGliders = PlayerSpellSession.global()
+            .slot("crystal-glide", PlayerSpellSession.Scope.WORLD, CrystalGliderData::stop);
 
     /* ---------------------------------------- */
     /* BUILDER */
@@ -398,6 +398,10 @@ public final class CrystalGlide extends Spell<Void> implements ToggleableSpell {
         }
         
         private boolean isSafeLocation(Location loc) {
+            // Gliding into unloaded terrain stops at the border instead of loading it
+            if (!SafeWorldView.of(player.getWorld()).isLoaded(loc)) {
+                return false;
+            }
             Block block = loc.getBlock();
             Block above = loc.clone().add(0, 1, 0).getBlock();
             Block below = loc.clone().add(0, -1, 0).getBlock();
@@ -1,10 +1,7 @@
 package nl.wantedchef.empirewand.spell.toggle.movement;
 
 import java.time.Duration;
-import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.WeakHashMap;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
@@ -23,6 +20,7 @@ import org.jetbrains.annotations.Nullable;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.api.spell.toggle.ToggleableSpell;
+import nl.wantedchef.empirewand.framework.service.PlayerSpellSession;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -42,7 +40,8 @@ public final class DragonFury extends Spell<Void> implements ToggleableSpell {
     /* ---------------------------------------- */
     /* DATA */
     /* ---------------------------------------- */
-    private final Map<UUID, DragonRiderData> dragonRiders = new WeakHashMap<>();
+    private final PlayerSpellSession.Slot<DragonRiderData> dragonRiders = PlayerSpellSession.global()
+            .slot("dragon-fury", PlayerSpellSession.Scope.WORLD, DragonRiderData::stop);
     // Removed unused config toggles; keep the spell minimal and predictable
 
     /* ---------------------------------------- */
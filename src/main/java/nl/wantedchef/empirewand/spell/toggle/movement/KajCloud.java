@@ -1,9 +1,6 @@
 package nl.wantedchef.empirewand.spell.toggle.movement;
 
 import java.time.Duration;
-import java.util.Map;
-import java.util.UUID;
-import java.util.WeakHashMap;
 
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
@@ -17,6 +14,7 @@ import org.jetbrains.annotations.NotNull;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.api.spell.toggle.ToggleableSpell;
+import nl.wantedchef.empirewand.framework.service.PlayerSpellSession;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -28,7 +26,8 @@ import nl.wantedchef.empirewand.spell.SpellType;
  */
 public final class KajCloud extends Spell<Void> implements ToggleableSpell {
 
-    private final Map<UUID, CloudData> clouds = new WeakHashMap<>();
+    private final PlayerSpellSession.Slot<CloudData> clouds = PlayerSpellSession.global()
+            .slot("kaj-cloud", PlayerSpellSession.Scope.WORLD, CloudData::stop);
 
     public static class Builder extends Spell.Builder<Void> {
         public Builder(EmpireWandAPI api) {
@@ -1,10 +1,7 @@
 package nl.wantedchef.empirewand.spell.toggle.movement;
 
 import java.time.Duration;
-import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.WeakHashMap;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
@@ -21,6 +18,7 @@ import org.jetbrains.annotations.NotNull;
 import net.kyori.adventure.text.Component;
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.api.spell.toggle.ToggleableSpell;
+import nl.wantedchef.empirewand.framework.service.PlayerSpellSession;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -40,7 +38,8 @@ public final class MephiCloud extends Spell<Void> implements ToggleableSpell {
     /* ---------------------------------------- */
     /* DATA */
     /* ---------------------------------------- */
-    private final Map<UUID, CloudData> clouds = new WeakHashMap<>();
+    private final PlayerSpellSession.Slot<CloudData> clouds = PlayerSpellSession.global()
+            .slot("mephi-cloud", PlayerSpellSession.Scope.WORLD, CloudData::stop);
 
     /* ---------------------------------------- */
     /* BUILDER */
@@ -1,10 +1,7 @@
 package nl.wantedchef.empirewand.spell.toggle.movement;
 
 import java.time.Duration;
-import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.WeakHashMap;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
@@ -24,6 +21,7 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.api.spell.toggle.ToggleableSpell;
+import nl.wantedchef.empirewand.framework.service.PlayerSpellSession;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -41,7 +39,8 @@ import nl.wantedchef.empirewand.spell.SpellType;
  */
 public final class PhoenixCloak extends Spell<Void> implements ToggleableSpell {
 
-    private final Map<UUID, PhoenixData> phoenixes = new WeakHashMap<>();
+    private final PlayerSpellSession.Slot<PhoenixData> phoenixes = PlayerSpellSession.global()
+            .slot("phoenix-cloak", PlayerSpellSession.Scope.WORLD, PhoenixData::stop);
 
     public static class Builder extends Spell.Builder<Void> {
         public Builder(EmpireWandAPI api) {
@@ -1,10 +1,7 @@
 package nl.wantedchef.empirewand.spell.toggle.movement;
 
 import java.time.Duration;
-import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.WeakHashMap;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
@@ -24,6 +21,9 @@ import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.api.spell.toggle.ToggleableSpell;
+import nl.wantedchef.empirewand.framework.service.PlayerSpellSession;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
+import nl.wantedchef.empirewand.framework.service.world.TeleportService;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -47,7 +47,8 @@ public final class ShadowCloak extends Spell<Void> implements ToggleableSpell {
     /* ---------------------------------------- */
     /* DATA */
     /* ---------------------------------------- */
-    private final Map<UUID, CloakData> cloaks = new WeakHashMap<>();
+    private final PlayerSpellSession.Slot<CloakData> cloaks = PlayerSpellSession.global()
+            .slot("shadow-cloak", PlayerSpellSession.Scope.WORLD, CloakData::stop);
 
     /* ---------------------------------------- */
     /* BUILDER */
@@ -135,9 +136,11 @@ public final class ShadowCloak extends Spell<Void> implements ToggleableSpell {
         private final BukkitTask ticker;
         private double energy = 100;
         private long lastShadowStep = 0;
+        private final TeleportService teleports;
 
         CloakData(Player player, SpellContext context) {
             this.player = player;
+            this.teleports = context.plugin().getTeleportService();
             player.showBossBar(energyBar);
             playSound(cfgString("shadow-step.sound", "ENTITY_ENDERMAN_TELEPORT"),
                     cfgFloat("shadow-step.volume", 0.6f), cfgFloat("shadow-step.pitch", 0.9f));
@@ -207,15 +210,21 @@ public final class ShadowCloak extends Spell<Void> implements ToggleableSpell {
             Vector dir = player.getLocation().getDirection();
             Location target = player.getLocation()
                     .add(dir.multiply(cfgDouble("shadow-step.max-distance", 6)));
-            if (!target.getBlock().isPassable()
+            // Stepping towards unloaded terrain is skipped rather than loading it
+            if (!SafeWorldView.of(player.getWorld()).isLoaded(target)
+                    || !target.getBlock().isPassable()
                     || !target.clone().add(0, 1, 0).getBlock().isPassable())
                 return;
 
             lastShadowStep = System.currentTimeMillis();
-            spawnParticles(cfgString("particles.shadow-step", "PORTAL"), player.getLocation(), 25);
-            player.teleport(target, TeleportFlag.EntityState.RETAIN_PASSENGERS);
-            playSound(cfgString("shadow-step.sound", "ENTITY_ENDERMAN_TELEPORT"),
-                    cfgFloat("shadow-step.volume", 0.6f), cfgFloat("shadow-step.pitch", 1.3f));
+            Location from = player.getLocation();
+            teleports.teleport(player, target, TeleportFlag.EntityState.RETAIN_PASSENGERS).thenAccept(arrival -> {
+                if (arrival == null)
+                    return;
+                spawnParticles(cfgString("particles.shadow-step", "PORTAL"), from, 25);
+                playSound(cfgString("shadow-step.sound", "ENTITY_ENDERMAN_TELEPORT"),
+                        cfgFloat("shadow-step.volume", 0.6f), cfgFloat("shadow-step.pitch", 1.3f));
+            });
         }
 
         private void darknessAura() {
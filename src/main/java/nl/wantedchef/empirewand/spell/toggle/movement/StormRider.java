@@ -2,11 +2,9 @@ package nl.wantedchef.empirewand.spell.toggle.movement;
 
 import java.time.Duration;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.WeakHashMap;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
@@ -26,6 +24,7 @@ import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.api.spell.toggle.ToggleableSpell;
+import nl.wantedchef.empirewand.framework.service.PlayerSpellSession;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -44,7 +43,8 @@ import nl.wantedchef.empirewand.spell.SpellType;
  */
 public final class StormRider extends Spell<Void> implements ToggleableSpell {
 
-    private final Map<UUID, StormAuraData> stormAuras = new WeakHashMap<>();
+    private final PlayerSpellSession.Slot<StormAuraData> stormAuras = PlayerSpellSession.global()
+            .slot("storm-rider", PlayerSpellSession.Scope.WORLD, StormAuraData::stop);
 
     public static class Builder extends Spell.Builder<Void> {
         public Builder(EmpireWandAPI api) {
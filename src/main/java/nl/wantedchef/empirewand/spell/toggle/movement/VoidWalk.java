@@ -1,10 +1,7 @@
 package nl.wantedchef.empirewand.spell.toggle.movement;
 
 import java.time.Duration;
-import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.WeakHashMap;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
@@ -25,6 +22,9 @@ import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.api.spell.toggle.ToggleableSpell;
+import nl.wantedchef.empirewand.framework.service.PlayerSpellSession;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
+import nl.wantedchef.empirewand.framework.service.world.TeleportService;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -53,7 +53,8 @@ public final class VoidWalk extends Spell<Void> implements ToggleableSpell {
     /* ---------------------------------------- */
     /* DATA */
     /* ---------------------------------------- */
-    private final Map<UUID, VoidWalkerData> voidWalkers = new WeakHashMap<>();
+    private final PlayerSpellSession.Slot<VoidWalkerData> voidWalkers = PlayerSpellSession.global()
+            .slot("void-walk", PlayerSpellSession.Scope.WORLD, VoidWalkerData::stop);
 
     /* ---------------------------------------- */
     /* BUILDER */
@@ -151,6 +152,7 @@ public final class VoidWalk extends Spell<Void> implements ToggleableSpell {
         private int teleportations = 0;
         private int phaseCooldown = 0;
         private Location lastStableLocation;
+        private final TeleportService teleports;
 
         // Void states for quantum mechanics
         private enum VoidState {
@@ -163,6 +165,7 @@ public final class VoidWalk extends Spell<Void> implements ToggleableSpell {
         VoidWalkerData(Player player, SpellContext context) {
             this.player = player;
             this.lastStableLocation = player.getLocation().clone();
+            this.teleports = context.plugin().getTeleportService();
             
             player.showBossBar(voidEnergyBar);
             
@@ -340,9 +343,13 @@ public final class VoidWalk extends Spell<Void> implements ToggleableSpell {
             Vector direction = eyeLoc.getDirection();
             double maxDistance = cfgDouble("teleport.max-distance", 15.0);
             
-            // Raycast through void for teleport target
+            // Raycast through void for teleport target, never past loaded terrain
+            SafeWorldView view = SafeWorldView.of(player.getWorld());
             for (double distance = 2.0; distance <= maxDistance; distance += 0.5) {
                 Location checkLoc = eyeLoc.clone().add(direction.clone().multiply(distance));
+                if (!view.isLoaded(checkLoc)) {
+                    break;
+                }
                 Block block = checkLoc.getBlock();
                 
                 // Find safe landing spot
@@ -385,25 +392,28 @@ public final class VoidWalk extends Spell<Void> implements ToggleableSpell {
             double energyCost = isEmergency ? 0 : cfgDouble("teleport.energy-cost", 15);
             voidEnergy -= energyCost;
             
-            // Teleport with void effects
-            player.teleport(target);
-            teleportations++;
+            // Cooldown starts right away so the next tick does not queue a second jump
             phaseCooldown = cfgInt("teleport.cooldown-ticks", 30);
-            
-            if (!isEmergency) {
-                lastStableLocation = target.clone();
-            }
-            
-            // Post-teleport effects
-            spawnVoidEmergence(target);
-            
-            // Teleport sounds
-            player.playSound(target, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.2f);
-            player.playSound(target, Sound.BLOCK_END_PORTAL_FRAME_FILL, 0.8f, 0.6f);
-            
-            if (!isEmergency) {
-                player.sendMessage(Component.text("\u00A75⚫ \u00A7dVoid tunneling successful! \u00A75⚫"));
-            }
+            teleports.teleport(player, target).thenAccept(arrival -> {
+                if (arrival == null) {
+                    return;
+                }
+                teleportations++;
+                if (!isEmergency) {
+                    lastStableLocation = arrival.clone();
+                }
+                
+                // Post-teleport effects
+                spawnVoidEmergence(arrival);
+                
+                // Teleport sounds
+                player.playSound(arrival, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.2f);
+                player.playSound(arrival, Sound.BLOCK_END_PORTAL_FRAME_FILL, 0.8f, 0.6f);
+                
+                if (!isEmergency) {
+                    player.sendMessage(Component.text("\u00A75⚫ \u00A7dVoid tunneling successful! \u00A75⚫"));
+                }
+            });
         }
         
         private void generateVoidPortals(Location center) {
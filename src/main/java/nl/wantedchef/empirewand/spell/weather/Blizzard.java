@@ -3,9 +3,7 @@ package nl.wantedchef.empirewand.spell.weather;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
@@ -18,7 +16,6 @@ import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.World;
 import org.bukkit.block.Block;
-import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffect;
@@ -30,6 +27,8 @@ import org.jetbrains.annotations.Nullable;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.core.config.ReadableConfig;
+import nl.wantedchef.empirewand.framework.service.world.BlockPlan;
+import nl.wantedchef.empirewand.framework.service.world.SurfaceCache;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -241,7 +240,9 @@ public class Blizzard extends Spell<Void> {
         private Collection<LivingEntity> cachedEntities = new ArrayList<>();
         private long lastEntityCacheTime = 0;
         private final Set<Location> iceBlocks = new HashSet<>();
-        private final Map<Block, BlockData> originalBlocks = new HashMap<>();
+        private BlockPlan icePlan;
+        private boolean icePlanRequested;
+        private int grownRounds;
         private int ticks = 0;
         private boolean hasPlayedWindCrescendo = false;
 
@@ -268,7 +269,8 @@ public class Blizzard extends Spell<Void> {
 
         @Override
         public void run() {
-            if (world == null || !world.isChunkLoaded(center.getChunk())) {
+            // center.getChunk() would load the chunk it asks about
+            if (world == null || !world.isChunkLoaded(center.getBlockX() >> 4, center.getBlockZ() >> 4)) {
                 cancel();
                 return;
             }
@@ -323,15 +325,11 @@ public class Blizzard extends Spell<Void> {
         private void createBlizzardEffects() {
             if (world == null) return;
 
-            // Base snowstorm
-            for (int i = 0; i < particleDensity; i++) {
-                double angle = random.nextDouble() * Math.PI * 2;
-                double distance = random.nextDouble() * radius;
-                double x = center.getX() + Math.cos(angle) * distance;
-                double z = center.getZ() + Math.sin(angle) * distance;
-                double y = center.getY() + random.nextDouble() * 12 - 6; // Vertical spread
-
-                Location loc = new Location(world, x, y, z);
+            // Base snowstorm, falling over the terrain rather than around the caster's height
+            SurfaceCache.Sample columns = context.plugin().getSurfaceCache()
+                    .sampleDisc(world, center.getX(), center.getZ(), radius, particleDensity, random);
+            for (int i = 0; i < columns.size(); i++) {
+                Location loc = columns.location(world, i, 1.0 + random.nextDouble() * 12); // Vertical spread
 
                 // Layer 1: Snowflakes
                 world.spawnParticle(Particle.SNOWFLAKE, loc, 1, 0, 0, 0, 0.01);
@@ -402,56 +400,82 @@ public class Blizzard extends Spell<Void> {
         /**
          * Creates stunning, crystalline ice structures — not just flat blocks.
          * Ice grows upward like frozen spikes or columns.
+         * <p>
+         * Every growth round of the blizzard is planned once, off-thread, from chunk snapshots
+         * taken on the first tick; each call then only places the ice of the current round.
          */
         private void createIceCrystals() {
             if (world == null || !createIce) return;
 
-            for (int i = 0; i < iceGrowthAttempts; i++) {
-                double angle = random.nextDouble() * Math.PI * 2;
-                double distance = random.nextDouble() * (radius - 5);
-                double x = center.getX() + Math.cos(angle) * distance;
-                double z = center.getZ() + Math.sin(angle) * distance;
-
-                // Find ground level
-                Location groundLoc = new Location(world, x, center.getY(), z);
-                int groundY = world.getHighestBlockYAt(groundLoc);
-
-                // Only grow ice where there's solid ground
-                Block baseBlock = world.getBlockAt((int)x, groundY, (int)z);
-                Material baseType = baseBlock.getType();
-
-                if (!baseType.isSolid() || baseType.isAir() || baseType == Material.BEDROCK) continue;
-
-                // Skip if already ice
-                if (baseType == Material.ICE || baseType == Material.PACKED_ICE || baseType == Material.BLUE_ICE) continue;
-
-                // Transform into ice over multiple layers
-                int height = 1 + random.nextInt(3); // 1-4 blocks tall
-                for (int h = 0; h < height; h++) {
-                    Location loc = new Location(world, x, groundY + h, z);
-                    Block block = loc.getBlock();
-
-                    if (block.getType().isAir() || block.getType() == Material.ICE || block.getType() == Material.PACKED_ICE) {
-                        // Store original if first layer
-                        if (h == 0 && !originalBlocks.containsKey(block)) {
-                            originalBlocks.put(block, block.getBlockData());
-                        }
-
-                        // Transform to ice
-                        block.setType(Material.ICE);
+            if (!icePlanRequested) {
+                icePlanRequested = true;
+                planIceCrystals();
+            }
+            if (icePlan == null) return;
 
-                        // Add to tracked set
-                        iceBlocks.add(loc);
+            int round = ticks / 2;
+            while (grownRounds <= round) {
+                growIceRound(grownRounds++);
+            }
+        }
 
-                        // Particle effect: ice growing
-                        if (h == 0) {
-                            world.spawnParticle(Particle.BLOCK, loc.add(0.5, 0.5, 0.5), 8, 0.1, 0.1, 0.1, 0.01, Material.ICE.createBlockData());
-                        } else {
-                            world.spawnParticle(Particle.SNOWFLAKE, loc.add(0.5, 0.5, 0.5), 3, 0, 0, 0, 0);
+        private void planIceCrystals() {
+            int rounds = (durationTicks + 1) / 2;
+            double centerX = center.getX();
+            double centerZ = center.getZ();
+            context.plugin().getBlockPlanService().plan(center, (int) Math.ceil(radius), (view, plan) -> {
+                Random rng = ThreadLocalRandom.current();
+                for (int round = 0; round < rounds; round++) {
+                    for (int i = 0; i < iceGrowthAttempts; i++) {
+                        double angle = rng.nextDouble() * Math.PI * 2;
+                        double distance = rng.nextDouble() * (radius - 5);
+                        int x = (int) Math.floor(centerX + Math.cos(angle) * distance);
+                        int z = (int) Math.floor(centerZ + Math.sin(angle) * distance);
+
+                        // Find ground level
+                        int groundY = view.getHighestY(x, z);
+
+                        // Only grow ice where there's solid ground
+                        Material baseType = view.getType(x, groundY, z);
+                        if (!baseType.isSolid() || baseType.isAir() || baseType == Material.BEDROCK) continue;
+
+                        // Skip if already ice
+                        if (baseType == Material.ICE || baseType == Material.PACKED_ICE || baseType == Material.BLUE_ICE) continue;
+
+                        // Transform into ice over multiple layers
+                        int height = 1 + rng.nextInt(3); // 1-4 blocks tall
+                        for (int h = 0; h < height; h++) {
+                            Material type = view.getType(x, groundY + h, z);
+                            if (type.isAir() || type == Material.ICE || type == Material.PACKED_ICE) {
+                                plan.set(x, groundY + h, z, Material.ICE);
+                                plan.mark(round, x, groundY + h, z);
+                            }
                         }
                     }
                 }
-            }
+            }).thenAccept(plan -> icePlan = plan);
+        }
+
+        private void growIceRound(int round) {
+            icePlan.forEachMarker(round, (x, y, z) -> {
+                if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+                    return;
+                }
+                // The snapshot predates this round; never overwrite blocks placed since
+                Block block = world.getBlockAt(x, y, z);
+                Material type = block.getType();
+                if (type.isAir() || type == Material.ICE || type == Material.PACKED_ICE) {
+                    // Transform to ice
+                    block.setType(Material.ICE);
+
+                    // Add to tracked set
+                    Location loc = block.getLocation();
+                    iceBlocks.add(loc);
+
+                    // Particle effect: ice growing
+                    world.spawnParticle(Particle.SNOWFLAKE, loc.add(0.5, 0.5, 0.5), 3, 0, 0, 0, 0);
+                }
+            });
         }
 
         /**
@@ -520,21 +544,7 @@ public class Blizzard extends Spell<Void> {
             for (Location loc : iceBlocks) {
                 Block block = world.getBlockAt(loc);
                 if (block.getType() == Material.ICE || block.getType() == Material.PACKED_ICE) {
-                    BlockData original = originalBlocks.get(block);
-                    if (original != null) {
-                        // Before replacing, spawn ice shard explosion
-                        for (int i = 0; i < 15; i++) {
-                            double offsetX = random.nextDouble() * 0.8 - 0.4;
-                            double offsetY = random.nextDouble() * 0.8 - 0.4;
-                            double offsetZ = random.nextDouble() * 0.8 - 0.4;
-                            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-                            world.spawnParticle(Particle.CRIT, particleLoc, 1, 0, 0, 0, 0.01);
-                            world.spawnParticle(Particle.SNOWFLAKE, particleLoc, 1, 0, 0, 0, 0.01);
-                        }
-                        block.setBlockData(original);
-                    } else {
-                        block.setType(Material.AIR);
-                    }
+                    block.setType(Material.AIR);
                 }
             }
 
@@ -6,6 +6,7 @@ import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
+import nl.wantedchef.empirewand.framework.service.world.SurfaceCache;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
@@ -163,7 +164,8 @@ public class Gust extends Spell<Void> {
         context.fx().spawnParticles(location, Particle.CRIT, particleCount / 3, 0.2, 0.2, 0.2, 0.15);
 
         // Add some dust particles for ground impacts
-        if (location.getY() - location.getWorld().getHighestBlockYAt(location) < 3) {
+        int ground = context.plugin().getSurfaceCache().getHighestBlockYAt(location);
+        if (ground != SurfaceCache.UNLOADED && location.getY() - ground < 3) {
             context.fx().spawnParticles(location.clone().add(0, -0.5, 0),
                 Particle.BLOCK, (int) (8 * intensity), 0.5, 0.1, 0.5, 0.1,
                 Material.DIRT.createBlockData());
@@ -5,6 +5,7 @@ import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
+import nl.wantedchef.empirewand.framework.service.world.SurfaceCache;
 import org.bukkit.Color;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -284,6 +285,7 @@ public class HailStorm extends Spell<Void> {
                 }
 
                 Player player = context.caster();
+                SurfaceCache surface = context.plugin().getSurfaceCache();
                 Iterator<Hailstone> iterator = hailstones.iterator();
 
                 while (iterator.hasNext()) {
@@ -303,9 +305,12 @@ public class HailStorm extends Spell<Void> {
                     // Create falling particle trail
                     createHailstoneTrail(context, hail);
 
-                    // Check for impact with ground or entities
-                    if (hail.location.getY() <= hail.location.getWorld().getHighestBlockYAt(hail.location) + 1) {
-                        handleHailstoneImpact(context, hail, player);
+                    // Check for impact with ground or entities; hail drifting over unloaded terrain melts
+                    int ground = surface.getHighestBlockYAt(hail.location);
+                    if (ground == SurfaceCache.UNLOADED) {
+                        hail.hasImpacted = true;
+                    } else if (hail.location.getY() <= ground + 1) {
+                        handleHailstoneImpact(context, hail, player, ground);
                         hail.hasImpacted = true;
                     }
                 }
@@ -347,12 +352,12 @@ public class HailStorm extends Spell<Void> {
     /**
      * Handles hailstone impact with sophisticated effects and damage calculation.
      */
-    private void handleHailstoneImpact(SpellContext context, Hailstone hail, Player caster) {
+    private void handleHailstoneImpact(SpellContext context, Hailstone hail, Player caster, int ground) {
         World world = hail.location.getWorld();
         if (world == null) return;
 
         Location impactLoc = hail.location.clone();
-        impactLoc.setY(world.getHighestBlockYAt(impactLoc) + 0.1);
+        impactLoc.setY(ground + 0.1);
 
         // Surface-dependent impact effects
         Material surfaceMaterial = world.getBlockAt(impactLoc.clone().subtract(0, 1, 0)).getType();
@@ -6,6 +6,7 @@ import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
 import nl.wantedchef.empirewand.spell.util.SpellUtils;
+import nl.wantedchef.empirewand.framework.service.world.SurfaceCache;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -126,7 +127,8 @@ public class LightningStorm extends Spell<Void> {
 
                 // Strike lightning at intervals
                 if (ticksElapsed % 25 == 0) { // Every 1.25 seconds
-                    Location strikeLocation = generateSmartStrikeLocation(center, radius, previousStrikes);
+                    Location strikeLocation = generateSmartStrikeLocation(context.plugin().getSurfaceCache(),
+                            center, radius, previousStrikes);
                     createDramaticLightningStrike(context, world, strikeLocation, damageEntities, damage);
                     previousStrikes.add(strikeLocation.clone());
 
@@ -243,7 +245,7 @@ public class LightningStorm extends Spell<Void> {
     /**
      * Generates a smart strike location that avoids clustering
      */
-    private @NotNull Location generateSmartStrikeLocation(@NotNull Location center, double radius, @NotNull List<Location> previousStrikes) {
+    private @NotNull Location generateSmartStrikeLocation(@NotNull SurfaceCache surface, @NotNull Location center, double radius, @NotNull List<Location> previousStrikes) {
         Location bestLocation = null;
         double bestDistance = 0;
 
@@ -254,8 +256,12 @@ public class LightningStorm extends Spell<Void> {
             double x = center.getX() + Math.cos(angle) * distance;
             double z = center.getZ() + Math.sin(angle) * distance;
 
-            final Location candidate = new Location(center.getWorld(), x, center.getY(), z);
-            final Location finalCandidate = candidate.getWorld().getHighestBlockAt(candidate).getLocation().add(0, 1, 0);
+            int ground = surface.getHighestBlockYAt(center.getWorld(), Location.locToBlock(x), Location.locToBlock(z));
+            if (ground == SurfaceCache.UNLOADED) {
+                continue;
+            }
+            final Location finalCandidate = new Location(center.getWorld(), Location.locToBlock(x), ground + 1,
+                    Location.locToBlock(z));
 
             double minDistanceToPrevious = previousStrikes.stream()
                     .mapToDouble(prev -> prev.distance(finalCandidate))
@@ -493,7 +499,11 @@ public class LightningStorm extends Spell<Void> {
                     Location strikeLoc = center.clone().add(
                         Math.cos(angle) * distance, 0, Math.sin(angle) * distance);
 
-                    strikeLoc = strikeLoc.getWorld().getHighestBlockAt(strikeLoc).getLocation().add(0, 1, 0);
+                    int ground = context.plugin().getSurfaceCache().getHighestBlockYAt(strikeLoc);
+                    if (ground == SurfaceCache.UNLOADED) {
+                        return;
+                    }
+                    strikeLoc = new Location(world, strikeLoc.getBlockX(), ground + 1, strikeLoc.getBlockZ());
 
                     world.strikeLightning(strikeLoc);
                     createLightningBranchingEffect(world, strikeLoc);
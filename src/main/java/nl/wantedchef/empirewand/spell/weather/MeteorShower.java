@@ -2,17 +2,21 @@ package nl.wantedchef.empirewand.spell.weather;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
 import nl.wantedchef.empirewand.core.config.ReadableConfig;
+import nl.wantedchef.empirewand.core.task.ProfiledTask;
+import nl.wantedchef.empirewand.framework.service.world.BlockPlan;
+import nl.wantedchef.empirewand.framework.service.world.SnapshotView;
+import nl.wantedchef.empirewand.framework.service.world.SurfaceCache;
+import nl.wantedchef.empirewand.framework.service.world.WorldMutationQueue;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
 import nl.wantedchef.empirewand.spell.SpellType;
 import nl.wantedchef.empirewand.spell.util.SpellUtils;
+import nl.wantedchef.empirewand.framework.service.world.SafeWorldView;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.World;
-import org.bukkit.block.Block;
-import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -32,6 +36,7 @@ import org.bukkit.Material;
 import java.util.Set;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A powerful spell that calls down a meteor shower over a large area, dealing massive damage and
@@ -186,11 +191,12 @@ public class MeteorShower extends Spell<Void> {
         Player player = context.caster();
 
         // Get target location
-        Location targetLocation = player.getTargetBlock(null, (int) config.range).getLocation();
-        if (targetLocation == null) {
+        var targetBlock = SafeWorldView.of(player.getWorld()).getTargetBlock(player, (int) config.range);
+        if (targetBlock == null) {
             context.fx().fizzle(player);
             return null;
         }
+        Location targetLocation = targetBlock.getLocation();
 
         // Play dramatic initial sounds and effects
         var world = player.getWorld();
@@ -206,7 +212,7 @@ public class MeteorShower extends Spell<Void> {
 
         // Start meteor shower effect with enhanced configuration
         BukkitRunnable meteorShowerTask = new MeteorShowerTask(context, targetLocation, config);
-        meteorShowerTask.runTaskTimer(context.plugin(), 20L, 3L); // Slight delay for dramatic effect
+        context.plugin().getTaskManager().runTaskTimer(meteorShowerTask, 20L, 3L); // Slight delay for dramatic effect
         return null;
     }
 
@@ -222,11 +228,11 @@ public class MeteorShower extends Spell<Void> {
      */
     private void createCosmicWarningEffect(@NotNull SpellContext context, @NotNull World world, @NotNull Location center) {
         // Create a swirling cosmic vortex above the target area
-        BukkitRunnable warningEffect = new BukkitRunnable() {
+        BukkitRunnable warningEffect = new ProfiledTask("warning") {
             private int ticks = 0;
 
             @Override
-            public void run() {
+            protected void tick() {
                 if (ticks >= 20) { // 1 second warning
                     this.cancel();
                     return;
@@ -260,7 +266,7 @@ public class MeteorShower extends Spell<Void> {
         };
 
         // Schedule the warning effect
-        warningEffect.runTaskTimer(context.plugin(), 0L, 1L);
+        context.plugin().getTaskManager().runTaskTimer(warningEffect, 0L, 1L);
     }
 
     /**
@@ -282,7 +288,12 @@ public class MeteorShower extends Spell<Void> {
      * This task manages the spawning of meteors, their impact effects, crater formation,
      * spectacular visual effects, and the final cataclysmic explosion.
      */
-    private static class MeteorShowerTask extends BukkitRunnable {
+    private static class MeteorShowerTask extends ProfiledTask {
+        /** Farthest fire spot from the impact. */
+        private static final int SCORCH_REACH = 11;
+        /** Ticks after which a crater is finished regardless of the world write budget. */
+        private static final int CRATER_DEADLINE_TICKS = 20;
+
         private final SpellContext context;
         private final Location center;
         private final Config config;
@@ -301,6 +312,7 @@ public class MeteorShower extends Spell<Void> {
          * @param config the spell configuration containing all parameters
          */
         public MeteorShowerTask(@NotNull SpellContext context, @NotNull Location center, @NotNull Config config) {
+            super("meteor-shower");
             this.context = Objects.requireNonNull(context, "Context cannot be null");
             this.center = Objects.requireNonNull(center, "Center location cannot be null");
             this.config = Objects.requireNonNull(config, "Config cannot be null");
@@ -331,10 +343,10 @@ public class MeteorShower extends Spell<Void> {
         }
 
         /**
-         * Runs the meteor shower task, spawning meteors and updating visual effects.
+         * Runs one tick of the meteor shower, spawning meteors and updating visual effects.
          */
         @Override
-        public void run() {
+        protected void tick() {
             var world = center.getWorld();
             if (world == null) {
                 this.cancel();
@@ -393,9 +405,12 @@ public class MeteorShower extends Spell<Void> {
                 meteor.currentPos.add(meteor.velocity);
                 meteor.age++;
 
-                // Check for ground impact
-                Block groundBlock = world.getBlockAt(meteor.currentPos);
-                if (!groundBlock.getType().isAir() && !groundBlock.isLiquid()) {
+                // Check for ground impact; meteors flying over unloaded terrain burn up
+                int ground = context.plugin().getSurfaceCache().getHighestBlockYAt(meteor.currentPos);
+                if (ground == SurfaceCache.UNLOADED) {
+                    return true;
+                }
+                if (meteor.currentPos.getY() < ground + 1) {
                     createDevastatingImpact(world, meteor.currentPos, meteor);
                     meteor.impacted = true;
                     return true;
@@ -437,8 +452,8 @@ public class MeteorShower extends Spell<Void> {
             activeMeteors.add(meteor);
 
             // Play incoming meteor sound with spatial audio
-            world.playSound(meteorStartPos, Sound.ENTITY_BLAZE_SHOOT, 2.0f, 0.3f);
-            world.playSound(meteorStartPos, Sound.ENTITY_GHAST_SHOOT, 1.5f, 0.5f);
+            context.fx().playSound(meteorStartPos, Sound.ENTITY_BLAZE_SHOOT, 2.0f, 0.3f);
+            context.fx().playSound(meteorStartPos, Sound.ENTITY_GHAST_SHOOT, 1.5f, 0.5f);
         }
 
         /**
@@ -475,7 +490,7 @@ public class MeteorShower extends Spell<Void> {
 
             // Atmospheric heating sound effects
             if (meteor.age % 10 == 0) {
-                world.playSound(pos, Sound.BLOCK_FIRE_AMBIENT, 1.0f,
+                context.fx().playSound(pos, Sound.BLOCK_FIRE_AMBIENT, 1.0f,
                     1.5f + random.nextFloat() * 0.5f);
             }
         }
@@ -497,7 +512,7 @@ public class MeteorShower extends Spell<Void> {
             // Apply devastating damage to entities
             applyImpactDamage(world, impactLocation, meteor);
 
-            // Create enhanced crater with realistic formation
+            // Create enhanced crater with realistic formation, fire spread and block transformation
             createAdvancedCrater(world, impactLocation, meteor);
 
             // Spectacular visual effects
@@ -506,8 +521,6 @@ public class MeteorShower extends Spell<Void> {
             // Multi-layered audio feedback
             createImpactAudioEffects(world, impactLocation);
 
-            // Environmental effects (fire spread, block transformation)
-            createEnvironmentalDestruction(world, impactLocation);
         }
 
         /**
@@ -517,12 +530,12 @@ public class MeteorShower extends Spell<Void> {
          * @param center the center of the shockwave
          */
         private void createShockwave(@NotNull World world, @NotNull Location center) {
-            BukkitRunnable shockwaveTask = new BukkitRunnable() {
+            BukkitRunnable shockwaveTask = new ProfiledTask("shockwave") {
                 private double radius = 0;
                 private final double maxRadius = config.shockwaveRadius;
 
                 @Override
-                public void run() {
+                protected void tick() {
                     if (radius >= maxRadius) {
                         this.cancel();
                         return;
@@ -558,7 +571,7 @@ public class MeteorShower extends Spell<Void> {
             };
 
             activeTasks.add(shockwaveTask);
-            shockwaveTask.runTaskTimer(context.plugin(), 1L, 2L);
+            context.plugin().getTaskManager().runTaskTimer(shockwaveTask, 1L, 2L);
         }
 
         /**
@@ -596,6 +609,9 @@ public class MeteorShower extends Spell<Void> {
 
         /**
          * Creates an advanced crater with realistic formation and material transformation.
+         * <p>
+         * The crater, the meteor fragments and the scorched ground are planned off-thread
+         * from chunk snapshots and written in one pass on the main thread.
          *
          * @param world the world to create the crater in
          * @param center the center location of the crater
@@ -603,80 +619,83 @@ public class MeteorShower extends Spell<Void> {
          */
         private void createAdvancedCrater(@NotNull World world, @NotNull Location center, @NotNull MeteorTrail meteor) {
             int craterRadius = config.craterRadius;
-            int y = center.getBlockY();
+            int cx = center.getBlockX();
+            int cy = center.getBlockY();
+            int cz = center.getBlockZ();
             craterLocations.add(center);
 
+            Location origin = center.clone();
+            int reach = Math.max(craterRadius * 2, SCORCH_REACH) + 1;
+            context.plugin().getBlockPlanService()
+                    .plan(world, cx - reach, cz - reach, cx + reach, cz + reach, (view, plan) -> {
+                        Random rng = ThreadLocalRandom.current();
+                        planCrater(view, plan, rng, cx, cy, cz, craterRadius);
+                        planMeteorFragments(view, plan, rng, origin, meteor);
+                        planEnvironmentalDestruction(view, plan, rng, origin);
+                    })
+                    .thenAccept(plan -> context.plugin().getWorldMutationQueue()
+                            .submit(plan, WorldMutationQueue.Priority.NORMAL, CRATER_DEADLINE_TICKS, true));
+        }
+
+        /**
+         * Digs a bowl-shaped crater with varied depth and materials.
+         */
+        private static void planCrater(@NotNull SnapshotView view, @NotNull BlockPlan.Builder plan, @NotNull Random rng,
+                int cx, int y, int cz, int craterRadius) {
             // Create a more realistic crater with varied depth and materials
             for (int x = -craterRadius * 2; x <= craterRadius * 2; x++) {
                 for (int z = -craterRadius * 2; z <= craterRadius * 2; z++) {
                     double distance = Math.sqrt(x * x + z * z);
+                    if (distance > craterRadius * 2) {
+                        continue;
+                    }
 
-                    if (distance <= craterRadius * 2) {
-                        Block block = world.getBlockAt(center.getBlockX() + x, y, center.getBlockZ() + z);
-
-                        if (block.getType() != Material.BEDROCK && !block.getType().isAir()) {
-                            // Calculate crater depth with realistic bowl shape
-                            double normalizedDistance = distance / (craterRadius * 2);
-                            int depth = (int) ((1 - normalizedDistance * normalizedDistance) * (craterRadius + 2));
-
-                            for (int d = 0; d < depth; d++) {
-                                Block toModify = block.getRelative(BlockFace.DOWN, d);
-                                if (toModify.getType() != Material.BEDROCK) {
-                                    // Transform blocks based on distance from center
-                                    if (distance < craterRadius * 0.3) {
-                                        // Center: molten/glass formation
-                                        if (random.nextDouble() < 0.7) {
-                                            toModify.setType(Material.MAGMA_BLOCK);
-                                        } else {
-                                            toModify.setType(Material.AIR);
-                                        }
-                                    } else if (distance < craterRadius * 0.8) {
-                                        // Middle ring: scorched earth
-                                        if (random.nextDouble() < 0.5) {
-                                            toModify.setType(Material.BLACKSTONE);
-                                        } else {
-                                            toModify.setType(Material.AIR);
-                                        }
-                                    } else {
-                                        // Outer ring: just excavation
-                                        toModify.setType(Material.AIR);
-                                    }
-                                }
-                            }
+                    Material surface = view.getType(cx + x, y, cz + z);
+                    if (surface == Material.BEDROCK || surface.isAir()) {
+                        continue;
+                    }
+
+                    // Calculate crater depth with realistic bowl shape
+                    double normalizedDistance = distance / (craterRadius * 2);
+                    int depth = (int) ((1 - normalizedDistance * normalizedDistance) * (craterRadius + 2));
+
+                    for (int d = 0; d < depth; d++) {
+                        if (view.getType(cx + x, y - d, cz + z) == Material.BEDROCK) {
+                            continue;
                         }
+                        // Transform blocks based on distance from center
+                        Material type;
+                        if (distance < craterRadius * 0.3) {
+                            // Center: molten/glass formation
+                            type = rng.nextDouble() < 0.7 ? Material.MAGMA_BLOCK : Material.AIR;
+                        } else if (distance < craterRadius * 0.8) {
+                            // Middle ring: scorched earth
+                            type = rng.nextDouble() < 0.5 ? Material.BLACKSTONE : Material.AIR;
+                        } else {
+                            // Outer ring: just excavation
+                            type = Material.AIR;
+                        }
+                        plan.set(cx + x, y - d, cz + z, type);
                     }
                 }
             }
-
-            // Place meteor fragments
-            placeMeteorFragments(world, center, meteor);
         }
 
         /**
          * Places realistic meteor fragments around the crater.
-         *
-         * @param world the world to place fragments in
-         * @param center the center of the impact
-         * @param meteor the meteor that impacted
          */
-        private void placeMeteorFragments(@NotNull World world, @NotNull Location center, @NotNull MeteorTrail meteor) {
-            for (int i = 0; i < 5 + random.nextInt(8); i++) {
-                double angle = random.nextDouble() * 2 * Math.PI;
-                double distance = 2 + random.nextDouble() * 8;
-
-                Location fragmentLoc = center.clone().add(
-                    Math.cos(angle) * distance,
-                    0,
-                    Math.sin(angle) * distance
-                );
-
-                Block fragmentBlock = world.getHighestBlockAt(fragmentLoc);
-                if (fragmentBlock.getType().isAir()) {
-                    fragmentBlock = fragmentBlock.getRelative(BlockFace.DOWN);
-                }
-
-                if (!fragmentBlock.getType().isAir() && fragmentBlock.getType() != Material.BEDROCK) {
-                    fragmentBlock.getRelative(BlockFace.UP).setType(meteor.meteorMaterial);
+        private static void planMeteorFragments(@NotNull SnapshotView view, @NotNull BlockPlan.Builder plan,
+                @NotNull Random rng, @NotNull Location center, @NotNull MeteorTrail meteor) {
+            for (int i = 0; i < 5 + rng.nextInt(8); i++) {
+                double angle = rng.nextDouble() * 2 * Math.PI;
+                double distance = 2 + rng.nextDouble() * 8;
+                int x = (int) Math.floor(center.getX() + Math.cos(angle) * distance);
+                int z = (int) Math.floor(center.getZ() + Math.sin(angle) * distance);
+
+                int y = view.getHighestY(x, z);
+                Material ground = view.getType(x, y, z);
+                if (!ground.isAir() && ground != Material.BEDROCK) {
+                    plan.set(x, y + 1, z, meteor.meteorMaterial);
                 }
             }
         }
@@ -710,11 +729,11 @@ public class MeteorShower extends Spell<Void> {
             world.spawnParticle(Particle.PORTAL, impactLocation, 10, 1.5, 1.5, 1.5, 0.5);
 
             // Lingering fire effects
-            BukkitRunnable fireEffect = new BukkitRunnable() {
+            BukkitRunnable fireEffect = new ProfiledTask("fire") {
                 private int ticks = 0;
 
                 @Override
-                public void run() {
+                protected void tick() {
                     if (ticks >= 40) { // 2 seconds
                         this.cancel();
                         return;
@@ -732,7 +751,7 @@ public class MeteorShower extends Spell<Void> {
             };
 
             activeTasks.add(fireEffect);
-            fireEffect.runTaskTimer(context.plugin(), 5L, 1L);
+            context.plugin().getTaskManager().runTaskTimer(fireEffect, 5L, 1L);
         }
 
         /**
@@ -743,71 +762,66 @@ public class MeteorShower extends Spell<Void> {
          */
         private void createImpactAudioEffects(@NotNull World world, @NotNull Location impactLocation) {
             // Primary explosion sound
-            world.playSound(impactLocation, Sound.ENTITY_GENERIC_EXPLODE, 3.0f, 0.6f);
+            context.fx().playSound(impactLocation, Sound.ENTITY_GENERIC_EXPLODE, 3.0f, 0.6f);
 
             // Thunder crash
-            world.playSound(impactLocation, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 2.5f, 0.8f);
+            context.fx().playSound(impactLocation, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 2.5f, 0.8f);
 
             // Wither explosion for added intensity
-            world.playSound(impactLocation, Sound.ENTITY_WITHER_BREAK_BLOCK, 2.0f, 0.7f);
+            context.fx().playSound(impactLocation, Sound.ENTITY_WITHER_BREAK_BLOCK, 2.0f, 0.7f);
 
             // Dragon roar for epic feel
-            world.playSound(impactLocation, Sound.ENTITY_ENDER_DRAGON_GROWL, 1.5f, 0.5f);
+            context.fx().playSound(impactLocation, Sound.ENTITY_ENDER_DRAGON_GROWL, 1.5f, 0.5f);
 
             // Delayed rumble effect
-            BukkitRunnable rumbleEffect = new BukkitRunnable() {
+            BukkitRunnable rumbleEffect = new ProfiledTask("rumble") {
                 private int count = 0;
 
                 @Override
-                public void run() {
+                protected void tick() {
                     if (count >= 3) {
                         this.cancel();
                         return;
                     }
 
-                    world.playSound(impactLocation, Sound.ENTITY_LIGHTNING_BOLT_THUNDER,
+                    context.fx().playSound(impactLocation, Sound.ENTITY_LIGHTNING_BOLT_THUNDER,
                         2.0f - (count * 0.5f), 0.4f + (count * 0.2f));
                     count++;
                 }
             };
 
             activeTasks.add(rumbleEffect);
-            rumbleEffect.runTaskTimer(context.plugin(), 10L, 8L);
+            context.plugin().getTaskManager().runTaskTimer(rumbleEffect, 10L, 8L);
         }
 
         /**
-         * Creates environmental destruction and fire spread effects.
-         *
-         * @param world the world to modify
-         * @param center the center of the destruction
+         * Plans fire spread and scorched earth around the impact.
          */
-        private void createEnvironmentalDestruction(@NotNull World world, @NotNull Location center) {
+        private static void planEnvironmentalDestruction(@NotNull SnapshotView view, @NotNull BlockPlan.Builder plan,
+                @NotNull Random rng, @NotNull Location center) {
             // Spread fire in random locations around impact
-            for (int i = 0; i < 8 + random.nextInt(12); i++) {
-                double angle = random.nextDouble() * 2 * Math.PI;
-                double distance = 3 + random.nextDouble() * 8;
-
-                Location fireLoc = center.clone().add(
-                    Math.cos(angle) * distance,
-                    0,
-                    Math.sin(angle) * distance
-                );
-
-                Block fireBlock = world.getHighestBlockAt(fireLoc);
-                if (fireBlock.getType().isAir()) {
-                    fireBlock.setType(Material.FIRE);
+            for (int i = 0; i < 8 + rng.nextInt(12); i++) {
+                double angle = rng.nextDouble() * 2 * Math.PI;
+                double distance = 3 + rng.nextDouble() * 8;
+                int x = (int) Math.floor(center.getX() + Math.cos(angle) * distance);
+                int z = (int) Math.floor(center.getZ() + Math.sin(angle) * distance);
+
+                int y = view.getHighestY(x, z);
+                if (view.isCaptured(x, z) && view.getType(x, y, z).isAir()) {
+                    plan.set(x, y, z, Material.FIRE);
                 }
             }
 
             // Transform nearby grass/vegetation to scorched earth
+            int cx = center.getBlockX();
+            int cy = center.getBlockY();
+            int cz = center.getBlockZ();
             for (int x = -5; x <= 5; x++) {
                 for (int z = -5; z <= 5; z++) {
-                    if (random.nextDouble() < 0.3) {
-                        Block block = world.getBlockAt(center.getBlockX() + x, center.getBlockY(), center.getBlockZ() + z);
-                        if (block.getType() == Material.GRASS_BLOCK) {
-                            block.setType(Material.COARSE_DIRT);
-                        } else if (block.getType() == Material.DIRT) {
-                            block.setType(Material.COARSE_DIRT);
+                    if (rng.nextDouble() < 0.3) {
+                        Material type = view.getType(cx + x, cy, cz + z);
+                        if (type == Material.GRASS_BLOCK || type == Material.DIRT) {
+                            plan.set(cx + x, cy, cz + z, Material.COARSE_DIRT);
                         }
                     }
                 }
@@ -832,7 +846,7 @@ public class MeteorShower extends Spell<Void> {
 
             // Distant thunder rumbles
             if (random.nextDouble() < 0.3) {
-                world.playSound(center, Sound.AMBIENT_CAVE, 0.8f, 0.5f + random.nextFloat());
+                context.fx().playSound(center, Sound.AMBIENT_CAVE, 0.8f, 0.5f + random.nextFloat());
             }
         }
 
@@ -844,12 +858,12 @@ public class MeteorShower extends Spell<Void> {
          */
         private void createFinalCataclysmicExplosion(@NotNull World world) {
             // Multiple explosion waves for dramatic effect
-            BukkitRunnable finalExplosion = new BukkitRunnable() {
+            BukkitRunnable finalExplosion = new ProfiledTask("final-explosion") {
                 private int wave = 0;
                 private final int maxWaves = 3;
 
                 @Override
-                public void run() {
+                protected void tick() {
                     if (wave >= maxWaves) {
                         this.cancel();
                         return;
@@ -866,9 +880,9 @@ public class MeteorShower extends Spell<Void> {
                     world.spawnParticle(Particle.SOUL_FIRE_FLAME, center, 25, 3, 3, 3, 0.2);
 
                     // Epic sound effects
-                    world.playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 3.5f, 0.4f - wave * 0.1f);
-                    world.playSound(center, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 3.0f, 0.3f);
-                    world.playSound(center, Sound.ENTITY_WITHER_SPAWN, 2.0f, 0.6f);
+                    context.fx().playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 3.5f, 0.4f - wave * 0.1f);
+                    context.fx().playSound(center, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 3.0f, 0.3f);
+                    context.fx().playSound(center, Sound.ENTITY_WITHER_SPAWN, 2.0f, 0.6f);
 
                     // Damage entities with scaling based on wave
                     double damageRadius = 18 + wave * 3;
@@ -896,7 +910,7 @@ public class MeteorShower extends Spell<Void> {
             };
 
             activeTasks.add(finalExplosion);
-            finalExplosion.runTaskTimer(context.plugin(), 0L, 10L);
+            context.plugin().getTaskManager().runTaskTimer(finalExplosion, 0L, 10L);
         }
     }
 }
@@ -1,6 +1,7 @@
 package nl.wantedchef.empirewand.spell.weather;
 
 import nl.wantedchef.empirewand.api.EmpireWandAPI;
+import nl.wantedchef.empirewand.core.task.ProfiledTask;
 import nl.wantedchef.empirewand.spell.PrereqInterface;
 import nl.wantedchef.empirewand.spell.Spell;
 import nl.wantedchef.empirewand.spell.SpellContext;
@@ -15,7 +16,6 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
@@ -93,12 +93,12 @@ public class Tornado extends Spell<Void> {
         context.fx().playSound(center, Sound.ENTITY_WITHER_SPAWN, 0.8f, 0.4f);
         context.fx().playSound(center, Sound.ENTITY_PHANTOM_FLAP, 1.2f, 0.3f);
 
-        new BukkitRunnable() {
+        context.plugin().getTaskManager().runTaskTimer(new ProfiledTask("tornado") {
             private int ticks = 0;
             private final double baseRadius = radius;
 
             @Override
-            public void run() {
+            protected void tick() {
                 if (ticks >= duration) {
                     // Tornado dissipation effects
                     createDissipationEffect(context, center);
@@ -138,7 +138,7 @@ public class Tornado extends Spell<Void> {
 
                 ticks++;
             }
-        }.runTaskTimer(context.plugin(), 0L, 1L);
+        }, 0L, 1L);
     }
 
     /**
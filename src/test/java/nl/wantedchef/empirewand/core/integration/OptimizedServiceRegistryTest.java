@@ -0,0 +1,144 @@
+package nl.wantedchef.empirewand.core.integration;
+
+import nl.wantedchef.empirewand.core.event.EventBusSystem;
+import nl.wantedchef.empirewand.core.integration.OptimizedServiceRegistry.Intercepted;
+import nl.wantedchef.empirewand.core.integration.OptimizedServiceRegistry.InterceptedMethod;
+import nl.wantedchef.empirewand.core.integration.OptimizedServiceRegistry.PostConstruct;
+import nl.wantedchef.empirewand.core.integration.OptimizedServiceRegistry.ServiceInterceptor;
+import nl.wantedchef.empirewand.core.integration.OptimizedServiceRegistry.ServiceInvocation;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("OptimizedServiceRegistry Tests")
+class OptimizedServiceRegistryTest {
+
+    interface Counter {
+        @Intercepted
+        int add(int amount);
+
+        int value();
+    }
+
+    static final class SimpleCounter implements Counter {
+        private int value;
+        private boolean constructed;
+
+        @Override
+        public int add(int amount) {
+            value += amount;
+            return value;
+        }
+
+        @Override
+        public int value() {
+            return value;
+        }
+
+        @PostConstruct
+        private void init() {
+            constructed = true;
+        }
+    }
+
+    private final List<String> calls = new ArrayList<>();
+    private OptimizedServiceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new OptimizedServiceRegistry(mock(Plugin.class), mock(EventBusSystem.class));
+    }
+
+    private static OptimizedServiceRegistry.ServiceDecorator<Counter> decorator() {
+        return (target, chain) -> {
+            InterceptedMethod add = chain.bind("add");
+            return new Counter() {
+                @Override
+                public int add(int amount) {
+                    return add.invoke(target, new Object[]{amount}, () -> target.add(amount));
+                }
+
+                @Override
+                public int value() {
+                    return target.value();
+                }
+            };
+        };
+    }
+
+    private ServiceInterceptor interceptor(String name, int priority) {
+        return new ServiceInterceptor() {
+            @Override
+            public Object intercept(ServiceInvocation invocation) throws Throwable {
+                calls.add(name + ":" + invocation.getMethod() + invocation.getArguments()[0]);
+                return invocation.proceed();
+            }
+
+            @Override
+            public int getPriority() {
+                return priority;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Services without interceptors are handed out directly")
+    void testDirect() {
+        SimpleCounter counter = new SimpleCounter();
+        registry.registerServiceInstance(Counter.class, counter);
+        registry.registerDecorator(Counter.class, decorator());
+
+        assertSame(counter, registry.getService(Counter.class));
+    }
+
+    @Test
+    @DisplayName("Interceptors wrap only annotated methods, in priority order, on one bound instance")
+    void testDecorated() {
+        SimpleCounter counter = new SimpleCounter();
+        registry.registerServiceInstance(Counter.class, counter);
+        registry.registerDecorator(Counter.class, decorator());
+        registry.addInterceptor(Counter.class, interceptor("low", 0));
+        registry.addInterceptor(Counter.class, interceptor("high", 10));
+
+        Counter service = registry.getService(Counter.class);
+        assertNotSame(counter, service);
+        assertSame(service, registry.getService(Counter.class));
+
+        assertEquals(3, service.add(3));
+        assertEquals(3, service.value());
+        assertEquals(List.of("high:add3", "low:add3"), calls);
+        assertEquals(1, registry.getMetrics().totalServiceCalls());
+    }
+
+    @Test
+    @DisplayName("Binding a method that is not annotated fails when the service is bound")
+    void testUnannotatedMethod() {
+        registry.registerServiceInstance(Counter.class, new SimpleCounter());
+        registry.addInterceptor(Counter.class, interceptor("any", 0));
+        registry.registerDecorator(Counter.class, (target, chain) -> {
+            chain.bind("value");
+            return target;
+        });
+
+        assertThrows(IllegalArgumentException.class, () -> registry.getService(Counter.class));
+    }
+
+    @Test
+    @DisplayName("Post-construct hooks run on factory-created services")
+    void testPostConstruct() {
+        registry.registerService(SimpleCounter.class, context -> new SimpleCounter());
+
+        assertTrue(registry.getService(SimpleCounter.class).constructed);
+    }
+}
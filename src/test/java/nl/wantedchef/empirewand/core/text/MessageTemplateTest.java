@@ -0,0 +1,71 @@
+package nl.wantedchef.empirewand.core.text;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MessageTemplate Tests")
+class MessageTemplateTest {
+
+    private static String plain(Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(component);
+    }
+
+    @Test
+    @DisplayName("Constant messages render to one prebuilt component")
+    void testConstant() {
+        MessageTemplate template = MessageTemplate.compile("Spell fizzled");
+        assertEquals(0, template.slotCount());
+        assertEquals(Component.text("Spell fizzled"), template.render());
+        assertSame(template.render(), template.render(Map.of("spell", "Fireball")));
+    }
+
+    @Test
+    @DisplayName("Plain messages fill slots by name or index")
+    void testPlainSlots() {
+        MessageTemplate template = MessageTemplate.compile("{spell} - {remaining}s, {spell} again");
+        assertEquals(2, template.slotCount());
+        assertEquals(0, template.slot("spell"));
+        assertEquals(1, template.slot("remaining"));
+        assertEquals(-1, template.slot("player"));
+
+        Component expected = Component.text("Fireball - 1.5s, Fireball again");
+        assertEquals(expected, template.render("spell", "Fireball", "remaining", "1.5"));
+        assertEquals(expected, template.renderSlots("Fireball", "1.5"));
+        assertEquals(expected, template.render(Map.of("spell", "Fireball", "remaining", "1.5", "unused", "x")));
+    }
+
+    @Test
+    @DisplayName("Missing values keep the placeholder and explicit nulls render empty")
+    void testMissingValues() {
+        MessageTemplate template = MessageTemplate.compile("Hello {player} {unknown} {}");
+        assertEquals(Component.text("Hello {player} {unknown} {}"), template.render());
+        assertEquals(Component.text("Hello Steve {unknown} {}"), template.render("player", "Steve"));
+
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("player", null);
+        assertEquals(Component.text("Hello  {unknown} {}"), template.render(placeholders));
+    }
+
+    @Test
+    @DisplayName("Tagged messages keep styles and never parse values")
+    void testTaggedSlots() {
+        MessageTemplate template = MessageTemplate.compile("<red>Cast <bold>{spell}</bold>!</red>");
+        Component rendered = template.render("spell", "<green>Fire</green>");
+        assertEquals("Cast <green>Fire</green>!", plain(rendered));
+        assertTrue(MiniMessage.miniMessage().serialize(rendered).startsWith("<red>"));
+
+        // The compiled tree is reused, not changed
+        assertEquals("Cast Leap!", plain(template.render("spell", "Leap")));
+        assertTrue(plain(template.render()).contains("{spell}"));
+    }
+}
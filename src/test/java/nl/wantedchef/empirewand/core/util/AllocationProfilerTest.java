@@ -0,0 +1,93 @@
+package nl.wantedchef.empirewand.core.util;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AllocationProfilerTest {
+
+    private AllocationProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        profiler = new AllocationProfiler(Logger.getAnonymousLogger());
+    }
+
+    @Test
+    @DisplayName("Disabled profiler records nothing and does not wrap work")
+    void testDisabledIsNoop() {
+        Runnable work = () -> { };
+        assertSame(work, profiler.wrap("fireball", "task", work));
+
+        try (AllocationProfiler.Sample sample = profiler.begin("fireball", "cast")) {
+            assertEquals(AllocationProfiler.UNATTRIBUTED, profiler.currentSpell());
+        }
+        assertTrue(profiler.snapshot().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Samples are attributed to spell and task")
+    void testSampleAttribution() {
+        Assumptions.assumeTrue(profiler.isSupported());
+        assertTrue(profiler.setEnabled(true));
+
+        try (AllocationProfiler.Sample sample = profiler.begin("meteor-shower", "cast")) {
+            assertEquals("meteor-shower", profiler.currentSpell());
+            consume(new long[4096]);
+        }
+        profiler.wrap("meteor-shower", "ShockwaveTask", () -> consume(new long[16])).run();
+        assertEquals(AllocationProfiler.UNATTRIBUTED, profiler.currentSpell());
+
+        List<AllocationProfiler.Entry> entries = profiler.snapshot();
+        assertEquals(2, entries.size());
+        AllocationProfiler.Entry top = entries.get(0);
+        assertEquals("meteor-shower", top.spellKey());
+        assertEquals("cast", top.task());
+        assertEquals(1, top.runs());
+        assertTrue(top.totalBytes() >= 4096L * Long.BYTES);
+        assertEquals(1, profiler.totalsBySpell().size());
+    }
+
+    @Test
+    @DisplayName("Nested samples restore the outer spell")
+    void testNestedSamples() {
+        Assumptions.assumeTrue(profiler.isSupported());
+        profiler.setEnabled(true);
+
+        try (AllocationProfiler.Sample outer = profiler.begin("tornado", "cast")) {
+            try (AllocationProfiler.Sample inner = profiler.begin("gust", "cast")) {
+                assertEquals("gust", profiler.currentSpell());
+            }
+            assertEquals("tornado", profiler.currentSpell());
+        }
+    }
+
+    @Test
+    @DisplayName("Reset clears samples and JSON reflects content")
+    void testResetAndJson() {
+        Assumptions.assumeTrue(profiler.isSupported());
+        profiler.setEnabled(true);
+        profiler.wrap("black-hole", "PullTask", () -> consume(new long[8])).run();
+
+        String json = profiler.toJson();
+        assertTrue(json.contains("\"spell\": \"black-hole\""));
+        assertTrue(json.contains("\"task\": \"PullTask\""));
+
+        profiler.reset();
+        assertTrue(profiler.snapshot().isEmpty());
+        assertFalse(profiler.toJson().contains("black-hole"));
+    }
+
+    private static void consume(long[] data) {
+        data[0] = System.nanoTime();
+    }
+}
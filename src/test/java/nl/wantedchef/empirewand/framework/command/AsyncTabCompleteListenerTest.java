@@ -0,0 +1,38 @@
+package nl.wantedchef.empirewand.framework.command;
+
+import org.bukkit.command.PluginCommand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AsyncTabCompleteListener Tests")
+class AsyncTabCompleteListenerTest {
+
+    @Test
+    @DisplayName("Invalidating rebuilds every registered command once")
+    void testInvalidateCachesReachesAllCommands() {
+        AsyncTabCompleteListener listener = new AsyncTabCompleteListener();
+        BaseWandCommand ew = mock(BaseWandCommand.class);
+        BaseWandCommand mz = mock(BaseWandCommand.class);
+        listener.register(command("ew", List.of("empirewand", "wand")), ew);
+        listener.register(command("mz", List.of("mephidanteszeist")), mz);
+
+        listener.invalidateCaches();
+
+        verify(ew, times(1)).invalidateCaches();
+        verify(mz, times(1)).invalidateCaches();
+    }
+
+    private static PluginCommand command(String name, List<String> aliases) {
+        PluginCommand command = mock(PluginCommand.class);
+        when(command.getName()).thenReturn(name);
+        when(command.getAliases()).thenReturn(aliases);
+        return command;
+    }
+}
@@ -0,0 +1,56 @@
+package nl.wantedchef.empirewand.framework.command.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CompletionIndex Tests")
+class CompletionIndexTest {
+
+    private CompletionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = CompletionIndex.builder()
+            .addWords("fireball", "fireball")
+            .addWords("Fire Ball", "fireball")
+            .addWords("firestorm", "firestorm")
+            .addWords("magic-missile", "magic-missile")
+            .addWords("frost-nova", "frost-nova")
+            .addWords("fire", "fire")
+            .build();
+    }
+
+    @Test
+    @DisplayName("Prefixes return every completion below them in natural order")
+    void testPrefix() {
+        assertEquals(List.of("fire", "fireball", "firestorm"), index.complete("fire", 20));
+        assertEquals(List.of("firestorm"), index.complete("FIREs", 20));
+        assertEquals(List.of("fire", "fireball"), index.complete("f", 2));
+        assertEquals(5, index.complete("", 20).size());
+        assertTrue(index.complete("fireq", 20).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Words inside keys and display names are completable")
+    void testWords() {
+        assertEquals(List.of("magic-missile"), index.complete("miss", 20));
+        assertEquals(List.of("fireball"), index.complete("ball", 20));
+        assertEquals(List.of("fireball"), index.complete("fire b", 20));
+    }
+
+    @Test
+    @DisplayName("Typos fall back to the closest completions")
+    void testFuzzy() {
+        assertEquals("fireball", index.search("firbal", 20).get(0));
+        assertEquals("frost-nova", index.search("frostnova", 20).get(0));
+        assertTrue(index.search("zzz", 20).isEmpty());
+        // Short inputs never fall back
+        assertTrue(index.search("fx", 20).isEmpty());
+    }
+}
@@ -1,6 +1,7 @@
 package nl.wantedchef.empirewand.framework.service;
 
 import nl.wantedchef.empirewand.api.service.EffectService;
+import nl.wantedchef.empirewand.core.text.MessageTemplate;
 import nl.wantedchef.empirewand.core.text.TextService;
 import nl.wantedchef.empirewand.core.util.PerformanceMonitor;
 import nl.wantedchef.empirewand.core.logging.StructuredLogger;
@@ -85,6 +86,10 @@ class FxServiceTest {
         doNothing().when(structuredLogger).logPerformance(anyString(), anyLong(), anyMap());
         doNothing().when(structuredLogger).logError(anyString(), anyString(), anyMap());
         
+        // Compile templates from whatever the tests stub as raw messages
+        when(textService.getTemplate(anyString())).thenAnswer(invocation ->
+                MessageTemplate.compile(textService.getMessage(invocation.<String>getArgument(0))));
+
         // Create FxService instance
         fxService = new FxService(textService, performanceMonitor, structuredLogger);
     }
@@ -214,14 +219,14 @@ class FxServiceTest {
             String messageKey = "test.message";
             Map<String, String> placeholders = new HashMap<>();
             placeholders.put("player", "TestPlayer");
-            String rawMessage = "Hello TestPlayer";
+            String rawMessage = "Hello {player}";
             
-            when(textService.getMessage(messageKey, placeholders)).thenReturn(rawMessage);
+            when(textService.getMessage(messageKey)).thenReturn(rawMessage);
             
             fxService.actionBarKey(player, messageKey, placeholders);
             
-            verify(textService).getMessage(messageKey, placeholders);
-            verify(player).sendActionBar(net.kyori.adventure.text.Component.text(rawMessage));
+            verify(textService).getMessage(messageKey);
+            verify(player).sendActionBar(net.kyori.adventure.text.Component.text("Hello TestPlayer"));
         }
     }
 
@@ -267,17 +272,17 @@ class FxServiceTest {
             String messageKey = "test.message";
             Map<String, String> placeholders = new HashMap<>();
             placeholders.put("player", "TestPlayer");
-            String rawMessage = "Hello TestPlayer";
+            String rawMessage = "Hello {player}";
             Sound sound = Sound.ENTITY_PLAYER_LEVELUP;
             float volume = 1.0f;
             float pitch = 1.0f;
             
-            when(textService.getMessage(messageKey, placeholders)).thenReturn(rawMessage);
+            when(textService.getMessage(messageKey)).thenReturn(rawMessage);
             
             fxService.actionBarSound(player, messageKey, placeholders, sound, volume, pitch);
             
-            verify(textService).getMessage(messageKey, placeholders);
-            verify(player).sendActionBar(net.kyori.adventure.text.Component.text(rawMessage));
+            verify(textService).getMessage(messageKey);
+            verify(player).sendActionBar(net.kyori.adventure.text.Component.text("Hello TestPlayer"));
             verify(player).playSound(location, sound, volume, pitch);
         }
         
@@ -309,16 +314,16 @@ class FxServiceTest {
         void testSelectedSpell() {
             String displayName = "<green>Fireball</green>";
             String strippedName = "Fireball";
-            String rawMessage = "Selected spell: Fireball";
+            String rawMessage = "Selected spell: {spell}";
             
-            when(textService.getMessage(eq("spell-selected"), anyMap())).thenReturn(rawMessage);
+            when(textService.getMessage("spell-selected")).thenReturn(rawMessage);
             when(textService.stripMiniTags(displayName)).thenReturn(strippedName);
             
             fxService.selectedSpell(player, displayName);
             
-            verify(textService).getMessage(eq("spell-selected"), anyMap());
+            verify(textService).getMessage("spell-selected");
             verify(textService).stripMiniTags(displayName);
-            verify(player).sendActionBar(net.kyori.adventure.text.Component.text(rawMessage));
+            verify(player).sendActionBar(net.kyori.adventure.text.Component.text("Selected spell: Fireball"));
         }
         
         @Test
@@ -327,16 +332,17 @@ class FxServiceTest {
             String displayName = "<red>Lightning</red>";
             String strippedName = "Lightning";
             long msRemaining = 1500;
-            String rawMessage = "Spell Lightning is on cooldown for 1.5 seconds";
+            String rawMessage = "Spell {spell} is on cooldown for {remaining} seconds";
             
-            when(textService.getMessage(eq("on-cooldown"), anyMap())).thenReturn(rawMessage);
+            when(textService.getMessage("cooldown-active")).thenReturn(rawMessage);
             when(textService.stripMiniTags(displayName)).thenReturn(strippedName);
             
             fxService.onCooldown(player, displayName, msRemaining);
             
-            verify(textService).getMessage(eq("on-cooldown"), anyMap());
+            verify(textService).getMessage("cooldown-active");
             verify(textService).stripMiniTags(displayName);
-            verify(player).sendActionBar(net.kyori.adventure.text.Component.text(rawMessage));
+            verify(player).sendActionBar(net.kyori.adventure.text.Component.text(
+                    "Spell Lightning is on cooldown for 1.5 seconds"));
         }
         
         @Test
@@ -509,12 +515,12 @@ class FxServiceTest {
             String errorType = "no-permission";
             String rawMessage = "You don't have permission";
             
-            when(textService.getMessage(eq("error." + errorType), anyMap())).thenReturn(rawMessage);
+            when(textService.getMessage("error." + errorType)).thenReturn(rawMessage);
             
             fxService.showError(player, errorType);
             
             // Should call the overloaded method with empty map
-            verify(textService).getMessage(eq("error." + errorType), anyMap());
+            verify(textService).getMessage("error." + errorType);
             // Should also call sendActionBar
             verify(player).sendActionBar(net.kyori.adventure.text.Component.text(rawMessage));
             // Should play UI sound
@@ -528,11 +534,11 @@ class FxServiceTest {
             Map<String, String> placeholders = new HashMap<>();
             String rawMessage = "You don't have permission";
             
-            when(textService.getMessage(eq("error." + errorType), anyMap())).thenReturn(rawMessage);
+            when(textService.getMessage("error." + errorType)).thenReturn(rawMessage);
             
             fxService.showError(player, errorType, placeholders);
             
-            verify(textService).getMessage(eq("error." + errorType), anyMap());
+            verify(textService).getMessage("error." + errorType);
             verify(player).sendActionBar(net.kyori.adventure.text.Component.text(rawMessage));
             verify(player).playSound(location, Sound.ENTITY_VILLAGER_NO, 1.0f, 0.9f);
         }
@@ -543,12 +549,12 @@ class FxServiceTest {
             String successType = "spell-cast";
             String rawMessage = "Spell cast successfully";
             
-            when(textService.getMessage(eq("success." + successType), anyMap())).thenReturn(rawMessage);
+            when(textService.getMessage("success." + successType)).thenReturn(rawMessage);
             
             fxService.showSuccess(player, successType);
             
             // Should call the overloaded method with empty map
-            verify(textService).getMessage(eq("success." + successType), anyMap());
+            verify(textService).getMessage("success." + successType);
             // Should also call sendActionBar
             verify(player).sendActionBar(net.kyori.adventure.text.Component.text(rawMessage));
             // Should play UI sound
@@ -562,11 +568,11 @@ class FxServiceTest {
             Map<String, String> placeholders = new HashMap<>();
             String rawMessage = "Spell cast successfully";
             
-            when(textService.getMessage(eq("success." + successType), anyMap())).thenReturn(rawMessage);
+            when(textService.getMessage("success." + successType)).thenReturn(rawMessage);
             
             fxService.showSuccess(player, successType, placeholders);
             
-            verify(textService).getMessage(eq("success." + successType), anyMap());
+            verify(textService).getMessage("success." + successType);
             verify(player).sendActionBar(net.kyori.adventure.text.Component.text(rawMessage));
             verify(player).playSound(location, Sound.UI_TOAST_CHALLENGE_COMPLETE, 0.8f, 1.2f);
         }
@@ -577,12 +583,12 @@ class FxServiceTest {
             String infoType = "spell-ready";
             String rawMessage = "Spell is ready";
             
-            when(textService.getMessage(eq("info." + infoType), anyMap())).thenReturn(rawMessage);
+            when(textService.getMessage("info." + infoType)).thenReturn(rawMessage);
             
             fxService.showInfo(player, infoType);
             
             // Should call the overloaded method with empty map
-            verify(textService).getMessage(eq("info." + infoType), anyMap());
+            verify(textService).getMessage("info." + infoType);
             // Should also call sendActionBar
             verify(player).sendActionBar(net.kyori.adventure.text.Component.text(rawMessage));
             // Should play UI sound
@@ -596,11 +602,11 @@ class FxServiceTest {
             Map<String, String> placeholders = new HashMap<>();
             String rawMessage = "Spell is ready";
             
-            when(textService.getMessage(eq("info." + infoType), anyMap())).thenReturn(rawMessage);
+            when(textService.getMessage("info." + infoType)).thenReturn(rawMessage);
             
             fxService.showInfo(player, infoType, placeholders);
             
-            verify(textService).getMessage(eq("info." + infoType), anyMap());
+            verify(textService).getMessage("info." + infoType);
             verify(player).sendActionBar(net.kyori.adventure.text.Component.text(rawMessage));
             verify(player).playSound(location, Sound.UI_BUTTON_CLICK, 0.6f, 1.0f);
         }
@@ -0,0 +1,159 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Mob;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("MinionBrainScheduler Tests")
+class MinionBrainSchedulerTest {
+
+    private final World world = mock(World.class);
+
+    private static final class RecordingBrain implements MinionBrainScheduler.Brain {
+        private final List<LivingEntity> targets = new ArrayList<>();
+
+        @Override
+        public boolean canTarget(@NotNull LivingEntity candidate) {
+            return !(candidate instanceof Player);
+        }
+
+        @Override
+        public void think(@NotNull Mob minion, @Nullable LivingEntity target) {
+            targets.add(target);
+        }
+    }
+
+    private <T extends LivingEntity> T entity(Class<T> type, double x) {
+        T entity = mock(type);
+        when(entity.isValid()).thenReturn(true);
+        when(entity.getWorld()).thenReturn(world);
+        when(entity.getLocation()).thenReturn(new Location(world, x, 64, 0));
+        return entity;
+    }
+
+    private Mob minion(LivingEntity... nearby) {
+        Mob minion = entity(Mob.class, 0);
+        when(minion.getNearbyEntities(anyDouble(), anyDouble(), anyDouble())).thenReturn(List.of(nearby));
+        return minion;
+    }
+
+    @Test
+    @DisplayName("Minions are spread over the interval and capped per tick")
+    void testStaggerAndBudget() {
+        MinionBrainScheduler scheduler = new MinionBrainScheduler(2, 5, Logger.getLogger("test"));
+        List<RecordingBrain> brains = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            RecordingBrain brain = new RecordingBrain();
+            brains.add(brain);
+            scheduler.register(minion(), 16.0, brain);
+        }
+
+        for (int tick = 0; tick < 5; tick++) {
+            scheduler.tick();
+            assertEquals(2 * (tick + 1), brains.stream().mapToInt(b -> b.targets.size()).sum());
+        }
+        brains.forEach(brain -> assertEquals(1, brain.targets.size()));
+
+        for (int tick = 0; tick < 5; tick++) {
+            scheduler.tick();
+        }
+        brains.forEach(brain -> assertEquals(2, brain.targets.size()));
+        assertEquals(0L, scheduler.stats().backlogTicks());
+    }
+
+    @Test
+    @DisplayName("Minions over the budget think on the next tick")
+    void testBacklog() {
+        MinionBrainScheduler scheduler = new MinionBrainScheduler(1, 1, Logger.getLogger("test"));
+        RecordingBrain first = new RecordingBrain();
+        RecordingBrain second = new RecordingBrain();
+        scheduler.register(minion(), 16.0, first);
+        scheduler.register(minion(), 16.0, second);
+
+        scheduler.tick();
+        scheduler.tick();
+        assertEquals(1, first.targets.size());
+        assertEquals(1, second.targets.size());
+        assertTrue(scheduler.stats().backlogTicks() > 0);
+    }
+
+    @Test
+    @DisplayName("Targets are reused until they become invalid, then rescanned")
+    void testTargetReuse() {
+        LivingEntity near = entity(LivingEntity.class, 3);
+        LivingEntity far = entity(LivingEntity.class, 8);
+        Player player = entity(Player.class, 1);
+        Mob minion = minion(far, player, near);
+        RecordingBrain brain = new RecordingBrain();
+        MinionBrainScheduler scheduler = new MinionBrainScheduler(10, 1, Logger.getLogger("test"));
+        scheduler.register(minion, 16.0, brain);
+
+        scheduler.tick();
+        scheduler.tick();
+        scheduler.tick();
+        assertEquals(List.of(near, near, near), brain.targets);
+        assertEquals(1L, scheduler.stats().scans());
+        assertEquals(2L, scheduler.stats().reusedTargets());
+
+        when(near.isDead()).thenReturn(true);
+        scheduler.tick();
+        assertSame(far, brain.targets.get(3));
+
+        when(far.getLocation()).thenReturn(new Location(world, 30, 64, 0));
+        scheduler.tick();
+        assertNull(brain.targets.get(4));
+        assertEquals(3L, scheduler.stats().scans());
+    }
+
+    @Test
+    @DisplayName("Dead and cancelled minions drop out")
+    void testRemoval() {
+        MinionBrainScheduler scheduler = new MinionBrainScheduler(10, 1, Logger.getLogger("test"));
+        Mob dead = minion();
+        RecordingBrain deadBrain = new RecordingBrain();
+        scheduler.register(dead, 16.0, deadBrain);
+        RecordingBrain cancelledBrain = new RecordingBrain();
+        MinionBrainScheduler.Handle handle = scheduler.register(minion(), 16.0, cancelledBrain);
+        MinionBrainScheduler.Brain failing = new MinionBrainScheduler.Brain() {
+            @Override
+            public boolean canTarget(@NotNull LivingEntity candidate) {
+                return true;
+            }
+
+            @Override
+            public void think(@NotNull Mob minion, @Nullable LivingEntity target) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        MinionBrainScheduler.Handle failingHandle = scheduler.register(minion(), 16.0, failing);
+
+        when(dead.isValid()).thenReturn(false);
+        handle.cancel();
+        scheduler.tick();
+        scheduler.tick();
+
+        assertEquals(0, scheduler.size());
+        assertTrue(deadBrain.targets.isEmpty());
+        assertTrue(cancelledBrain.targets.isEmpty());
+        assertFalse(failingHandle.isActive());
+    }
+}
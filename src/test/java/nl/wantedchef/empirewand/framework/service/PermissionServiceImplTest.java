@@ -0,0 +1,120 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import net.kyori.adventure.text.Component;
+import nl.wantedchef.empirewand.spell.Spell;
+import nl.wantedchef.empirewand.spell.SpellType;
+import org.bukkit.entity.Player;
+import org.bukkit.permissions.PermissionAttachmentInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PermissionServiceImpl Tests")
+class PermissionServiceImplTest {
+
+    private final AtomicLong now = new AtomicLong(10_000L);
+    private final AtomicReference<SpellIndex> index = new AtomicReference<>();
+    private final Set<PermissionAttachmentInfo> effective = new HashSet<>();
+    private PermissionServiceImpl service;
+    private Player player;
+
+    private static Spell<?> spell(String key) {
+        Spell<?> spell = mock(Spell.class);
+        when(spell.key()).thenReturn(key);
+        when(spell.displayName()).thenReturn(Component.text(key));
+        when(spell.type()).thenReturn(SpellType.FIRE);
+        when(spell.getCooldown()).thenReturn(Duration.ZERO);
+        return spell;
+    }
+
+    private static SpellIndex indexOf(String... keys) {
+        return SpellIndex.build(Arrays.stream(keys).<Spell<?>>map(PermissionServiceImplTest::spell).toList(),
+                spell -> SpellIndex.Attributes.DEFAULT);
+    }
+
+    private PermissionAttachmentInfo grant(String node) {
+        PermissionAttachmentInfo info = mock(PermissionAttachmentInfo.class);
+        when(info.getPermission()).thenReturn(node);
+        when(info.getValue()).thenReturn(true);
+        when(player.hasPermission(node)).thenReturn(true);
+        return info;
+    }
+
+    @BeforeEach
+    void setUp() {
+        index.set(indexOf("fireball", "comet"));
+        service = new PermissionServiceImpl(index::get, now::get);
+        player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.isOnline()).thenReturn(true);
+        when(player.getEffectivePermissions()).thenReturn(effective);
+        effective.add(grant("empirewand.spell.use.fireball"));
+        effective.add(grant("empirewand.spell.bind.comet"));
+    }
+
+    @Test
+    @DisplayName("Checks are answered from the mask without resolving nodes again")
+    void testMask() {
+        assertTrue(service.canUseSpell(player, "fireball"));
+        assertFalse(service.canUseSpell(player, "comet"));
+        assertTrue(service.canBindSpell(player, "comet"));
+        assertFalse(service.canBindSpell(player, "fireball"));
+        assertEquals(1, service.getMaskCount());
+
+        clearInvocations(player);
+        for (int i = 0; i < 10; i++) {
+            service.canUseSpell(player, "fireball");
+        }
+        verify(player, never()).hasPermission(anyString());
+        verify(player, never()).getEffectivePermissions();
+    }
+
+    @Test
+    @DisplayName("Changed effective permissions rebuild the mask after the check interval")
+    void testStaleness() {
+        assertFalse(service.canUseSpell(player, "comet"));
+        effective.add(grant("empirewand.spell.use.comet"));
+
+        now.addAndGet(PermissionServiceImpl.STALE_CHECK_INTERVAL_MILLIS - 1);
+        assertFalse(service.canUseSpell(player, "comet"));
+        now.addAndGet(1);
+        assertTrue(service.canUseSpell(player, "comet"));
+    }
+
+    @Test
+    @DisplayName("A new spell index rebuilds the mask; unknown spells fall back to the node")
+    void testIndexSwapAndFallback() {
+        assertTrue(service.canUseSpell(player, "fireball"));
+        index.set(indexOf("comet", "fireball", "spark"));
+        when(player.hasPermission("empirewand.spell.use.spark")).thenReturn(true);
+        assertTrue(service.canUseSpell(player, "spark"));
+        assertTrue(service.canUseSpell(player, "fireball"));
+
+        when(player.hasPermission("empirewand.spell.use.custom")).thenReturn(true);
+        assertTrue(service.canUseSpell(player, "custom"));
+
+        service.forget(player.getUniqueId());
+        assertEquals(0, service.getMaskCount());
+        assertTrue(new PermissionServiceImpl().canUseSpell(player, "fireball"));
+        service.refresh(player);
+        assertEquals(1, service.getMaskCount());
+    }
+}
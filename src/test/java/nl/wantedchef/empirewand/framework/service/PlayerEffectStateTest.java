@@ -0,0 +1,106 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import nl.wantedchef.empirewand.core.storage.Keys;
+import nl.wantedchef.empirewand.framework.service.PlayerEffectState.Effect;
+import org.bukkit.entity.Player;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PlayerEffectStateTest {
+
+    private PlayerEffectState effects;
+    private Player player;
+    private PersistentDataContainer pdc;
+    private UUID playerId;
+
+    @BeforeEach
+    void setUp() {
+        effects = new PlayerEffectState();
+        player = mock(Player.class);
+        pdc = mock(PersistentDataContainer.class);
+        playerId = UUID.randomUUID();
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.getPersistentDataContainer()).thenReturn(pdc);
+    }
+
+    @Test
+    @DisplayName("Players without state have an empty mask")
+    void testUnknownPlayerHasNoFlags() {
+        assertEquals(0, effects.flags(playerId));
+        assertNull(effects.peek(playerId));
+        assertFalse(effects.isActive(player, Effect.DASH));
+    }
+
+    @Test
+    @DisplayName("Activate and deactivate toggle the effect bit")
+    void testActivateDeactivate() {
+        effects.activate(player, Effect.DASH);
+        assertTrue(effects.isActive(player, Effect.DASH));
+        assertTrue((effects.flags(playerId) & PlayerEffectState.MOVEMENT_MASK) != 0);
+        assertEquals(0, effects.flags(playerId) & PlayerEffectState.TELEPORT_MASK);
+
+        effects.deactivate(player, Effect.DASH);
+        assertFalse(effects.isActive(player, Effect.DASH));
+        assertEquals(0, effects.flags(playerId));
+    }
+
+    @Test
+    @DisplayName("Load reads persisted flags and values from the PDC once")
+    void testLoadFromPdc() {
+        when(pdc.has(Effect.LIFEWALK.key(), Keys.BOOLEAN_TYPE.getType())).thenReturn(true);
+        when(pdc.getOrDefault(any(), any(), any())).thenAnswer(inv -> inv.getArgument(2));
+        when(pdc.getOrDefault(eq(Keys.createKey("lifewalk_heal_rate")), eq(Keys.DOUBLE_TYPE.getType()), any()))
+                .thenReturn(2.0);
+
+        effects.load(player);
+
+        PlayerEffectState.State state = effects.peek(playerId);
+        assertTrue(state != null && state.has(Effect.LIFEWALK));
+        assertEquals(2.0, state.getLifewalkHealRate());
+    }
+
+    @Test
+    @DisplayName("Load without persisted flags creates no state")
+    void testLoadWithoutFlags() {
+        effects.load(player);
+        assertNull(effects.peek(playerId));
+    }
+
+    @Test
+    @DisplayName("Unload writes only persistent effects and drops the state")
+    void testUnloadWritesPersistentEffects() {
+        effects.activate(player, Effect.SHADOW_CLOAK);
+        effects.activate(player, Effect.BLINK_STRIKE);
+
+        effects.unload(player);
+
+        verify(pdc).set(Effect.SHADOW_CLOAK.key(), Keys.BOOLEAN_TYPE.getType(), (byte) 1);
+        verify(pdc).remove(Effect.DASH.key());
+        verify(pdc, never()).set(eq(Effect.BLINK_STRIKE.key()), any(), any());
+        assertNull(effects.peek(playerId));
+    }
+
+    @Test
+    @DisplayName("Save all clears every tracked player")
+    void testSaveAll() {
+        effects.activate(player, Effect.TELEPORT_TRAIL);
+        effects.saveAll(List.of(player));
+        assertEquals(0, effects.size());
+    }
+}
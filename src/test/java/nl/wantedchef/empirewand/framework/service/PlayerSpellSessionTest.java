@@ -0,0 +1,78 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("PlayerSpellSession Tests")
+class PlayerSpellSessionTest {
+
+    private final PlayerSpellSession session = new PlayerSpellSession(Logger.getLogger("test"));
+    private final List<String> released = new ArrayList<>();
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Quit releases every slot, world change only world-scoped ones")
+    void testScopes() {
+        PlayerSpellSession.Slot<String> toggles = session.slot("toggle", PlayerSpellSession.Scope.WORLD, released::add);
+        PlayerSpellSession.Slot<Long> clicks = session.slot("clicks", PlayerSpellSession.Scope.SESSION);
+        toggles.put(alice, "cloud");
+        clicks.put(alice, 1L);
+
+        assertEquals(1, session.changeWorld(alice));
+        assertEquals(List.of("cloud"), released);
+        assertNull(toggles.get(alice));
+        assertEquals(1L, clicks.get(alice));
+
+        toggles.put(alice, "wings");
+        assertEquals(2, session.release(alice));
+        assertEquals(List.of("cloud", "wings"), released);
+        assertEquals(0, clicks.size());
+    }
+
+    @Test
+    @DisplayName("Owner removals skip the release action; failing releases do not stop the teardown")
+    void testRelease() {
+        PlayerSpellSession.Slot<String> failing = session.slot("failing", PlayerSpellSession.Scope.SESSION, value -> {
+            throw new IllegalStateException(value);
+        });
+        PlayerSpellSession.Slot<String> toggles = session.slot("toggle", PlayerSpellSession.Scope.WORLD, released::add);
+        toggles.put(alice, "cloud");
+        assertEquals("cloud", toggles.remove(alice));
+        assertTrue(released.isEmpty());
+
+        failing.put(alice, "boom");
+        toggles.put(alice, "aura");
+        toggles.put(bob, "halo");
+        assertEquals(3, session.releaseAll());
+        assertEquals(2, released.size());
+        assertEquals(0, failing.size() + toggles.size());
+    }
+
+    @Test
+    @DisplayName("Slots are shared by name and report retained entries")
+    void testRegistryAndUsage() {
+        PlayerSpellSession.Slot<String> first = session.slot("toggle", PlayerSpellSession.Scope.WORLD);
+        assertSame(first, session.slot("toggle", PlayerSpellSession.Scope.WORLD));
+        assertThrows(IllegalArgumentException.class, () -> session.slot("toggle", PlayerSpellSession.Scope.SESSION));
+
+        session.slot("empty", PlayerSpellSession.Scope.SESSION);
+        first.put(alice, "cloud");
+        first.put(bob, "wings");
+
+        List<PlayerSpellSession.Usage> usage = session.usage(alice::equals);
+        assertEquals(List.of(new PlayerSpellSession.Usage("toggle", PlayerSpellSession.Scope.WORLD, 2, 1),
+                new PlayerSpellSession.Usage("empty", PlayerSpellSession.Scope.SESSION, 0, 0)), usage);
+    }
+}
@@ -0,0 +1,85 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("QualityGovernor Tests")
+class QualityGovernorTest {
+
+    private final AtomicReference<Double> mspt = new AtomicReference<>(20.0);
+    private final QualityGovernor governor = new QualityGovernor(mspt::get, 35.0, 45.0, 0.25);
+
+    private void sample(double value, int times) {
+        mspt.set(value);
+        for (int i = 0; i < times; i++) {
+            governor.sample();
+        }
+    }
+
+    @Test
+    @DisplayName("Quality degrades above the band, holds inside it and recovers below it")
+    void testHysteresis() {
+        sample(20.0, 5);
+        assertEquals(1.0, governor.quality());
+
+        sample(80.0, 30);
+        assertEquals(0.25, governor.quality());
+
+        sample(40.0, 30);
+        assertEquals(0.25, governor.quality());
+
+        sample(20.0, 3);
+        assertTrue(governor.quality() > 0.25);
+        sample(20.0, 30);
+        assertEquals(1.0, governor.quality());
+        assertTrue(governor.stats().degradations() > 0);
+        assertTrue(governor.stats().recoveries() > 0);
+    }
+
+    @Test
+    @DisplayName("A single slow tick is smoothed out")
+    void testSmoothing() {
+        sample(20.0, 5);
+        sample(60.0, 1);
+        assertEquals(1.0, governor.quality());
+        assertTrue(governor.stats().smoothedMspt() < 45.0);
+    }
+
+    @Test
+    @DisplayName("Counts, periods and frames scale with the quality level")
+    void testScaling() {
+        assertEquals(40, governor.scaleCount(40));
+        sample(80.0, 5);
+        assertEquals(0.5, governor.quality());
+
+        assertEquals(20, governor.scaleCount(40));
+        assertEquals(1, governor.scaleCount(1));
+        assertEquals(0, governor.scaleCount(0));
+        assertEquals(1, governor.scaleCount(2));
+        assertEquals(4L, governor.scalePeriod(2L));
+
+        int kept = 0;
+        for (long frame = 1; frame <= 100; frame++) {
+            kept += governor.keepFrame(frame) ? 1 : 0;
+        }
+        assertEquals(50, kept);
+        assertFalse(governor.keepFrame(1) && governor.keepFrame(2));
+    }
+
+    @Test
+    @DisplayName("The target band can be changed and is validated")
+    void testTargetBand() {
+        governor.setTargetBand(25.0, 30.0);
+        sample(32.0, 3);
+        assertTrue(governor.quality() < 1.0);
+        assertThrows(IllegalArgumentException.class, () -> governor.setTargetBand(40.0, 40.0));
+        assertThrows(IllegalArgumentException.class, () -> governor.setTargetBand(0.0, 10.0));
+    }
+}
@@ -0,0 +1,149 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SoundMixer Tests")
+class SoundMixerTest {
+
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private World world;
+    private Player near;
+    private Player far;
+
+    @BeforeEach
+    void setUp() {
+        world = mock(World.class);
+        near = player(new Location(world, 4, 64, 4));
+        far = player(new Location(world, 200, 64, 200));
+        when(world.getPlayers()).thenReturn(List.of(near, far));
+    }
+
+    private Player player(Location location) {
+        Player player = mock(Player.class);
+        when(player.getLocation()).thenReturn(location);
+        when(player.isOnline()).thenReturn(true);
+        return player;
+    }
+
+    private void flush() {
+        assertEquals(1, scheduled.size());
+        scheduled.remove(0).run();
+    }
+
+    @Test
+    @DisplayName("Equal sounds near the same spot merge into one voice at the loudest volume")
+    void testMerge() {
+        SoundMixer mixer = new SoundMixer(scheduled::add, 8, 16);
+        for (int i = 0; i < 5; i++) {
+            mixer.play(new Location(world, 0.2 * i, 64, 0), Sound.ENTITY_VEX_CHARGE, SoundCategory.MASTER,
+                    0.5f + i * 0.1f, 1.2f);
+        }
+        flush();
+
+        verify(near, times(1)).playSound(any(Location.class), eq(Sound.ENTITY_VEX_CHARGE), eq(SoundCategory.MASTER),
+                eq(0.9f), eq(1.2f));
+        verify(far, never()).playSound(any(Location.class), any(Sound.class), any(SoundCategory.class), anyFloat(),
+                anyFloat());
+        SoundMixer.Stats stats = mixer.stats();
+        assertEquals(5, stats.requested());
+        assertEquals(4, stats.merged());
+        assertEquals(1, stats.packets());
+    }
+
+    @Test
+    @DisplayName("Different pitches and distant cells stay separate voices")
+    void testSeparateVoices() {
+        SoundMixer mixer = new SoundMixer(scheduled::add, 8, 16);
+        mixer.play(new Location(world, 0, 64, 0), Sound.BLOCK_NOTE_BLOCK_PLING, SoundCategory.MASTER, 1.0f, 0.5f);
+        mixer.play(new Location(world, 0, 64, 0), Sound.BLOCK_NOTE_BLOCK_PLING, SoundCategory.MASTER, 1.0f, 1.5f);
+        mixer.play(new Location(world, 6, 64, 0), Sound.BLOCK_NOTE_BLOCK_PLING, SoundCategory.MASTER, 1.0f, 0.5f);
+        flush();
+
+        verify(near, times(3)).playSound(any(Location.class), eq(Sound.BLOCK_NOTE_BLOCK_PLING),
+                eq(SoundCategory.MASTER), eq(1.0f), anyFloat());
+        assertEquals(0, mixer.stats().merged());
+    }
+
+    @Test
+    @DisplayName("Each chunk plays at most the loudest voices up to its limit")
+    void testChunkLimit() {
+        SoundMixer mixer = new SoundMixer(scheduled::add, 2, 16);
+        mixer.play(new Location(world, 1, 64, 1), Sound.ENTITY_BLAZE_SHOOT, SoundCategory.MASTER, 0.2f, 1.0f);
+        mixer.play(new Location(world, 1, 64, 1), Sound.ENTITY_GHAST_SHOOT, SoundCategory.MASTER, 1.0f, 1.0f);
+        mixer.play(new Location(world, 1, 64, 1), Sound.ENTITY_GENERIC_EXPLODE, SoundCategory.MASTER, 0.8f, 1.0f);
+        flush();
+
+        verify(near, never()).playSound(any(Location.class), eq(Sound.ENTITY_BLAZE_SHOOT), any(SoundCategory.class),
+                anyFloat(), anyFloat());
+        verify(near).playSound(any(Location.class), eq(Sound.ENTITY_GHAST_SHOOT), any(SoundCategory.class),
+                anyFloat(), anyFloat());
+        verify(near).playSound(any(Location.class), eq(Sound.ENTITY_GENERIC_EXPLODE), any(SoundCategory.class),
+                anyFloat(), anyFloat());
+        assertEquals(1, mixer.stats().chunkLimited());
+    }
+
+    @Test
+    @DisplayName("Players stop receiving sounds once their limit is reached, own sounds first")
+    void testListenerLimit() {
+        SoundMixer mixer = new SoundMixer(scheduled::add, 8, 2);
+        mixer.play(new Location(world, 4, 64, 4), Sound.ENTITY_BLAZE_SHOOT, SoundCategory.MASTER, 1.0f, 1.0f);
+        mixer.play(new Location(world, 20, 64, 4), Sound.ENTITY_GHAST_SHOOT, SoundCategory.MASTER, 1.0f, 1.0f);
+        mixer.play(near, near.getLocation(), Sound.UI_BUTTON_CLICK, SoundCategory.MASTER, 0.6f, 1.0f);
+        mixer.play(near, near.getLocation(), Sound.UI_BUTTON_CLICK, SoundCategory.MASTER, 0.6f, 1.0f);
+        flush();
+
+        verify(near).playSound(any(Location.class), eq(Sound.UI_BUTTON_CLICK), any(SoundCategory.class),
+                anyFloat(), anyFloat());
+        verify(near, times(2)).playSound(any(Location.class), any(Sound.class), any(SoundCategory.class),
+                anyFloat(), anyFloat());
+        assertEquals(1, mixer.stats().listenerLimited());
+        assertEquals(1, mixer.stats().merged());
+    }
+
+    @Test
+    @DisplayName("A flush is scheduled once per tick and only when something was requested")
+    void testScheduling() {
+        SoundMixer mixer = new SoundMixer(scheduled::add, 8, 16);
+        mixer.play(new Location(world, 0, 64, 0), Sound.ENTITY_VEX_CHARGE, SoundCategory.MASTER, 1.0f, 1.0f);
+        mixer.play(new Location(world, 8, 64, 0), Sound.ENTITY_VEX_CHARGE, SoundCategory.MASTER, 1.0f, 1.0f);
+        flush();
+        assertEquals(0, scheduled.size());
+
+        mixer.play(new Location(world, 0, 64, 0), Sound.ENTITY_VEX_CHARGE, SoundCategory.MASTER, 1.0f, 1.0f);
+        flush();
+        assertEquals(2, mixer.stats().flushes());
+    }
+
+    @Test
+    @DisplayName("Shutdown plays the voices whose scheduled flush was cancelled")
+    void testShutdown() {
+        SoundMixer mixer = new SoundMixer(scheduled::add, 8, 16);
+        mixer.play(new Location(world, 0, 64, 0), Sound.ENTITY_VEX_CHARGE, SoundCategory.MASTER, 1.0f, 1.0f);
+        scheduled.clear();
+
+        mixer.shutdown();
+        verify(near).playSound(any(Location.class), eq(Sound.ENTITY_VEX_CHARGE), eq(SoundCategory.MASTER),
+                eq(1.0f), eq(1.0f));
+        assertEquals(1, mixer.stats().flushes());
+    }
+}
@@ -0,0 +1,106 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import nl.wantedchef.empirewand.core.storage.Keys;
+import org.bukkit.entity.Entity;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SpellEntityRegistryTest {
+
+    private SpellEntityRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SpellEntityRegistry(() -> 42);
+    }
+
+    private static Entity entity(int id, PersistentDataContainer pdc) {
+        Entity entity = mock(Entity.class);
+        when(entity.getEntityId()).thenReturn(id);
+        when(entity.getPersistentDataContainer()).thenReturn(pdc);
+        return entity;
+    }
+
+    @Test
+    @DisplayName("Tagged entities resolve from memory and write the PDC fallback")
+    void testTagAndLookup() {
+        PersistentDataContainer pdc = mock(PersistentDataContainer.class);
+        Entity projectile = entity(7, pdc);
+        UUID caster = UUID.randomUUID();
+
+        registry.tag(projectile, "fireball", caster, SpellEntityRegistry.PROJECTILE);
+
+        SpellEntityRegistry.Tag tag = registry.lookup(projectile, SpellEntityRegistry.PROJECTILE);
+        assertNotNull(tag);
+        assertEquals("fireball", tag.spellKey());
+        assertTrue(tag.isOwnedBy(caster));
+        assertEquals(42, tag.castTick());
+        assertNull(registry.lookup(projectile, SpellEntityRegistry.MINION));
+        verify(pdc).set(Keys.PROJECTILE_SPELL, Keys.STRING_TYPE.getType(), "fireball");
+        verify(pdc).set(Keys.PROJECTILE_OWNER, Keys.STRING_TYPE.getType(), caster.toString());
+    }
+
+    @Test
+    @DisplayName("Untracked entities are read from the PDC once")
+    void testFallbackIsCached() {
+        PersistentDataContainer pdc = mock(PersistentDataContainer.class);
+        UUID owner = UUID.randomUUID();
+        when(pdc.get(SpellEntityRegistry.MINION_OWNER, Keys.STRING_TYPE.getType())).thenReturn(owner.toString());
+        Entity minion = entity(3, pdc);
+
+        SpellEntityRegistry.Tag first = registry.lookup(minion, SpellEntityRegistry.MINION);
+        SpellEntityRegistry.Tag second = registry.lookup(minion, SpellEntityRegistry.MINION);
+
+        assertNotNull(first);
+        assertTrue(first.isOwnedBy(owner));
+        assertEquals(first, second);
+        verify(pdc, times(1)).get(SpellEntityRegistry.MINION_OWNER, Keys.STRING_TYPE.getType());
+    }
+
+    @Test
+    @DisplayName("Plain entities are cached as misses")
+    void testNegativeCache() {
+        PersistentDataContainer pdc = mock(PersistentDataContainer.class);
+        Entity zombie = entity(11, pdc);
+
+        assertNull(registry.lookup(zombie));
+        assertNull(registry.lookup(zombie));
+        verify(pdc, times(1)).get(Keys.PROJECTILE_SPELL, Keys.STRING_TYPE.getType());
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    @DisplayName("Forgotten entities leave the table intact for their neighbours")
+    void testForgetManyEntities() {
+        PersistentDataContainer pdc = mock(PersistentDataContainer.class);
+        UUID caster = UUID.randomUUID();
+        Entity[] entities = new Entity[500];
+        for (int i = 0; i < entities.length; i++) {
+            entities[i] = entity(i, pdc);
+            registry.register(entities[i], "spark", caster, SpellEntityRegistry.PROJECTILE);
+        }
+        for (int i = 0; i < entities.length; i += 2) {
+            registry.forget(entities[i]);
+        }
+
+        assertEquals(250, registry.size());
+        for (int i = 1; i < entities.length; i += 2) {
+            assertNotNull(registry.lookup(entities[i], SpellEntityRegistry.PROJECTILE));
+        }
+        verify(pdc, times(0)).get(any(), any());
+    }
+}
@@ -0,0 +1,108 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.RegisteredListener;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SpellEventDispatcher Tests")
+class SpellEventDispatcherTest {
+
+    static final class TestEvent extends Event {
+        private static final HandlerList HANDLERS = new HandlerList();
+
+        @Override
+        public @NotNull HandlerList getHandlers() {
+            return HANDLERS;
+        }
+
+        public static HandlerList getHandlerList() {
+            return HANDLERS;
+        }
+    }
+
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final List<Event> called = new ArrayList<>();
+    private final AtomicInteger built = new AtomicInteger();
+    private boolean primaryThread;
+    private SpellEventDispatcher dispatcher;
+    private RegisteredListener listener;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new SpellEventDispatcher(scheduled::add, () -> primaryThread, called::add,
+                Logger.getLogger("test"));
+        listener = new RegisteredListener(mock(Listener.class), (l, e) -> { }, EventPriority.NORMAL,
+                mock(Plugin.class), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestEvent.getHandlerList().unregister(listener);
+    }
+
+    private TestEvent build() {
+        built.incrementAndGet();
+        return new TestEvent();
+    }
+
+    @Test
+    @DisplayName("Events nobody listens to are never built")
+    void testSkipsWithoutListeners() {
+        primaryThread = true;
+        dispatcher.dispatch(TestEvent.getHandlerList(), this::build);
+        primaryThread = false;
+        dispatcher.dispatch(TestEvent.getHandlerList(), this::build);
+
+        assertEquals(0, built.get());
+        assertEquals(0, scheduled.size());
+        assertEquals(2, dispatcher.stats().skipped());
+    }
+
+    @Test
+    @DisplayName("Main thread events are called right away")
+    void testCallsOnMainThread() {
+        TestEvent.getHandlerList().register(listener);
+        primaryThread = true;
+        dispatcher.dispatch(TestEvent.getHandlerList(), this::build);
+
+        assertEquals(1, called.size());
+        assertEquals(0, scheduled.size());
+    }
+
+    @Test
+    @DisplayName("Off-thread events share one main thread task per batch")
+    void testBatchesOffThread() {
+        TestEvent.getHandlerList().register(listener);
+        primaryThread = false;
+        for (int i = 0; i < 5; i++) {
+            dispatcher.dispatch(TestEvent.getHandlerList(), this::build);
+        }
+        assertEquals(1, scheduled.size());
+        assertEquals(0, built.get());
+
+        scheduled.get(0).run();
+        assertEquals(5, called.size());
+        assertEquals(1, dispatcher.stats().batches());
+        assertEquals(5, dispatcher.stats().peakBatch());
+
+        // The next event schedules a new batch
+        dispatcher.dispatch(TestEvent.getHandlerList(), this::build);
+        assertEquals(2, scheduled.size());
+    }
+}
@@ -0,0 +1,201 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import net.kyori.adventure.text.Component;
+import nl.wantedchef.empirewand.api.spell.SpellRegistry.SpellQuery;
+import nl.wantedchef.empirewand.spell.Spell;
+import nl.wantedchef.empirewand.spell.SpellType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SpellIndex Tests")
+class SpellIndexTest {
+
+    private record Query(String category, String tag, String nameContains, long maxCooldown, double minRange,
+            double maxRange, Boolean enabled, SortField sortField, SortOrder sortOrder, int limit)
+            implements SpellQuery {
+
+        static Query all() {
+            return new Query(null, null, null, -1, -1, -1, null, null, SortOrder.ASCENDING, -1);
+        }
+
+        Query withCategory(String value) {
+            return new Query(value, tag, nameContains, maxCooldown, minRange, maxRange, enabled, sortField,
+                    sortOrder, limit);
+        }
+
+        Query withTag(String value) {
+            return new Query(category, value, nameContains, maxCooldown, minRange, maxRange, enabled, sortField,
+                    sortOrder, limit);
+        }
+
+        Query withName(String value) {
+            return new Query(category, tag, value, maxCooldown, minRange, maxRange, enabled, sortField, sortOrder,
+                    limit);
+        }
+
+        Query withMaxCooldown(long value) {
+            return new Query(category, tag, nameContains, value, minRange, maxRange, enabled, sortField, sortOrder,
+                    limit);
+        }
+
+        Query withRange(double min, double max) {
+            return new Query(category, tag, nameContains, maxCooldown, min, max, enabled, sortField, sortOrder,
+                    limit);
+        }
+
+        Query withEnabled(Boolean value) {
+            return new Query(category, tag, nameContains, maxCooldown, minRange, maxRange, value, sortField,
+                    sortOrder, limit);
+        }
+
+        Query sorted(SortField field, SortOrder order, int max) {
+            return new Query(category, tag, nameContains, maxCooldown, minRange, maxRange, enabled, field, order,
+                    max);
+        }
+
+        @Override
+        public String getCategory() {
+            return category;
+        }
+
+        @Override
+        public String getTag() {
+            return tag;
+        }
+
+        @Override
+        public String getNameContains() {
+            return nameContains;
+        }
+
+        @Override
+        public long getMaxCooldown() {
+            return maxCooldown;
+        }
+
+        @Override
+        public double getMinRange() {
+            return minRange;
+        }
+
+        @Override
+        public double getMaxRange() {
+            return maxRange;
+        }
+
+        @Override
+        public int getMaxLevelRequirement() {
+            return -1;
+        }
+
+        @Override
+        public Boolean isEnabled() {
+            return enabled;
+        }
+
+        @Override
+        public SortField getSortField() {
+            return sortField;
+        }
+
+        @Override
+        public SortOrder getSortOrder() {
+            return sortOrder;
+        }
+
+        @Override
+        public int getLimit() {
+            return limit;
+        }
+
+        @Override
+        public List<Spell<?>> execute() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private SpellIndex index;
+
+    private static Spell<?> spell(String key, String name, SpellType type, long cooldownMillis) {
+        Spell<?> spell = mock(Spell.class);
+        when(spell.key()).thenReturn(key);
+        when(spell.displayName()).thenReturn(Component.text(name));
+        when(spell.type()).thenReturn(type);
+        when(spell.getCooldown()).thenReturn(Duration.ofMillis(cooldownMillis));
+        return spell;
+    }
+
+    private static List<String> keys(List<Spell<?>> spells) {
+        return spells.stream().map(Spell::key).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<Spell<?>> spells = List.of(
+                spell("fireball", "Fireball", SpellType.FIRE, 1000),
+                spell("comet", "Comet", SpellType.FIRE, 2500),
+                spell("spark", "Spark", SpellType.LIGHTNING, 500),
+                spell("flame-wave", "Flame Wave", SpellType.FIRE, 4000));
+        Map<String, SpellIndex.Attributes> attributes = Map.of(
+                "fireball", new SpellIndex.Attributes(40.0, 0, true, Set.of("projectile")),
+                "comet", new SpellIndex.Attributes(70.0, 0, true, Set.of("projectile", "aoe")),
+                "flame-wave", new SpellIndex.Attributes(0.0, 0, false, Set.of("aoe")));
+        index = SpellIndex.build(spells,
+                spell -> attributes.getOrDefault(spell.key(), SpellIndex.Attributes.DEFAULT));
+    }
+
+    @Test
+    @DisplayName("Ordinals are dense and follow registration order")
+    void testOrdinals() {
+        assertEquals(4, index.size());
+        assertEquals(0, index.ordinal("fireball"));
+        assertEquals(3, index.ordinal("flame-wave"));
+        assertEquals(-1, index.ordinal("missing"));
+        assertEquals("comet", index.spell(1).key());
+        assertEquals(List.of("fireball", "comet", "spark", "flame-wave"), keys(index.query(Query.all())));
+    }
+
+    @Test
+    @DisplayName("Category and tag lookups ignore case")
+    void testMembership() {
+        assertEquals(Set.of("fireball", "comet", "flame-wave"), index.keysInCategory("fire"));
+        assertEquals(Set.of("comet", "flame-wave"), index.keysWithTag("AOE"));
+        assertTrue(index.keysWithTag("none").isEmpty());
+        assertEquals(Set.of("FIRE", "LIGHTNING"), index.categories());
+        assertEquals(3, index.enabledCount());
+    }
+
+    @Test
+    @DisplayName("Filters intersect")
+    void testFilters() {
+        assertEquals(List.of("fireball", "comet"), keys(index.query(Query.all().withCategory("FIRE")
+                .withTag("projectile"))));
+        assertEquals(List.of("flame-wave"), keys(index.query(Query.all().withName("WAVE"))));
+        assertEquals(List.of("fireball", "spark"), keys(index.query(Query.all().withMaxCooldown(20))));
+        assertEquals(List.of("comet"), keys(index.query(Query.all().withRange(50, 100))));
+        assertEquals(List.of("flame-wave"), keys(index.query(Query.all().withEnabled(false))));
+        assertTrue(index.query(Query.all().withCategory("ICE")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Sorting walks presorted ordinals and stops at the limit")
+    void testSorting() {
+        assertEquals(List.of("comet", "fireball", "flame-wave"), keys(index.query(Query.all()
+                .withCategory("fire").sorted(SpellQuery.SortField.NAME, SpellQuery.SortOrder.ASCENDING, -1))));
+        assertEquals(List.of("flame-wave", "comet"), keys(index.query(Query.all()
+                .sorted(SpellQuery.SortField.COOLDOWN, SpellQuery.SortOrder.DESCENDING, 2))));
+        assertEquals(List.of("comet"), keys(index.query(Query.all()
+                .sorted(SpellQuery.SortField.RANGE, SpellQuery.SortOrder.DESCENDING, 1))));
+    }
+}
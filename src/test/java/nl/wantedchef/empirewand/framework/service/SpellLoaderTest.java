@@ -0,0 +1,91 @@
+package nl.wantedchef.empirewand.framework.service;
+
+import nl.wantedchef.empirewand.core.config.ReadableConfig;
+import nl.wantedchef.empirewand.spell.Spell;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SpellLoader Tests")
+class SpellLoaderTest {
+
+    private static Supplier<Spell.Builder<?>> builder(Spell<?> spell) {
+        return () -> {
+            @SuppressWarnings("unchecked")
+            Spell.Builder<Object> builder = mock(Spell.Builder.class);
+            when(builder.build()).thenReturn((Spell<Object>) spell);
+            return builder;
+        };
+    }
+
+    private static Spell<?> spell(String key) {
+        Spell<?> spell = mock(Spell.class);
+        when(spell.key()).thenReturn(key);
+        return spell;
+    }
+
+    @ParameterizedTest(name = "{0} threads")
+    @ValueSource(ints = {1, 4})
+    @DisplayName("Spells keep builder order, get their config and failures are isolated")
+    void testLoad(int threads) {
+        List<Spell<?>> expected = new ArrayList<>();
+        List<Supplier<Spell.Builder<?>>> builders = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Spell<?> spell = spell("spell-" + i);
+            expected.add(spell);
+            builders.add(builder(spell));
+        }
+        builders.add(5, () -> {
+            throw new IllegalStateException("broken builder");
+        });
+
+        ReadableConfig section = mock(ReadableConfig.class);
+        ReadableConfig spellConfig = mock(ReadableConfig.class);
+        when(section.getConfigurationSection("spell-3")).thenReturn(spellConfig);
+
+        SpellLoader.Result result = new SpellLoader(threads, Logger.getLogger("test")).load(builders, section);
+
+        assertEquals(expected, result.spells());
+        assertEquals(12, result.entries().size());
+        assertEquals("spell-0", result.entries().get(0).key());
+        assertEquals(1, result.failures().size());
+        assertEquals(5, result.failures().get(0).builder());
+        assertTrue(result.failures().get(0).error().contains("broken builder"));
+        assertEquals(threads, result.threads());
+        verify(expected.get(3)).loadConfig(spellConfig);
+    }
+
+    @Test
+    @DisplayName("Builders that fail on a worker are retried on the calling thread")
+    void testRetry() {
+        Thread caller = Thread.currentThread();
+        Spell<?> spell = spell("caller-only");
+        Supplier<Spell.Builder<?>> callerOnly = () -> {
+            if (Thread.currentThread() != caller) {
+                throw new IllegalStateException("must run on the calling thread");
+            }
+            return builder(spell).get();
+        };
+
+        SpellLoader.Result result = new SpellLoader(4, Logger.getLogger("test"))
+                .load(List.of(builder(spell("a")), callerOnly), null);
+
+        assertEquals(2, result.spells().size());
+        assertTrue(result.failures().isEmpty());
+        assertFalse(result.entries().get(0).retried());
+        assertTrue(result.entries().get(1).retried());
+    }
+}
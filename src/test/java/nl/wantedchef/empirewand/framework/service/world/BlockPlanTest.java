@@ -0,0 +1,98 @@
+package nl.wantedchef.empirewand.framework.service.world;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlockPlanTest {
+
+    private World world;
+    private ChunkSnapshot chunk;
+    private BlockPlan.Builder builder;
+    private SnapshotView view;
+
+    @BeforeEach
+    void setUp() {
+        world = mock(World.class);
+        chunk = mock(ChunkSnapshot.class);
+        when(chunk.getBlockType(anyInt(), anyInt(), anyInt())).thenReturn(Material.AIR);
+        when(chunk.getBlockType(3, 64, 5)).thenReturn(Material.STONE);
+        when(chunk.getHighestBlockYAt(3, 5)).thenReturn(64);
+        builder = new BlockPlan.Builder(world);
+        // Only chunk (0, 0) of the 2x1 area was loaded at capture time
+        view = new SnapshotView(new ChunkSnapshot[] { chunk, null }, 0, 0, 2, 1, -64, 320, builder);
+    }
+
+    @Test
+    @DisplayName("Positions survive packing, including negative coordinates")
+    void testPacking() {
+        long packed = BlockPlan.pack(-30_000_000, -64, 29_999_999);
+
+        assertEquals(-30_000_000, BlockPlan.unpackX(packed));
+        assertEquals(-64, BlockPlan.unpackY(packed));
+        assertEquals(29_999_999, BlockPlan.unpackZ(packed));
+    }
+
+    @Test
+    @DisplayName("The view reads through planned changes")
+    void testReadThrough() {
+        assertEquals(Material.STONE, view.getType(3, 64, 5));
+
+        builder.set(3, 64, 5, Material.AIR);
+        builder.set(3, 66, 5, Material.GLASS);
+        builder.set(3, 66, 5, Material.DIRT);
+
+        assertEquals(Material.AIR, view.getType(3, 64, 5));
+        assertEquals(66, view.getHighestY(3, 5));
+        assertEquals(2, builder.size());
+    }
+
+    @Test
+    @DisplayName("Uncaptured chunks and out-of-range heights read as void air")
+    void testUncaptured() {
+        assertFalse(view.isCaptured(20, 5));
+        assertEquals(Material.VOID_AIR, view.getType(20, 64, 5));
+        assertEquals(Material.VOID_AIR, view.getType(3, 400, 5));
+        assertEquals(-65, view.getHighestY(20, 5));
+        assertTrue(view.isCaptured(3, 5));
+    }
+
+    @Test
+    @DisplayName("Applying skips chunks that are no longer loaded")
+    void testApplySkipsUnloadedChunks() {
+        Block loaded = mock(Block.class);
+        when(world.isChunkLoaded(0, 0)).thenReturn(true);
+        when(world.isChunkLoaded(1, 0)).thenReturn(false);
+        when(world.getBlockAt(3, 64, 5)).thenReturn(loaded);
+        builder.set(3, 64, 5, Material.MAGMA_BLOCK);
+        builder.set(20, 64, 5, Material.MAGMA_BLOCK);
+        builder.mark(7, 20, 65, 5);
+
+        BlockPlan plan = builder.build();
+        int applied = plan.apply(false);
+
+        assertEquals(1, applied);
+        verify(loaded).setType(Material.MAGMA_BLOCK, false);
+        verify(world, never()).getBlockAt(20, 64, 5);
+        List<Integer> marked = new ArrayList<>();
+        plan.forEachMarker(7, (x, y, z) -> marked.add(y));
+        assertEquals(List.of(65), marked);
+        assertEquals(0, plan.markerCount(1));
+    }
+}
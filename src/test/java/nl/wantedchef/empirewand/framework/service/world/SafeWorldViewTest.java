@@ -0,0 +1,72 @@
+package nl.wantedchef.empirewand.framework.service.world;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.Vector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SafeWorldViewTest {
+
+    private World world;
+    private SafeWorldView view;
+
+    @BeforeEach
+    void setUp() {
+        world = mock(World.class);
+        // Chunks 0..1 along x are loaded, everything beyond is not
+        when(world.isChunkLoaded(anyInt(), anyInt())).thenAnswer(inv -> {
+            int chunkX = inv.getArgument(0);
+            int chunkZ = inv.getArgument(1);
+            return chunkX >= 0 && chunkX <= 1 && chunkZ == 0;
+        });
+        view = SafeWorldView.of(world);
+    }
+
+    @Test
+    @DisplayName("Reads in unloaded chunks report unloaded without touching the world")
+    void testUnloadedReads() {
+        assertEquals(SafeWorldView.UNLOADED, view.getHighestBlockYAt(40, 5));
+        assertNull(view.getBlock(40, 64, 5));
+        assertNull(view.getType(-1, 64, 5));
+        verify(world, never()).getHighestBlockYAt(anyInt(), anyInt());
+        verify(world, never()).getBlockAt(anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Rays are cut short at the first unloaded chunk")
+    void testLoadedDistance() {
+        Location start = new Location(world, 4.0, 64.0, 8.0);
+
+        assertEquals(27.99, view.loadedDistance(start, new Vector(1, 0, 0), 100.0), 1e-9);
+        assertEquals(3.99, view.loadedDistance(start, new Vector(-1, 0, 0), 100.0), 1e-9);
+        assertEquals(10.0, view.loadedDistance(start, new Vector(1, 0, 0), 10.0), 1e-9);
+        // Straight down never leaves the chunk
+        assertEquals(50.0, view.loadedDistance(start, new Vector(0, -1, 0), 50.0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("The chunk walk visits every crossed column in order")
+    void testWalkChunks() {
+        List<String> visited = new ArrayList<>();
+
+        SafeWorldView.walkChunks(8.0, 8.0, Math.sqrt(0.5), Math.sqrt(0.5), 40.0, (cx, cz, t) -> {
+            visited.add(cx + "," + cz);
+            return true;
+        });
+
+        assertEquals(List.of("0,0", "0,1", "1,1", "1,2"), visited.subList(0, 4));
+    }
+}
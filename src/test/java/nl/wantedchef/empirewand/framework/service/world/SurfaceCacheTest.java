@@ -0,0 +1,106 @@
+package nl.wantedchef.empirewand.framework.service.world;
+
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SurfaceCacheTest {
+
+    private World world;
+    private long now;
+    private SurfaceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        world = mock(World.class);
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+        // Only chunk 0,0 is loaded; its surface rises with local x
+        when(world.isChunkLoaded(anyInt(), anyInt())).thenAnswer(inv -> {
+            int chunkX = inv.getArgument(0);
+            int chunkZ = inv.getArgument(1);
+            return chunkX == 0 && chunkZ == 0;
+        });
+        ChunkSnapshot snapshot = mock(ChunkSnapshot.class);
+        when(snapshot.getHighestBlockYAt(anyInt(), anyInt())).thenAnswer(inv -> {
+            int localX = inv.getArgument(0);
+            return 60 + localX;
+        });
+        Chunk chunk = mock(Chunk.class);
+        when(chunk.getChunkSnapshot(anyBoolean(), anyBoolean(), anyBoolean())).thenReturn(snapshot);
+        when(world.getChunkAt(0, 0)).thenReturn(chunk);
+        cache = new SurfaceCache(1000L, () -> now);
+    }
+
+    @Test
+    @DisplayName("A chunk's heights are read once and then served from the cache")
+    void testFillOnce() {
+        assertEquals(63, cache.getHighestBlockYAt(world, 3, 9));
+        assertEquals(75, cache.getHighestBlockYAt(world, 15, 0));
+        assertEquals(60, cache.getHighestBlockYAt(world, 0, 15));
+
+        verify(world, times(1)).getChunkAt(0, 0);
+        verify(world, never()).getHighestBlockYAt(anyInt(), anyInt());
+        assertEquals(2, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    @DisplayName("Unloaded columns are reported without loading their chunk")
+    void testUnloaded() {
+        assertEquals(SurfaceCache.UNLOADED, cache.getHighestBlockYAt(world, 16, 0));
+        assertEquals(SurfaceCache.UNLOADED, cache.getHighestBlockYAt(world, -1, 5));
+
+        verify(world, never()).getChunkAt(anyInt(), anyInt());
+        assertEquals(2, cache.stats().unloaded());
+    }
+
+    @Test
+    @DisplayName("Invalidated columns are re-read and old chunks are refilled")
+    void testInvalidation() {
+        cache.getHighestBlockYAt(world, 3, 3);
+        when(world.getHighestBlockYAt(3, 3)).thenReturn(80);
+
+        cache.invalidate(world, 3, 3);
+        assertEquals(80, cache.getHighestBlockYAt(world, 3, 3));
+        assertEquals(80, cache.getHighestBlockYAt(world, 3, 3));
+        verify(world, times(1)).getHighestBlockYAt(3, 3);
+
+        now += 1001L;
+        assertEquals(63, cache.getHighestBlockYAt(world, 3, 3));
+        verify(world, times(2)).getChunkAt(0, 0);
+
+        cache.invalidateChunk(world, 0, 0);
+        assertEquals(0, cache.stats().cachedChunks());
+    }
+
+    @Test
+    @DisplayName("Disc samples stay inside the disc and skip unloaded columns")
+    void testSampleDisc() {
+        SurfaceCache.Sample sample = cache.sampleDisc(world, 8.0, 8.0, 12.0, 200, new Random(42));
+
+        assertTrue(sample.size() > 0 && sample.size() < 200);
+        for (int i = 0; i < sample.size(); i++) {
+            double dx = sample.x(i) + 0.5 - 8.0;
+            double dz = sample.z(i) + 0.5 - 8.0;
+            assertTrue(dx * dx + dz * dz <= 13.0 * 13.0);
+            assertTrue(sample.x(i) >= 0 && sample.x(i) < 16 && sample.z(i) >= 0 && sample.z(i) < 16);
+            assertEquals(60 + sample.x(i), sample.y(i));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package nl.wantedchef.empirewand.framework.service.world;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TeleportServiceTest {
+
+    private static IntFunction<Material> column(Map<Integer, Material> blocks) {
+        return y -> blocks.getOrDefault(y, Material.AIR);
+    }
+
+    @Test
+    @DisplayName("The destination itself is used when it is safe")
+    void testExactSpot() {
+        Map<Integer, Material> blocks = new HashMap<>();
+        blocks.put(63, Material.STONE);
+
+        assertEquals(64, TeleportService.findSafeY(column(blocks), 64, -64, 320, 0));
+    }
+
+    @Test
+    @DisplayName("The nearest safe height is found within range, preferring higher spots")
+    void testSearchRange() {
+        Map<Integer, Material> blocks = new HashMap<>();
+        // Solid ground up to 64, a ledge at 66
+        for (int y = 60; y <= 64; y++) {
+            blocks.put(y, Material.STONE);
+        }
+        blocks.put(66, Material.STONE);
+
+        assertEquals(TeleportService.NOT_FOUND, TeleportService.findSafeY(column(blocks), 64, -64, 320, 0));
+        // 65 has the ledge overhead, 67 stands on it
+        assertEquals(67, TeleportService.findSafeY(column(blocks), 64, -64, 320, 3));
+    }
+
+    @Test
+    @DisplayName("Hazardous floors and the world border heights are rejected")
+    void testHazards() {
+        Map<Integer, Material> blocks = new HashMap<>();
+        blocks.put(63, Material.MAGMA_BLOCK);
+        blocks.put(-64, Material.STONE);
+
+        assertEquals(TeleportService.NOT_FOUND, TeleportService.findSafeY(column(blocks), 64, -64, 320, 0));
+        assertEquals(TeleportService.NOT_FOUND, TeleportService.findSafeY(column(blocks), -64, -64, 320, 0));
+        assertEquals(-63, TeleportService.findSafeY(column(blocks), -64, -64, 320, 1));
+    }
+}
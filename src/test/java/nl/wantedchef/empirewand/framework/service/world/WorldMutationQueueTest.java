@@ -0,0 +1,128 @@
+package nl.wantedchef.empirewand.framework.service.world;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WorldMutationQueueTest {
+
+    private World world;
+    private Block block;
+    private long now;
+    private WorldMutationQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        world = mock(World.class);
+        block = mock(Block.class);
+        when(world.isChunkLoaded(anyInt(), anyInt())).thenReturn(true);
+        when(world.getBlockAt(anyInt(), anyInt(), anyInt())).thenAnswer(inv -> {
+            // Every write costs 10µs of the 100µs budget
+            now += 10_000L;
+            return block;
+        });
+        queue = new WorldMutationQueue(100L, () -> now, Logger.getAnonymousLogger());
+    }
+
+    private BlockPlan plan(int writes, int chunkX) {
+        BlockPlan.Builder builder = BlockPlan.builder(world);
+        for (int i = 0; i < writes; i++) {
+            builder.set(chunkX * 16 + (i & 15), 64 + (i >> 4), 0, Material.STONE);
+        }
+        return builder.build();
+    }
+
+    @Test
+    @DisplayName("Writes are spread over ticks within the budget")
+    void testBudgetSpreadsWrites() {
+        CompletableFuture<Void> done = queue.submit(plan(64, 0), WorldMutationQueue.Priority.NORMAL,
+                WorldMutationQueue.NO_DEADLINE, false);
+        assertEquals(64, queue.backlog());
+
+        queue.tick();
+
+        // The clock is only checked every 16 writes
+        assertEquals(48, queue.backlog());
+        assertFalse(done.isDone());
+        for (int i = 0; i < 3; i++) {
+            queue.tick();
+        }
+        assertEquals(0, queue.backlog());
+        assertTrue(done.isDone());
+        verify(block, times(64)).setType(Material.STONE, false);
+    }
+
+    @Test
+    @DisplayName("Batches past their deadline ignore the budget")
+    void testDeadlineOverridesBudget() {
+        queue.submit(plan(64, 0), WorldMutationQueue.Priority.LOW, WorldMutationQueue.NO_DEADLINE, false);
+        CompletableFuture<Void> urgent = queue.submit(plan(40, 1), WorldMutationQueue.Priority.LOW, 0, false);
+
+        queue.tick();
+
+        assertTrue(urgent.isDone());
+        assertEquals(40, queue.stats().overdueWrites());
+        assertEquals(64, queue.backlog());
+    }
+
+    @Test
+    @DisplayName("Higher priority batches drain first and unloaded chunks are dropped")
+    void testPriorityAndUnloadedChunks() {
+        when(world.isChunkLoaded(5, 0)).thenReturn(false);
+        CompletableFuture<Void> low = queue.submit(plan(8, 0), WorldMutationQueue.Priority.LOW,
+                WorldMutationQueue.NO_DEADLINE, false);
+        CompletableFuture<Void> unloaded = queue.submit(plan(8, 5), WorldMutationQueue.Priority.HIGH,
+                WorldMutationQueue.NO_DEADLINE, false);
+        CompletableFuture<Void> high = queue.submit(plan(16, 1), WorldMutationQueue.Priority.HIGH,
+                WorldMutationQueue.NO_DEADLINE, false);
+
+        queue.tick();
+
+        assertTrue(unloaded.isDone());
+        assertTrue(high.isDone());
+        assertFalse(low.isDone());
+        assertEquals(8, queue.stats().droppedWrites());
+        assertEquals(16, queue.stats().appliedWrites());
+    }
+
+    @Test
+    @DisplayName("Write callbacks only report replacements that were applied, when they are applied")
+    void testWriteCallback() {
+        Block kept = mock(Block.class);
+        Block mined = mock(Block.class);
+        when(kept.getType()).thenReturn(Material.STONE);
+        when(mined.getType()).thenReturn(Material.AIR);
+        when(world.getBlockAt(1, 64, 0)).thenReturn(kept);
+        when(world.getBlockAt(2, 64, 0)).thenReturn(mined);
+        BlockPlan removal = BlockPlan.builder(world)
+                .replace(1, 64, 0, Material.STONE, Material.AIR)
+                .replace(2, 64, 0, Material.STONE, Material.AIR)
+                .build();
+        List<String> written = new ArrayList<>();
+
+        queue.submit(removal, WorldMutationQueue.Priority.LOW, WorldMutationQueue.NO_DEADLINE, false,
+                (x, y, z) -> written.add(x + "," + y + "," + z));
+        assertTrue(written.isEmpty());
+
+        queue.tick();
+        assertEquals(List.of("1,64,0"), written);
+        verify(kept).setType(Material.AIR, false);
+    }
+}
@@ -3,6 +3,7 @@ package nl.wantedchef.empirewand.gui;
 import nl.wantedchef.empirewand.EmpireWandPlugin;
 import nl.wantedchef.empirewand.api.service.WandService;
 import nl.wantedchef.empirewand.api.spell.SpellRegistry;
+import nl.wantedchef.empirewand.gui.util.IconTemplateCache;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -55,6 +56,7 @@ class SpellBindingMenuTest {
         when(player.getUniqueId()).thenReturn(UUID.randomUUID());
         when(plugin.getWandService()).thenReturn(wandService);
         when(plugin.getSpellRegistry()).thenReturn(spellRegistry);
+        when(plugin.getIconTemplateCache()).thenReturn(new IconTemplateCache());
     }
 
     @Test
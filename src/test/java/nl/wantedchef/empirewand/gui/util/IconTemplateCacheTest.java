@@ -0,0 +1,55 @@
+package nl.wantedchef.empirewand.gui.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("IconTemplateCache Tests")
+class IconTemplateCacheTest {
+
+    private IconTemplateCache cache;
+    private AtomicInteger builds;
+
+    @BeforeEach
+    void setUp() {
+        cache = new IconTemplateCache();
+        builds = new AtomicInteger();
+    }
+
+    private String[] build() {
+        builds.incrementAndGet();
+        return new String[] {"fireball", "leap"};
+    }
+
+    @Test
+    @DisplayName("Templates are built once per key")
+    void testBuildOnce() {
+        String[] first = cache.template("binding.spells", this::build);
+        String[] second = cache.template("binding.spells", this::build);
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+
+        cache.template(List.of("binding.info", "empirewand"), this::build);
+        cache.template(List.of("binding.info", "empirewand"), this::build);
+        cache.template(List.of("binding.info", "mephidantes_zeist"), this::build);
+        assertEquals(3, builds.get());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    @DisplayName("Invalidation rebuilds templates on next use")
+    void testInvalidate() {
+        String[] first = cache.template("binding.spells", this::build);
+        cache.invalidate();
+        assertEquals(0, cache.size());
+        assertNotSame(first, cache.template("binding.spells", this::build));
+        assertEquals(2, builds.get());
+    }
+}
@@ -0,0 +1,139 @@
+package nl.wantedchef.empirewand.listener.combat;
+
+import nl.wantedchef.empirewand.framework.service.PlayerEffectState;
+import nl.wantedchef.empirewand.framework.service.PlayerEffectState.Effect;
+import nl.wantedchef.empirewand.framework.service.SpellEntityRegistry;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Zombie;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DamagePipelineTest {
+
+    private PlayerEffectState effects;
+    private SpellEntityRegistry entities;
+    private DamagePipeline pipeline;
+    private Player victim;
+    private Player attacker;
+    private EntityDamageByEntityEvent event;
+    private boolean cancelled;
+
+    @BeforeEach
+    void setUp() {
+        effects = new PlayerEffectState();
+        entities = new SpellEntityRegistry(() -> 0);
+        pipeline = new DamagePipeline(effects, entities, Logger.getAnonymousLogger());
+        victim = mock(Player.class);
+        attacker = mock(Player.class);
+        when(victim.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(attacker.getUniqueId()).thenReturn(UUID.randomUUID());
+
+        cancelled = false;
+        event = mock(EntityDamageByEntityEvent.class);
+        when(event.getEntity()).thenReturn(victim);
+        when(event.getDamager()).thenReturn(attacker);
+        when(event.isCancelled()).thenAnswer(inv -> cancelled);
+    }
+
+    @Test
+    @DisplayName("Hits without spell state run no stage")
+    void testNoFlagsSkipsStages() {
+        List<String> ran = new ArrayList<>();
+        pipeline.register("aura", DamagePipeline.Phase.REDUCE, DamagePipeline.victim(Effect.AURA), false,
+                (e, hit) -> ran.add("aura"));
+
+        pipeline.onEntityDamage(event);
+
+        assertTrue(ran.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Stages run in phase order and only when their mask matches")
+    void testPhaseOrderAndMasks() {
+        List<String> ran = new ArrayList<>();
+        pipeline.register("redirect", DamagePipeline.Phase.REDIRECT,
+                DamagePipeline.attacker(Effect.CHAIN_LIGHTNING), true, (e, hit) -> ran.add("redirect"));
+        pipeline.register("reduce", DamagePipeline.Phase.REDUCE, DamagePipeline.victim(Effect.AURA), false,
+                (e, hit) -> ran.add("reduce"));
+        pipeline.register("reflect", DamagePipeline.Phase.REFLECT, DamagePipeline.victim(Effect.ELEMENTOSGOD),
+                true, (e, hit) -> ran.add("reflect"));
+        effects.activate(victim, Effect.AURA);
+        effects.activate(attacker, Effect.CHAIN_LIGHTNING);
+
+        pipeline.onEntityDamage(event);
+
+        assertEquals(List.of("reduce", "redirect"), ran);
+    }
+
+    @Test
+    @DisplayName("A cancelling stage stops the chain")
+    void testCancelStopsChain() {
+        List<String> ran = new ArrayList<>();
+        pipeline.register("reduce", DamagePipeline.Phase.REDUCE, DamagePipeline.victim(Effect.AURA), false,
+                (e, hit) -> ran.add("reduce"));
+        pipeline.register("cancel", DamagePipeline.Phase.CANCEL, DamagePipeline.victim(Effect.AURA), false,
+                (e, hit) -> {
+                    ran.add("cancel");
+                    cancelled = true;
+                });
+        effects.activate(victim, Effect.AURA);
+
+        pipeline.onEntityDamage(event);
+
+        assertEquals(List.of("cancel"), ran);
+    }
+
+    @Test
+    @DisplayName("Hits cancelled by other plugins never reach a stage")
+    void testCancelledHitsSkipped() throws NoSuchMethodException {
+        EventHandler handler = DamagePipeline.class.getMethod("onEntityDamage", EntityDamageEvent.class)
+                .getAnnotation(EventHandler.class);
+
+        assertTrue(handler.ignoreCancelled());
+        assertEquals(EventPriority.HIGH, handler.priority());
+    }
+
+    @Test
+    @DisplayName("Minion friendly fire is cancelled after the pipeline has run")
+    void testMinionFriendlyFireRunsLast() throws NoSuchMethodException {
+        EventHandler handler = MinionFriendlyFireListener.class
+                .getMethod("onDamage", EntityDamageByEntityEvent.class).getAnnotation(EventHandler.class);
+        DamagePipeline defaults = DamagePipeline.withDefaultStages(effects, entities, Logger.getAnonymousLogger());
+
+        assertTrue(handler.ignoreCancelled());
+        assertEquals(EventPriority.HIGHEST, handler.priority());
+        assertEquals(2, defaults.size());
+    }
+
+    @Test
+    @DisplayName("Non-spell damagers are resolved as misses")
+    void testPlainMobDamager() {
+        List<String> ran = new ArrayList<>();
+        pipeline.register("lightning", DamagePipeline.Phase.SET, DamagePipeline.damager(SpellEntityRegistry.LIGHTNING),
+                true, (e, hit) -> ran.add("lightning"));
+        Zombie zombie = mock(Zombie.class);
+        when(zombie.getEntityId()).thenReturn(5);
+        when(zombie.getPersistentDataContainer()).thenReturn(mock(PersistentDataContainer.class));
+        when(event.getDamager()).thenReturn(zombie);
+
+        pipeline.onEntityDamage(event);
+
+        assertTrue(ran.isEmpty());
+    }
+}
@@ -0,0 +1,97 @@
+package nl.wantedchef.empirewand.listener.spell;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuraTimingWheelTest {
+
+    @Test
+    @DisplayName("Entries fire once per period")
+    void testFiresEveryPeriod() {
+        AuraTimingWheel<String> wheel = new AuraTimingWheel<>(4, 4);
+        wheel.schedule("aura", 5, 0);
+
+        int fired = 0;
+        for (long tick = 1; tick <= 50; tick++) {
+            fired += wheel.advance(tick, 10, item -> { });
+        }
+        assertEquals(10, fired);
+    }
+
+    @Test
+    @DisplayName("Periods longer than the wheel still fire on time")
+    void testLongPeriod() {
+        AuraTimingWheel<String> wheel = new AuraTimingWheel<>(2, 4);
+        wheel.schedule("aura", 10, 0);
+
+        List<Long> fireTicks = new ArrayList<>();
+        for (long tick = 1; tick <= 40; tick++) {
+            long current = tick;
+            wheel.advance(tick, 10, item -> fireTicks.add(current));
+        }
+        assertEquals(4, fireTicks.size());
+        for (int i = 1; i < fireTicks.size(); i++) {
+            assertEquals(10, fireTicks.get(i) - fireTicks.get(i - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("New entries are phased onto the least-loaded ticks")
+    void testPhaseSpreading() {
+        AuraTimingWheel<Integer> wheel = new AuraTimingWheel<>(6, 4);
+        for (int i = 0; i < 20; i++) {
+            wheel.schedule(i, 20, 0);
+        }
+
+        for (long tick = 1; tick <= 20; tick++) {
+            assertEquals(1, wheel.advance(tick, 100, item -> { }));
+        }
+    }
+
+    @Test
+    @DisplayName("Per-tick budget defers the overflow to the next tick")
+    void testBudget() {
+        AuraTimingWheel<Integer> wheel = new AuraTimingWheel<>(4, 4);
+        for (int i = 0; i < 6; i++) {
+            wheel.schedule(i, 1, 0);
+        }
+
+        assertEquals(2, wheel.advance(1, 2, item -> { }));
+        int total = 2;
+        for (long tick = 2; tick <= 3; tick++) {
+            int fired = wheel.advance(tick, 2, item -> { });
+            assertTrue(fired <= 2);
+            total += fired;
+        }
+        assertEquals(6, total);
+    }
+
+    @Test
+    @DisplayName("Cancelled entries stop firing and their slots are reused")
+    void testCancel() {
+        AuraTimingWheel<String> wheel = new AuraTimingWheel<>(4, 4);
+        wheel.schedule("keep", 2, 0);
+        wheel.schedule("drop", 2, 0);
+
+        assertEquals(1, wheel.cancelIf("drop"::equals));
+        assertEquals(1, wheel.size());
+
+        List<String> fired = new ArrayList<>();
+        for (long tick = 1; tick <= 10; tick++) {
+            wheel.advance(tick, 10, fired::add);
+        }
+        assertTrue(fired.stream().allMatch("keep"::equals));
+        assertEquals(5, fired.size());
+
+        for (int i = 0; i < 100; i++) {
+            wheel.schedule("more", 3, 10);
+        }
+        assertEquals(101, wheel.size());
+    }
+}
@@ -0,0 +1,104 @@
+package nl.wantedchef.empirewand.listener.wand;
+
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("WandHud Tests")
+class WandHudTest {
+
+    private final AtomicReference<WandHud.Sample> sample = new AtomicReference<>();
+    private final AtomicInteger samples = new AtomicInteger();
+    private final List<String> sent = new ArrayList<>();
+    private WandHud hud;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        hud = new WandHud(p -> {
+            samples.incrementAndGet();
+            return sample.get();
+        }, (p, message) -> sent.add(message), 2L, Logger.getLogger("test"));
+        player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.isOnline()).thenReturn(true);
+        when(player.isValid()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Clean states are neither sampled nor resent until the refresh is due")
+    void testChangeDriven() {
+        sample.set(new WandHud.Sample("Fireball", 0, 3, 0L));
+        hud.markDirty(player);
+        hud.tick();
+        assertEquals(List.of("§aFireball §7(1/3)"), sent);
+        assertEquals(1, samples.get());
+
+        for (int i = 0; i < 10; i++) {
+            hud.tick();
+        }
+        assertEquals(1, sent.size());
+        assertEquals(1, samples.get());
+
+        sample.set(new WandHud.Sample("Comet", 1, 3, 0L));
+        hud.markDirty(player);
+        hud.tick();
+        assertEquals("§aComet §7(2/3)", sent.get(sent.size() - 1));
+
+        hud.markDirty(player);
+        hud.tick();
+        assertEquals(2, sent.size());
+
+        for (int i = 0; i < WandHud.REFRESH_TICKS / 2; i++) {
+            hud.tick();
+        }
+        assertEquals(3, sent.size());
+        assertEquals("§aComet §7(2/3)", sent.get(2));
+    }
+
+    @Test
+    @DisplayName("Cooldowns count down per bucket without sampling the wand again")
+    void testCooldownBuckets() {
+        sample.set(new WandHud.Sample("Fireball", 0, 1, 25L));
+        hud.markDirty(player);
+        hud.tick();
+        for (int i = 0; i < 14; i++) {
+            hud.tick();
+        }
+
+        assertEquals(List.of("§cFireball §7(1.5s)", "§cFireball §7(1.0s)", "§cFireball §7(0.5s)",
+                "§aFireball §7(1/1)"), sent);
+        assertEquals(1, samples.get());
+    }
+
+    @Test
+    @DisplayName("Players without a wand or offline are dropped")
+    void testDropped() {
+        hud.markDirty(player);
+        hud.tick();
+        assertEquals(0, hud.size());
+        assertEquals(0L, hud.sent());
+
+        sample.set(new WandHud.Sample(null, 0, 0, 0L));
+        hud.markDirty(player);
+        hud.tick();
+        assertEquals(List.of(WandHud.NO_SPELLS), sent);
+
+        when(player.isOnline()).thenReturn(false);
+        hud.markDirty(player);
+        hud.tick();
+        assertEquals(0, hud.size());
+    }
+}